@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.eventbus.AsyncEventSubscriber;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Event bus information collector.
+ */
+public final class EventBusInfoCollector extends Collector {
+    
+    private static final String PENDING = "pending";
+    
+    private static final String POSTED = "posted";
+    
+    private static final String DELIVERED = "delivered";
+    
+    private static final String COALESCED = "coalesced";
+    
+    private static final String OVERFLOWED = "overflowed";
+    
+    private static final String FAILED = "failed";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    private static final String EVENT_BUS_CLASS_STR = "org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus";
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        Optional<GaugeMetricFamily> eventBusInfo = FACTORY.createGaugeMetricFamily(MetricIds.EVENT_BUS_INFO);
+        if (MetricsUtil.classNotExist(EVENT_BUS_CLASS_STR) || !eventBusInfo.isPresent()) {
+            return result;
+        }
+        for (AsyncEventSubscriber each : ShardingSphereEventBus.getInstance().getAsyncSubscribers()) {
+            collectSubscriber(eventBusInfo.get(), each);
+        }
+        result.add(eventBusInfo.get());
+        return result;
+    }
+    
+    private void collectSubscriber(final GaugeMetricFamily metricFamily, final AsyncEventSubscriber subscriber) {
+        String subscriberName = subscriber.getSubscriber().getClass().getSimpleName();
+        metricFamily.addMetric(Arrays.asList(subscriberName, PENDING), subscriber.getPendingCount());
+        metricFamily.addMetric(Arrays.asList(subscriberName, POSTED), subscriber.getPostedCount());
+        metricFamily.addMetric(Arrays.asList(subscriberName, DELIVERED), subscriber.getDeliveredCount());
+        metricFamily.addMetric(Arrays.asList(subscriberName, COALESCED), subscriber.getCoalescedCount());
+        metricFamily.addMetric(Arrays.asList(subscriberName, OVERFLOWED), subscriber.getOverflowedCount());
+        metricFamily.addMetric(Arrays.asList(subscriberName, FAILED), subscriber.getFailedCount());
+    }
+}
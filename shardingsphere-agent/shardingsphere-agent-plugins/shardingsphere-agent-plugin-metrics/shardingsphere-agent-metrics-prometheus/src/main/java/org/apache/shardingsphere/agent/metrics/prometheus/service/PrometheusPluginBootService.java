@@ -25,6 +25,7 @@ import org.apache.shardingsphere.agent.config.PluginConfiguration;
 import org.apache.shardingsphere.agent.exception.PluginConfigurationException;
 import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.BuildInfoCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.EventBusInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.MetaDataInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.ProxyInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
@@ -90,6 +91,7 @@ public final class PrometheusPluginBootService implements PluginBootService {
         new ProxyInfoCollector().register();
         new BuildInfoCollector().register();
         new MetaDataInfoCollector().register();
+        new EventBusInfoCollector().register();
     }
     
     private void registerJvm(final boolean enabled) {
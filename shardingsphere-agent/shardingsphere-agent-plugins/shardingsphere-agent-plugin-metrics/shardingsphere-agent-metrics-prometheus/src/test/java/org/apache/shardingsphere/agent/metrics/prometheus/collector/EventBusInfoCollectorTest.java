@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import org.apache.shardingsphere.infra.eventbus.AsyncSubscribe;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EventBusInfoCollectorTest {
+    
+    private final FixtureSubscriber subscriber = new FixtureSubscriber();
+    
+    @Before
+    public void setUp() {
+        ShardingSphereEventBus.getInstance().register(subscriber);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(subscriber);
+    }
+    
+    @Test
+    public void assertCollect() {
+        List<MetricFamilySamples> actual = new EventBusInfoCollector().collect();
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.get(0).samples.stream().map(each -> each.labelValues).anyMatch(Arrays.asList(FixtureSubscriber.class.getSimpleName(), "overflowed")::equals));
+        for (Sample each : actual.get(0).samples) {
+            if (FixtureSubscriber.class.getSimpleName().equals(each.labelValues.get(0))) {
+                assertThat(each.value, is(0D));
+            }
+        }
+    }
+    
+    public static final class FixtureSubscriber {
+        
+        /**
+         * Subscribe asynchronously.
+         *
+         * @param event fixture event
+         */
+        @AsyncSubscribe
+        public void subscribe(final FixtureEvent event) {
+        }
+    }
+    
+    private static final class FixtureEvent {
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.ClosedChannelException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codec for MySQL compressed protocol.
+ *
+ * <p>Wraps MySQL packets into compressed packets with zlib. Packets written between two flushes are compressed together,
+ * payloads shorter than threshold are sent uncompressed.</p>
+ */
+public final class MySQLCompressionCodec extends ChannelDuplexHandler {
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final int DEFLATE_BUFFER_SIZE = 8192;
+    
+    private final int threshold;
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final Inflater inflater = new Inflater();
+    
+    private final Collection<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    private ByteBuf cumulation;
+    
+    private CompositeByteBuf pending;
+    
+    private int sequenceId;
+    
+    public MySQLCompressionCodec(final int threshold) {
+        this.threshold = threshold;
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object message) throws DataFormatException {
+        if (!(message instanceof ByteBuf)) {
+            context.fireChannelRead(message);
+            return;
+        }
+        cumulation = null == cumulation ? (ByteBuf) message : ByteToMessageDecoder.MERGE_CUMULATOR.cumulate(context.alloc(), cumulation, (ByteBuf) message);
+        try {
+            while (isFrameReadable(cumulation)) {
+                int compressedLength = cumulation.readUnsignedMediumLE();
+                sequenceId = cumulation.readUnsignedByte() + 1;
+                int uncompressedLength = cumulation.readUnsignedMediumLE();
+                context.fireChannelRead(0 == uncompressedLength ? cumulation.readRetainedSlice(compressedLength) : inflate(cumulation.readSlice(compressedLength), uncompressedLength));
+            }
+        } finally {
+            if (!cumulation.isReadable()) {
+                cumulation.release();
+                cumulation = null;
+            } else if (1 == cumulation.refCnt()) {
+                cumulation.discardSomeReadBytes();
+            }
+        }
+    }
+    
+    private boolean isFrameReadable(final ByteBuf in) {
+        return in.readableBytes() >= HEADER_LENGTH && in.readableBytes() >= HEADER_LENGTH + in.getUnsignedMediumLE(in.readerIndex());
+    }
+    
+    private ByteBuf inflate(final ByteBuf compressed, final int uncompressedLength) throws DataFormatException {
+        inflater.reset();
+        inflater.setInput(ByteBufUtil.getBytes(compressed));
+        byte[] result = new byte[uncompressedLength];
+        int offset = 0;
+        while (offset < uncompressedLength && !inflater.finished()) {
+            int inflated = inflater.inflate(result, offset, uncompressedLength - offset);
+            if (0 == inflated && (inflater.needsInput() || inflater.needsDictionary())) {
+                break;
+            }
+            offset += inflated;
+        }
+        if (offset != uncompressedLength) {
+            throw new DataFormatException(String.format("Expected %d bytes after decompression, but got %d bytes.", uncompressedLength, offset));
+        }
+        return Unpooled.wrappedBuffer(result);
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (!(message instanceof ByteBuf)) {
+            context.write(message, promise);
+            return;
+        }
+        if (null == pending) {
+            pending = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pending.addComponent(true, (ByteBuf) message);
+        pendingPromises.add(promise);
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (null != pending) {
+            writePending(context);
+        }
+        context.flush();
+    }
+    
+    private void writePending(final ChannelHandlerContext context) {
+        ByteBuf uncompressed = pending;
+        Collection<ChannelPromise> promises = new LinkedList<>(pendingPromises);
+        pending = null;
+        pendingPromises.clear();
+        ChannelFuture future = null;
+        try {
+            while (uncompressed.isReadable()) {
+                future = context.write(encodeFrame(context, uncompressed.readSlice(Math.min(MAX_PAYLOAD_LENGTH, uncompressed.readableBytes()))));
+            }
+        } finally {
+            uncompressed.release();
+        }
+        if (null == future) {
+            promises.forEach(ChannelPromise::trySuccess);
+            return;
+        }
+        future.addListener(completed -> promises.forEach(each -> {
+            if (completed.isSuccess()) {
+                each.trySuccess();
+            } else {
+                each.tryFailure(completed.cause());
+            }
+        }));
+    }
+    
+    private ByteBuf encodeFrame(final ChannelHandlerContext context, final ByteBuf payload) {
+        int payloadLength = payload.readableBytes();
+        if (payloadLength >= threshold) {
+            byte[] compressed = deflate(ByteBufUtil.getBytes(payload));
+            if (compressed.length < payloadLength) {
+                return writeHeader(context.alloc().buffer(HEADER_LENGTH + compressed.length), compressed.length, payloadLength).writeBytes(compressed);
+            }
+        }
+        return writeHeader(context.alloc().buffer(HEADER_LENGTH + payloadLength), payloadLength, 0).writeBytes(payload);
+    }
+    
+    private byte[] deflate(final byte[] input) {
+        deflater.reset();
+        deflater.setInput(input);
+        deflater.finish();
+        ByteArrayOutputStream result = new ByteArrayOutputStream(input.length);
+        byte[] buffer = new byte[DEFLATE_BUFFER_SIZE];
+        while (!deflater.finished()) {
+            result.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return result.toByteArray();
+    }
+    
+    private ByteBuf writeHeader(final ByteBuf out, final int compressedLength, final int uncompressedLength) {
+        return out.writeMediumLE(compressedLength).writeByte(sequenceId++).writeMediumLE(uncompressedLength);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        if (null != cumulation) {
+            cumulation.release();
+            cumulation = null;
+        }
+        if (null != pending) {
+            pending.release();
+            pending = null;
+            pendingPromises.forEach(each -> each.tryFailure(new ClosedChannelException()));
+            pendingPromises.clear();
+        }
+        deflater.end();
+        inflater.end();
+    }
+}
@@ -58,6 +58,10 @@ public enum MySQLServerErrorCode implements SQLErrorCode {
     
     ER_UNKNOWN_CHARACTER_SET(1115, "42000", "Unknown character set: '%s'"),
     
+    ER_NO_SUCH_THREAD(1094, "HY000", "Unknown thread id: %s"),
+    
+    ER_KILL_DENIED_ERROR(1095, "HY000", "You are not owner of thread %s"),
+    
     ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE(3176, "HY000", 
             "Please do not modify the %s table with an XA transaction. This is an internal system table used to store GTIDs for committed transactions. " 
                     + "Although modifying it can lead to an inconsistent GTID state, if necessary you can modify it with a non-XA transaction.");
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.ping.MyS
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.quit.MySQLComQuitPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.longdata.MySQLComStmtSendLongDataPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
@@ -62,6 +63,8 @@ public final class MySQLCommandPacketFactory {
                 return new MySQLComStmtPreparePacket(payload);
             case COM_STMT_EXECUTE:
                 return new MySQLComStmtExecutePacket(payload, connectionId);
+            case COM_STMT_SEND_LONG_DATA:
+                return new MySQLComStmtSendLongDataPacket(payload);
             case COM_STMT_RESET:
                 return new MySQLComStmtResetPacket(payload);
             case COM_STMT_CLOSE:
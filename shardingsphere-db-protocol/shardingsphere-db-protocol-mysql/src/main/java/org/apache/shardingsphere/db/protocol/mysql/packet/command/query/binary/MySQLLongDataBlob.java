@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Read only blob of long data spilled to temporary file for MySQL.
+ *
+ * <p>Every call of {@link #getBinaryStream()} opens a new stream of temporary file, so the blob can be bound to statements of several route units.
+ * Temporary file is deleted by long data which owns it rather than the blob.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLLongDataBlob implements Blob, Closeable {
+    
+    private final File file;
+    
+    private final long length;
+    
+    private final Collection<InputStream> inputStreams = new LinkedList<>();
+    
+    @Override
+    public long length() {
+        return length;
+    }
+    
+    @Override
+    public byte[] getBytes(final long pos, final int length) throws SQLException {
+        checkPosition(pos);
+        byte[] result = new byte[(int) Math.max(0, Math.min(length, this.length - pos + 1))];
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            randomAccessFile.seek(pos - 1);
+            randomAccessFile.readFully(result);
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read long data", ex);
+        }
+        return result;
+    }
+    
+    private void checkPosition(final long pos) throws SQLException {
+        if (pos < 1 || pos > length + 1) {
+            throw new SQLException(String.format("Invalid position `%d` of long data", pos));
+        }
+    }
+    
+    @Override
+    public synchronized InputStream getBinaryStream() throws SQLException {
+        try {
+            InputStream result = new BufferedInputStream(new FileInputStream(file));
+            inputStreams.add(result);
+            return result;
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read long data", ex);
+        }
+    }
+    
+    @Override
+    public InputStream getBinaryStream(final long pos, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBinaryStream with position");
+    }
+    
+    @Override
+    public long position(final byte[] pattern, final long start) throws SQLException {
+        throw new SQLFeatureNotSupportedException("position");
+    }
+    
+    @Override
+    public long position(final Blob pattern, final long start) throws SQLException {
+        throw new SQLFeatureNotSupportedException("position");
+    }
+    
+    @Override
+    public int setBytes(final long pos, final byte[] bytes) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBytes");
+    }
+    
+    @Override
+    public int setBytes(final long pos, final byte[] bytes, final int offset, final int len) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBytes");
+    }
+    
+    @Override
+    public OutputStream setBinaryStream(final long pos) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBinaryStream");
+    }
+    
+    @Override
+    public void truncate(final long len) throws SQLException {
+        throw new SQLFeatureNotSupportedException("truncate");
+    }
+    
+    @Override
+    public void free() {
+    }
+    
+    @Override
+    public synchronized void close() {
+        for (InputStream each : inputStreams) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        inputStreams.clear();
+    }
+}
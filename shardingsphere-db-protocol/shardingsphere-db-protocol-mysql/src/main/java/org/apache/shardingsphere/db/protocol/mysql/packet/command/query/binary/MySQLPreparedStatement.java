@@ -17,11 +17,16 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Binary prepared statement for MySQL.
@@ -36,4 +41,44 @@ public final class MySQLPreparedStatement {
     private final int parameterCount;
     
     private List<MySQLPreparedStatementParameterType> parameterTypes;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<Integer, MySQLPreparedStatementLongData> longData = new ConcurrentHashMap<>();
+    
+    /**
+     * Append long data of parameter.
+     *
+     * @param parameterId parameter ID
+     * @param data long data chunk
+     * @param memoryThreshold memory threshold in bytes before spilling long data to temporary file
+     * @param maxTotalSize max total size in bytes of long data held by all connections
+     */
+    public void appendLongData(final int parameterId, final ByteBuf data, final int memoryThreshold, final long maxTotalSize) {
+        if (parameterId < 0 || parameterId >= parameterCount) {
+            return;
+        }
+        longData.computeIfAbsent(parameterId, unused -> new MySQLPreparedStatementLongData(memoryThreshold, maxTotalSize)).append(data);
+    }
+    
+    /**
+     * Take long data of parameters, long data of statement is cleared after taken.
+     *
+     * @return long data of parameters, key is parameter ID
+     */
+    public Map<Integer, MySQLPreparedStatementLongData> takeLongData() {
+        if (longData.isEmpty()) {
+            return new HashMap<>(0, 1);
+        }
+        Map<Integer, MySQLPreparedStatementLongData> result = new HashMap<>(longData);
+        result.keySet().forEach(longData::remove);
+        return result;
+    }
+    
+    /**
+     * Reset long data of parameters.
+     */
+    public void resetLongData() {
+        takeLongData().values().forEach(MySQLPreparedStatementLongData::close);
+    }
 }
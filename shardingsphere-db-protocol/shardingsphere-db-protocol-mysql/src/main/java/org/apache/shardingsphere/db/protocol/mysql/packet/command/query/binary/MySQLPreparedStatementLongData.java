@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long data of binary prepared statement parameter for MySQL.
+ *
+ * <p>Long data is kept in memory until its size exceeds the memory threshold, and then spilled to a temporary file.
+ * Total size of long data held by all connections is limited by max total size.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLPreparedStatementLongData implements Closeable {
+    
+    private static final AtomicLong TOTAL_SIZE = new AtomicLong();
+    
+    private final int memoryThreshold;
+    
+    private final long maxTotalSize;
+    
+    private final ByteArrayOutputStream memoryData = new ByteArrayOutputStream();
+    
+    private File file;
+    
+    private OutputStream fileOutputStream;
+    
+    private MySQLLongDataBlob blob;
+    
+    private long size;
+    
+    private IOException failure;
+    
+    /**
+     * Append long data chunk.
+     *
+     * <p>COM_STMT_SEND_LONG_DATA has no response, so failure is recorded and raised when the statement is executed.</p>
+     *
+     * @param data long data chunk
+     */
+    public synchronized void append(final ByteBuf data) {
+        if (null != failure) {
+            return;
+        }
+        int length = data.readableBytes();
+        if (TOTAL_SIZE.addAndGet(length) > maxTotalSize) {
+            TOTAL_SIZE.addAndGet(-length);
+            failure = new IOException(String.format("Total size of long data exceeds max total size `%d` bytes", maxTotalSize));
+            release();
+            return;
+        }
+        size += length;
+        try {
+            if (null == file && size > memoryThreshold) {
+                spill();
+            }
+            data.readBytes(null == file ? memoryData : fileOutputStream, length);
+        } catch (final IOException ex) {
+            failure = ex;
+            release();
+        }
+    }
+    
+    private void spill() throws IOException {
+        file = File.createTempFile("shardingsphere-long-data-", ".tmp");
+        fileOutputStream = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+        memoryData.writeTo(fileOutputStream);
+        memoryData.reset();
+    }
+    
+    /**
+     * Get value to bind.
+     *
+     * @return bytes if long data is kept in memory, otherwise blob of temporary file
+     * @throws IOException IO exception
+     */
+    public synchronized Object getValue() throws IOException {
+        if (null != failure) {
+            throw failure;
+        }
+        if (null == file) {
+            return memoryData.toByteArray();
+        }
+        if (null == blob) {
+            fileOutputStream.close();
+            blob = new MySQLLongDataBlob(file, size);
+        }
+        return blob;
+    }
+    
+    /**
+     * Judge whether long data is spilled to temporary file.
+     *
+     * @return spilled or not
+     */
+    public synchronized boolean isSpilled() {
+        return null != file;
+    }
+    
+    @Override
+    public synchronized void close() {
+        release();
+    }
+    
+    private void release() {
+        closeQuietly(fileOutputStream);
+        closeQuietly(blob);
+        if (null != file && !file.delete()) {
+            file.deleteOnExit();
+        }
+        file = null;
+        fileOutputStream = null;
+        blob = null;
+        memoryData.reset();
+        TOTAL_SIZE.addAndGet(-size);
+        size = 0;
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+}
@@ -69,7 +69,10 @@ public final class MySQLPreparedStatementRegistry {
      * @param connectionId connection ID
      */
     public void unregisterConnection(final int connectionId) {
-        connectionRegistry.remove(connectionId);
+        MySQLConnectionPreparedStatements connectionPreparedStatements = connectionRegistry.remove(connectionId);
+        if (null != connectionPreparedStatements) {
+            connectionPreparedStatements.preparedStatements.values().forEach(MySQLPreparedStatement::resetLongData);
+        }
     }
     
     public static class MySQLConnectionPreparedStatements {
@@ -107,7 +110,10 @@ public final class MySQLPreparedStatementRegistry {
          * @param statementId statement ID
          */
         public void closeStatement(final int statementId) {
-            preparedStatements.remove(statementId);
+            MySQLPreparedStatement preparedStatement = preparedStatements.remove(statementId);
+            if (null != preparedStatement) {
+                preparedStatement.resetLongData();
+            }
         }
     }
 }
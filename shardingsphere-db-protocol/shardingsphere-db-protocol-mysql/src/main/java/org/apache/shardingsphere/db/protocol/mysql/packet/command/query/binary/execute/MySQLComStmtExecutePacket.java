@@ -25,16 +25,19 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBo
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementLongData;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementParameterType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * COM_STMT_EXECUTE command packet for MySQL.
@@ -64,6 +67,8 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final List<Object> parameters;
     
+    private final Map<Integer, MySQLPreparedStatementLongData> longData;
+    
     public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
@@ -81,10 +86,12 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
             if (MySQLNewParametersBoundFlag.PARAMETER_TYPE_EXIST == newParametersBoundFlag) {
                 preparedStatement.setParameterTypes(getParameterTypes(payload, parameterCount));
             }
+            longData = preparedStatement.takeLongData();
             parameters = getParameters(payload, parameterCount);
         } else {
             nullBitmap = null;
             newParametersBoundFlag = null;
+            longData = Collections.emptyMap();
             parameters = Collections.emptyList();
         }
     }
@@ -100,14 +107,42 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     }
     
     private List<Object> getParameters(final MySQLPacketPayload payload, final int parameterCount) throws SQLException {
+        try {
+            return readParameters(payload, parameterCount);
+        } catch (final SQLException | RuntimeException ex) {
+            releaseLongData();
+            throw ex;
+        }
+    }
+    
+    private List<Object> readParameters(final MySQLPacketPayload payload, final int parameterCount) throws SQLException {
         List<Object> result = new ArrayList<>(parameterCount);
         for (int parameterIndex = 0; parameterIndex < parameterCount; parameterIndex++) {
+            if (longData.containsKey(parameterIndex)) {
+                result.add(getLongDataValue(longData.get(parameterIndex)));
+                continue;
+            }
             MySQLBinaryProtocolValue binaryProtocolValue = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(preparedStatement.getParameterTypes().get(parameterIndex).getColumnType());
             result.add(nullBitmap.isNullParameter(parameterIndex) ? null : binaryProtocolValue.read(payload));
         }
         return result;
     }
     
+    private Object getLongDataValue(final MySQLPreparedStatementLongData parameterLongData) throws SQLException {
+        try {
+            return parameterLongData.getValue();
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read long data of parameter", ex);
+        }
+    }
+    
+    /**
+     * Release long data of parameters sent by COM_STMT_SEND_LONG_DATA.
+     */
+    public void releaseLongData() {
+        longData.values().forEach(MySQLPreparedStatementLongData::close);
+    }
+    
     @Override
     public void doWrite(final MySQLPacketPayload payload) {
         payload.writeInt4(statementId);
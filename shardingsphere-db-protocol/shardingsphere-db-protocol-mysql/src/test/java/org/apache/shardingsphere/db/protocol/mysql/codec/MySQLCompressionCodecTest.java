@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressionCodecTest {
+    
+    @Test
+    public void assertWriteUncompressedWhenPayloadBelowThreshold() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(5));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{1, 0, 0, 1, 0}));
+        actual.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertWriteCompressedWithinOneFrameUntilFlush() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        byte[] packet = createPacket(200);
+        channel.write(Unpooled.wrappedBuffer(packet));
+        channel.write(Unpooled.wrappedBuffer(packet));
+        assertTrue(channel.outboundMessages().isEmpty());
+        channel.flush();
+        assertThat(channel.outboundMessages().size(), is(1));
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        actual.readUnsignedByte();
+        assertThat(actual.readUnsignedMediumLE(), is(packet.length * 2));
+        assertThat(actual.readableBytes(), is(compressedLength));
+        byte[] expected = new byte[packet.length * 2];
+        System.arraycopy(packet, 0, expected, 0, packet.length);
+        System.arraycopy(packet, 0, expected, packet.length, packet.length);
+        assertThat(inflate(ByteBufUtil.getBytes(actual), expected.length), is(expected));
+        actual.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertReadCompressedFrame() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        byte[] packet = createPacket(200);
+        byte[] compressed = deflate(packet);
+        ByteBuf frame = Unpooled.buffer().writeMediumLE(compressed.length).writeByte(0).writeMediumLE(packet.length).writeBytes(compressed);
+        channel.writeInbound(frame.readRetainedSlice(10));
+        assertTrue(channel.inboundMessages().isEmpty());
+        channel.writeInbound(frame);
+        ByteBuf actual = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(packet));
+        actual.release();
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0}));
+        ByteBuf response = channel.readOutbound();
+        assertThat(response.getUnsignedByte(3), is((short) 1));
+        response.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertReadUncompressedFrame() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        channel.writeInbound(Unpooled.buffer().writeMediumLE(5).writeByte(0).writeMediumLE(0).writeBytes(new byte[]{1, 0, 0, 0, 14}));
+        ByteBuf actual = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{1, 0, 0, 0, 14}));
+        actual.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    private byte[] createPacket(final int payloadLength) {
+        byte[] payload = new byte[payloadLength];
+        Arrays.fill(payload, (byte) 'a');
+        byte[] text = "select * from t_order".getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(text, 0, payload, 0, text.length);
+        return ByteBufUtil.getBytes(Unpooled.buffer().writeMediumLE(payloadLength).writeByte(0).writeBytes(payload));
+    }
+    
+    private byte[] deflate(final byte[] input) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(input);
+        deflater.finish();
+        byte[] buffer = new byte[input.length + 64];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+        return Arrays.copyOf(buffer, length);
+    }
+    
+    private byte[] inflate(final byte[] input, final int length) throws Exception {
+        Inflater inflater = new Inflater();
+        inflater.setInput(input);
+        byte[] result = new byte[length];
+        inflater.inflate(result);
+        inflater.end();
+        return result;
+    }
+}
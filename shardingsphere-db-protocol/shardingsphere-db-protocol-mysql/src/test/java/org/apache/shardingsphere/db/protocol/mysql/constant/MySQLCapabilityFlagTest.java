@@ -31,7 +31,7 @@ public final class MySQLCapabilityFlagTest {
     
     @Test
     public void assertCalculateHandshakeCapabilityFlagsLower() {
-        assertThat(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower(), is(46927));
+        assertThat(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower(), is(46959));
     }
     
     @Test
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLPreparedStatementLongDataTest {
+    
+    @Test
+    public void assertGetValueInMemory() throws IOException {
+        try (MySQLPreparedStatementLongData actual = new MySQLPreparedStatementLongData(16, Long.MAX_VALUE)) {
+            actual.append(Unpooled.wrappedBuffer("foo".getBytes(StandardCharsets.UTF_8)));
+            actual.append(Unpooled.wrappedBuffer("bar".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(actual.isSpilled());
+            assertThat(actual.getValue(), is("foobar".getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+    
+    @Test
+    public void assertGetValueInTemporaryFile() throws IOException, SQLException {
+        try (MySQLPreparedStatementLongData actual = new MySQLPreparedStatementLongData(4, Long.MAX_VALUE)) {
+            actual.append(Unpooled.wrappedBuffer("foo".getBytes(StandardCharsets.UTF_8)));
+            actual.append(Unpooled.wrappedBuffer("bar".getBytes(StandardCharsets.UTF_8)));
+            assertTrue(actual.isSpilled());
+            Object value = actual.getValue();
+            assertThat(value, instanceOf(Blob.class));
+            Blob blob = (Blob) value;
+            assertThat(blob.length(), is(6L));
+            assertThat(readAll(blob.getBinaryStream()), is("foobar".getBytes(StandardCharsets.UTF_8)));
+            assertThat(readAll(blob.getBinaryStream()), is("foobar".getBytes(StandardCharsets.UTF_8)));
+            assertThat(blob.getBytes(4, 3), is("bar".getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertGetValueExceedMaxTotalSize() throws IOException {
+        try (MySQLPreparedStatementLongData actual = new MySQLPreparedStatementLongData(16, 4)) {
+            actual.append(Unpooled.wrappedBuffer("foo".getBytes(StandardCharsets.UTF_8)));
+            actual.append(Unpooled.wrappedBuffer("bar".getBytes(StandardCharsets.UTF_8)));
+            actual.getValue();
+        }
+    }
+    
+    private byte[] readAll(final InputStream inputStream) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4];
+        int length;
+        while (-1 != (length = inputStream.read(buffer))) {
+            result.write(buffer, 0, length);
+        }
+        return result.toByteArray();
+    }
+}
@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Before;
@@ -25,11 +28,13 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -68,6 +73,20 @@ public final class MySQLComStmtExecutePacketTest {
         assertThat(actual.getParameters(), is(Collections.singletonList(null)));
     }
     
+    @Test
+    public void assertNewWithLongDataParameters() throws SQLException {
+        MySQLPreparedStatement preparedStatement = MySQLPreparedStatementRegistry.getInstance().getConnectionPreparedStatements(CONNECTION_ID).get(1);
+        preparedStatement.appendLongData(0, Unpooled.wrappedBuffer("long ".getBytes(StandardCharsets.UTF_8)), 1024, Long.MAX_VALUE);
+        preparedStatement.appendLongData(0, Unpooled.wrappedBuffer("data".getBytes(StandardCharsets.UTF_8)), 1024, Long.MAX_VALUE);
+        when(payload.readInt4()).thenReturn(1);
+        when(payload.readInt1()).thenReturn(0, 0, 1, MySQLBinaryColumnType.MYSQL_TYPE_BLOB.getValue(), 0);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, CONNECTION_ID);
+        assertThat(actual.getParameters().size(), is(1));
+        assertThat((byte[]) actual.getParameters().get(0), is("long data".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(preparedStatement.takeLongData().isEmpty());
+        actual.releaseLongData();
+    }
+    
     @Test
     public void assertWrite() throws SQLException {
         when(payload.readInt4()).thenReturn(1);
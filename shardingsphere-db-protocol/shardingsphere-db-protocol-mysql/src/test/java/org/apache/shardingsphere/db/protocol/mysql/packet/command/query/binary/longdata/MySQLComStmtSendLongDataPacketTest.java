@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.longdata;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLComStmtSendLongDataPacketTest {
+    
+    @Test
+    public void assertNew() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeIntLE(1);
+        byteBuf.writeShortLE(2);
+        byteBuf.writeBytes("long data".getBytes(StandardCharsets.UTF_8));
+        MySQLComStmtSendLongDataPacket actual = new MySQLComStmtSendLongDataPacket(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(actual.getStatementId(), is(1));
+        assertThat(actual.getParameterId(), is(2));
+        assertThat(actual.getData().toString(StandardCharsets.UTF_8), is("long data"));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+}
@@ -48,9 +48,12 @@ public enum PostgreSQLErrorCode {
     FEATURE_NOT_SUPPORTED("0A000", "feature_not_supported"),
     INVALID_AUTHORIZATION_SPECIFICATION("28000", "invalid_authorization_specification"),
     INVALID_PARAMETER_VALUE("22023", "invalid_parameter_value"),
+    BAD_COPY_FILE_FORMAT("22P04", "bad_copy_file_format"),
     INVALID_PASSWORD("28P01", "invalid_password"),
     INVALID_CATALOG_NAME("3D000", "invalid_catalog_name"),
     INVALID_SCHEMA_NAME("3F000", "invalid_schema_name"),
+    UNDEFINED_TABLE("42P01", "undefined_table"),
+    QUERY_CANCELED("57014", "query_canceled"),
     SYSTEM_ERROR("58000", "system_error");
     
     private final String errorCode;
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.spi.probe;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Data source probe executor, which probes members of a database discovery group in parallel with a hard timeout.
+ * 
+ * <p>Interrupting a thread does not unblock a hung JDBC call, so at most one probe is in flight for each data source.
+ * A data source whose previous probe is still running is not probed again and its state is unknown until that probe returns.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class DataSourceProbeExecutor {
+    
+    private static final String TIMEOUT_MILLISECONDS_KEY = "probe-timeout-milliseconds";
+    
+    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 3000L;
+    
+    private static final int MAX_PROBE_THREADS = 64;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(0, MAX_PROBE_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-DatabaseDiscoveryProbe-%d").build());
+    
+    private static final Set<DataSource> PROBING_DATA_SOURCES = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Get probe timeout milliseconds.
+     * 
+     * @param props properties of database discovery type
+     * @return probe timeout milliseconds
+     */
+    public static long getTimeoutMilliseconds(final Properties props) {
+        String result = props.getProperty(TIMEOUT_MILLISECONDS_KEY);
+        return null == result ? DEFAULT_TIMEOUT_MILLISECONDS : Long.parseLong(result);
+    }
+    
+    /**
+     * Get probe query timeout seconds, which should be set to statements of probes to release hung probes.
+     * 
+     * @param props properties of database discovery type
+     * @return probe query timeout seconds
+     */
+    public static int getQueryTimeoutSeconds(final Properties props) {
+        return (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(getTimeoutMilliseconds(props) + 999L));
+    }
+    
+    /**
+     * Probe data sources in parallel.
+     * 
+     * @param dataSourceMap data source map
+     * @param probe data source probe
+     * @param timeoutMilliseconds timeout milliseconds of all probes
+     * @param <T> type of probe result
+     * @return probe results of answered data sources in the order of data source map, empty if probe failed;
+     *         data sources whose probe is rejected, timeout or still in flight are absent because their state is unknown
+     */
+    public static <T> Map<String, Optional<T>> probe(final Map<String, DataSource> dataSourceMap, final DataSourceProbe<T> probe, final long timeoutMilliseconds) {
+        Map<String, Future<T>> futures = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            submit(entry.getKey(), entry.getValue(), probe).ifPresent(optional -> futures.put(entry.getKey(), optional));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+        Map<String, Optional<T>> result = new LinkedHashMap<>(futures.size(), 1);
+        for (Entry<String, Future<T>> entry : futures.entrySet()) {
+            collectProbeResult(entry.getKey(), entry.getValue(), deadline, result);
+        }
+        return result;
+    }
+    
+    private static <T> Optional<Future<T>> submit(final String dataSourceName, final DataSource dataSource, final DataSourceProbe<T> probe) {
+        if (!PROBING_DATA_SOURCES.add(dataSource)) {
+            log.warn("Previous probe of data source `{}` is still in progress, skip probing it", dataSourceName);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(EXECUTOR_SERVICE.submit(() -> {
+                try {
+                    return probe.probe(dataSource);
+                } finally {
+                    PROBING_DATA_SOURCES.remove(dataSource);
+                }
+            }));
+        } catch (final RejectedExecutionException ex) {
+            PROBING_DATA_SOURCES.remove(dataSource);
+            log.warn("Too many data source probes in progress, skip probing data source `{}`", dataSourceName);
+            return Optional.empty();
+        }
+    }
+    
+    private static <T> void collectProbeResult(final String dataSourceName, final Future<T> future, final long deadline, final Map<String, Optional<T>> result) {
+        try {
+            result.put(dataSourceName, Optional.ofNullable(future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            log.error("An exception occurred while probe data source `{}`", dataSourceName, ex.getCause());
+            result.put(dataSourceName, Optional.empty());
+        } catch (final TimeoutException ex) {
+            log.error("Probe data source `{}` timeout", dataSourceName);
+        }
+    }
+}
@@ -19,8 +19,8 @@ package org.apache.shardingsphere.dbdiscovery.mgr;
 
 import lombok.Getter;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryType;
+import org.apache.shardingsphere.dbdiscovery.spi.probe.DataSourceProbeExecutor;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceDisabledEvent;
@@ -32,17 +32,18 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
  * MGR database discovery type.
  */
-@Slf4j
 public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
     
     private static final String PLUGIN_STATUS = "SELECT * FROM information_schema.PLUGINS WHERE PLUGIN_NAME='group_replication'";
@@ -55,6 +56,9 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
     
     private static final String MEMBER_LIST = "SELECT MEMBER_HOST, MEMBER_PORT, MEMBER_STATE FROM performance_schema.replication_group_members";
     
+    private static final String PRIMARY_MEMBER = "SELECT MEMBER_HOST, MEMBER_PORT FROM performance_schema.replication_group_members WHERE MEMBER_ID = "
+            + "(SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'group_replication_primary_member')";
+    
     private String oldPrimaryDataSource;
     
     @Getter
@@ -158,41 +162,45 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
     
     private String determinePrimaryDataSource(final Map<String, DataSource> dataSourceMap) {
         String primaryDataSourceURL = findPrimaryDataSourceURL(dataSourceMap);
-        return findPrimaryDataSourceName(primaryDataSourceURL, dataSourceMap);
+        return primaryDataSourceURL.isEmpty() ? "" : findPrimaryDataSourceName(primaryDataSourceURL, dataSourceMap);
     }
     
     private String findPrimaryDataSourceURL(final Map<String, DataSource> dataSourceMap) {
-        String result = "";
-        String sql = "SELECT MEMBER_HOST, MEMBER_PORT FROM performance_schema.replication_group_members WHERE MEMBER_ID = "
-                + "(SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'group_replication_primary_member')";
-        for (DataSource each : dataSourceMap.values()) {
-            try (Connection connection = each.getConnection();
-                 Statement statement = connection.createStatement();
-                 ResultSet resultSet = statement.executeQuery(sql)) {
-                if (resultSet.next()) {
-                    return String.format("%s:%s", resultSet.getString("MEMBER_HOST"), resultSet.getString("MEMBER_PORT"));
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find primary data source url", ex);
+        for (Optional<String> each : DataSourceProbeExecutor.probe(dataSourceMap, this::loadPrimaryDataSourceURL, DataSourceProbeExecutor.getTimeoutMilliseconds(props)).values()) {
+            if (each.isPresent()) {
+                return each.get();
+            }
+        }
+        return "";
+    }
+    
+    private String loadPrimaryDataSourceURL(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(DataSourceProbeExecutor.getQueryTimeoutSeconds(props));
+            try (ResultSet resultSet = statement.executeQuery(PRIMARY_MEMBER)) {
+                return resultSet.next() ? String.format("%s:%s", resultSet.getString("MEMBER_HOST"), resultSet.getString("MEMBER_PORT")) : null;
             }
         }
-        return result;
     }
     
     private String findPrimaryDataSourceName(final String primaryDataSourceURL, final Map<String, DataSource> dataSourceMap) {
-        String result = "";
-        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            String url;
-            try (Connection connection = entry.getValue().getConnection()) {
-                url = connection.getMetaData().getURL();
-                if (null != url && url.contains(primaryDataSourceURL)) {
-                    return entry.getKey();
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find primary data source name", ex);
+        for (Entry<String, Optional<String>> entry : loadDataSourceURLs(dataSourceMap).entrySet()) {
+            if (entry.getValue().isPresent() && entry.getValue().get().contains(primaryDataSourceURL)) {
+                return entry.getKey();
             }
         }
-        return result;
+        return "";
+    }
+    
+    private Map<String, Optional<String>> loadDataSourceURLs(final Map<String, DataSource> dataSourceMap) {
+        return DataSourceProbeExecutor.probe(dataSourceMap, this::loadDataSourceURL, DataSourceProbeExecutor.getTimeoutMilliseconds(props));
+    }
+    
+    private String loadDataSourceURL(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
     }
     
     @Override
@@ -205,75 +213,63 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
         if (memberDataSourceURLs.isEmpty()) {
             return;
         }
+        Map<String, Optional<String>> allDataSourceURLs = loadDataSourceURLs(dataSourceMap);
         Map<String, String> dataSourceURLs = new HashMap<>(16, 1);
-        determineDisabledDataSource(schemaName, activeDataSourceMap, memberDataSourceURLs, dataSourceURLs);
-        determineEnabledDataSource(dataSourceMap, schemaName, memberDataSourceURLs, dataSourceURLs);
+        determineDisabledDataSource(schemaName, activeDataSourceMap, memberDataSourceURLs, allDataSourceURLs, dataSourceURLs);
+        determineEnabledDataSource(schemaName, memberDataSourceURLs, allDataSourceURLs, dataSourceURLs);
     }
     
     private List<String> findMemberDataSourceURLs(final Map<String, DataSource> activeDataSourceMap) {
+        DataSource primaryDataSource = null == oldPrimaryDataSource ? null : activeDataSourceMap.get(oldPrimaryDataSource);
+        if (null == primaryDataSource) {
+            return Collections.emptyList();
+        }
+        return DataSourceProbeExecutor.probe(Collections.singletonMap(oldPrimaryDataSource, primaryDataSource), this::loadMemberDataSourceURLs, DataSourceProbeExecutor.getTimeoutMilliseconds(props))
+                .getOrDefault(oldPrimaryDataSource, Optional.empty()).orElse(Collections.emptyList());
+    }
+    
+    private List<String> loadMemberDataSourceURLs(final DataSource dataSource) throws SQLException {
         List<String> result = new LinkedList<>();
-        try (Connection connection = activeDataSourceMap.get(oldPrimaryDataSource).getConnection();
+        try (Connection connection = dataSource.getConnection();
              Statement statement = connection.createStatement()) {
-            ResultSet resultSet = statement.executeQuery(MEMBER_LIST);
-            while (resultSet.next()) {
-                if (!"ONLINE".equals(resultSet.getString("MEMBER_STATE"))) {
-                    continue;
+            statement.setQueryTimeout(DataSourceProbeExecutor.getQueryTimeoutSeconds(props));
+            try (ResultSet resultSet = statement.executeQuery(MEMBER_LIST)) {
+                while (resultSet.next()) {
+                    if (!"ONLINE".equals(resultSet.getString("MEMBER_STATE"))) {
+                        continue;
+                    }
+                    result.add(String.format("%s:%s", resultSet.getString("MEMBER_HOST"), resultSet.getString("MEMBER_PORT")));
                 }
-                result.add(String.format("%s:%s", resultSet.getString("MEMBER_HOST"), resultSet.getString("MEMBER_PORT")));
             }
-        } catch (final SQLException ex) {
-            log.error("An exception occurred while find member data source urls", ex);
         }
         return result;
     }
     
-    private void determineDisabledDataSource(final String schemaName, final Map<String, DataSource> activeDataSourceMap,
-                                             final List<String> memberDataSourceURLs, final Map<String, String> dataSourceURLs) {
-        for (Entry<String, DataSource> entry : activeDataSourceMap.entrySet()) {
-            boolean disable = true;
-            String url = null;
-            try (Connection connection = entry.getValue().getConnection()) {
-                url = connection.getMetaData().getURL();
-                for (String each : memberDataSourceURLs) {
-                    if (null != url && url.contains(each)) {
-                        disable = false;
-                        break;
-                    }
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find data source urls", ex);
+    private void determineDisabledDataSource(final String schemaName, final Map<String, DataSource> activeDataSourceMap, final List<String> memberDataSourceURLs,
+                                             final Map<String, Optional<String>> allDataSourceURLs, final Map<String, String> dataSourceURLs) {
+        for (String each : activeDataSourceMap.keySet()) {
+            Optional<String> url = allDataSourceURLs.getOrDefault(each, Optional.empty());
+            if (!url.isPresent()) {
+                continue;
             }
-            if (disable) {
-                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), true));
-            } else if (!url.isEmpty()) {
-                dataSourceURLs.put(entry.getKey(), url);
+            if (memberDataSourceURLs.stream().noneMatch(url.get()::contains)) {
+                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, each, true));
+            } else if (!url.get().isEmpty()) {
+                dataSourceURLs.put(each, url.get());
             }
         }
     }
     
-    private void determineEnabledDataSource(final Map<String, DataSource> dataSourceMap, final String schemaName,
-                                            final List<String> memberDataSourceURLs, final Map<String, String> dataSourceURLs) {
+    private void determineEnabledDataSource(final String schemaName, final List<String> memberDataSourceURLs,
+                                            final Map<String, Optional<String>> allDataSourceURLs, final Map<String, String> dataSourceURLs) {
         for (String each : memberDataSourceURLs) {
-            boolean enable = true;
-            for (Entry<String, String> entry : dataSourceURLs.entrySet()) {
-                if (entry.getValue().contains(each)) {
-                    enable = false;
-                    break;
-                }
-            }
-            if (!enable) {
+            if (dataSourceURLs.values().stream().anyMatch(url -> url.contains(each))) {
                 continue;
             }
-            for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-                String url;
-                try (Connection connection = entry.getValue().getConnection()) {
-                    url = connection.getMetaData().getURL();
-                    if (null != url && url.contains(each)) {
-                        ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), false));
-                        break;
-                    }
-                } catch (final SQLException ex) {
-                    log.error("An exception occurred while find enable data source urls", ex);
+            for (Entry<String, Optional<String>> entry : allDataSourceURLs.entrySet()) {
+                if (entry.getValue().isPresent() && entry.getValue().get().contains(each)) {
+                    ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), false));
+                    break;
                 }
             }
         }
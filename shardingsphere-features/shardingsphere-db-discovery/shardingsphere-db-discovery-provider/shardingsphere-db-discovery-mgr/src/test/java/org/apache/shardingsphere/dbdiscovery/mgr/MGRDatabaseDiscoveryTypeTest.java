@@ -17,10 +17,11 @@
 
 package org.apache.shardingsphere.dbdiscovery.mgr;
 
-import com.google.common.eventbus.EventBus;
+import org.apache.shardingsphere.infra.eventbus.AsyncOrderedEventBus;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceDisabledEvent;
 import org.junit.Test;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import javax.sql.DataSource;
@@ -33,14 +34,18 @@ import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -127,9 +132,7 @@ public final class MGRDatabaseDiscoveryTypeTest {
         Field declaredField = MGRDatabaseDiscoveryType.class.getDeclaredField("oldPrimaryDataSource");
         declaredField.setAccessible(true);
         declaredField.set(mgrHaType, "ds_0");
-        EventBus eventBus = mock(EventBus.class);
-        mockStatic(ShardingSphereEventBus.class);
-        when(ShardingSphereEventBus.getInstance()).thenReturn(eventBus);
+        AsyncOrderedEventBus eventBus = mock(AsyncOrderedEventBus.class);
         List<DataSource> dataSources = new LinkedList<>();
         List<Connection> connections = new LinkedList<>();
         List<Statement> statements = new LinkedList<>();
@@ -159,7 +162,84 @@ public final class MGRDatabaseDiscoveryTypeTest {
         for (int i = 0; i < 3; i++) {
             dataSourceMap.put(String.format("ds_%s", i), dataSources.get(i));
         }
-        mgrHaType.updateMemberState("discovery_db", dataSourceMap, disabledDataSourceNames);
+        try (MockedStatic<ShardingSphereEventBus> eventBusHolder = mockStatic(ShardingSphereEventBus.class)) {
+            eventBusHolder.when(ShardingSphereEventBus::getInstance).thenReturn(eventBus);
+            mgrHaType.updateMemberState("discovery_db", dataSourceMap, disabledDataSourceNames);
+        }
         verify(eventBus).post(Mockito.refEq(new DataSourceDisabledEvent("discovery_db", "ds_2", true)));
     }
+    
+    @Test
+    public void assertUpdateMemberStateWithUnknownMemberURL() throws SQLException, IllegalAccessException, NoSuchFieldException {
+        setOldPrimaryDataSource("ds_0");
+        mgrHaType.getProps().setProperty("probe-timeout-milliseconds", "100");
+        CountDownLatch hungLatch = new CountDownLatch(1);
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(3, 1);
+        dataSourceMap.put("ds_0", mockDataSource(3306, true));
+        dataSourceMap.put("ds_1", mockHungDataSource(hungLatch));
+        dataSourceMap.put("ds_2", mockDataSource(3308, false));
+        AsyncOrderedEventBus eventBus = mock(AsyncOrderedEventBus.class);
+        try (MockedStatic<ShardingSphereEventBus> eventBusHolder = mockStatic(ShardingSphereEventBus.class)) {
+            eventBusHolder.when(ShardingSphereEventBus::getInstance).thenReturn(eventBus);
+            mgrHaType.updateMemberState("discovery_db", dataSourceMap, Collections.emptyList());
+        } finally {
+            hungLatch.countDown();
+        }
+        verify(eventBus).post(Mockito.refEq(new DataSourceDisabledEvent("discovery_db", "ds_2", true)));
+        verify(eventBus, never()).post(Mockito.refEq(new DataSourceDisabledEvent("discovery_db", "ds_1", true)));
+    }
+    
+    @Test
+    public void assertUpdateMemberStateWithUnknownPrimary() throws SQLException, IllegalAccessException, NoSuchFieldException {
+        setOldPrimaryDataSource("ds_0");
+        mgrHaType.getProps().setProperty("probe-timeout-milliseconds", "100");
+        CountDownLatch hungLatch = new CountDownLatch(1);
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("ds_0", mockHungDataSource(hungLatch));
+        dataSourceMap.put("ds_1", mockDataSource(3307, false));
+        AsyncOrderedEventBus eventBus = mock(AsyncOrderedEventBus.class);
+        try (MockedStatic<ShardingSphereEventBus> eventBusHolder = mockStatic(ShardingSphereEventBus.class)) {
+            eventBusHolder.when(ShardingSphereEventBus::getInstance).thenReturn(eventBus);
+            mgrHaType.updateMemberState("discovery_db", dataSourceMap, Collections.emptyList());
+        } finally {
+            hungLatch.countDown();
+        }
+        verify(eventBus, never()).post(any());
+    }
+    
+    private void setOldPrimaryDataSource(final String oldPrimaryDataSource) throws NoSuchFieldException, IllegalAccessException {
+        Field declaredField = MGRDatabaseDiscoveryType.class.getDeclaredField("oldPrimaryDataSource");
+        declaredField.setAccessible(true);
+        declaredField.set(mgrHaType, oldPrimaryDataSource);
+    }
+    
+    private DataSource mockDataSource(final int port, final boolean isOnlyOnlineMember) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn("jdbc:mysql://127.0.0.1:" + port + "/ds_0?serverTimezone=UTC&useSSL=false");
+        if (!isOnlyOnlineMember) {
+            return result;
+        }
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(GROUP_MEMBER)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("MEMBER_HOST")).thenReturn("127.0.0.1");
+        when(resultSet.getString("MEMBER_PORT")).thenReturn(Integer.toString(port));
+        when(resultSet.getString("MEMBER_STATE")).thenReturn("ONLINE");
+        return result;
+    }
+    
+    private DataSource mockHungDataSource(final CountDownLatch hungLatch) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenAnswer(invocation -> {
+            hungLatch.await();
+            throw new SQLException("Connection is closed");
+        });
+        return result;
+    }
 }
@@ -18,9 +18,10 @@
 package org.apache.shardingsphere.dbdiscovery.opengauss;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryType;
+import org.apache.shardingsphere.dbdiscovery.spi.probe.DataSourceProbeExecutor;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceDisabledEvent;
 import org.apache.shardingsphere.infra.rule.event.impl.PrimaryDataSourceChangedEvent;
@@ -33,12 +34,12 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
  * OpenGauss database discovery type.
  */
-@Slf4j
 public final class OpenGaussDatabaseDiscoveryType implements DatabaseDiscoveryType {
     
     private static final String DB_ROLE = "SELECT local_role,db_state FROM pg_stat_get_stream_replications()";
@@ -55,9 +56,12 @@ public final class OpenGaussDatabaseDiscoveryType implements DatabaseDiscoveryTy
     
     @Override
     public void updatePrimaryDataSource(final String schemaName, final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames, final String groupName) {
-        String newPrimaryDataSource = determinePrimaryDataSource(dataSourceMap);
+        Map<String, Optional<DatabaseRole>> databaseRoles = loadDatabaseRoles(dataSourceMap);
+        String newPrimaryDataSource = determinePrimaryDataSource(databaseRoles);
         if (newPrimaryDataSource.isEmpty()) {
-            oldPrimaryDataSource = "";
+            if (null == oldPrimaryDataSource || databaseRoles.containsKey(oldPrimaryDataSource)) {
+                oldPrimaryDataSource = "";
+            }
             return;
         }
         if (!newPrimaryDataSource.equals(oldPrimaryDataSource)) {
@@ -66,41 +70,36 @@ public final class OpenGaussDatabaseDiscoveryType implements DatabaseDiscoveryTy
         }
     }
     
-    private String determinePrimaryDataSource(final Map<String, DataSource> dataSourceMap) {
-        String result = "";
-        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            try (Connection connection = entry.getValue().getConnection();
-                 Statement statement = connection.createStatement();
-                 ResultSet resultSet = statement.executeQuery(DB_ROLE)) {
-                if (resultSet.next()) {
-                    if (resultSet.getString("local_role").equals("Primary") && resultSet.getString("db_state").equals("Normal")) {
-                        return entry.getKey();
-                    }
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find primary data source url", ex);
+    private String determinePrimaryDataSource(final Map<String, Optional<DatabaseRole>> databaseRoles) {
+        for (Entry<String, Optional<DatabaseRole>> entry : databaseRoles.entrySet()) {
+            if (entry.getValue().isPresent() && entry.getValue().get().isPrimary()) {
+                return entry.getKey();
             }
         }
-        return result;
+        return "";
     }
     
     @Override
     public void updateMemberState(final String schemaName, final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            boolean disable = true;
-            try (Connection connection = entry.getValue().getConnection();
-                 Statement statement = connection.createStatement();
-                 ResultSet resultSet = statement.executeQuery(DB_ROLE)) {
-                if (resultSet.next()) {
-                    if ((resultSet.getString("local_role").equals("Standby") && resultSet.getString("db_state").equals("Normal"))
-                            || entry.getKey().equals(oldPrimaryDataSource)) {
-                        disable = false;
-                    }
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find data source urls", ex);
+        for (Entry<String, Optional<DatabaseRole>> entry : loadDatabaseRoles(dataSourceMap).entrySet()) {
+            boolean disable = !entry.getKey().equals(oldPrimaryDataSource) && !entry.getValue().map(DatabaseRole::isStandby).orElse(false);
+            if (disable != disabledDataSourceNames.contains(entry.getKey())) {
+                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), disable));
+            }
+        }
+    }
+    
+    private Map<String, Optional<DatabaseRole>> loadDatabaseRoles(final Map<String, DataSource> dataSourceMap) {
+        return DataSourceProbeExecutor.probe(dataSourceMap, this::loadDatabaseRole, DataSourceProbeExecutor.getTimeoutMilliseconds(props));
+    }
+    
+    private DatabaseRole loadDatabaseRole(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(DataSourceProbeExecutor.getQueryTimeoutSeconds(props));
+            try (ResultSet resultSet = statement.executeQuery(DB_ROLE)) {
+                return resultSet.next() ? new DatabaseRole(resultSet.getString("local_role"), resultSet.getString("db_state")) : null;
             }
-            ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), disable));
         }
     }
     
@@ -113,4 +112,20 @@ public final class OpenGaussDatabaseDiscoveryType implements DatabaseDiscoveryTy
     public String getType() {
         return "openGauss";
     }
+    
+    @RequiredArgsConstructor
+    private static final class DatabaseRole {
+        
+        private final String localRole;
+        
+        private final String dbState;
+        
+        private boolean isPrimary() {
+            return "Primary".equals(localRole) && "Normal".equals(dbState);
+        }
+        
+        private boolean isStandby() {
+            return "Standby".equals(localRole) && "Normal".equals(dbState);
+        }
+    }
 }
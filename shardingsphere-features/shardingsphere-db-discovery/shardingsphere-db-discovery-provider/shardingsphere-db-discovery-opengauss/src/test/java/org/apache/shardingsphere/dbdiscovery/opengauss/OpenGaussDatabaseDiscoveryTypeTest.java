@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.dbdiscovery.opengauss;
 
+import org.apache.shardingsphere.infra.eventbus.AsyncOrderedEventBus;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.rule.event.impl.DataSourceDisabledEvent;
 import org.junit.Test;
+import org.mockito.MockedStatic;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -27,13 +31,19 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class OpenGaussDatabaseDiscoveryTypeTest {
@@ -94,4 +104,101 @@ public final class OpenGaussDatabaseDiscoveryTypeTest {
         ogHaType.updatePrimaryDataSource("discovery_db", dataSourceMap, Collections.emptySet(), "group_name");
         assertThat(ogHaType.getPrimaryDataSource(), is("ds_2"));
     }
+    
+    @Test
+    public void assertUpdateMemberStateWithChangedStateOnly() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(3, 1);
+        dataSourceMap.put("ds_0", mockDataSource("Primary", "Normal"));
+        dataSourceMap.put("ds_1", mockDataSource("Standby", "Normal"));
+        dataSourceMap.put("ds_2", mockDataSource("Standby", "Normal"));
+        AsyncOrderedEventBus eventBus = mock(AsyncOrderedEventBus.class);
+        try (MockedStatic<ShardingSphereEventBus> eventBusHolder = mockStatic(ShardingSphereEventBus.class)) {
+            eventBusHolder.when(ShardingSphereEventBus::getInstance).thenReturn(eventBus);
+            ogHaType.updatePrimaryDataSource("discovery_db", dataSourceMap, Collections.emptySet(), "group_name");
+            ogHaType.updateMemberState("discovery_db", dataSourceMap, Collections.singleton("ds_1"));
+        }
+        verify(eventBus).post(refEq(new DataSourceDisabledEvent("discovery_db", "ds_1", false)));
+        verify(eventBus, never()).post(refEq(new DataSourceDisabledEvent("discovery_db", "ds_0", false)));
+        verify(eventBus, never()).post(refEq(new DataSourceDisabledEvent("discovery_db", "ds_2", false)));
+    }
+    
+    @Test
+    public void assertUpdateMemberStateWithUnknownMember() throws SQLException {
+        CountDownLatch hungLatch = new CountDownLatch(1);
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(3, 1);
+        dataSourceMap.put("ds_0", mockDataSource("Primary", "Normal"));
+        dataSourceMap.put("ds_1", mockDataSource("Standby", "Normal"));
+        dataSourceMap.put("ds_2", mockHungDataSource(hungLatch));
+        ogHaType.getProps().setProperty("probe-timeout-milliseconds", "100");
+        AsyncOrderedEventBus eventBus = mock(AsyncOrderedEventBus.class);
+        try (MockedStatic<ShardingSphereEventBus> eventBusHolder = mockStatic(ShardingSphereEventBus.class)) {
+            eventBusHolder.when(ShardingSphereEventBus::getInstance).thenReturn(eventBus);
+            ogHaType.updatePrimaryDataSource("discovery_db", dataSourceMap, Collections.emptySet(), "group_name");
+            ogHaType.updateMemberState("discovery_db", dataSourceMap, Collections.emptySet());
+        } finally {
+            hungLatch.countDown();
+        }
+        assertThat(ogHaType.getPrimaryDataSource(), is("ds_0"));
+        verify(eventBus, never()).post(refEq(new DataSourceDisabledEvent("discovery_db", "ds_2", true)));
+    }
+    
+    @Test
+    public void assertUpdateMemberStateWithFailedMember() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("ds_0", mockDataSource("Primary", "Normal"));
+        DataSource failedDataSource = mock(DataSource.class);
+        when(failedDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        dataSourceMap.put("ds_1", failedDataSource);
+        AsyncOrderedEventBus eventBus = mock(AsyncOrderedEventBus.class);
+        try (MockedStatic<ShardingSphereEventBus> eventBusHolder = mockStatic(ShardingSphereEventBus.class)) {
+            eventBusHolder.when(ShardingSphereEventBus::getInstance).thenReturn(eventBus);
+            ogHaType.updatePrimaryDataSource("discovery_db", dataSourceMap, Collections.emptySet(), "group_name");
+            ogHaType.updateMemberState("discovery_db", dataSourceMap, Collections.emptySet());
+        }
+        verify(eventBus).post(refEq(new DataSourceDisabledEvent("discovery_db", "ds_1", true)));
+    }
+    
+    @Test
+    public void assertUpdatePrimaryDataSourceWithUnknownPrimary() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("ds_0", mockDataSource("Primary", "Normal"));
+        dataSourceMap.put("ds_1", mockDataSource("Standby", "Normal"));
+        ogHaType.getProps().setProperty("probe-timeout-milliseconds", "100");
+        AsyncOrderedEventBus eventBus = mock(AsyncOrderedEventBus.class);
+        CountDownLatch hungLatch = new CountDownLatch(1);
+        try (MockedStatic<ShardingSphereEventBus> eventBusHolder = mockStatic(ShardingSphereEventBus.class)) {
+            eventBusHolder.when(ShardingSphereEventBus::getInstance).thenReturn(eventBus);
+            ogHaType.updatePrimaryDataSource("discovery_db", dataSourceMap, Collections.emptySet(), "group_name");
+            dataSourceMap.put("ds_0", mockHungDataSource(hungLatch));
+            ogHaType.updatePrimaryDataSource("discovery_db", dataSourceMap, Collections.emptySet(), "group_name");
+            ogHaType.updateMemberState("discovery_db", dataSourceMap, Collections.emptySet());
+        } finally {
+            hungLatch.countDown();
+        }
+        assertThat(ogHaType.getPrimaryDataSource(), is("ds_0"));
+        verify(eventBus, never()).post(refEq(new DataSourceDisabledEvent("discovery_db", "ds_0", true)));
+    }
+    
+    private DataSource mockHungDataSource(final CountDownLatch hungLatch) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenAnswer(invocation -> {
+            hungLatch.await();
+            throw new SQLException("Connection is closed");
+        });
+        return result;
+    }
+    
+    private DataSource mockDataSource(final String localRole, final String dbState) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(DB_ROLE)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString("local_role")).thenReturn(localRole);
+        when(resultSet.getString("db_state")).thenReturn(dbState);
+        return result;
+    }
 }
@@ -39,6 +39,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -102,6 +104,22 @@ public final class EncryptMergedResultTest {
         assertNull(new EncryptMergedResult(metaData, mergedResult).getValue(1, String.class));
     }
     
+    @Test
+    public void assertGetValueWithResolvedColumnDecryptorReused() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        EncryptContext encryptContext = EncryptContextBuilder.build(DefaultSchema.LOGIC_NAME, "t_encrypt", "order_id", mock(EncryptRule.class));
+        when(encryptAlgorithm.decrypt("VALUE", encryptContext)).thenReturn("ORIGINAL_VALUE");
+        when(metaData.findEncryptContext(1)).thenReturn(Optional.of(encryptContext));
+        when(metaData.isQueryWithCipherColumn("t_encrypt")).thenReturn(true);
+        when(metaData.findEncryptor("t_encrypt", "order_id")).thenReturn(Optional.of(encryptAlgorithm));
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE"));
+        verify(metaData, times(1)).findEncryptContext(1);
+        verify(metaData, times(1)).findEncryptor("t_encrypt", "order_id");
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
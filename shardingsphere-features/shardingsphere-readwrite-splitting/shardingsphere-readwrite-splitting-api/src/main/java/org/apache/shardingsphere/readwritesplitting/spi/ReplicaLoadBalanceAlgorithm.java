@@ -36,4 +36,17 @@ public interface ReplicaLoadBalanceAlgorithm extends ShardingSphereAlgorithm, Re
      * @return name of selected data source
      */
     String getDataSource(String name, String writeDataSourceName, List<String> readDataSourceNames);
+    
+    /**
+     * Get data source of schema.
+     * 
+     * @param schemaName schema name
+     * @param name replica query logic data source name
+     * @param writeDataSourceName name of write data sources
+     * @param readDataSourceNames names of read data sources
+     * @return name of selected data source
+     */
+    default String getDataSource(final String schemaName, final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        return getDataSource(name, writeDataSourceName, readDataSourceNames);
+    }
 }
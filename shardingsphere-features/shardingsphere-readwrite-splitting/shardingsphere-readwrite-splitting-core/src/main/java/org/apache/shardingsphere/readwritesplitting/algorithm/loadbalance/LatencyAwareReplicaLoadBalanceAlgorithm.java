@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware replica load-balance algorithm.
+ */
+public final class LatencyAwareReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm, ShardingSphereAlgorithmPostProcessor {
+    
+    private static final String MAX_LATENCY_MILLISECONDS_KEY = "max-latency-milliseconds";
+    
+    private static final String PROBE_INTERVAL_MILLISECONDS_KEY = "probe-interval-milliseconds";
+    
+    private static final long DEFAULT_PROBE_INTERVAL_MILLISECONDS = 5000L;
+    
+    private static final double MIN_LATENCY_MILLISECONDS = 0.1D;
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private double maxLatencyMilliseconds = Double.MAX_VALUE;
+    
+    private long probeIntervalMilliseconds = DEFAULT_PROBE_INTERVAL_MILLISECONDS;
+    
+    @Override
+    public void init() {
+        if (props.containsKey(MAX_LATENCY_MILLISECONDS_KEY)) {
+            maxLatencyMilliseconds = Double.parseDouble(props.getProperty(MAX_LATENCY_MILLISECONDS_KEY));
+        }
+        if (props.containsKey(PROBE_INTERVAL_MILLISECONDS_KEY)) {
+            probeIntervalMilliseconds = Long.parseLong(props.getProperty(PROBE_INTERVAL_MILLISECONDS_KEY));
+        }
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        return getDataSource(DefaultSchema.LOGIC_NAME, name, writeDataSourceName, readDataSourceNames);
+    }
+    
+    @Override
+    public String getDataSource(final String schemaName, final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        String result = selectDataSource(schemaName, readDataSourceNames);
+        ReplicaStatisticsRegistry.markReplicaRoute(schemaName, result);
+        return result;
+    }
+    
+    private String selectDataSource(final String schemaName, final List<String> readDataSourceNames) {
+        List<String> availableDataSourceNames = new ArrayList<>(readDataSourceNames.size());
+        for (String each : readDataSourceNames) {
+            if (!isLatencyExceeded(schemaName, each)) {
+                availableDataSourceNames.add(each);
+            } else if (ReplicaStatisticsRegistry.tryAcquireProbe(schemaName, each, probeIntervalMilliseconds)) {
+                return each;
+            }
+        }
+        return getDataSourceName(schemaName, availableDataSourceNames.isEmpty() ? readDataSourceNames : availableDataSourceNames);
+    }
+    
+    private boolean isLatencyExceeded(final String schemaName, final String dataSourceName) {
+        Optional<Double> latency = ReplicaStatisticsRegistry.findLatency(schemaName, dataSourceName);
+        return latency.isPresent() && latency.get() > maxLatencyMilliseconds;
+    }
+    
+    private String getDataSourceName(final String schemaName, final List<String> dataSourceNames) {
+        if (1 == dataSourceNames.size()) {
+            return dataSourceNames.get(0);
+        }
+        double[] cumulativeWeights = new double[dataSourceNames.size()];
+        double totalWeight = 0D;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            totalWeight += 1D / Math.max(ReplicaStatisticsRegistry.findLatency(schemaName, dataSourceNames.get(i)).orElse(MIN_LATENCY_MILLISECONDS), MIN_LATENCY_MILLISECONDS);
+            cumulativeWeights[i] = totalWeight;
+        }
+        double randomWeight = ThreadLocalRandom.current().nextDouble(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (randomWeight < cumulativeWeights[i]) {
+                return dataSourceNames.get(i);
+            }
+        }
+        return dataSourceNames.get(dataSourceNames.size() - 1);
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicaStatisticsRegistry {
+    
+    private static final String REPLICA_ROUTES_KEY = "READWRITE_SPLITTING_REPLICA_ROUTES";
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private static final double DECAY_WINDOW_MILLISECONDS = 10000D;
+    
+    private static final Map<String, ReplicaLatency> LATENCIES = new ConcurrentHashMap<>();
+    
+    /**
+     * Mark data source as replica routed by current statement, only latencies of marked data sources are recorded.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     */
+    @SuppressWarnings("unchecked")
+    public static void markReplicaRoute(final String schemaName, final String dataSourceName) {
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        Object replicaRoutes = dataMap.get(REPLICA_ROUTES_KEY);
+        Map<String, String> result = null == replicaRoutes ? new HashMap<>(1, 1) : new HashMap<>((Map<String, String>) replicaRoutes);
+        result.put(dataSourceName, schemaName);
+        dataMap.put(REPLICA_ROUTES_KEY, Collections.unmodifiableMap(result));
+    }
+    
+    /**
+     * Clear replica routes of current statement.
+     */
+    public static void clearReplicaRoutes() {
+        ExecutorDataMap.getValue().remove(REPLICA_ROUTES_KEY);
+    }
+    
+    /**
+     * Find schema name of replica routed data source.
+     *
+     * @param dataMap executor data map
+     * @param dataSourceName data source name
+     * @return schema name
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<String> findReplicaRouteSchemaName(final Map<String, Object> dataMap, final String dataSourceName) {
+        Object replicaRoutes = null == dataMap ? null : dataMap.get(REPLICA_ROUTES_KEY);
+        return null == replicaRoutes ? Optional.empty() : Optional.ofNullable(((Map<String, String>) replicaRoutes).get(dataSourceName));
+    }
+    
+    /**
+     * Record query latency of data source.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @param latencyMilliseconds latency in milliseconds
+     */
+    public static void recordLatency(final String schemaName, final String dataSourceName, final double latencyMilliseconds) {
+        recordLatency(schemaName, dataSourceName, latencyMilliseconds, System.currentTimeMillis());
+    }
+    
+    static void recordLatency(final String schemaName, final String dataSourceName, final double latencyMilliseconds, final long currentMillis) {
+        ReplicaLatency existed = LATENCIES.putIfAbsent(getKey(schemaName, dataSourceName), new ReplicaLatency(latencyMilliseconds, currentMillis));
+        if (null != existed) {
+            existed.record(latencyMilliseconds, currentMillis);
+        }
+    }
+    
+    /**
+     * Find time decayed moving average latency of data source.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return average latency in milliseconds
+     */
+    public static Optional<Double> findLatency(final String schemaName, final String dataSourceName) {
+        ReplicaLatency latency = LATENCIES.get(getKey(schemaName, dataSourceName));
+        return null == latency ? Optional.empty() : Optional.of(latency.getAverage());
+    }
+    
+    /**
+     * Try to acquire a trial request for data source which has no latency recorded within probe interval.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @param probeIntervalMilliseconds probe interval in milliseconds
+     * @return acquired or not
+     */
+    public static boolean tryAcquireProbe(final String schemaName, final String dataSourceName, final long probeIntervalMilliseconds) {
+        return tryAcquireProbe(schemaName, dataSourceName, probeIntervalMilliseconds, System.currentTimeMillis());
+    }
+    
+    static boolean tryAcquireProbe(final String schemaName, final String dataSourceName, final long probeIntervalMilliseconds, final long currentMillis) {
+        ReplicaLatency latency = LATENCIES.get(getKey(schemaName, dataSourceName));
+        return null != latency && latency.tryProbe(probeIntervalMilliseconds, currentMillis);
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public static void clear() {
+        LATENCIES.clear();
+    }
+    
+    private static String getKey(final String schemaName, final String dataSourceName) {
+        return schemaName + "." + dataSourceName;
+    }
+    
+    private static final class ReplicaLatency {
+        
+        private double average;
+        
+        private long lastRecordMillis;
+        
+        private long lastProbeMillis;
+        
+        ReplicaLatency(final double latencyMilliseconds, final long currentMillis) {
+            average = latencyMilliseconds;
+            lastRecordMillis = currentMillis;
+        }
+        
+        synchronized void record(final double latencyMilliseconds, final long currentMillis) {
+            double smoothingFactor = Math.max(SMOOTHING_FACTOR, 1D - Math.exp((lastRecordMillis - currentMillis) / DECAY_WINDOW_MILLISECONDS));
+            average += smoothingFactor * (latencyMilliseconds - average);
+            lastRecordMillis = Math.max(lastRecordMillis, currentMillis);
+        }
+        
+        synchronized double getAverage() {
+            return average;
+        }
+        
+        synchronized boolean tryProbe(final long probeIntervalMilliseconds, final long currentMillis) {
+            if (currentMillis - Math.max(lastRecordMillis, lastProbeMillis) < probeIntervalMilliseconds) {
+                return false;
+            }
+            lastProbeMillis = currentMillis;
+            return true;
+        }
+    }
+}
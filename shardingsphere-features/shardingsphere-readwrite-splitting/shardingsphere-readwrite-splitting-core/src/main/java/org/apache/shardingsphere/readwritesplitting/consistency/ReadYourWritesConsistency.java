@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.session.SessionAttributes;
+import org.apache.shardingsphere.infra.session.SessionAttributesHolder;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReadYourWritesContext.WrittenPosition;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-your-writes consistency.
+ * 
+ * <p>
+ * After a session writes, the replication position of write data source is captured once the write committed, which is before the next routing of the session,
+ * the read is routed to a read data source only if it has caught up to that position, otherwise it is routed to write data source.
+ * Replication positions are queried by background probes and shared among sessions, so routing never borrows connections or waits for replication.
+ * Sessions without {@link SessionAttributes} bound to current thread are not tracked.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Slf4j
+public final class ReadYourWritesConsistency {
+    
+    private static final String CONTEXT_ATTRIBUTE_KEY = ReadYourWritesContext.class.getName();
+    
+    private static final Executor DEFAULT_PROBE_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-ReadYourWrites-Probe-%d").build());
+    
+    private final String name;
+    
+    private final Map<String, DataSource> dataSources;
+    
+    private final ReplicationPositionSQLProvider sqlProvider;
+    
+    private final Executor probeExecutor;
+    
+    private final AtomicLong sampleSequence = new AtomicLong();
+    
+    private final AtomicLong requestedSampleNanos = new AtomicLong(Long.MIN_VALUE);
+    
+    private final AtomicBoolean sampling = new AtomicBoolean();
+    
+    private final Map<String, ReplicaProgress> replicaProgresses = new ConcurrentHashMap<>();
+    
+    private volatile PositionSample latestSample;
+    
+    public ReadYourWritesConsistency(final String name, final Map<String, DataSource> dataSources, final ReplicationPositionSQLProvider sqlProvider) {
+        this(name, dataSources, sqlProvider, DEFAULT_PROBE_EXECUTOR);
+    }
+    
+    /**
+     * Record write of current session.
+     */
+    public void recordWrite() {
+        findContext().ifPresent(optional -> optional.markWritten(name));
+    }
+    
+    /**
+     * Judge whether read data source is readable for current session.
+     * 
+     * @param readDataSourceName read data source name
+     * @param writeDataSourceName write data source name
+     * @return read data source is readable or not
+     */
+    public boolean isReadable(final String readDataSourceName, final String writeDataSourceName) {
+        Optional<WrittenPosition> writtenPosition = findContext().flatMap(optional -> optional.findWrittenPosition(name));
+        if (!writtenPosition.isPresent()) {
+            return true;
+        }
+        if (0L == writtenPosition.get().getSequence() && !loadCommittedPosition(writtenPosition.get(), writeDataSourceName)) {
+            return false;
+        }
+        ReplicaProgress replicaProgress = replicaProgresses.computeIfAbsent(readDataSourceName, unused -> new ReplicaProgress());
+        if (replicaProgress.getCaughtUpSequence().get() < writtenPosition.get().getSequence() && replicaProgress.getProbing().compareAndSet(false, true)) {
+            long sequence = writtenPosition.get().getSequence();
+            String position = writtenPosition.get().getPosition();
+            probeExecutor.execute(() -> probe(readDataSourceName, replicaProgress, sequence, position));
+        }
+        return replicaProgress.getCaughtUpSequence().get() >= writtenPosition.get().getSequence();
+    }
+    
+    private Optional<ReadYourWritesContext> findContext() {
+        return SessionAttributesHolder.find().map(optional -> optional.getOrCreate(CONTEXT_ATTRIBUTE_KEY, ReadYourWritesContext::new));
+    }
+    
+    private boolean loadCommittedPosition(final WrittenPosition writtenPosition, final String writeDataSourceName) {
+        long committedNanos = writtenPosition.getCommittedNanos();
+        if (!isSampledAfter(latestSample, committedNanos)) {
+            requestedSampleNanos.accumulateAndGet(committedNanos, Math::max);
+            if (sampling.compareAndSet(false, true)) {
+                probeExecutor.execute(() -> sample(writeDataSourceName));
+            }
+        }
+        PositionSample sample = latestSample;
+        if (!isSampledAfter(sample, committedNanos)) {
+            return false;
+        }
+        writtenPosition.setPosition(sample.getPosition());
+        writtenPosition.setSequence(sample.getSequence());
+        return true;
+    }
+    
+    private boolean isSampledAfter(final PositionSample sample, final long nanos) {
+        return null != sample && sample.getStartedNanos() - nanos >= 0L;
+    }
+    
+    private void sample(final String writeDataSourceName) {
+        try {
+            while (!isSampledAfter(latestSample, requestedSampleNanos.get())) {
+                long startedNanos = System.nanoTime();
+                String position = queryCurrentPosition(writeDataSourceName);
+                latestSample = new PositionSample(sampleSequence.incrementAndGet(), position, startedNanos);
+            }
+        } catch (final SQLException ex) {
+            log.warn("Query replication position of data source `{}` failed", writeDataSourceName, ex);
+        } finally {
+            sampling.set(false);
+        }
+    }
+    
+    private void probe(final String readDataSourceName, final ReplicaProgress replicaProgress, final long sequence, final String position) {
+        try {
+            if (queryCaughtUp(readDataSourceName, position)) {
+                replicaProgress.getCaughtUpSequence().accumulateAndGet(sequence, Math::max);
+            }
+        } catch (final SQLException ex) {
+            log.warn("Query replication caught up state of data source `{}` failed", readDataSourceName, ex);
+        } finally {
+            replicaProgress.getProbing().set(false);
+        }
+    }
+    
+    private String queryCurrentPosition(final String writeDataSourceName) throws SQLException {
+        try (
+                Connection connection = getDataSource(writeDataSourceName).getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sqlProvider.getCurrentPositionSQL())) {
+            String result = resultSet.next() ? resultSet.getString(1) : null;
+            if (Strings.isNullOrEmpty(result)) {
+                throw new SQLException(String.format("Can not get replication position of data source `%s`.", writeDataSourceName));
+            }
+            return result;
+        }
+    }
+    
+    private boolean queryCaughtUp(final String readDataSourceName, final String position) throws SQLException {
+        try (
+                Connection connection = getDataSource(readDataSourceName).getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sqlProvider.getCaughtUpSQL())) {
+            preparedStatement.setString(1, position);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+    
+    private DataSource getDataSource(final String dataSourceName) throws SQLException {
+        DataSource result = dataSources.get(dataSourceName);
+        if (null == result) {
+            throw new SQLException(String.format("Can not find data source `%s`.", dataSourceName));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PositionSample {
+        
+        private final long sequence;
+        
+        private final String position;
+        
+        private final long startedNanos;
+    }
+    
+    @Getter
+    private static final class ReplicaProgress {
+        
+        private final AtomicLong caughtUpSequence = new AtomicLong();
+        
+        private final AtomicBoolean probing = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes context of session.
+ */
+public final class ReadYourWritesContext {
+    
+    private final Map<String, WrittenPosition> writtenPositions = new ConcurrentHashMap<>();
+    
+    /**
+     * Mark readwrite-splitting data source as written, the replication position will be captured from write data source after the write committed.
+     * 
+     * @param name readwrite-splitting data source name
+     */
+    public void markWritten(final String name) {
+        writtenPositions.put(name, new WrittenPosition());
+    }
+    
+    /**
+     * Find written position.
+     * 
+     * @param name readwrite-splitting data source name
+     * @return written position
+     */
+    public Optional<WrittenPosition> findWrittenPosition(final String name) {
+        return Optional.ofNullable(writtenPositions.get(name));
+    }
+    
+    /**
+     * Written position.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static final class WrittenPosition {
+        
+        @Getter(AccessLevel.NONE)
+        private volatile Long committedNanos;
+        
+        @Setter
+        private volatile long sequence;
+        
+        @Setter
+        private volatile String position;
+        
+        /**
+         * Get committed nano time, the write is committed before the first routing of the session after the write.
+         * 
+         * @return committed nano time
+         */
+        public long getCommittedNanos() {
+            if (null == committedNanos) {
+                committedNanos = System.nanoTime();
+            }
+            return committedNanos;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionSQLProvider;
+
+/**
+ * Replication position SQL provider for PostgreSQL.
+ */
+public final class PostgreSQLReplicationPositionSQLProvider implements ReplicationPositionSQLProvider {
+    
+    @Override
+    public String getCurrentPositionSQL() {
+        return "SELECT pg_current_wal_lsn()";
+    }
+    
+    @Override
+    public String getCaughtUpSQL() {
+        return "SELECT pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn)";
+    }
+    
+    @Override
+    public String getType() {
+        return "PostgreSQL";
+    }
+}
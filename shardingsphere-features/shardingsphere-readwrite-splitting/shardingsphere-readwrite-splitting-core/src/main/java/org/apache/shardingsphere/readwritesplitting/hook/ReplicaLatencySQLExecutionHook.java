@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hook;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.ReplicaStatisticsRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Replica latency SQL execution hook.
+ */
+public final class ReplicaLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    private String schemaName;
+    
+    private String dataSourceName;
+    
+    private long startTime;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Optional<String> schemaName = ReplicaStatisticsRegistry.findReplicaRouteSchemaName(shardingExecuteDataMap, dataSourceName);
+        if (schemaName.isPresent()) {
+            this.schemaName = schemaName.get();
+            this.dataSourceName = dataSourceName;
+            startTime = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        recordLatency();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        recordLatency();
+    }
+    
+    private void recordLatency() {
+        if (null != dataSourceName) {
+            ReplicaStatisticsRegistry.recordLatency(schemaName, dataSourceName, (System.nanoTime() - startTime) / 1000000D);
+        }
+    }
+}
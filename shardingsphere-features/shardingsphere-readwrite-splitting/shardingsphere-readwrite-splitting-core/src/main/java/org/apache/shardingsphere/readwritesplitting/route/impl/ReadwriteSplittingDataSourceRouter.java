@@ -22,17 +22,24 @@ import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContex
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.transaction.TransactionHolder;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReadYourWritesConsistency;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.Optional;
+
 /**
  * Data source router for readwrite-splitting.
  */
 @RequiredArgsConstructor
 public final class ReadwriteSplittingDataSourceRouter {
     
+    private final String schemaName;
+    
     private final ReadwriteSplittingDataSourceRule rule;
     
     /**
@@ -42,13 +49,22 @@ public final class ReadwriteSplittingDataSourceRouter {
      * @return data source name
      */
     public String route(final SQLStatementContext<?> sqlStatementContext) {
+        Optional<ReadYourWritesConsistency> readYourWritesConsistency = rule.findReadYourWritesConsistency();
         if (isPrimaryRoute(sqlStatementContext)) {
+            if (readYourWritesConsistency.isPresent() && isWriteStatement(sqlStatementContext.getSqlStatement())) {
+                readYourWritesConsistency.get().recordWrite();
+            }
             return rule.getReadwriteSplittingType().getWriteDataSource();
         }
-        if (1 == rule.getReadDataSourceNames().size()) {
-            return rule.getReadDataSourceNames().get(0);
+        String result = 1 == rule.getReadDataSourceNames().size() ? rule.getReadDataSourceNames().get(0) : getReadDataSource();
+        if (readYourWritesConsistency.isPresent() && !readYourWritesConsistency.get().isReadable(result, rule.getWriteDataSource())) {
+            return rule.getWriteDataSource();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getReadDataSourceNames());
+        return result;
+    }
+    
+    private String getReadDataSource() {
+        return rule.getLoadBalancer().getDataSource(schemaName, rule.getName(), rule.getWriteDataSource(), rule.getReadDataSourceNames());
     }
     
     private boolean isPrimaryRoute(final SQLStatementContext<?> sqlStatementContext) {
@@ -60,6 +76,10 @@ public final class ReadwriteSplittingDataSourceRouter {
         return HintManager.isWriteRouteOnly() || (sqlStatementContext instanceof CommonSQLStatementContext && ((CommonSQLStatementContext<?>) sqlStatementContext).isHintWriteRouteOnly());
     }
     
+    private boolean isWriteStatement(final SQLStatement sqlStatement) {
+        return (sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement)) || sqlStatement instanceof DDLStatement;
+    }
+    
     private boolean containsLockSegment(final SQLStatement sqlStatement) {
         return sqlStatement instanceof SelectStatement && SelectStatementHandler.getLockSegment((SelectStatement) sqlStatement).isPresent();
     }
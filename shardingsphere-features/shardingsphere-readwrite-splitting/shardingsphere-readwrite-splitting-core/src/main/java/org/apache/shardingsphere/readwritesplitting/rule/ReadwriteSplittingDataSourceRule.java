@@ -24,17 +24,27 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
+import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
 import org.apache.shardingsphere.infra.distsql.constant.ExportableConstants;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReadYourWritesConsistency;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionSQLProvider;
 import org.apache.shardingsphere.readwritesplitting.spi.ReadwriteSplittingType;
 import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+import org.apache.shardingsphere.spi.typed.TypedSPIRegistry;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +53,8 @@ import java.util.stream.Collectors;
 @Getter
 public final class ReadwriteSplittingDataSourceRule {
     
+    private static final String READ_YOUR_WRITES_ENABLED_KEY = "read-your-writes-enabled";
+    
     private final String name;
     
     private final ReadwriteSplittingType readwriteSplittingType;
@@ -52,11 +64,41 @@ public final class ReadwriteSplittingDataSourceRule {
     @Getter(AccessLevel.NONE)
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    @Getter(AccessLevel.NONE)
+    private final ReadYourWritesConsistency readYourWritesConsistency;
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final ReplicaLoadBalanceAlgorithm loadBalancer) {
+        this(config, loadBalancer, Collections.emptyMap());
+    }
+    
+    public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final ReplicaLoadBalanceAlgorithm loadBalancer, final Map<String, DataSource> dataSources) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(config.getName()), "Name is required.");
         name = config.getName();
         readwriteSplittingType = ShardingSphereAlgorithmFactory.createAlgorithm(new ShardingSphereAlgorithmConfiguration(config.getType(), config.getProps()), ReadwriteSplittingType.class);
         this.loadBalancer = loadBalancer;
+        readYourWritesConsistency = createReadYourWritesConsistency(config.getProps(), dataSources);
+    }
+    
+    private ReadYourWritesConsistency createReadYourWritesConsistency(final Properties props, final Map<String, DataSource> dataSources) {
+        if (null == props || !Boolean.parseBoolean(props.getProperty(READ_YOUR_WRITES_ENABLED_KEY))) {
+            return null;
+        }
+        if (dataSources.isEmpty()) {
+            throw new ShardingSphereConfigurationException("Read-your-writes consistency of `%s` requires data sources.", name);
+        }
+        DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSources.values());
+        ReplicationPositionSQLProvider sqlProvider = TypedSPIRegistry.findRegisteredService(ReplicationPositionSQLProvider.class, databaseType.getName(), new Properties())
+                .orElseThrow(() -> new ShardingSphereConfigurationException("Read-your-writes consistency is not supported by database type `%s`.", databaseType.getName()));
+        return new ReadYourWritesConsistency(name, dataSources, sqlProvider);
+    }
+    
+    /**
+     * Find read-your-writes consistency.
+     *
+     * @return read-your-writes consistency
+     */
+    public Optional<ReadYourWritesConsistency> findReadYourWritesConsistency() {
+        return Optional.ofNullable(readYourWritesConsistency);
     }
     
     /**
@@ -36,7 +36,7 @@ public final class AlgorithmProvidedReadwriteSplittingRuleBuilder implements Sch
     @Override
     public ReadwriteSplittingRule build(final AlgorithmProvidedReadwriteSplittingRuleConfiguration config, final String schemaName,
                                         final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules, final ConfigurationProperties props) {
-        return new ReadwriteSplittingRule(config);
+        return new ReadwriteSplittingRule(config, dataSources);
     }
     
     @Override
@@ -36,7 +36,7 @@ public final class ReadwriteSplittingRuleBuilder implements SchemaRuleBuilder<Re
     @Override
     public ReadwriteSplittingRule build(final ReadwriteSplittingRuleConfiguration config, final String schemaName,
                                         final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules, final ConfigurationProperties props) {
-        return new ReadwriteSplittingRule(config);
+        return new ReadwriteSplittingRule(config, dataSources);
     }
     
     @Override
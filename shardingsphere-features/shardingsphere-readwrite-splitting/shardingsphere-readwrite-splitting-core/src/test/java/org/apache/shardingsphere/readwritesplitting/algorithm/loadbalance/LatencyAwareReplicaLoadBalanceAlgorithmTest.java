@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyAwareReplicaLoadBalanceAlgorithmTest {
+    
+    private static final String SCHEMA_NAME = "foo_schema";
+    
+    @After
+    public void tearDown() {
+        ReplicaStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertGetDataSourceSkipSlowReplica() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("max-latency-milliseconds", "100");
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "fast_ds", 5D);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "slow_ds", 500D);
+        List<String> readDataSourceNames = Arrays.asList("fast_ds", "slow_ds");
+        for (int i = 0; i < 100; i++) {
+            assertThat(algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", readDataSourceNames), is("fast_ds"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceProbeSlowReplicaAfterInterval() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("max-latency-milliseconds", "100");
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "fast_ds", 5D);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "slow_ds", 500D, System.currentTimeMillis() - 10000L);
+        List<String> readDataSourceNames = Arrays.asList("fast_ds", "slow_ds");
+        assertThat(algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", readDataSourceNames), is("slow_ds"));
+        for (int i = 0; i < 100; i++) {
+            assertThat(algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", readDataSourceNames), is("fast_ds"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceAfterSlowReplicaRecovered() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("max-latency-milliseconds", "100");
+        long currentMillis = System.currentTimeMillis();
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "fast_ds", 5D);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "recovered_ds", 500D, currentMillis - 60000L);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "recovered_ds", 5D, currentMillis);
+        assertTrue(ReplicaStatisticsRegistry.findLatency(SCHEMA_NAME, "recovered_ds").get() < 10D);
+        List<String> readDataSourceNames = Arrays.asList("fast_ds", "recovered_ds");
+        boolean recoveredChosen = false;
+        for (int i = 0; i < 1000 && !recoveredChosen; i++) {
+            recoveredChosen = "recovered_ds".equals(algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", readDataSourceNames));
+        }
+        assertTrue(recoveredChosen);
+    }
+    
+    @Test
+    public void assertGetDataSourceMarksReplicaRoute() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("max-latency-milliseconds", "100");
+        try {
+            String actual = algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"));
+            assertThat(ReplicaStatisticsRegistry.findReplicaRouteSchemaName(ExecutorDataMap.getValue(), actual), is(Optional.of(SCHEMA_NAME)));
+        } finally {
+            ReplicaStatisticsRegistry.clearReplicaRoutes();
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWhenAllReplicasDegraded() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("max-latency-milliseconds", "10");
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "degraded_ds_0", 50D);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "degraded_ds_1", 60D);
+        List<String> readDataSourceNames = Arrays.asList("degraded_ds_0", "degraded_ds_1");
+        assertTrue(readDataSourceNames.contains(algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", readDataSourceNames)));
+    }
+    
+    @Test
+    public void assertGetDataSourcePrefersFasterReplica() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("max-latency-milliseconds", "1000");
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "fast_ds", 1D);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "slow_ds", 100D);
+        List<String> readDataSourceNames = Arrays.asList("fast_ds", "slow_ds");
+        int fastCount = 0;
+        for (int i = 0; i < 1000; i++) {
+            if ("fast_ds".equals(algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", readDataSourceNames))) {
+                fastCount++;
+            }
+        }
+        assertTrue(fastCount > 900);
+    }
+    
+    @Test
+    public void assertGetDataSourceIsolatedBySchema() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm("max-latency-milliseconds", "100");
+        ReplicaStatisticsRegistry.recordLatency("bar_schema", "fast_ds", 500D);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "fast_ds", 5D);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "slow_ds", 500D);
+        List<String> readDataSourceNames = Arrays.asList("fast_ds", "slow_ds");
+        for (int i = 0; i < 100; i++) {
+            assertThat(algorithm.getDataSource(SCHEMA_NAME, "ds", "write_ds", readDataSourceNames), is("fast_ds"));
+        }
+    }
+    
+    @Test
+    public void assertRecordLatencyWithMovingAverage() {
+        long currentMillis = System.currentTimeMillis();
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "average_ds", 10D, currentMillis);
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "average_ds", 20D, currentMillis);
+        assertThat(ReplicaStatisticsRegistry.findLatency(SCHEMA_NAME, "average_ds").get(), is(12D));
+    }
+    
+    @Test
+    public void assertTryAcquireProbeOncePerInterval() {
+        long currentMillis = System.currentTimeMillis();
+        ReplicaStatisticsRegistry.recordLatency(SCHEMA_NAME, "probe_ds", 500D, currentMillis);
+        assertFalse(ReplicaStatisticsRegistry.tryAcquireProbe(SCHEMA_NAME, "probe_ds", 5000L, currentMillis + 1000L));
+        assertTrue(ReplicaStatisticsRegistry.tryAcquireProbe(SCHEMA_NAME, "probe_ds", 5000L, currentMillis + 5000L));
+        assertFalse(ReplicaStatisticsRegistry.tryAcquireProbe(SCHEMA_NAME, "probe_ds", 5000L, currentMillis + 6000L));
+        assertTrue(ReplicaStatisticsRegistry.tryAcquireProbe(SCHEMA_NAME, "probe_ds", 5000L, currentMillis + 10000L));
+    }
+    
+    private LatencyAwareReplicaLoadBalanceAlgorithm createAlgorithm(final String key, final String value) {
+        LatencyAwareReplicaLoadBalanceAlgorithm result = new LatencyAwareReplicaLoadBalanceAlgorithm();
+        Properties props = new Properties();
+        props.setProperty(key, value);
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+}
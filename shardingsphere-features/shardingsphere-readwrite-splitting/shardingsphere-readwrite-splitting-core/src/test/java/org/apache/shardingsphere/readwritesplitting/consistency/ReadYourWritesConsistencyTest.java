@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency;
+
+import org.apache.shardingsphere.infra.session.SessionAttributes;
+import org.apache.shardingsphere.infra.session.SessionAttributesHolder;
+import org.apache.shardingsphere.readwritesplitting.consistency.dialect.MySQLReplicationPositionSQLProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReadYourWritesConsistencyTest {
+    
+    private DataSource writeDataSource;
+    
+    private PreparedStatement caughtUpStatement;
+    
+    private ResultSet caughtUpResultSet;
+    
+    private Map<String, DataSource> dataSources;
+    
+    @Before
+    public void setUp() throws SQLException {
+        writeDataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(writeDataSource.getConnection().createStatement().executeQuery("SELECT @@GLOBAL.gtid_executed").next()).thenReturn(true);
+        when(writeDataSource.getConnection().createStatement().executeQuery("SELECT @@GLOBAL.gtid_executed").getString(1)).thenReturn("3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5");
+        DataSource readDataSource = mock(DataSource.class);
+        Connection readConnection = mock(Connection.class);
+        caughtUpStatement = mock(PreparedStatement.class);
+        caughtUpResultSet = mock(ResultSet.class);
+        when(readDataSource.getConnection()).thenReturn(readConnection);
+        when(readConnection.prepareStatement("SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)")).thenReturn(caughtUpStatement);
+        when(caughtUpStatement.executeQuery()).thenReturn(caughtUpResultSet);
+        when(caughtUpResultSet.next()).thenReturn(true);
+        dataSources = new HashMap<>(2, 1);
+        dataSources.put("write_ds", writeDataSource);
+        dataSources.put("read_ds", readDataSource);
+        SessionAttributesHolder.set(new SessionAttributes());
+    }
+    
+    @After
+    public void tearDown() {
+        SessionAttributesHolder.remove();
+    }
+    
+    @Test
+    public void assertIsReadableWithoutWrite() throws SQLException {
+        assertTrue(new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), Runnable::run).isReadable("read_ds", "write_ds"));
+        verify(caughtUpStatement, never()).executeQuery();
+    }
+    
+    @Test
+    public void assertIsReadableWhenCaughtUp() throws SQLException {
+        ReadYourWritesConsistency consistency = new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), Runnable::run);
+        when(caughtUpResultSet.getBoolean(1)).thenReturn(true);
+        consistency.recordWrite();
+        assertTrue(consistency.isReadable("read_ds", "write_ds"));
+        assertTrue(consistency.isReadable("read_ds", "write_ds"));
+        verify(caughtUpStatement).setString(1, "3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5");
+        verify(caughtUpStatement, times(1)).executeQuery();
+    }
+    
+    @Test
+    public void assertIsReadableWithoutQueryingWhenRouting() throws SQLException {
+        Queue<Runnable> probes = new LinkedList<>();
+        ReadYourWritesConsistency consistency = new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), probes::add);
+        when(caughtUpResultSet.getBoolean(1)).thenReturn(true);
+        consistency.recordWrite();
+        assertFalse(consistency.isReadable("read_ds", "write_ds"));
+        assertFalse(consistency.isReadable("read_ds", "write_ds"));
+        verify(writeDataSource.getConnection().createStatement(), never()).executeQuery("SELECT @@GLOBAL.gtid_executed");
+        verify(caughtUpStatement, never()).executeQuery();
+        while (!probes.isEmpty()) {
+            probes.poll().run();
+            consistency.isReadable("read_ds", "write_ds");
+        }
+        assertTrue(consistency.isReadable("read_ds", "write_ds"));
+        verify(caughtUpStatement, times(1)).executeQuery();
+    }
+    
+    @Test
+    public void assertIsNotReadableWhenNotCaughtUp() throws SQLException {
+        ReadYourWritesConsistency consistency = new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), Runnable::run);
+        when(caughtUpResultSet.getBoolean(1)).thenReturn(false);
+        consistency.recordWrite();
+        assertFalse(consistency.isReadable("read_ds", "write_ds"));
+    }
+    
+    @Test
+    public void assertIsReadableWhenCaughtUpLater() throws SQLException {
+        ReadYourWritesConsistency consistency = new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), Runnable::run);
+        when(caughtUpResultSet.getBoolean(1)).thenReturn(false, true);
+        consistency.recordWrite();
+        assertFalse(consistency.isReadable("read_ds", "write_ds"));
+        assertTrue(consistency.isReadable("read_ds", "write_ds"));
+        verify(caughtUpStatement, times(2)).executeQuery();
+        verify(writeDataSource.getConnection().createStatement(), times(1)).executeQuery("SELECT @@GLOBAL.gtid_executed");
+    }
+    
+    @Test
+    public void assertIsReadableWithoutSessionAttributes() throws SQLException {
+        SessionAttributesHolder.remove();
+        ReadYourWritesConsistency consistency = new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), Runnable::run);
+        consistency.recordWrite();
+        assertTrue(consistency.isReadable("read_ds", "write_ds"));
+        verify(caughtUpStatement, never()).executeQuery();
+    }
+    
+    @Test
+    public void assertIsReadableForOtherSession() throws SQLException {
+        ReadYourWritesConsistency consistency = new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), Runnable::run);
+        consistency.recordWrite();
+        SessionAttributesHolder.set(new SessionAttributes());
+        assertTrue(consistency.isReadable("read_ds", "write_ds"));
+        verify(caughtUpStatement, never()).executeQuery();
+    }
+    
+    @Test
+    public void assertIsNotReadableWhenPositionUnavailable() throws SQLException {
+        when(writeDataSource.getConnection().createStatement().executeQuery("SELECT @@GLOBAL.gtid_executed").getString(1)).thenReturn("");
+        ReadYourWritesConsistency consistency = new ReadYourWritesConsistency("pr_ds", dataSources, new MySQLReplicationPositionSQLProvider(), Runnable::run);
+        consistency.recordWrite();
+        assertFalse(consistency.isReadable("read_ds", "write_ds"));
+        verify(caughtUpStatement, never()).executeQuery();
+    }
+}
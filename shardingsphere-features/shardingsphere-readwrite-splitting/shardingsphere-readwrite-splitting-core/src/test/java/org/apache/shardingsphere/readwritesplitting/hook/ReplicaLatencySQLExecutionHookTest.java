@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hook;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.ReplicaStatisticsRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicaLatencySQLExecutionHookTest {
+    
+    @After
+    public void tearDown() {
+        ReplicaStatisticsRegistry.clearReplicaRoutes();
+        ReplicaStatisticsRegistry.clear();
+    }
+    
+    @Test
+    public void assertRecordLatencyForReplicaRoute() {
+        ReplicaStatisticsRegistry.markReplicaRoute("foo_schema", "read_ds");
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        hook.finishSuccess();
+        assertTrue(ReplicaStatisticsRegistry.findLatency("foo_schema", "read_ds").isPresent());
+        assertFalse(ReplicaStatisticsRegistry.findLatency("bar_schema", "read_ds").isPresent());
+    }
+    
+    @Test
+    public void assertNotRecordLatencyForPrimaryRoute() {
+        ReplicaStatisticsRegistry.markReplicaRoute("foo_schema", "read_ds");
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("write_ds", "INSERT INTO t_order VALUES (1)", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        hook.finishSuccess();
+        assertFalse(ReplicaStatisticsRegistry.findLatency("foo_schema", "write_ds").isPresent());
+    }
+    
+    @Test
+    public void assertNotRecordLatencyAfterReplicaRoutesCleared() {
+        ReplicaStatisticsRegistry.markReplicaRoute("foo_schema", "read_ds");
+        ReplicaStatisticsRegistry.clearReplicaRoutes();
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("read_ds", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        hook.finishFailure(new RuntimeException());
+        assertFalse(ReplicaStatisticsRegistry.findLatency("foo_schema", "read_ds").isPresent());
+    }
+}
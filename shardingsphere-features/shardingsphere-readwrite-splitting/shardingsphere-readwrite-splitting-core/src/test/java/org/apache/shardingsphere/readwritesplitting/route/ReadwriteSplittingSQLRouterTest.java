@@ -21,7 +21,9 @@ import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
@@ -30,6 +32,7 @@ import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.ReplicaStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
@@ -53,6 +56,8 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -212,6 +217,45 @@ public final class ReadwriteSplittingSQLRouterTest {
         assertThat(routedDataSourceNames.next(), is(WRITE_DATASOURCE));
     }
     
+    @Test
+    public void assertCreateRouteContextMarksReplicaRouteWithLatencyAwareLoadBalancer() {
+        ReadwriteSplittingRule latencyAwareRule = createLatencyAwareRule();
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(selectStatement);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "", Collections.emptyList());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(latencyAwareRule));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), ruleMetaData, mock(ShardingSphereSchema.class));
+        try {
+            RouteContext actual = sqlRouter.createRouteContext(logicSQL, metaData, latencyAwareRule, new ConfigurationProperties(new Properties()));
+            String routedDataSourceName = actual.getActualDataSourceNames().iterator().next();
+            assertThat(routedDataSourceName, not(WRITE_DATASOURCE));
+            assertThat(ReplicaStatisticsRegistry.findReplicaRouteSchemaName(ExecutorDataMap.getValue(), routedDataSourceName), is(Optional.of("logic_schema")));
+        } finally {
+            ReplicaStatisticsRegistry.clearReplicaRoutes();
+        }
+    }
+    
+    @Test
+    public void assertCreateRouteContextNotMarkPrimaryRouteWithLatencyAwareLoadBalancer() {
+        ReadwriteSplittingRule latencyAwareRule = createLatencyAwareRule();
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(InsertStatement.class));
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "", Collections.emptyList());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(latencyAwareRule));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), ruleMetaData, mock(ShardingSphereSchema.class));
+        RouteContext actual = sqlRouter.createRouteContext(logicSQL, metaData, latencyAwareRule, new ConfigurationProperties(new Properties()));
+        assertThat(actual.getActualDataSourceNames().iterator().next(), is(WRITE_DATASOURCE));
+        assertFalse(ReplicaStatisticsRegistry.findReplicaRouteSchemaName(ExecutorDataMap.getValue(), WRITE_DATASOURCE).isPresent());
+    }
+    
+    private ReadwriteSplittingRule createLatencyAwareRule() {
+        Properties props = new Properties();
+        props.setProperty("write-data-source-name", WRITE_DATASOURCE);
+        props.setProperty("read-data-source-names", READ_DATASOURCE + ",read_ds_1");
+        return new ReadwriteSplittingRule(new ReadwriteSplittingRuleConfiguration(Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration(DATASOURCE_NAME, "Static", props, "latency")),
+                Collections.singletonMap("latency", new ShardingSphereAlgorithmConfiguration("LATENCY_AWARE", new Properties()))));
+    }
+    
     private RouteContext mockRouteContext() {
         RouteContext result = new RouteContext();
         RouteUnit routeUnit = new RouteUnit(new RouteMapper(DATASOURCE_NAME, DATASOURCE_NAME), Collections.singletonList(new RouteMapper("table", "table_0")));
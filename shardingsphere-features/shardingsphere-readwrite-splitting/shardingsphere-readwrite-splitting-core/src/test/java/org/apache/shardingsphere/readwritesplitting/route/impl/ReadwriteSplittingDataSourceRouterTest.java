@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.impl;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReadYourWritesConsistency;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadwriteSplittingType;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ReadwriteSplittingDataSourceRouterTest {
+    
+    private static final String WRITE_DATASOURCE = "write_ds";
+    
+    private static final String READ_DATASOURCE = "read_ds";
+    
+    @Mock
+    private ReadwriteSplittingDataSourceRule rule;
+    
+    @Mock
+    private ReadYourWritesConsistency readYourWritesConsistency;
+    
+    @Mock
+    private SQLStatementContext<SQLStatement> sqlStatementContext;
+    
+    @Test
+    public void assertRouteWriteWithReadYourWrites() {
+        ReadwriteSplittingType readwriteSplittingType = mockReadwriteSplittingType();
+        when(rule.getReadwriteSplittingType()).thenReturn(readwriteSplittingType);
+        when(rule.findReadYourWritesConsistency()).thenReturn(Optional.of(readYourWritesConsistency));
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLInsertStatement());
+        assertThat(new ReadwriteSplittingDataSourceRouter("logic_db", rule).route(sqlStatementContext), is(WRITE_DATASOURCE));
+        verify(readYourWritesConsistency).recordWrite();
+        verify(readYourWritesConsistency, never()).isReadable(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertRouteReadWhenReadDataSourceIsReadable() {
+        when(rule.findReadYourWritesConsistency()).thenReturn(Optional.of(readYourWritesConsistency));
+        when(rule.getReadDataSourceNames()).thenReturn(Collections.singletonList(READ_DATASOURCE));
+        when(rule.getWriteDataSource()).thenReturn(WRITE_DATASOURCE);
+        when(readYourWritesConsistency.isReadable(READ_DATASOURCE, WRITE_DATASOURCE)).thenReturn(true);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        assertThat(new ReadwriteSplittingDataSourceRouter("logic_db", rule).route(sqlStatementContext), is(READ_DATASOURCE));
+        verify(readYourWritesConsistency, never()).recordWrite();
+    }
+    
+    @Test
+    public void assertRouteReadWhenReadDataSourceIsNotReadable() {
+        when(rule.findReadYourWritesConsistency()).thenReturn(Optional.of(readYourWritesConsistency));
+        when(rule.getReadDataSourceNames()).thenReturn(Collections.singletonList(READ_DATASOURCE));
+        when(rule.getWriteDataSource()).thenReturn(WRITE_DATASOURCE);
+        when(readYourWritesConsistency.isReadable(READ_DATASOURCE, WRITE_DATASOURCE)).thenReturn(false);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        assertThat(new ReadwriteSplittingDataSourceRouter("logic_db", rule).route(sqlStatementContext), is(WRITE_DATASOURCE));
+    }
+    
+    @Test
+    public void assertRouteReadWithoutReadYourWrites() {
+        when(rule.findReadYourWritesConsistency()).thenReturn(Optional.empty());
+        when(rule.getReadDataSourceNames()).thenReturn(Collections.singletonList(READ_DATASOURCE));
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        assertThat(new ReadwriteSplittingDataSourceRouter("logic_db", rule).route(sqlStatementContext), is(READ_DATASOURCE));
+    }
+    
+    @Test
+    public void assertRouteWriteWithoutReadYourWrites() {
+        ReadwriteSplittingType readwriteSplittingType = mockReadwriteSplittingType();
+        when(rule.getReadwriteSplittingType()).thenReturn(readwriteSplittingType);
+        when(rule.findReadYourWritesConsistency()).thenReturn(Optional.empty());
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLInsertStatement());
+        assertThat(new ReadwriteSplittingDataSourceRouter("logic_db", rule).route(sqlStatementContext), is(WRITE_DATASOURCE));
+    }
+    
+    private ReadwriteSplittingType mockReadwriteSplittingType() {
+        ReadwriteSplittingType result = mock(ReadwriteSplittingType.class);
+        when(result.getWriteDataSource()).thenReturn(WRITE_DATASOURCE);
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RandomReplicaLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RoundRobinReplicaLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
@@ -59,6 +60,13 @@ public final class ReadwriteSplittingDataSourceRuleTest {
         new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("ds", "Static", getProperties("write_ds", ""), ""), new RoundRobinReplicaLoadBalanceAlgorithm());
     }
     
+    @Test(expected = ShardingSphereConfigurationException.class)
+    public void assertNewReadwriteSplittingDataSourceRuleWithReadYourWritesEnabledWithoutDataSources() {
+        Properties props = getProperties("write_ds", "read_ds");
+        props.setProperty("read-your-writes-enabled", Boolean.TRUE.toString());
+        new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("ds", "Static", props, ""), new RoundRobinReplicaLoadBalanceAlgorithm());
+    }
+    
     @Test
     public void assertGetReadDataSourceNamesWithoutDisabledDataSourceNames() {
         assertThat(readwriteSplittingDataSourceRule.getReadDataSourceNames(), is(Arrays.asList("read_ds_0", "read_ds_1")));
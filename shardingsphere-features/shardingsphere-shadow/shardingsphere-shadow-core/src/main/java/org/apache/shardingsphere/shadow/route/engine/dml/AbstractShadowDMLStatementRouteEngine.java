@@ -32,9 +32,11 @@ import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 
@@ -53,13 +55,16 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
     
     private Map<String, String> findShadowDataSourceMappings(final ShadowRule shadowRule) {
         Collection<String> relatedShadowTables = getRelatedShadowTables(getAllTables(), shadowRule);
-        if (relatedShadowTables.isEmpty() && isMatchDefaultShadowAlgorithm(shadowRule)) {
-            return shadowRule.getAllShadowDataSourceMappings();
+        Optional<Collection<String>> sqlComments = parseSQLComments();
+        if (relatedShadowTables.isEmpty()) {
+            return sqlComments.isPresent() && isMatchDefaultShadowAlgorithm(sqlComments.get(), shadowRule) ? shadowRule.getAllShadowDataSourceMappings() : Collections.emptyMap();
         }
         ShadowOperationType shadowOperationType = getShadowOperationType();
-        Map<String, String> result = findBySQLComments(relatedShadowTables, shadowRule, shadowOperationType);
-        if (!result.isEmpty()) {
-            return result;
+        if (sqlComments.isPresent()) {
+            Map<String, String> result = findBySQLComments(relatedShadowTables, sqlComments.get(), shadowRule, shadowOperationType);
+            if (!result.isEmpty()) {
+                return result;
+            }
         }
         return findByShadowColumn(relatedShadowTables, shadowRule, shadowOperationType);
     }
@@ -76,36 +81,28 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
     }
     
     @SuppressWarnings("unchecked")
-    private boolean isMatchDefaultShadowAlgorithm(final ShadowRule shadowRule) {
-        Optional<Collection<String>> sqlComments = parseSQLComments();
-        if (!sqlComments.isPresent()) {
-            return false;
-        }
+    private boolean isMatchDefaultShadowAlgorithm(final Collection<String> sqlComments, final ShadowRule shadowRule) {
         Optional<ShadowAlgorithm> defaultShadowAlgorithm = shadowRule.getDefaultShadowAlgorithm();
         if (defaultShadowAlgorithm.isPresent()) {
             ShadowAlgorithm shadowAlgorithm = defaultShadowAlgorithm.get();
             if (shadowAlgorithm instanceof HintShadowAlgorithm<?>) {
                 ShadowDetermineCondition shadowDetermineCondition = new ShadowDetermineCondition("", ShadowOperationType.HINT_MATCH);
-                return HintShadowAlgorithmDeterminer.isShadow((HintShadowAlgorithm<Comparable<?>>) shadowAlgorithm, shadowDetermineCondition.initSQLComments(sqlComments.get()), shadowRule);
+                return HintShadowAlgorithmDeterminer.isShadow((HintShadowAlgorithm<Comparable<?>>) shadowAlgorithm, shadowDetermineCondition.initSQLComments(sqlComments), shadowRule);
             }
         }
         return false;
     }
     
-    private Map<String, String> findBySQLComments(final Collection<String> relatedShadowTables, final ShadowRule shadowRule, final ShadowOperationType shadowOperationType) {
-        Map<String, String> result = new LinkedHashMap<>();
+    private Map<String, String> findBySQLComments(final Collection<String> relatedShadowTables, final Collection<String> sqlComments, final ShadowRule shadowRule,
+                                                  final ShadowOperationType shadowOperationType) {
         for (String each : relatedShadowTables) {
-            if (isContainsShadowInSQLComments(each, shadowRule, new ShadowDetermineCondition(each, shadowOperationType))) {
-                result.putAll(shadowRule.getRelatedShadowDataSourceMappings(each));
-                return result;
+            Collection<HintShadowAlgorithm<Comparable<?>>> hintShadowAlgorithms = shadowRule.getRelatedHintShadowAlgorithms(each);
+            if (!hintShadowAlgorithms.isEmpty()
+                    && isMatchAnyHintShadowAlgorithms(hintShadowAlgorithms, new ShadowDetermineCondition(each, shadowOperationType).initSQLComments(sqlComments), shadowRule)) {
+                return shadowRule.getRelatedShadowDataSourceMappings(each);
             }
         }
-        return result;
-    }
-    
-    private boolean isContainsShadowInSQLComments(final String tableName, final ShadowRule shadowRule, final ShadowDetermineCondition shadowCondition) {
-        return parseSQLComments()
-                .filter(SQLComments -> isMatchAnyHintShadowAlgorithms(shadowRule.getRelatedHintShadowAlgorithms(tableName), shadowCondition.initSQLComments(SQLComments), shadowRule)).isPresent();
+        return Collections.emptyMap();
     }
     
     private boolean isMatchAnyHintShadowAlgorithms(final Collection<HintShadowAlgorithm<Comparable<?>>> shadowAlgorithms, final ShadowDetermineCondition shadowCondition, final ShadowRule shadowRule) {
@@ -118,28 +115,46 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
     }
     
     private Map<String, String> findByShadowColumn(final Collection<String> relatedShadowTables, final ShadowRule shadowRule, final ShadowOperationType shadowOperationType) {
-        Map<String, String> result = new LinkedHashMap<>();
+        Collection<String> columnShadowTables = new LinkedList<>();
         for (String each : relatedShadowTables) {
-            Collection<ColumnShadowAlgorithm<Comparable<?>>> columnShadowAlgorithms = shadowRule.getRelatedColumnShadowAlgorithms(each, shadowOperationType);
-            if (!columnShadowAlgorithms.isEmpty() && isMatchAnyColumnShadowAlgorithms(each, columnShadowAlgorithms, shadowRule, shadowOperationType)) {
+            if (!shadowRule.getRelatedColumnShadowAlgorithms(each, shadowOperationType).isEmpty()) {
+                columnShadowTables.add(each);
+            }
+        }
+        if (columnShadowTables.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Collection<ShadowColumnCondition> shadowColumnConditions = getShadowColumnConditions(columnShadowTables, shadowRule, shadowOperationType);
+        if (shadowColumnConditions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        for (String each : columnShadowTables) {
+            if (isMatchAnyColumnShadowAlgorithms(each, shadowRule.getRelatedColumnShadowAlgorithms(each, shadowOperationType), shadowColumnConditions, shadowOperationType)) {
                 return shadowRule.getRelatedShadowDataSourceMappings(each);
             }
         }
-        return result;
+        return Collections.emptyMap();
     }
     
-    private boolean isMatchAnyColumnShadowAlgorithms(final String shadowTable, final Collection<ColumnShadowAlgorithm<Comparable<?>>> columnShadowAlgorithms, final ShadowRule shadowRule,
-                                                        final ShadowOperationType shadowOperationType) {
+    private Collection<ShadowColumnCondition> getShadowColumnConditions(final Collection<String> columnShadowTables, final ShadowRule shadowRule, final ShadowOperationType shadowOperationType) {
+        Collection<ShadowColumnCondition> result = new LinkedList<>();
         Iterator<Optional<ShadowColumnCondition>> iterator = getShadowColumnConditionIterator();
-        ShadowDetermineCondition shadowDetermineCondition;
         while (iterator.hasNext()) {
-            Optional<ShadowColumnCondition> next = iterator.next();
-            if (next.isPresent()) {
-                for (ColumnShadowAlgorithm<Comparable<?>> each : columnShadowAlgorithms) {
-                    shadowDetermineCondition = new ShadowDetermineCondition(shadowTable, shadowOperationType);
-                    if (ColumnShadowAlgorithmDeterminer.isShadow(each, shadowDetermineCondition.initShadowColumnCondition(next.get()))) {
-                        return true;
-                    }
+            iterator.next().filter(each -> columnShadowTables.contains(each.getOwner()) && shadowRule.isShadowColumn(each.getOwner(), shadowOperationType, each.getColumn())).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private boolean isMatchAnyColumnShadowAlgorithms(final String shadowTable, final Collection<ColumnShadowAlgorithm<Comparable<?>>> columnShadowAlgorithms,
+                                                     final Collection<ShadowColumnCondition> shadowColumnConditions, final ShadowOperationType shadowOperationType) {
+        for (ShadowColumnCondition each : shadowColumnConditions) {
+            if (!shadowTable.equals(each.getOwner())) {
+                continue;
+            }
+            ShadowDetermineCondition shadowDetermineCondition = new ShadowDetermineCondition(shadowTable, shadowOperationType).initShadowColumnCondition(each);
+            for (ColumnShadowAlgorithm<Comparable<?>> algorithm : columnShadowAlgorithms) {
+                if (ColumnShadowAlgorithmDeterminer.isShadow(algorithm, shadowDetermineCondition)) {
+                    return true;
                 }
             }
         }
@@ -37,7 +37,6 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -163,14 +162,8 @@ public final class ShadowRule implements SchemaRule, DataSourceContainedRule {
      * @param tableName table name
      * @return hint shadow algorithms
      */
-    @SuppressWarnings("unchecked")
     public Collection<HintShadowAlgorithm<Comparable<?>>> getRelatedHintShadowAlgorithms(final String tableName) {
-        Collection<HintShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
-        Collection<String> hintShadowAlgorithmNames = shadowTableRules.get(tableName).getHintShadowAlgorithmNames();
-        for (String each : hintShadowAlgorithmNames) {
-            result.add((HintShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each));
-        }
-        return result;
+        return shadowTableRules.get(tableName).getHintShadowAlgorithms();
     }
     
     /**
@@ -180,18 +173,21 @@ public final class ShadowRule implements SchemaRule, DataSourceContainedRule {
      * @param shadowOperationType shadow operation type
      * @return column shadow algorithms
      */
-    @SuppressWarnings("unchecked")
     public Collection<ColumnShadowAlgorithm<Comparable<?>>> getRelatedColumnShadowAlgorithms(final String tableName, final ShadowOperationType shadowOperationType) {
-        Collection<ColumnShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
-        Map<ShadowOperationType, Collection<String>> columnShadowAlgorithmNames = shadowTableRules.get(tableName).getColumnShadowAlgorithmNames();
-        Collection<String> names = columnShadowAlgorithmNames.get(shadowOperationType);
-        if (Objects.isNull(names)) {
-            return result;
-        }
-        for (String each : names) {
-            result.add((ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each));
-        }
-        return result;
+        return shadowTableRules.get(tableName).getColumnShadowAlgorithms(shadowOperationType);
+    }
+    
+    /**
+     * Judge whether column of table may be shadowed by column shadow algorithms.
+     *
+     * @param tableName table name
+     * @param shadowOperationType shadow operation type
+     * @param columnName column name
+     * @return may be shadowed or not
+     */
+    public boolean isShadowColumn(final String tableName, final ShadowOperationType shadowOperationType, final String columnName) {
+        ShadowTableRule shadowTableRule = shadowTableRules.get(tableName);
+        return null != shadowTableRule && shadowTableRule.isShadowColumn(shadowOperationType, columnName);
     }
     
     /**
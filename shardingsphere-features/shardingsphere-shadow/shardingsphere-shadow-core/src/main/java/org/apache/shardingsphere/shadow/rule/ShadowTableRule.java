@@ -45,11 +45,20 @@ public final class ShadowTableRule {
     
     private final Map<ShadowOperationType, Collection<String>> columnShadowAlgorithmNames;
     
+    private final Collection<HintShadowAlgorithm<Comparable<?>>> hintShadowAlgorithms;
+    
+    private final Map<ShadowOperationType, Collection<ColumnShadowAlgorithm<Comparable<?>>>> columnShadowAlgorithms;
+    
+    private final Map<ShadowOperationType, Collection<String>> shadowColumnNames;
+    
     public ShadowTableRule(final String tableName, final Collection<String> shadowDataSources, final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
         this.tableName = tableName;
         this.shadowDataSources = shadowDataSources;
         this.hintShadowAlgorithmNames = initHintShadowAlgorithmNames(shadowAlgorithmNames, shadowAlgorithms);
         this.columnShadowAlgorithmNames = initColumnShadowAlgorithmNames(shadowAlgorithmNames, shadowAlgorithms);
+        this.hintShadowAlgorithms = initHintShadowAlgorithms(shadowAlgorithms);
+        this.columnShadowAlgorithms = initColumnShadowAlgorithms(shadowAlgorithms);
+        this.shadowColumnNames = initShadowColumnNames();
     }
     
     private Collection<String> initHintShadowAlgorithmNames(final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
@@ -72,4 +81,59 @@ public final class ShadowTableRule {
         Preconditions.checkState(null == names, "Column shadow algorithm `%s` operation only supports one column mapping in shadow table `%s`.", operationType.name(), tableName);
         columnShadowAlgorithmNames.put(operationType, Collections.singletonList(algorithmName));
     }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<HintShadowAlgorithm<Comparable<?>>> initHintShadowAlgorithms(final Map<String, ShadowAlgorithm> shadowAlgorithms) {
+        Collection<HintShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
+        hintShadowAlgorithmNames.forEach(each -> result.add((HintShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each)));
+        return Collections.unmodifiableCollection(result);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<ShadowOperationType, Collection<ColumnShadowAlgorithm<Comparable<?>>>> initColumnShadowAlgorithms(final Map<String, ShadowAlgorithm> shadowAlgorithms) {
+        Map<ShadowOperationType, Collection<ColumnShadowAlgorithm<Comparable<?>>>> result = new EnumMap<>(ShadowOperationType.class);
+        columnShadowAlgorithmNames.forEach((key, value) -> {
+            Collection<ColumnShadowAlgorithm<Comparable<?>>> algorithms = new LinkedList<>();
+            value.forEach(each -> algorithms.add((ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each)));
+            result.put(key, Collections.unmodifiableCollection(algorithms));
+        });
+        return result;
+    }
+    
+    private Map<ShadowOperationType, Collection<String>> initShadowColumnNames() {
+        Map<ShadowOperationType, Collection<String>> result = new EnumMap<>(ShadowOperationType.class);
+        columnShadowAlgorithms.forEach((key, value) -> {
+            if (value.stream().allMatch(each -> null != each.getProps().get("column"))) {
+                result.put(key, value.stream().map(each -> each.getProps().get("column").toString()).collect(Collectors.toSet()));
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Get column shadow algorithms.
+     *
+     * @param shadowOperationType shadow operation type
+     * @return column shadow algorithms
+     */
+    public Collection<ColumnShadowAlgorithm<Comparable<?>>> getColumnShadowAlgorithms(final ShadowOperationType shadowOperationType) {
+        return columnShadowAlgorithms.getOrDefault(shadowOperationType, Collections.emptyList());
+    }
+    
+    /**
+     * Judge whether column may be shadowed by column shadow algorithms.
+     * 
+     * <p>Column shadow algorithms without column property may match any column.</p>
+     *
+     * @param shadowOperationType shadow operation type
+     * @param columnName column name
+     * @return may be shadowed or not
+     */
+    public boolean isShadowColumn(final ShadowOperationType shadowOperationType, final String columnName) {
+        if (!columnShadowAlgorithms.containsKey(shadowOperationType)) {
+            return false;
+        }
+        Collection<String> columnNames = shadowColumnNames.get(shadowOperationType);
+        return null == columnNames || columnNames.contains(columnName);
+    }
 }
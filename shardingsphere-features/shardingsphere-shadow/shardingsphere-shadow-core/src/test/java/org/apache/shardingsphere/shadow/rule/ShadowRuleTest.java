@@ -23,6 +23,7 @@ import org.apache.shardingsphere.shadow.algorithm.shadow.column.ColumnRegexMatch
 import org.apache.shardingsphere.shadow.algorithm.shadow.hint.SimpleHintShadowAlgorithm;
 import org.apache.shardingsphere.shadow.api.config.datasource.ShadowDataSourceConfiguration;
 import org.apache.shardingsphere.shadow.api.config.table.ShadowTableConfiguration;
+import org.apache.shardingsphere.shadow.api.shadow.ShadowOperationType;
 import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,7 +37,9 @@ import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShadowRuleTest {
     
@@ -163,6 +166,21 @@ public final class ShadowRuleTest {
         assertThat(iterator.next(), is("t_order"));
     }
     
+    @Test
+    public void assertGetRelatedColumnShadowAlgorithms() {
+        assertThat(shadowRuleWithAlgorithm.getRelatedColumnShadowAlgorithms("t_user", ShadowOperationType.INSERT).size(), is(1));
+        assertTrue(shadowRuleWithAlgorithm.getRelatedColumnShadowAlgorithms("t_order", ShadowOperationType.UPDATE).isEmpty());
+        assertThat(shadowRuleWithAlgorithm.getRelatedHintShadowAlgorithms("t_order").size(), is(1));
+    }
+    
+    @Test
+    public void assertIsShadowColumn() {
+        assertTrue(shadowRuleWithAlgorithm.isShadowColumn("t_user", ShadowOperationType.UPDATE, "user_id"));
+        assertFalse(shadowRuleWithAlgorithm.isShadowColumn("t_user", ShadowOperationType.DELETE, "user_id"));
+        assertFalse(shadowRuleWithAlgorithm.isShadowColumn("t_order", ShadowOperationType.INSERT, "user_id"));
+        assertFalse(shadowRuleWithAlgorithm.isShadowColumn("t_auto", ShadowOperationType.INSERT, "order_id"));
+    }
+    
     @Test
     public void assertGetRuleType() {
         assertThat(shadowRuleWithAlgorithm.getType(), is(ShadowRule.class.getSimpleName()));
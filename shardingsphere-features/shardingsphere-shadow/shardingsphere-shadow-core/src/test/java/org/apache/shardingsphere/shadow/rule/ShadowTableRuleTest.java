@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.rule;
+
+import org.apache.shardingsphere.shadow.algorithm.shadow.column.ColumnRegexMatchShadowAlgorithm;
+import org.apache.shardingsphere.shadow.api.shadow.ShadowOperationType;
+import org.apache.shardingsphere.shadow.api.shadow.column.ColumnShadowAlgorithm;
+import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShadowTableRuleTest {
+    
+    @Test
+    public void assertIsShadowColumnWithColumnProperty() {
+        ShadowTableRule actual = createShadowTableRule(createColumnRegexMatchShadowAlgorithm());
+        assertTrue(actual.isShadowColumn(ShadowOperationType.INSERT, "user_id"));
+        assertFalse(actual.isShadowColumn(ShadowOperationType.INSERT, "order_id"));
+        assertFalse(actual.isShadowColumn(ShadowOperationType.UPDATE, "user_id"));
+    }
+    
+    @Test
+    public void assertIsShadowColumnWithoutColumnProperty() {
+        ShadowTableRule actual = createShadowTableRule(createCustomColumnShadowAlgorithm());
+        assertTrue(actual.isShadowColumn(ShadowOperationType.INSERT, "user_id"));
+        assertTrue(actual.isShadowColumn(ShadowOperationType.INSERT, "order_id"));
+        assertFalse(actual.isShadowColumn(ShadowOperationType.UPDATE, "user_id"));
+    }
+    
+    private ShadowTableRule createShadowTableRule(final ShadowAlgorithm shadowAlgorithm) {
+        Map<String, ShadowAlgorithm> shadowAlgorithms = new LinkedHashMap<>(1, 1);
+        shadowAlgorithms.put("column-algorithm", shadowAlgorithm);
+        return new ShadowTableRule("t_user", Collections.singletonList("shadow-data-source"), Collections.singletonList("column-algorithm"), shadowAlgorithms);
+    }
+    
+    private ShadowAlgorithm createColumnRegexMatchShadowAlgorithm() {
+        ColumnRegexMatchShadowAlgorithm result = new ColumnRegexMatchShadowAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("column", "user_id");
+        props.setProperty("operation", "insert");
+        props.setProperty("regex", "[1]");
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+    
+    private ShadowAlgorithm createCustomColumnShadowAlgorithm() {
+        ColumnShadowAlgorithm<?> result = mock(ColumnShadowAlgorithm.class);
+        Properties props = new Properties();
+        props.setProperty("operation", "insert");
+        when(result.getProps()).thenReturn(props);
+        return result;
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 
 /**
@@ -49,6 +50,26 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, RangeShardingValue<T> shardingValue);
     
+    /**
+     * Sharding for multiple values in one call.
+     * 
+     * <p>Algorithms can override it to avoid evaluating every value as a separate precise sharding value.</p>
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue sharding value
+     * @return sharding results for data sources or table names, values which cannot be routed are ignored
+     */
+    default Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<T> shardingValue) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (T each : shardingValue.getValues()) {
+            String target = doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each));
+            if (null != target) {
+                result.add(target);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Find matched target name.
      * 
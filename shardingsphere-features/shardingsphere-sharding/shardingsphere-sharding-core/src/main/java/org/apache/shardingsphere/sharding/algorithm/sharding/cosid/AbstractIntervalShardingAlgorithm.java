@@ -22,6 +22,7 @@ import lombok.Setter;
 import me.ahoo.cosid.sharding.IntervalStep;
 import me.ahoo.cosid.sharding.IntervalTimeline;
 import org.apache.shardingsphere.sharding.algorithm.constant.CosIdAlgorithmConstants;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -31,6 +32,7 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -95,6 +97,15 @@ public abstract class AbstractIntervalShardingAlgorithm<T extends Comparable<?>>
         return intervalTimeline.sharding(shardingTime);
     }
     
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<T> shardingValue) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (T each : shardingValue.getValues()) {
+            result.add(intervalTimeline.sharding(convertShardingValue(each)));
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<T> shardingValue) {
         Range<LocalDateTime> shardingRangeTime = convertRangeShardingValue(shardingValue.getValueRange());
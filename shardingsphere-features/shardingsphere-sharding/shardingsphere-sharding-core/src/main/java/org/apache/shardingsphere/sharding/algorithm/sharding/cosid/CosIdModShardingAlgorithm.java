@@ -19,11 +19,13 @@ import lombok.Getter;
 import lombok.Setter;
 import me.ahoo.cosid.sharding.ModCycle;
 import org.apache.shardingsphere.sharding.algorithm.constant.CosIdAlgorithmConstants;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -54,6 +56,15 @@ public final class CosIdModShardingAlgorithm<T extends Number & Comparable<T>> i
         return modCycle.sharding(shardingValue.getValue());
     }
     
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<T> shardingValue) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (T each : shardingValue.getValues()) {
+            result.add(modCycle.sharding(each));
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<T> shardingValue) {
         return modCycle.sharding(shardingValue.getValueRange());
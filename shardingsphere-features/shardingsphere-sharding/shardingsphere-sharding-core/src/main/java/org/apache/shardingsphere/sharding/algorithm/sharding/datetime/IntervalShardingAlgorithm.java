@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.Getter;
@@ -27,15 +29,32 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingV
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Interval sharding algorithm.
@@ -72,6 +91,12 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private boolean invertibleTableSuffix;
+    
+    private final Cache<Collection<String>, TableSuffixIndex> tableSuffixIndexes = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private final Cache<Set<String>, TableSuffixIndex> sharedTableSuffixIndexes = CacheBuilder.newBuilder().maximumSize(64).build();
+    
     @Override
     public void init() {
         String dateTimePattern = getDateTimePattern();
@@ -82,6 +107,7 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern();
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        invertibleTableSuffix = isInvertibleTableSuffix();
     }
     
     private String getDateTimePattern() {
@@ -120,6 +146,19 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
+    private boolean isInvertibleTableSuffix() {
+        Collection<LocalDateTime> probes = Arrays.asList(dateTimeLower, dateTimeUpper, LocalDateTime.of(2000, 1, 1, 0, 0, 0), LocalDateTime.of(2000, 12, 31, 23, 59, 59));
+        int suffixLength = dateTimeLower.format(tableSuffixPattern).length();
+        for (LocalDateTime each : probes) {
+            String tableSuffix = each.format(tableSuffixPattern);
+            Optional<LocalDateTime> parsed = parseTableSuffix(tableSuffix);
+            if (tableSuffix.length() != suffixLength || !parsed.isPresent() || parsed.get().isAfter(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
@@ -131,23 +170,96 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     }
     
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        Range<LocalDateTime> dateTimeRange = getDateTimeRange(range);
+        TableSuffixIndex tableSuffixIndex = getTableSuffixIndex(availableTargetNames);
+        if (invertibleTableSuffix && isArithmeticStep()) {
+            return doShardingByIntervalRange(tableSuffixIndex, dateTimeRange);
+        }
+        return doShardingStepByStep(tableSuffixIndex, dateTimeRange);
+    }
+    
+    private Collection<String> doShardingByIntervalRange(final TableSuffixIndex tableSuffixIndex, final Range<LocalDateTime> dateTimeRange) {
+        if (dateTimeRange.isEmpty() || dateTimeRange.upperEndpoint().isBefore(dateTimeLower)) {
+            return Collections.emptySet();
+        }
+        LocalDateTime firstIntervalStart = dateTimeRange.lowerEndpoint().isAfter(dateTimeLower) ? getIntervalStartNotAfter(dateTimeRange.lowerEndpoint()) : dateTimeLower;
+        LocalDateTime lastIntervalStart = getLastIntervalStart(dateTimeRange);
+        if (firstIntervalStart.isAfter(lastIntervalStart)) {
+            return Collections.emptySet();
+        }
+        Optional<LocalDateTime> firstSuffixTime = parseTableSuffix(firstIntervalStart.format(tableSuffixPattern));
+        if (!firstSuffixTime.isPresent()) {
+            return doShardingStepByStep(tableSuffixIndex, dateTimeRange);
+        }
+        Set<String> result = new HashSet<>();
+        NavigableMap<LocalDateTime, String> tableSuffixes = tableSuffixIndex.getTableSuffixes(firstIntervalStart.format(tableSuffixPattern).length(), this::parseTableSuffix);
+        for (Map.Entry<LocalDateTime, String> entry : tableSuffixes.subMap(firstSuffixTime.get(), true, lastIntervalStart, true).entrySet()) {
+            LocalDateTime intervalStart = getIntervalStartNotBefore(entry.getKey().isAfter(firstIntervalStart) ? entry.getKey() : firstIntervalStart);
+            if (!intervalStart.isAfter(lastIntervalStart) && intervalStart.format(tableSuffixPattern).equals(entry.getValue())) {
+                result.addAll(tableSuffixIndex.getMatchedTables(entry.getValue()));
+            }
+        }
+        return result;
+    }
+    
+    private LocalDateTime getLastIntervalStart(final Range<LocalDateTime> dateTimeRange) {
+        if (dateTimeRange.upperEndpoint().isAfter(dateTimeUpper)) {
+            return getIntervalStartNotAfter(dateTimeUpper);
+        }
+        LocalDateTime result = getIntervalStartNotAfter(dateTimeRange.upperEndpoint());
+        return BoundType.OPEN == dateTimeRange.upperBoundType() && result.equals(dateTimeRange.upperEndpoint()) ? result.minus(stepAmount, stepUnit) : result;
+    }
+    
+    private LocalDateTime getIntervalStartNotAfter(final LocalDateTime dateTime) {
+        LocalDateTime result = dateTimeLower.plus(stepUnit.between(dateTimeLower, dateTime) / stepAmount * stepAmount, stepUnit);
+        while (result.isAfter(dateTime)) {
+            result = result.minus(stepAmount, stepUnit);
+        }
+        while (!result.plus(stepAmount, stepUnit).isAfter(dateTime)) {
+            result = result.plus(stepAmount, stepUnit);
+        }
+        return result;
+    }
+    
+    private LocalDateTime getIntervalStartNotBefore(final LocalDateTime dateTime) {
+        LocalDateTime result = getIntervalStartNotAfter(dateTime);
+        return result.equals(dateTime) ? result : result.plus(stepAmount, stepUnit);
+    }
+    
+    private Collection<String> doShardingStepByStep(final TableSuffixIndex tableSuffixIndex, final Range<LocalDateTime> dateTimeRange) {
         Set<String> result = new HashSet<>();
-        LocalDateTime calculateTime = dateTimeLower;
-        while (!calculateTime.isAfter(dateTimeUpper)) {
-            if (hasIntersection(Range.closedOpen(calculateTime, calculateTime.plus(stepAmount, stepUnit)), range)) {
-                result.addAll(getMatchedTables(calculateTime, availableTargetNames));
+        LocalDateTime upper = dateTimeRange.upperEndpoint().isBefore(dateTimeUpper) ? dateTimeRange.upperEndpoint() : dateTimeUpper;
+        LocalDateTime calculateTime = getFirstCalculateTime(dateTimeRange.lowerEndpoint());
+        while (!calculateTime.isAfter(upper)) {
+            if (hasIntersection(Range.closedOpen(calculateTime, calculateTime.plus(stepAmount, stepUnit)), dateTimeRange)) {
+                result.addAll(tableSuffixIndex.getMatchedTables(calculateTime.format(tableSuffixPattern)));
             }
             calculateTime = calculateTime.plus(stepAmount, stepUnit);
         }
         return result;
     }
     
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range) {
+    private Range<LocalDateTime> getDateTimeRange(final Range<Comparable<?>> range) {
         LocalDateTime lower = range.hasLowerBound() ? parseDateTime(range.lowerEndpoint().toString()) : dateTimeLower;
         LocalDateTime upper = range.hasUpperBound() ? parseDateTime(range.upperEndpoint().toString()) : dateTimeUpper;
         BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
         BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private LocalDateTime getFirstCalculateTime(final LocalDateTime lower) {
+        if (!lower.isAfter(dateTimeLower) || !isArithmeticStep()) {
+            return dateTimeLower;
+        }
+        long skippedSteps = Math.max(stepUnit.between(dateTimeLower, lower) / stepAmount - 1, 0);
+        return dateTimeLower.plus(skippedSteps * stepAmount, stepUnit);
+    }
+    
+    private boolean isArithmeticStep() {
+        return stepUnit.isTimeBased() || ChronoUnit.DAYS == stepUnit || ChronoUnit.WEEKS == stepUnit || dateTimeLower.getDayOfMonth() <= 28;
+    }
+    
+    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<LocalDateTime> dateTimeRange) {
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
@@ -155,13 +267,80 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return LocalDateTime.parse(value.substring(0, dateTimePatternLength), dateTimeFormatter);
     }
     
-    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+    private Optional<LocalDateTime> parseTableSuffix(final String tableSuffix) {
+        try {
+            TemporalAccessor parsed = tableSuffixPattern.parse(tableSuffix);
+            if (!parsed.isSupported(ChronoField.YEAR)) {
+                return Optional.empty();
+            }
+            int month = parsed.isSupported(ChronoField.MONTH_OF_YEAR) ? getParsedField(parsed, ChronoField.MONTH_OF_YEAR, 1)
+                    : (getParsedField(parsed, IsoFields.QUARTER_OF_YEAR, 1) - 1) * 3 + 1;
+            LocalDate date = LocalDate.of(getParsedField(parsed, ChronoField.YEAR, 0), month, getParsedField(parsed, ChronoField.DAY_OF_MONTH, 1));
+            LocalTime time = LocalTime.of(getParsedField(parsed, ChronoField.HOUR_OF_DAY, 0), getParsedField(parsed, ChronoField.MINUTE_OF_HOUR, 0),
+                    getParsedField(parsed, ChronoField.SECOND_OF_MINUTE, 0), getParsedField(parsed, ChronoField.NANO_OF_SECOND, 0));
+            LocalDateTime result = LocalDateTime.of(date, time);
+            return result.format(tableSuffixPattern).equals(tableSuffix) ? Optional.of(result) : Optional.empty();
+        } catch (final DateTimeException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private int getParsedField(final TemporalAccessor parsed, final TemporalField field, final int defaultValue) {
+        return parsed.isSupported(field) ? Math.toIntExact(parsed.getLong(field)) : defaultValue;
+    }
+    
+    private TableSuffixIndex getTableSuffixIndex(final Collection<String> availableTargetNames) {
+        try {
+            return tableSuffixIndexes.get(availableTargetNames, () -> {
+                Set<String> tableNames = new HashSet<>(availableTargetNames);
+                return sharedTableSuffixIndexes.get(tableNames, () -> new TableSuffixIndex(tableNames));
+            });
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
     }
     
     @Override
     public String getType() {
         return "INTERVAL";
     }
+    
+    private static final class TableSuffixIndex {
+        
+        private final Collection<String> tableNames;
+        
+        private final Map<Integer, Map<String, Collection<String>>> suffixTables = new ConcurrentHashMap<>();
+        
+        private final Map<Integer, NavigableMap<LocalDateTime, String>> timedSuffixes = new ConcurrentHashMap<>();
+        
+        TableSuffixIndex(final Collection<String> tableNames) {
+            this.tableNames = new LinkedList<>(tableNames);
+        }
+        
+        Collection<String> getMatchedTables(final String tableSuffix) {
+            return suffixTables.computeIfAbsent(tableSuffix.length(), this::createSuffixTables).getOrDefault(tableSuffix, Collections.emptyList());
+        }
+        
+        private Map<String, Collection<String>> createSuffixTables(final int suffixLength) {
+            Map<String, Collection<String>> result = new HashMap<>();
+            for (String each : tableNames) {
+                if (each.length() >= suffixLength) {
+                    result.computeIfAbsent(each.substring(each.length() - suffixLength), key -> new LinkedList<>()).add(each);
+                }
+            }
+            return result;
+        }
+        
+        NavigableMap<LocalDateTime, String> getTableSuffixes(final int suffixLength, final Function<String, Optional<LocalDateTime>> suffixParser) {
+            return timedSuffixes.computeIfAbsent(suffixLength, key -> createTimedSuffixes(key, suffixParser));
+        }
+        
+        private NavigableMap<LocalDateTime, String> createTimedSuffixes(final int suffixLength, final Function<String, Optional<LocalDateTime>> suffixParser) {
+            NavigableMap<LocalDateTime, String> result = new TreeMap<>();
+            for (String each : suffixTables.computeIfAbsent(suffixLength, this::createSuffixTables).keySet()) {
+                suffixParser.apply(each).ifPresent(optional -> result.put(optional, each));
+            }
+            return result;
+        }
+    }
 }
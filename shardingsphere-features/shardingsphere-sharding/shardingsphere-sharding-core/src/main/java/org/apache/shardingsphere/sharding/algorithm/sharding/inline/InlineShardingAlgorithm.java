@@ -24,12 +24,14 @@ import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -72,6 +74,17 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return getTargetShardingNode(closure, shardingValue.getColumnName());
     }
     
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        Closure<?> closure = createClosure();
+        Collection<String> result = new LinkedHashSet<>();
+        for (Comparable<?> each : shardingValue.getValues()) {
+            closure.setProperty(shardingValue.getColumnName(), each);
+            result.add(getTargetShardingNode(closure, shardingValue.getColumnName()));
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         if (allowRangeQuery) {
@@ -21,12 +21,15 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -63,6 +66,19 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return availableTargetNames;
     }
     
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        BitSet shardingIndexes = new BitSet(shardingCount);
+        for (Comparable<?> each : shardingValue.getValues()) {
+            shardingIndexes.set((int) (hashShardingValue(each) % shardingCount));
+        }
+        Collection<String> result = new LinkedHashSet<>();
+        for (int each = shardingIndexes.nextSetBit(0); each >= 0; each = shardingIndexes.nextSetBit(each + 1)) {
+            findMatchedTargetName(availableTargetNames, String.valueOf(each), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
     private long hashShardingValue(final Comparable<?> shardingValue) {
         return Math.abs((long) shardingValue.hashCode());
     }
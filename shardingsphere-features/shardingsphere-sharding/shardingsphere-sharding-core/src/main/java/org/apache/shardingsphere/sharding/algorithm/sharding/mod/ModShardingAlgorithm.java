@@ -21,10 +21,12 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -78,6 +80,24 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return result;
     }
     
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        BitSet shardingIndexes = new BitSet(shardingCount);
+        Collection<String> result = new LinkedHashSet<>();
+        for (Comparable<?> each : shardingValue.getValues()) {
+            long shardingIndex = getLongValue(each) % shardingCount;
+            if (shardingIndex < 0) {
+                findMatchedTargetName(availableTargetNames, String.valueOf(shardingIndex), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+            } else {
+                shardingIndexes.set((int) shardingIndex);
+            }
+        }
+        for (int each = shardingIndexes.nextSetBit(0); each >= 0; each = shardingIndexes.nextSetBit(each + 1)) {
+            findMatchedTargetName(availableTargetNames, String.valueOf(each), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
     private long getLongValue(final Comparable<?> value) {
         return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString());
     }
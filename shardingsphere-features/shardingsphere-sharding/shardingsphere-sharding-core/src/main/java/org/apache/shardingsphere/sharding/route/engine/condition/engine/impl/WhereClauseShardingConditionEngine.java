@@ -34,16 +34,20 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShar
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.ColumnExtractor;
 import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SafeNumberOperationUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.util.WhereExtractUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -68,18 +72,32 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
         }
         Collection<ColumnSegment> columnSegments = ((WhereAvailable) sqlStatementContext).getColumnSegments();
         Map<String, String> columnExpressionTableNames = sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(columnSegments, schema);
+        Collection<ExpressionSegment> joinConditions = getJoinConditions(sqlStatementContext);
         List<ShardingCondition> result = new ArrayList<>();
         for (WhereSegment each : ((WhereAvailable) sqlStatementContext).getWhereSegments()) {
-            result.addAll(createShardingConditions(each.getExpr(), parameters, columnExpressionTableNames));
+            result.addAll(createShardingConditions(each.getExpr(), parameters, columnExpressionTableNames, !joinConditions.contains(each.getExpr())));
         }
         return result;
     }
     
-    private Collection<ShardingCondition> createShardingConditions(final ExpressionSegment expression, final List<Object> parameters, final Map<String, String> columnExpressionTableNames) {
+    private Collection<ExpressionSegment> getJoinConditions(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+            return Collections.emptyList();
+        }
+        Collection<ExpressionSegment> result = new LinkedList<>();
+        for (WhereSegment each : WhereExtractUtil.getJoinWhereSegments((SelectStatement) sqlStatementContext.getSqlStatement())) {
+            result.add(each.getExpr());
+        }
+        return result;
+    }
+    
+    private Collection<ShardingCondition> createShardingConditions(final ExpressionSegment expression, final List<Object> parameters, 
+                                                                   final Map<String, String> columnExpressionTableNames, final boolean propagateEqualColumns) {
         Collection<AndPredicate> andPredicates = ExpressionExtractUtil.getAndPredicates(expression);
         Collection<ShardingCondition> result = new LinkedList<>();
         for (AndPredicate each : andPredicates) {
-            Map<Column, Collection<ShardingConditionValue>> shardingConditionValues = createShardingConditionValueMap(each.getPredicates(), parameters, columnExpressionTableNames);
+            Map<Column, Collection<ShardingConditionValue>> shardingConditionValues
+                    = createShardingConditionValueMap(each.getPredicates(), parameters, columnExpressionTableNames, propagateEqualColumns);
             if (shardingConditionValues.isEmpty()) {
                 return Collections.emptyList();
             }
@@ -91,22 +109,75 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
         return result;
     }
     
-    private Map<Column, Collection<ShardingConditionValue>> createShardingConditionValueMap(final Collection<ExpressionSegment> predicates, 
-                                                                                            final List<Object> parameters, final Map<String, String> columnTableNames) {
+    private Map<Column, Collection<ShardingConditionValue>> createShardingConditionValueMap(final Collection<ExpressionSegment> predicates, final List<Object> parameters, 
+                                                                                            final Map<String, String> columnTableNames, final boolean propagateEqualColumns) {
         Map<Column, Collection<ShardingConditionValue>> result = new HashMap<>(predicates.size(), 1);
+        Map<Column, Collection<Column>> equalColumns = new HashMap<>();
         for (ExpressionSegment each : predicates) {
+            if (propagateEqualColumns && isColumnEqualityPredicate(each)) {
+                addEqualColumns((BinaryOperationExpression) each, columnTableNames, equalColumns);
+                continue;
+            }
             for (ColumnSegment columnSegment : ColumnExtractor.extract(each)) {
-                Optional<String> tableName = Optional.ofNullable(columnTableNames.get(columnSegment.getExpression()));
-                Optional<String> shardingColumn = tableName.flatMap(optional -> shardingRule.findShardingColumn(columnSegment.getIdentifier().getValue(), optional));
-                if (!tableName.isPresent() || !shardingColumn.isPresent()) {
+                Optional<Column> column = findShardingColumn(columnSegment, columnTableNames);
+                if (!column.isPresent()) {
                     continue;
                 }
-                Column column = new Column(shardingColumn.get(), tableName.get());
-                Optional<ShardingConditionValue> shardingConditionValue = ConditionValueGeneratorFactory.generate(each, column, parameters);
+                Optional<ShardingConditionValue> shardingConditionValue = ConditionValueGeneratorFactory.generate(each, column.get(), parameters);
                 if (!shardingConditionValue.isPresent()) {
                     continue;
                 }
-                result.computeIfAbsent(column, unused -> new LinkedList<>()).add(shardingConditionValue.get());
+                result.computeIfAbsent(column.get(), unused -> new LinkedList<>()).add(shardingConditionValue.get());
+            }
+        }
+        propagateShardingConditionValues(result, equalColumns);
+        return result;
+    }
+    
+    private Optional<Column> findShardingColumn(final ColumnSegment columnSegment, final Map<String, String> columnTableNames) {
+        Optional<String> tableName = Optional.ofNullable(columnTableNames.get(columnSegment.getExpression()));
+        Optional<String> shardingColumn = tableName.flatMap(optional -> shardingRule.findShardingColumn(columnSegment.getIdentifier().getValue(), optional));
+        return tableName.isPresent() && shardingColumn.isPresent() ? Optional.of(new Column(shardingColumn.get(), tableName.get())) : Optional.empty();
+    }
+    
+    private boolean isColumnEqualityPredicate(final ExpressionSegment predicate) {
+        return predicate instanceof BinaryOperationExpression && "=".equals(((BinaryOperationExpression) predicate).getOperator())
+                && ((BinaryOperationExpression) predicate).getLeft() instanceof ColumnSegment && ((BinaryOperationExpression) predicate).getRight() instanceof ColumnSegment;
+    }
+    
+    private void addEqualColumns(final BinaryOperationExpression predicate, final Map<String, String> columnTableNames, final Map<Column, Collection<Column>> equalColumns) {
+        Optional<Column> left = findShardingColumn((ColumnSegment) predicate.getLeft(), columnTableNames);
+        Optional<Column> right = findShardingColumn((ColumnSegment) predicate.getRight(), columnTableNames);
+        if (left.isPresent() && right.isPresent() && !left.get().equals(right.get())) {
+            equalColumns.computeIfAbsent(left.get(), unused -> new LinkedList<>()).add(right.get());
+            equalColumns.computeIfAbsent(right.get(), unused -> new LinkedList<>()).add(left.get());
+        }
+    }
+    
+    private void propagateShardingConditionValues(final Map<Column, Collection<ShardingConditionValue>> shardingConditionValues, final Map<Column, Collection<Column>> equalColumns) {
+        if (equalColumns.isEmpty() || shardingConditionValues.isEmpty()) {
+            return;
+        }
+        Deque<Column> pendingColumns = new LinkedList<>(shardingConditionValues.keySet());
+        while (!pendingColumns.isEmpty()) {
+            Column column = pendingColumns.poll();
+            for (Column each : equalColumns.getOrDefault(column, Collections.emptyList())) {
+                if (!shardingConditionValues.containsKey(each)) {
+                    shardingConditionValues.put(each, copyShardingConditionValues(shardingConditionValues.get(column), each));
+                    pendingColumns.add(each);
+                }
+            }
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<ShardingConditionValue> copyShardingConditionValues(final Collection<ShardingConditionValue> shardingConditionValues, final Column column) {
+        Collection<ShardingConditionValue> result = new LinkedList<>();
+        for (ShardingConditionValue each : shardingConditionValues) {
+            if (each instanceof ListShardingConditionValue) {
+                result.add(new ListShardingConditionValue<>(column.getName(), column.getTableName(), new ArrayList<>(((ListShardingConditionValue) each).getValues())));
+            } else if (each instanceof RangeShardingConditionValue) {
+                result.add(new RangeShardingConditionValue<>(column.getName(), column.getTableName(), ((RangeShardingConditionValue) each).getValueRange()));
             }
         }
         return result;
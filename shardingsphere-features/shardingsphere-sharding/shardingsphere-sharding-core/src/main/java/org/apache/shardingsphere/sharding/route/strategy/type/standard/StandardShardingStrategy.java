@@ -18,10 +18,14 @@
 package org.apache.shardingsphere.sharding.route.strategy.type.standard;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -30,9 +34,11 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShar
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.TreeSet;
 
 /**
@@ -61,7 +67,8 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         ShardingConditionValue shardingConditionValue = shardingConditionValues.iterator().next();
         Collection<String> shardingResult = shardingConditionValue instanceof ListShardingConditionValue
                 ? doSharding(availableTargetNames, (ListShardingConditionValue) shardingConditionValue, dataNodeInfo) 
-                : doSharding(availableTargetNames, (RangeShardingConditionValue) shardingConditionValue, dataNodeInfo);
+                : doSharding(availableTargetNames, (RangeShardingConditionValue) shardingConditionValue, dataNodeInfo,
+                        props.<Integer>getValue(ConfigurationPropertyKey.SHARDING_RANGE_EXPANSION_MAX_SIZE));
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(shardingResult);
         return result;
@@ -69,22 +76,51 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
+        Collection<String> targets = 1 == shardingValue.getValues().size()
+                ? Collections.singletonList(shardingAlgorithm.doSharding(availableTargetNames,
+                        new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, shardingValue.getValues().iterator().next())))
+                : shardingAlgorithm.doSharding(availableTargetNames, new ListShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, shardingValue.getValues()));
         Collection<String> result = new LinkedList<>();
-        for (Comparable<?> each : shardingValue.getValues()) {
-            String target = shardingAlgorithm.doSharding(availableTargetNames, 
-                    new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, each));
-            if (null != target && availableTargetNames.contains(target)) {
-                result.add(target);
-            } else if (null != target && !availableTargetNames.contains(target)) {
-                throw new ShardingSphereException(String.format("Route table %s does not exist, available actual table: %s", target, availableTargetNames));
+        for (String each : targets) {
+            if (null != each && availableTargetNames.contains(each)) {
+                result.add(each);
+            } else if (null != each) {
+                throw new ShardingSphereException(String.format("Route table %s does not exist, available actual table: %s", each, availableTargetNames));
             }
         }
         return result;
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo,
+                                          final int rangeExpansionMaxSize) {
+        Optional<Collection<Comparable<?>>> expandedValues = expandValueRange(shardingValue.getValueRange(), rangeExpansionMaxSize);
+        if (expandedValues.isPresent()) {
+            return doSharding(availableTargetNames, new ListShardingConditionValue<>(shardingValue.getColumnName(), shardingValue.getTableName(), expandedValues.get()), dataNodeInfo);
+        }
         return shardingAlgorithm.doSharding(availableTargetNames,
                 new RangeShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, shardingValue.getValueRange()));
     }
+    
+    private Optional<Collection<Comparable<?>>> expandValueRange(final Range<?> valueRange, final int maxSize) {
+        if (maxSize <= 0 || !valueRange.hasLowerBound() || !valueRange.hasUpperBound() || !isIntegralValue(valueRange.lowerEndpoint())
+                || valueRange.lowerEndpoint().getClass() != valueRange.upperEndpoint().getClass()) {
+            return Optional.empty();
+        }
+        long lower = ((Number) valueRange.lowerEndpoint()).longValue() + (BoundType.OPEN == valueRange.lowerBoundType() ? 1 : 0);
+        long upper = ((Number) valueRange.upperEndpoint()).longValue() - (BoundType.OPEN == valueRange.upperBoundType() ? 1 : 0);
+        long span = upper - lower;
+        if (span < 0 || span >= maxSize) {
+            return Optional.empty();
+        }
+        Collection<Comparable<?>> result = new ArrayList<>((int) span + 1);
+        for (long i = 0; i <= span; i++) {
+            result.add(valueRange.lowerEndpoint() instanceof Integer ? Integer.valueOf((int) (lower + i)) : Long.valueOf(lower + i));
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isIntegralValue(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
 }
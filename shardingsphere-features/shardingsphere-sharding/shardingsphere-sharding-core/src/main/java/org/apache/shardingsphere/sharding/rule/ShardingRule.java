@@ -106,6 +106,8 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Collection<String> dataSourceNames) {
         this.dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceNames);
         config.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, ShardingAlgorithm.class)));
@@ -120,6 +122,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
                 ? RequiredSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
     }
     
     public ShardingRule(final AlgorithmProvidedShardingRuleConfiguration config, final Collection<String> dataSourceNames) {
@@ -136,6 +139,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
                 ? RequiredSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
     }
     
     private Map<String, Collection<DataNode>> createShardingTableDataNodes(final Map<String, TableRule> tableRules) {
@@ -146,6 +150,15 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return result;
     }
     
+    private Map<String, Collection<TableRule>> createActualTableRules(final Map<String, TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            Collection<String> actualTables = each.getActualDataNodes().stream().map(dataNode -> dataNode.getTableName().toLowerCase()).collect(Collectors.toSet());
+            actualTables.forEach(actualTable -> result.computeIfAbsent(actualTable, key -> new LinkedList<>()).add(each));
+        }
+        return result;
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, 
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -260,12 +273,8 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        Collection<TableRule> result = actualTableRules.get(actualTableName.toLowerCase());
+        return null == result ? Optional.empty() : Optional.of(result.iterator().next());
     }
     
     /**
@@ -556,7 +565,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return logic tables
      */
     public Collection<String> getLogicTablesByActualTable(final String actualTable) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTable)).map(TableRule::getLogicTable).collect(Collectors.toSet());
+        return actualTableRules.getOrDefault(actualTable.toLowerCase(), Collections.emptyList()).stream().map(TableRule::getLogicTable).collect(Collectors.toSet());
     }
     
     @Override
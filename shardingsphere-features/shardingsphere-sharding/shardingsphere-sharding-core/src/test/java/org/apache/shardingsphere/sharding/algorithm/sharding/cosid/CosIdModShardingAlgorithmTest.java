@@ -19,6 +19,7 @@ import com.google.common.collect.Range;
 import me.ahoo.cosid.sharding.ExactCollection;
 import org.apache.shardingsphere.sharding.algorithm.constant.CosIdAlgorithmConstants;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.junit.Before;
@@ -26,7 +27,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -84,6 +87,23 @@ public final class CosIdModShardingAlgorithmTest {
         }
     }
     
+    public static class ListValueDoShardingTest {
+        
+        private CosIdModShardingAlgorithm<Long> shardingAlgorithm;
+        
+        @Before
+        public void init() {
+            shardingAlgorithm = createShardingAlg();
+        }
+        
+        @Test
+        public void assertDoSharding() {
+            ListShardingValue<Long> shardingValue = new ListShardingValue<>(LOGIC_NAME, COLUMN_NAME, new DataNodeInfo(LOGIC_NAME_PREFIX, 1, '0'), Arrays.asList(5L, 1L, 2L, 6L, 9L));
+            Collection<String> actual = shardingAlgorithm.doSharding(ALL_NODES, shardingValue);
+            assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_mod_1", "t_mod_2"))));
+        }
+    }
+    
     @RunWith(Parameterized.class)
     public static class RangeValueDoShardingTest {
         
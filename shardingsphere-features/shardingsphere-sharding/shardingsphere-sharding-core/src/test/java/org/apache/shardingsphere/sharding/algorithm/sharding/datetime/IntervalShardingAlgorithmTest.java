@@ -26,12 +26,18 @@ import org.junit.Test;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class IntervalShardingAlgorithmTest {
     
@@ -177,6 +183,152 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(24));
     }
     
+    @Test
+    public void assertPreciseDoShardingOnIntervalBoundary() {
+        assertThat(shardingAlgorithmByQuarter.doSharding(availableTablesForQuarterDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2016-01-01 00:00:00")), is("t_order_201601"));
+        assertThat(shardingAlgorithmByQuarter.doSharding(availableTablesForQuarterDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-03-31 23:59:59")), is("t_order_202001"));
+        assertThat(shardingAlgorithmByQuarter.doSharding(availableTablesForQuarterDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-04-01 00:00:00")), is("t_order_202002"));
+        assertThat(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-06-30 12:00:00")), is("t_order_20210629"));
+        assertThat(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-07-31 00:00:00")), is("t_order_20210731"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingOutOfConfiguredBounds() {
+        assertNull(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2015-12-31 23:59:59")));
+        assertNull(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-08-02 00:00:00")));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithOpenBounds() {
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.open("2020-01-31 00:00:00", "2020-03-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) new HashSet<>(Arrays.asList("t_order_202001", "t_order_202002"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithClosedOpenBoundsOnIntervalBoundary() {
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2020-02-01 00:00:00", "2020-03-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) Collections.singleton("t_order_202002")));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithMissingTables() {
+        Collection<String> availableTables = new LinkedList<>(availableTablesForMonthDataSources);
+        availableTables.remove("t_order_201912");
+        availableTables.remove("t_order_202002");
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTables,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2019-10-15 10:59:08", "2020-04-08 10:59:08")));
+        assertThat(actual, is((Collection<String>) new HashSet<>(Arrays.asList("t_order_201910", "t_order_201911", "t_order_202001", "t_order_202003", "t_order_202004"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingOutOfConfiguredBounds() {
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2022-01-01 00:00:00", "2022-06-01 00:00:00"))).isEmpty());
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2010-01-01 00:00:00", "2015-06-01 00:00:00"))).isEmpty());
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithMultipleTablesOfSameSuffix() {
+        Collection<String> availableTables = Arrays.asList("t_order_202001", "t_order_bak_202001", "t_order_202002", "t1");
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTables,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2020-01-15 00:00:00", "2020-01-20 00:00:00")));
+        assertThat(actual, is((Collection<String>) new HashSet<>(Arrays.asList("t_order_202001", "t_order_bak_202001"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingSameAsStepByStep() {
+        String[][] ranges = {{"2016-01-01 00:00:00", "2016-01-01 00:00:00"}, {"2016-02-29 12:00:00", "2017-03-01 00:00:00"}, {"2018-12-31 23:59:59", "2019-01-01 00:00:00"},
+            {"2019-10-15 10:59:08", "2020-04-08 10:59:08"}, {"2020-06-30 00:00:00", "2021-12-31 00:00:00"}, {"2015-06-01 00:00:00", "2016-03-01 00:00:00"}};
+        for (String[] each : ranges) {
+            Range<Comparable<?>> range = Range.closed(each[0], each[1]);
+            assertThat(shardingAlgorithmByQuarter.doSharding(availableTablesForQuarterDataSources, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range)),
+                    is(doShardingStepByStep(availableTablesForQuarterDataSources, range, "2016-01-01 00:00:00", "2021-12-31 00:00:00", 3, ChronoUnit.MONTHS, "yyyyQQ")));
+            assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range)),
+                    is(doShardingStepByStep(availableTablesForMonthDataSources, range, "2016-01-01 00:00:00", "2021-12-31 00:00:00", 1, ChronoUnit.MONTHS, "yyyyMM")));
+        }
+    }
+    
+    @Test
+    public void assertDoShardingWithLowerBoundAtEndOfMonth() {
+        IntervalShardingAlgorithm shardingAlgorithm = new IntervalShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        shardingAlgorithm.getProps().setProperty("datetime-lower", "2021-01-31 00:00:00");
+        shardingAlgorithm.getProps().setProperty("datetime-upper", "2021-12-31 00:00:00");
+        shardingAlgorithm.getProps().setProperty("sharding-suffix-pattern", "yyyyMM");
+        shardingAlgorithm.getProps().setProperty("datetime-interval-unit", "Months");
+        shardingAlgorithm.init();
+        Collection<String> availableTables = new LinkedList<>();
+        for (int i = 1; i <= 12; i++) {
+            availableTables.add(String.format("t_order_2021%02d", i));
+        }
+        assertThat(shardingAlgorithm.doSharding(availableTables, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-05-27 00:00:00")), is("t_order_202104"));
+        assertThat(shardingAlgorithm.doSharding(availableTables, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-05-28 00:00:00")), is("t_order_202105"));
+        Range<Comparable<?>> range = Range.closed("2021-03-29 00:00:00", "2021-07-01 00:00:00");
+        assertThat(shardingAlgorithm.doSharding(availableTables, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range)),
+                is(doShardingStepByStep(availableTables, range, "2021-01-31 00:00:00", "2021-12-31 00:00:00", 1, ChronoUnit.MONTHS, "yyyyMM")));
+    }
+    
+    @Test
+    public void assertRangeDoShardingBySecondsOverWideRange() {
+        IntervalShardingAlgorithm shardingAlgorithm = new IntervalShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        shardingAlgorithm.getProps().setProperty("datetime-lower", "2000-01-01 00:00:00");
+        shardingAlgorithm.getProps().setProperty("datetime-upper", "2099-12-31 23:59:59");
+        shardingAlgorithm.getProps().setProperty("sharding-suffix-pattern", "yyyyMMddHHmmss");
+        shardingAlgorithm.getProps().setProperty("datetime-interval-amount", "10");
+        shardingAlgorithm.getProps().setProperty("datetime-interval-unit", "Seconds");
+        shardingAlgorithm.init();
+        Collection<String> availableTables = Arrays.asList("t_order_19991231235950", "t_order_20000101000000", "t_order_20200615123010", "t_order_20200615123015", "t_order_20991231235950", "t_order");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTables,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("1990-01-01 00:00:00", "2200-01-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) new HashSet<>(Arrays.asList("t_order_20000101000000", "t_order_20200615123010", "t_order_20991231235950"))));
+        actual = shardingAlgorithm.doSharding(availableTables,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2000-01-01 00:00:10", "2099-12-31 23:59:50")));
+        assertThat(actual, is((Collection<String>) Collections.singleton("t_order_20200615123010")));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithSameTablesInDifferentCollections() {
+        Range<Comparable<?>> range = Range.closed("2017-03-15 00:00:00", "2018-02-01 00:00:00");
+        Collection<String> expected = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range));
+        assertThat(expected.size(), is(12));
+        Collection<String> sameTables = new LinkedList<>(availableTablesForMonthDataSources);
+        assertThat(shardingAlgorithmByMonth.doSharding(sameTables, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range)), is(expected));
+        sameTables.remove("t_order_201706");
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(new LinkedList<>(sameTables), new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range));
+        assertThat(actual.size(), is(11));
+        assertFalse(actual.contains("t_order_201706"));
+    }
+    
+    private Collection<String> doShardingStepByStep(final Collection<String> availableTables, final Range<Comparable<?>> range,
+                                                    final String lower, final String upper, final int stepAmount, final ChronoUnit stepUnit, final String suffixPattern) {
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        Range<LocalDateTime> dateTimeRange = Range.closed(
+                LocalDateTime.parse(range.lowerEndpoint().toString(), dateTimeFormatter), LocalDateTime.parse(range.upperEndpoint().toString(), dateTimeFormatter));
+        LocalDateTime dateTimeUpper = LocalDateTime.parse(upper, dateTimeFormatter);
+        Collection<String> result = new HashSet<>();
+        LocalDateTime calculateTime = LocalDateTime.parse(lower, dateTimeFormatter);
+        while (!calculateTime.isAfter(dateTimeUpper)) {
+            Range<LocalDateTime> calculateRange = Range.closedOpen(calculateTime, calculateTime.plus(stepAmount, stepUnit));
+            if (calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty()) {
+                String suffix = calculateTime.format(DateTimeFormatter.ofPattern(suffixPattern));
+                availableTables.stream().filter(each -> each.endsWith(suffix)).forEach(result::add);
+            }
+            calculateTime = calculateTime.plus(stepAmount, stepUnit);
+        }
+        return result;
+    }
+    
     @Test
     public void assertFormat() {
         String inputFormat = "yyyy-MM-dd HH:mm:ss.SSS";
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.junit.Before;
@@ -27,6 +28,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -70,6 +72,21 @@ public final class InlineShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "non_existent_column1", DATA_NODE_INFO, 0));
     }
     
+    @Test
+    public void assertDoShardingWithListShardingValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = inlineShardingAlgorithm.doSharding(availableTargetNames, 
+                new ListShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.<Comparable<?>>asList(5, 0, 4, 1, 6)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_0", "t_order_2"))));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertDoShardingWithListShardingValueOfNonExistentColumn() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        inlineShardingAlgorithm.doSharding(availableTargetNames, 
+                new ListShardingValue<>("t_order", "non_existent_column1", DATA_NODE_INFO, Arrays.<Comparable<?>>asList(0, 1)));
+    }
+    
     @Test
     public void assertDoShardingWithRangeShardingConditionValue() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.junit.Before;
@@ -26,6 +27,8 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +54,34 @@ public final class HashModShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "order_type", DATA_NODE_INFO, "a")), is("t_order_1"));
     }
     
+    @Test
+    public void assertListDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, 
+                new ListShardingValue<>("t_order", "order_type", DATA_NODE_INFO, Arrays.<Comparable<?>>asList("e", "b", "a", -7)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2", "t_order_3"))));
+    }
+    
+    @Test
+    public void assertListDoShardingSameAsPreciseDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        for (Comparable<?> each : Arrays.<Comparable<?>>asList("a", "foo", -1, Integer.MIN_VALUE, Long.MAX_VALUE)) {
+            Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, 
+                    new ListShardingValue<>("t_order", "order_type", DATA_NODE_INFO, Arrays.<Comparable<?>>asList(each, each)));
+            assertThat(actual.size(), is(1));
+            assertThat(actual.iterator().next(), is(shardingAlgorithm.doSharding(availableTargetNames, 
+                    new PreciseShardingValue<>("t_order", "order_type", DATA_NODE_INFO, each))));
+        }
+    }
+    
+    @Test
+    public void assertListDoShardingWithNonExistNodes() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, 
+                new ListShardingValue<>("t_order", "order_type", DATA_NODE_INFO, Arrays.<Comparable<?>>asList("a", "b", "c")));
+        assertThat(actual, is(new LinkedHashSet<>(Collections.singletonList("t_order_1"))));
+    }
+    
     @Test
     public void assertRangeDoSharding() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.junit.Before;
@@ -26,6 +27,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -50,6 +52,13 @@ public final class ModShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 17)), is("t_order_1"));
     }
     
+    @Test
+    public void assertListDoSharding() {
+        Collection<String> actual = shardingAlgorithm.doSharding(createAvailableTargetNames(), 
+                new ListShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(1, 17, 33, 2)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
     @Test
     public void assertRangeDoShardingWithAllTargets() {
         Collection<String> actual = shardingAlgorithm.doSharding(createAvailableTargetNames(), 
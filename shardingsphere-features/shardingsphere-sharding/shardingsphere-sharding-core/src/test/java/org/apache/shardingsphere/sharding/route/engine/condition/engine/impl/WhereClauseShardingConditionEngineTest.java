@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition.engine.impl;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.JoinTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class WhereClauseShardingConditionEngineTest {
+    
+    @Mock
+    private ShardingRule shardingRule;
+    
+    private WhereClauseShardingConditionEngine shardingConditionEngine;
+    
+    @Before
+    public void setUp() {
+        when(shardingRule.findShardingColumn("user_id", "t_order")).thenReturn(Optional.of("user_id"));
+        when(shardingRule.findShardingColumn("user_id", "t_order_item")).thenReturn(Optional.of("user_id"));
+        shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, mock(ShardingSphereSchema.class));
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithEqualColumns() {
+        ExpressionSegment expression = createAndExpression(createEqualExpression(createColumn("o"), createLiteral(1)), createEqualExpression(createColumn("o"), createColumn("i")));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(createSelectStatementContext(new MySQLSelectStatement(), expression), Collections.emptyList());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues().size(), is(2));
+        assertListValues(actual.get(0), "t_order", 1);
+        assertListValues(actual.get(0), "t_order_item", 1);
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithTransitiveEqualColumns() {
+        when(shardingRule.findShardingColumn("user_id", "t_order_detail")).thenReturn(Optional.of("user_id"));
+        ExpressionSegment expression = createAndExpression(createAndExpression(createEqualExpression(createColumn("d"), createColumn("i")), 
+                createEqualExpression(createColumn("i"), createColumn("o"))), createEqualExpression(createColumn("o"), createLiteral(1)));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(createSelectStatementContext(new MySQLSelectStatement(), expression), Collections.emptyList());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues().size(), is(3));
+        assertListValues(actual.get(0), "t_order", 1);
+        assertListValues(actual.get(0), "t_order_item", 1);
+        assertListValues(actual.get(0), "t_order_detail", 1);
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithEqualColumnsOnly() {
+        ExpressionSegment expression = createEqualExpression(createColumn("o"), createColumn("i"));
+        assertTrue(shardingConditionEngine.createShardingConditions(createSelectStatementContext(new MySQLSelectStatement(), expression), Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithEqualColumnsInOrBranch() {
+        ExpressionSegment expression = createOrExpression(createEqualExpression(createColumn("o"), createLiteral(1)), createEqualExpression(createColumn("o"), createColumn("i")));
+        assertTrue(shardingConditionEngine.createShardingConditions(createSelectStatementContext(new MySQLSelectStatement(), expression), Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithEqualColumnsInOneOfOrBranches() {
+        ExpressionSegment expression = createAndExpression(createEqualExpression(createColumn("o"), createLiteral(1)), 
+                createOrExpression(createEqualExpression(createColumn("o"), createColumn("i")), createEqualExpression(createColumn("i"), createLiteral(2))));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(createSelectStatementContext(new MySQLSelectStatement(), expression), Collections.emptyList());
+        assertThat(actual.size(), is(2));
+        assertListValues(actual.get(0), "t_order", 1);
+        assertListValues(actual.get(0), "t_order_item", 1);
+        assertListValues(actual.get(1), "t_order", 1);
+        assertListValues(actual.get(1), "t_order_item", 2);
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithEqualColumnsInOuterJoinCondition() {
+        ExpressionSegment joinCondition = createAndExpression(createEqualExpression(createColumn("o"), createColumn("i")), createEqualExpression(createColumn("i"), createLiteral(1)));
+        JoinTableSegment joinTableSegment = new JoinTableSegment();
+        joinTableSegment.setJoinType("LEFT");
+        joinTableSegment.setCondition(joinCondition);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setFrom(joinTableSegment);
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(createSelectStatementContext(selectStatement, joinCondition), Collections.emptyList());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues().size(), is(1));
+        assertListValues(actual.get(0), "t_order_item", 1);
+        assertFalse(findShardingConditionValue(actual.get(0), "t_order").isPresent());
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithEqualColumnsInWhereOfOuterJoin() {
+        JoinTableSegment joinTableSegment = new JoinTableSegment();
+        joinTableSegment.setJoinType("LEFT");
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setFrom(joinTableSegment);
+        ExpressionSegment expression = createAndExpression(createEqualExpression(createColumn("o"), createColumn("i")), createEqualExpression(createColumn("i"), createLiteral(1)));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(createSelectStatementContext(selectStatement, expression), Collections.emptyList());
+        assertThat(actual.size(), is(1));
+        assertListValues(actual.get(0), "t_order", 1);
+        assertListValues(actual.get(0), "t_order_item", 1);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final MySQLSelectStatement selectStatement, final ExpressionSegment expression) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        Map<String, String> columnTableNames = new HashMap<>(3, 1);
+        columnTableNames.put("o.user_id", "t_order");
+        columnTableNames.put("i.user_id", "t_order_item");
+        columnTableNames.put("d.user_id", "t_order_detail");
+        when(result.getTablesContext().findTableNamesByColumnSegment(any(), any())).thenReturn(columnTableNames);
+        when(result.getWhereSegments()).thenReturn(Collections.singletonList(new WhereSegment(0, 0, expression)));
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        return result;
+    }
+    
+    private ColumnSegment createColumn(final String owner) {
+        ColumnSegment result = new ColumnSegment(0, 0, new IdentifierValue("user_id"));
+        result.setOwner(new OwnerSegment(0, 0, new IdentifierValue(owner)));
+        return result;
+    }
+    
+    private LiteralExpressionSegment createLiteral(final int value) {
+        return new LiteralExpressionSegment(0, 0, value);
+    }
+    
+    private BinaryOperationExpression createEqualExpression(final ExpressionSegment left, final ExpressionSegment right) {
+        return new BinaryOperationExpression(0, 0, left, right, "=", "");
+    }
+    
+    private BinaryOperationExpression createAndExpression(final ExpressionSegment left, final ExpressionSegment right) {
+        return new BinaryOperationExpression(0, 0, left, right, "AND", "");
+    }
+    
+    private BinaryOperationExpression createOrExpression(final ExpressionSegment left, final ExpressionSegment right) {
+        return new BinaryOperationExpression(0, 0, left, right, "OR", "");
+    }
+    
+    private void assertListValues(final ShardingCondition shardingCondition, final String tableName, final Comparable<?>... expectedValues) {
+        Optional<ShardingConditionValue> shardingConditionValue = findShardingConditionValue(shardingCondition, tableName);
+        assertTrue(shardingConditionValue.isPresent());
+        assertThat(shardingConditionValue.get().getColumnName(), is("user_id"));
+        assertThat(((ListShardingConditionValue<?>) shardingConditionValue.get()).getValues(), is(Arrays.asList(expectedValues)));
+    }
+    
+    private Optional<ShardingConditionValue> findShardingConditionValue(final ShardingCondition shardingCondition, final String tableName) {
+        return shardingCondition.getValues().stream().filter(each -> tableName.equals(each.getTableName())).findFirst();
+    }
+}
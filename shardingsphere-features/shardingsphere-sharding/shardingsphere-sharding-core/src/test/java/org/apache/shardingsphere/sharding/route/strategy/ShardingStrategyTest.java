@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.strategy;
 
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
@@ -58,6 +59,15 @@ public final class ShardingStrategyTest {
         assertThat(strategy.doSharding(targets, shardingConditionValues, DATA_NODE_INFO, new ConfigurationProperties(new Properties())), is(Collections.singleton("1")));
     }
     
+    @Test
+    public void assertDoShardingForBetweenSingleKeyWithRangeExpansion() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy("column", new StandardShardingAlgorithmFixture());
+        Collection<ShardingConditionValue> shardingConditionValues = Collections.singleton(new RangeShardingConditionValue<>("column", "logicTable", Range.closed(3, 5)));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SHARDING_RANGE_EXPANSION_MAX_SIZE.getKey(), "8");
+        assertThat(strategy.doSharding(targets, shardingConditionValues, DATA_NODE_INFO, new ConfigurationProperties(props)), is(Collections.singleton("1")));
+    }
+    
     @Test
     public void assertDoShardingForMultipleKeys() {
         Collection<String> expected = new HashSet<>(3, 1);
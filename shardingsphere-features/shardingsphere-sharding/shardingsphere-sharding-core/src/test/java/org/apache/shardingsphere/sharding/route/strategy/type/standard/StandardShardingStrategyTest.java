@@ -21,18 +21,29 @@ import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.strategy.fixture.StandardShardingAlgorithmFixture;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class StandardShardingStrategyTest {
     
@@ -64,6 +75,35 @@ public final class StandardShardingStrategyTest {
         assertThat(actualListSharding.iterator().next(), is("1"));
     }
     
+    @Test
+    public void assertDoShardingForListShardingWithMultipleValues() {
+        Collection<String> actualListSharding = standardShardingStrategy.doSharding(targets, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Arrays.asList(1, 2, 3))), dataNodeSegment, new ConfigurationProperties(new Properties()));
+        assertThat(actualListSharding.size(), is(1));
+        assertThat(actualListSharding.iterator().next(), is("1"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertDoShardingForListShardingWithBulkAlgorithm() {
+        StandardShardingAlgorithm<Integer> shardingAlgorithm = mock(StandardShardingAlgorithm.class);
+        when(shardingAlgorithm.doSharding(eq(targets), any(ListShardingValue.class))).thenReturn(Arrays.asList("1", "3"));
+        Collection<String> actualListSharding = new StandardShardingStrategy("column", shardingAlgorithm).doSharding(targets, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Arrays.asList(1, 3, 5))), dataNodeSegment, new ConfigurationProperties(new Properties()));
+        assertThat(actualListSharding, is(Sets.newHashSet("1", "3")));
+        verify(shardingAlgorithm).doSharding(eq(targets), any(ListShardingValue.class));
+        verify(shardingAlgorithm, never()).doSharding(eq(targets), any(PreciseShardingValue.class));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test(expected = ShardingSphereException.class)
+    public void assertDoShardingForListShardingWithNonExistentTarget() {
+        StandardShardingAlgorithm<Integer> shardingAlgorithm = mock(StandardShardingAlgorithm.class);
+        when(shardingAlgorithm.doSharding(eq(targets), any(ListShardingValue.class))).thenReturn(Arrays.asList("1", "4"));
+        new StandardShardingStrategy("column", shardingAlgorithm).doSharding(targets, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Arrays.asList(1, 4))), dataNodeSegment, new ConfigurationProperties(new Properties()));
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         Collection<String> actualShardingColumns = standardShardingStrategy.getShardingColumns();
@@ -111,6 +111,11 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        assertThat(createMaximumShardingRule().findTableRuleByActualTable("TABLE_0").map(TableRule::getLogicTable).orElse(null), is("LOGIC_TABLE"));
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -66,7 +66,7 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      * Flush threshold for every records from databases for ShardingSphere-Proxy.
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class),
-      
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -114,6 +114,39 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Max value count to expand a bounded integral sharding range into discrete values before sharding.
+     * The default value is 0, which means ranges are never expanded.
+     */
+    SHARDING_RANGE_EXPANSION_MAX_SIZE("sharding-range-expansion-max-size", String.valueOf(0), int.class),
+    
+    /**
+     * Min payload length in bytes to compress for ShardingSphere-Proxy frontend connections which negotiated compressed protocol.
+     */
+    PROXY_FRONTEND_COMPRESSION_THRESHOLD("proxy-frontend-compression-threshold", String.valueOf(50), int.class),
+    
+    /**
+     * Min count of cached connections to commit or rollback local transaction in parallel.
+     * The default value is 0, which means local transaction is always committed or rolled back serially.
+     */
+    LOCAL_TRANSACTION_PARALLEL_THRESHOLD("local-transaction-parallel-threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Max cached prepared statements size of each backend connection held by logic connection.
+     * The default value is 0, which means prepared statements are not cached.
+     */
+    PREPARED_STATEMENT_CACHE_SIZE("prepared-statement-cache-size", String.valueOf(0), int.class),
+    
+    /**
+     * Max size in bytes of long data sent by MySQL COM_STMT_SEND_LONG_DATA kept in memory for each parameter, larger long data is spilled to temporary file.
+     */
+    PROXY_FRONTEND_LONG_DATA_MEMORY_THRESHOLD("proxy-frontend-long-data-memory-threshold", String.valueOf(1024 * 1024), int.class),
+    
+    /**
+     * Max total size in bytes of long data sent by MySQL COM_STMT_SEND_LONG_DATA held in memory and temporary files by all connections.
+     */
+    PROXY_FRONTEND_LONG_DATA_MAX_TOTAL_SIZE("proxy-frontend-long-data-max-total-size", String.valueOf(1024L * 1024 * 1024), long.class),
+    
     /**
      * Proxy backend driver type. Default driver is JDBC.
      */
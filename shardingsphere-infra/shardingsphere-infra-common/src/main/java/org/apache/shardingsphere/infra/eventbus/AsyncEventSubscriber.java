@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Async event subscriber, which delivers events to async subscribe methods of one subscriber in posted order.
+ * 
+ * <p>Posting never blocks and never drops events, only pending {@link CoalescibleEvent} can be superseded by the later posted one.
+ * Capacity is the pending threshold for warning, events posted beyond it are still queued and counted as overflowed.</p>
+ */
+@Slf4j
+public final class AsyncEventSubscriber {
+    
+    @Getter
+    private final Object subscriber;
+    
+    private final Collection<Method> methods;
+    
+    private final int capacity;
+    
+    private final Executor executor;
+    
+    private final Deque<Object> pendingEvents = new LinkedList<>();
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private boolean dispatching;
+    
+    private final AtomicLong postedCount = new AtomicLong();
+    
+    private final AtomicLong deliveredCount = new AtomicLong();
+    
+    private final AtomicLong coalescedCount = new AtomicLong();
+    
+    private final AtomicLong overflowedCount = new AtomicLong();
+    
+    private final AtomicLong failedCount = new AtomicLong();
+    
+    public AsyncEventSubscriber(final Object subscriber, final Collection<Method> methods, final int capacity, final Executor executor) {
+        this.subscriber = subscriber;
+        this.methods = methods;
+        this.capacity = capacity;
+        this.executor = executor;
+    }
+    
+    /**
+     * Judge whether subscribe event.
+     * 
+     * @param event event
+     * @return subscribe event or not
+     */
+    public boolean isSubscribed(final Object event) {
+        return methods.stream().anyMatch(each -> each.getParameterTypes()[0].isInstance(event));
+    }
+    
+    /**
+     * Post event.
+     * 
+     * @param event event to be posted
+     */
+    public void post(final Object event) {
+        lock.lock();
+        try {
+            postedCount.incrementAndGet();
+            coalesce(event);
+            if (pendingEvents.size() >= capacity && 0 == overflowedCount.getAndIncrement() % capacity) {
+                log.warn("Pending events of `{}` exceeded capacity {}, pending count is {}", subscriber.getClass().getName(), capacity, pendingEvents.size());
+            }
+            pendingEvents.offer(event);
+            if (!dispatching) {
+                dispatching = true;
+                executor.execute(this::dispatch);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void coalesce(final Object event) {
+        Optional<String> coalescingKey = event instanceof CoalescibleEvent ? ((CoalescibleEvent) event).getCoalescingKey() : Optional.empty();
+        if (!coalescingKey.isPresent()) {
+            return;
+        }
+        Iterator<Object> iterator = pendingEvents.iterator();
+        while (iterator.hasNext()) {
+            Object each = iterator.next();
+            if (each.getClass() == event.getClass() && coalescingKey.equals(((CoalescibleEvent) each).getCoalescingKey())) {
+                iterator.remove();
+                coalescedCount.incrementAndGet();
+            }
+        }
+    }
+    
+    private void dispatch() {
+        while (true) {
+            Object event;
+            lock.lock();
+            try {
+                event = pendingEvents.poll();
+                if (null == event) {
+                    dispatching = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            deliver(event);
+        }
+    }
+    
+    private void deliver(final Object event) {
+        for (Method each : methods) {
+            if (!each.getParameterTypes()[0].isInstance(event)) {
+                continue;
+            }
+            try {
+                each.invoke(subscriber, event);
+            } catch (final IllegalAccessException | InvocationTargetException ex) {
+                failedCount.incrementAndGet();
+                log.error("Deliver event `{}` to `{}` failed", event.getClass().getName(), each, ex instanceof InvocationTargetException ? ex.getCause() : ex);
+            }
+        }
+        deliveredCount.incrementAndGet();
+    }
+    
+    /**
+     * Get pending event count.
+     * 
+     * @return pending event count
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pendingEvents.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get posted event count.
+     * 
+     * @return posted event count
+     */
+    public long getPostedCount() {
+        return postedCount.get();
+    }
+    
+    /**
+     * Get delivered event count.
+     * 
+     * @return delivered event count
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+    
+    /**
+     * Get coalesced event count.
+     * 
+     * @return coalesced event count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+    
+    /**
+     * Get overflowed event count, which is posted when pending events exceeded capacity.
+     * 
+     * @return overflowed event count
+     */
+    public long getOverflowedCount() {
+        return overflowedCount.get();
+    }
+    
+    /**
+     * Get failed delivery count.
+     * 
+     * @return failed delivery count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus;
+
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.EventBus;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Async ordered event bus.
+ * 
+ * <p>Methods annotated with {@link com.google.common.eventbus.Subscribe} are delivered synchronously in posting thread,
+ * methods annotated with {@link AsyncSubscribe} are delivered asynchronously in posted order per subscriber.</p>
+ */
+public final class AsyncOrderedEventBus extends EventBus {
+    
+    private static final int DEFAULT_CAPACITY = 10000;
+    
+    private final int capacity;
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-EventBus-%d").build());
+    
+    private final Collection<AsyncEventSubscriber> asyncSubscribers = new CopyOnWriteArrayList<>();
+    
+    public AsyncOrderedEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public AsyncOrderedEventBus(final int capacity) {
+        this.capacity = capacity;
+    }
+    
+    @Override
+    public void register(final Object object) {
+        super.register(object);
+        Collection<Method> asyncMethods = findAsyncSubscribeMethods(object.getClass());
+        if (!asyncMethods.isEmpty()) {
+            asyncSubscribers.add(new AsyncEventSubscriber(object, asyncMethods, capacity, executorService));
+        }
+    }
+    
+    private Collection<Method> findAsyncSubscribeMethods(final Class<?> subscriberClass) {
+        Collection<Method> result = new LinkedList<>();
+        for (Method each : subscriberClass.getMethods()) {
+            if (each.isAnnotationPresent(AsyncSubscribe.class)) {
+                Preconditions.checkArgument(1 == each.getParameterCount(),
+                        "Method `%s` has @AsyncSubscribe annotation but has %s parameters, subscriber methods must have exactly 1 parameter.", each, each.getParameterCount());
+                each.setAccessible(true);
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void unregister(final Object object) {
+        super.unregister(object);
+        asyncSubscribers.removeIf(each -> each.getSubscriber() == object);
+    }
+    
+    @Override
+    public void post(final Object event) {
+        super.post(event);
+        for (AsyncEventSubscriber each : asyncSubscribers) {
+            if (each.isSubscribed(event)) {
+                each.post(event);
+            }
+        }
+    }
+    
+    /**
+     * Get async subscribers, which can be used to collect metrics of pending, posted, delivered, coalesced, overflowed and failed events.
+     * 
+     * @return async subscribers
+     */
+    public Collection<AsyncEventSubscriber> getAsyncSubscribers() {
+        return Collections.unmodifiableCollection(asyncSubscribers);
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.eventbus;
 
-import com.google.common.eventbus.EventBus;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -32,11 +31,11 @@ public final class ShardingSphereEventBus {
      *
      * @return instance of ShardingSphere event bus
      */
-    public static EventBus getInstance() {
+    public static AsyncOrderedEventBus getInstance() {
         return ShardingSphereEventBusHolder.INSTANCE;
     }
     
     private static final class ShardingSphereEventBusHolder {
-        private static final EventBus INSTANCE = new EventBus();
+        private static final AsyncOrderedEventBus INSTANCE = new AsyncOrderedEventBus();
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Session attributes, which are owned by a client session and shared by features needing session scoped state.
+ */
+public final class SessionAttributes {
+    
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    
+    /**
+     * Get attribute, create it if absent.
+     * 
+     * @param key attribute key
+     * @param creator creator of attribute
+     * @param <T> type of attribute
+     * @return attribute
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCreate(final String key, final Supplier<T> creator) {
+        return (T) attributes.computeIfAbsent(key, unused -> creator.get());
+    }
+}
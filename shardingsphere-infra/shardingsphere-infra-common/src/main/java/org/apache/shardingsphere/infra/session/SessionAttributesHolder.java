@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Session attributes holder.
+ * 
+ * <p>Bind session attributes to current thread while a statement of the session is routed, the binder must remove them when finished.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SessionAttributesHolder {
+    
+    private static final ThreadLocal<SessionAttributes> SESSION_ATTRIBUTES = new ThreadLocal<>();
+    
+    /**
+     * Find session attributes bound to current thread.
+     * 
+     * @return session attributes
+     */
+    public static Optional<SessionAttributes> find() {
+        return Optional.ofNullable(SESSION_ATTRIBUTES.get());
+    }
+    
+    /**
+     * Bind session attributes to current thread.
+     * 
+     * @param sessionAttributes session attributes
+     */
+    public static void set(final SessionAttributes sessionAttributes) {
+        SESSION_ATTRIBUTES.set(sessionAttributes);
+    }
+    
+    /**
+     * Remove session attributes from current thread.
+     */
+    public static void remove() {
+        SESSION_ATTRIBUTES.remove();
+    }
+}
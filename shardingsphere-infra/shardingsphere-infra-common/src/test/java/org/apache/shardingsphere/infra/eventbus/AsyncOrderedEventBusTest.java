@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AsyncOrderedEventBusTest {
+    
+    @Test
+    public void assertPostWithSyncAndAsyncSubscribers() throws InterruptedException {
+        AsyncOrderedEventBus eventBus = new AsyncOrderedEventBus();
+        FixtureSubscriber subscriber = new FixtureSubscriber(new CountDownLatch(0), new CountDownLatch(3));
+        eventBus.register(subscriber);
+        eventBus.post(new FixtureEvent("foo", "1"));
+        eventBus.post(new FixtureEvent("bar", "2"));
+        eventBus.post(new FixtureEvent("foo", "3"));
+        assertThat(subscriber.syncValues, is(Arrays.asList("1", "2", "3")));
+        assertTrue(subscriber.deliveredLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(subscriber.asyncValues, is(Arrays.asList("1", "2", "3")));
+    }
+    
+    @Test
+    public void assertPostWithCoalescedEvents() throws InterruptedException {
+        AsyncOrderedEventBus eventBus = new AsyncOrderedEventBus();
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        FixtureSubscriber subscriber = new FixtureSubscriber(blockingLatch, new CountDownLatch(3));
+        eventBus.register(subscriber);
+        eventBus.post(new FixtureEvent("blocking", "0"));
+        assertTrue(subscriber.startedLatch.await(5L, TimeUnit.SECONDS));
+        eventBus.post(new FixtureEvent("foo", "1"));
+        eventBus.post(new FixtureEvent("foo", "2"));
+        eventBus.post(new FixtureEvent("bar", "3"));
+        eventBus.post(new FixtureEvent("foo", "4"));
+        blockingLatch.countDown();
+        assertTrue(subscriber.deliveredLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(subscriber.asyncValues, is(Arrays.asList("0", "3", "4")));
+        AsyncEventSubscriber asyncSubscriber = eventBus.getAsyncSubscribers().iterator().next();
+        assertThat(asyncSubscriber.getPostedCount(), is(5L));
+        assertThat(asyncSubscriber.getCoalescedCount(), is(2L));
+    }
+    
+    @Test
+    public void assertPostWithoutBlockingOrDroppingWhenPendingEventsExceedCapacity() throws InterruptedException {
+        AsyncOrderedEventBus eventBus = new AsyncOrderedEventBus(2);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        FixtureSubscriber subscriber = new FixtureSubscriber(blockingLatch, new CountDownLatch(4));
+        eventBus.register(subscriber);
+        eventBus.post(new FixtureEvent("blocking", "0"));
+        assertTrue(subscriber.startedLatch.await(5L, TimeUnit.SECONDS));
+        eventBus.post(new FixtureEvent("foo", "1"));
+        eventBus.post(new FixtureEvent("bar", "2"));
+        eventBus.post(new FixtureEvent("baz", "3"));
+        assertThat(subscriber.syncValues, is(Arrays.asList("0", "1", "2", "3")));
+        AsyncEventSubscriber asyncSubscriber = eventBus.getAsyncSubscribers().iterator().next();
+        assertThat(asyncSubscriber.getOverflowedCount(), is(1L));
+        assertThat(asyncSubscriber.getPendingCount(), is(3));
+        blockingLatch.countDown();
+        assertTrue(subscriber.deliveredLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(subscriber.asyncValues, is(Arrays.asList("0", "1", "2", "3")));
+        assertThat(asyncSubscriber.getPostedCount(), is(4L));
+    }
+    
+    @Test
+    public void assertPostWithCoalescedEventWhenPendingEventsReachCapacity() throws InterruptedException {
+        AsyncOrderedEventBus eventBus = new AsyncOrderedEventBus(1);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        FixtureSubscriber subscriber = new FixtureSubscriber(blockingLatch, new CountDownLatch(2));
+        eventBus.register(subscriber);
+        eventBus.post(new FixtureEvent("blocking", "0"));
+        assertTrue(subscriber.startedLatch.await(5L, TimeUnit.SECONDS));
+        eventBus.post(new FixtureEvent("foo", "1"));
+        eventBus.post(new FixtureEvent("foo", "2"));
+        blockingLatch.countDown();
+        assertTrue(subscriber.deliveredLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(subscriber.asyncValues, is(Arrays.asList("0", "2")));
+        AsyncEventSubscriber asyncSubscriber = eventBus.getAsyncSubscribers().iterator().next();
+        assertThat(asyncSubscriber.getCoalescedCount(), is(1L));
+        assertThat(asyncSubscriber.getOverflowedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertUnregister() {
+        AsyncOrderedEventBus eventBus = new AsyncOrderedEventBus();
+        FixtureSubscriber subscriber = new FixtureSubscriber(new CountDownLatch(0), new CountDownLatch(0));
+        eventBus.register(subscriber);
+        assertThat(eventBus.getAsyncSubscribers().size(), is(1));
+        eventBus.unregister(subscriber);
+        assertTrue(eventBus.getAsyncSubscribers().isEmpty());
+    }
+    
+    @RequiredArgsConstructor
+    public static final class FixtureSubscriber {
+        
+        private final CountDownLatch blockingLatch;
+        
+        private final CountDownLatch deliveredLatch;
+        
+        private final CountDownLatch startedLatch = new CountDownLatch(1);
+        
+        private final List<String> syncValues = new CopyOnWriteArrayList<>();
+        
+        private final List<String> asyncValues = new CopyOnWriteArrayList<>();
+        
+        /**
+         * Subscribe synchronously.
+         *
+         * @param event fixture event
+         */
+        @Subscribe
+        public void subscribeSync(final FixtureEvent event) {
+            syncValues.add(event.value);
+        }
+        
+        /**
+         * Subscribe asynchronously.
+         *
+         * @param event fixture event
+         * @throws InterruptedException interrupted exception
+         */
+        @AsyncSubscribe
+        public void subscribeAsync(final FixtureEvent event) throws InterruptedException {
+            startedLatch.countDown();
+            blockingLatch.await();
+            asyncValues.add(event.value);
+            deliveredLatch.countDown();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FixtureEvent implements CoalescibleEvent {
+        
+        private final String key;
+        
+        private final String value;
+        
+        @Override
+        public Optional<String> getCoalescingKey() {
+            return Optional.of(key);
+        }
+    }
+}
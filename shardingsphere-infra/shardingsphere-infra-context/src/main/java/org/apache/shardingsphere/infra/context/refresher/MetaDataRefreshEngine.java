@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.context.refresher;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCacheVersions;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -55,6 +56,8 @@ public final class MetaDataRefreshEngine {
     
     private final ConfigurationProperties props;
     
+    private final PreparedStatementCacheVersions preparedStatementCacheVersions;
+    
     /**
      * Refresh.
      *
@@ -70,6 +73,7 @@ public final class MetaDataRefreshEngine {
         }
         Optional<MetaDataRefresher> schemaRefresher = TypedSPIRegistry.findRegisteredService(MetaDataRefresher.class, sqlStatementClass.getSuperclass().getName(), null);
         if (schemaRefresher.isPresent()) {
+            preparedStatementCacheVersions.invalidate(schemaMetaData.getName());
             schemaRefresher.get().refresh(schemaMetaData, federationMetaData, optimizerPlanners, logicDataSourceNamesSupplier.get(), sqlStatement, props);
         } else {
             IGNORABLE_SQL_STATEMENT_CLASSES.add(sqlStatementClass);
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuilder;
@@ -68,7 +69,7 @@ public final class AlterTableStatementSchemaRefresher implements MetaDataRefresh
         schemaMetaData.getSchema().remove(tableName);
         schemaMetaData.getRuleMetaData().findRules(MutableDataNodeRule.class).forEach(each -> each.remove(tableName));
         schema.remove(tableName);
-        optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+        optimizerPlanners.computeIfAbsent(schema.getName(), key -> OptimizerPlannerContextFactory.create(schema)).removeTable(tableName);
     }
     
     private void putTableMetaData(final ShardingSphereMetaData schemaMetaData, final FederationSchemaMetaData schema, final Map<String, OptimizerPlannerContext> optimizerPlanners, 
@@ -81,8 +82,8 @@ public final class AlterTableStatementSchemaRefresher implements MetaDataRefresh
         Optional<TableMetaData> actualTableMetaData = Optional.ofNullable(TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).get(tableName));
         actualTableMetaData.ifPresent(tableMetaData -> {
             schemaMetaData.getSchema().put(tableName, tableMetaData);
-            schema.put(tableMetaData);
-            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+            FederationTableMetaData federationTableMetaData = schema.put(tableMetaData);
+            optimizerPlanners.computeIfAbsent(schema.getName(), key -> OptimizerPlannerContextFactory.create(schema)).putTable(federationTableMetaData);
         });
     }
     
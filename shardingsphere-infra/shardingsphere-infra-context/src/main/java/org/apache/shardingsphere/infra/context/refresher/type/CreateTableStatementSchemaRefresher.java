@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuilder;
@@ -57,8 +58,8 @@ public final class CreateTableStatementSchemaRefresher implements MetaDataRefres
         Optional<TableMetaData> actualTableMetaData = Optional.ofNullable(TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).get(tableName));
         actualTableMetaData.ifPresent(tableMetaData -> {
             schemaMetaData.getSchema().put(tableName, tableMetaData);
-            schema.put(tableMetaData);
-            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+            FederationTableMetaData federationTableMetaData = schema.put(tableMetaData);
+            optimizerPlanners.computeIfAbsent(schema.getName(), key -> OptimizerPlannerContextFactory.create(schema)).putTable(federationTableMetaData);
             SchemaAlteredEvent event = new SchemaAlteredEvent(schemaMetaData.getName());
             event.getAlteredTables().add(tableMetaData);
             ShardingSphereEventBus.getInstance().post(event);
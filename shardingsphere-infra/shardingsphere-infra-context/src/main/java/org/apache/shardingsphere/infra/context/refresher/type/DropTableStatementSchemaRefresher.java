@@ -47,7 +47,7 @@ public final class DropTableStatementSchemaRefresher implements MetaDataRefreshe
         sqlStatement.getTables().forEach(each -> {
             schemaMetaData.getSchema().remove(each.getTableName().getIdentifier().getValue());
             schema.remove(each.getTableName().getIdentifier().getValue());
-            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+            optimizerPlanners.computeIfAbsent(schema.getName(), key -> OptimizerPlannerContextFactory.create(schema)).removeTable(each.getTableName().getIdentifier().getValue());
             event.getDroppedTables().add(each.getTableName().getIdentifier().getValue());
         });
         Collection<MutableDataNodeRule> rules = schemaMetaData.getRuleMetaData().findRules(MutableDataNodeRule.class);
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.kernel.model.ForceExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
@@ -126,6 +127,64 @@ public final class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
+    /**
+     * Force execute on all targets, the first target is executed in current thread and the rest are executed in parallel if not serial.
+     * 
+     * <p>Targets submitted to executor are always awaited before return, even if the current thread target throws runtime exception.</p>
+     *
+     * @param targets targets to be executed
+     * @param callback force executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <T> type of target
+     * @return SQL exceptions thrown by all targets
+     */
+    public <T> Collection<SQLException> forceExecute(final Collection<T> targets, final ForceExecutorCallback<T> callback, final boolean serial) {
+        Collection<SQLException> result = new LinkedList<>();
+        Iterator<T> iterator = targets.iterator();
+        if (!iterator.hasNext()) {
+            return result;
+        }
+        T first = iterator.next();
+        Collection<ListenableFuture<Void>> restFutures = new LinkedList<>();
+        while (!serial && iterator.hasNext()) {
+            T each = iterator.next();
+            restFutures.add(executorServiceManager.getExecutorService().submit(() -> {
+                callback.execute(each);
+                return null;
+            }));
+        }
+        try {
+            forceExecute(first, callback, result);
+            while (iterator.hasNext()) {
+                forceExecute(iterator.next(), callback, result);
+            }
+        } finally {
+            awaitForceExecuteFutures(restFutures, result);
+        }
+        return result;
+    }
+    
+    private void awaitForceExecuteFutures(final Collection<ListenableFuture<Void>> futures, final Collection<SQLException> exceptions) {
+        for (ListenableFuture<Void> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                exceptions.add(new SQLException(ex));
+            } catch (final ExecutionException ex) {
+                exceptions.add(ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause()));
+            }
+        }
+    }
+    
+    private <T> void forceExecute(final T target, final ForceExecutorCallback<T> callback, final Collection<SQLException> exceptions) {
+        try {
+            callback.execute(target);
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Prepared statement cache.
+ * 
+ * <p>Prepared statement cache is owned by a connection manager, prepared statements are cached per connection held by the owner and keyed by actual SQL and result set options.
+ * A cached prepared statement is borrowed exclusively until released, released statements are reset and kept as LRU with max size of cache.
+ * Cached prepared statements of a connection are closed when the owner releases the connection,
+ * and cached prepared statements of a schema are invalidated when the schema is changed, see {@link PreparedStatementCacheVersions}.</p>
+ */
+public final class PreparedStatementCache {
+    
+    private final Map<Connection, Map<CacheKey, StatementEntry>> idleStatements = new IdentityHashMap<>();
+    
+    private final Map<Statement, StatementEntry> borrowedStatements = new IdentityHashMap<>();
+    
+    /**
+     * Get prepared statement.
+     *
+     * @param connection connection held by the owner of cache
+     * @param versions prepared statement cache versions of context manager
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param option statement option
+     * @param cacheSize max cached prepared statements size of each connection, not cache if less than or equal to 0
+     * @param creator prepared statement creator
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getPreparedStatement(final Connection connection, final PreparedStatementCacheVersions versions, final String schemaName, final String sql,
+                                                  final StatementOption option, final int cacheSize, final PreparedStatementCreator creator) throws SQLException {
+        if (cacheSize <= 0) {
+            return creator.create(connection);
+        }
+        CacheKey cacheKey = new CacheKey(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability(), option.isReturnGeneratedKeys());
+        long version = versions.getVersion(schemaName);
+        PreparedStatement result = pollIdleStatement(connection, cacheKey, version);
+        if (null == result) {
+            result = creator.create(connection);
+        }
+        synchronized (this) {
+            borrowedStatements.put(result, new StatementEntry(result, connection, cacheKey, versions, schemaName, version, cacheSize));
+        }
+        return result;
+    }
+    
+    private PreparedStatement pollIdleStatement(final Connection connection, final CacheKey cacheKey, final long version) throws SQLException {
+        Collection<Statement> staleStatements = new LinkedList<>();
+        StatementEntry result;
+        synchronized (this) {
+            Map<CacheKey, StatementEntry> statements = idleStatements.computeIfAbsent(connection, key -> new LinkedHashMap<>(16, 0.75F, true));
+            Iterator<StatementEntry> iterator = statements.values().iterator();
+            while (iterator.hasNext()) {
+                StatementEntry each = iterator.next();
+                if (each.isStale()) {
+                    staleStatements.add(each.statement);
+                    iterator.remove();
+                }
+            }
+            result = statements.remove(cacheKey);
+        }
+        if (null != result && result.version != version) {
+            staleStatements.add(result.statement);
+            result = null;
+        }
+        staleStatements.forEach(this::closeQuietly);
+        return null == result || result.statement.isClosed() ? null : result.statement;
+    }
+    
+    /**
+     * Release statement.
+     * 
+     * <p>Borrowed prepared statement is reset and returned to cache, other statement is closed.</p>
+     *
+     * @param statement statement to be released
+     * @throws SQLException SQL exception
+     */
+    public void release(final Statement statement) throws SQLException {
+        StatementEntry statementEntry;
+        synchronized (this) {
+            statementEntry = borrowedStatements.remove(statement);
+        }
+        if (null == statementEntry || statementEntry.isStale() || statement.isClosed()) {
+            statement.close();
+            return;
+        }
+        try {
+            reset((PreparedStatement) statement);
+        } catch (final SQLException ex) {
+            statement.close();
+            throw ex;
+        }
+        Collection<Statement> evictedStatements = new LinkedList<>();
+        synchronized (this) {
+            Map<CacheKey, StatementEntry> statements = idleStatements.get(statementEntry.connection);
+            if (null == statements) {
+                evictedStatements.add(statement);
+            } else {
+                StatementEntry replaced = statements.put(statementEntry.cacheKey, statementEntry);
+                if (null != replaced) {
+                    evictedStatements.add(replaced.statement);
+                } else if (statements.size() > statementEntry.cacheSize) {
+                    Iterator<StatementEntry> iterator = statements.values().iterator();
+                    evictedStatements.add(iterator.next().statement);
+                    iterator.remove();
+                }
+            }
+        }
+        evictedStatements.forEach(this::closeQuietly);
+    }
+    
+    private void reset(final PreparedStatement statement) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+        statement.clearParameters();
+        statement.clearBatch();
+        statement.clearWarnings();
+        statement.setMaxRows(0);
+        statement.setQueryTimeout(0);
+        statement.setFetchSize(0);
+    }
+    
+    /**
+     * Clear cached prepared statements of connection.
+     * 
+     * <p>Idle prepared statements are closed, borrowed prepared statements are closed when released.
+     * It should be called before the owner releases the connection.</p>
+     *
+     * @param connection connection to be released
+     */
+    public void clear(final Connection connection) {
+        Map<CacheKey, StatementEntry> statements;
+        synchronized (this) {
+            statements = idleStatements.remove(connection);
+            borrowedStatements.values().removeIf(each -> each.connection == connection);
+        }
+        if (null != statements) {
+            statements.values().forEach(each -> closeQuietly(each.statement));
+        }
+    }
+    
+    /**
+     * Clear all cached prepared statements.
+     * 
+     * <p>It should be called before the owner releases all connections.</p>
+     */
+    public void clear() {
+        Collection<StatementEntry> statements = new LinkedList<>();
+        synchronized (this) {
+            idleStatements.values().forEach(each -> statements.addAll(each.values()));
+            idleStatements.clear();
+            borrowedStatements.clear();
+        }
+        statements.forEach(each -> closeQuietly(each.statement));
+    }
+    
+    private void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    /**
+     * Prepared statement creator.
+     */
+    @FunctionalInterface
+    public interface PreparedStatementCreator {
+        
+        /**
+         * Create prepared statement.
+         *
+         * @param connection connection to create prepared statement
+         * @return created prepared statement
+         * @throws SQLException SQL exception
+         */
+        PreparedStatement create(Connection connection) throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final int resultSetType;
+        
+        private final int resultSetConcurrency;
+        
+        private final int resultSetHoldability;
+        
+        private final boolean returnGeneratedKeys;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class StatementEntry {
+        
+        private final PreparedStatement statement;
+        
+        private final Connection connection;
+        
+        private final CacheKey cacheKey;
+        
+        private final PreparedStatementCacheVersions versions;
+        
+        private final String schemaName;
+        
+        private final long version;
+        
+        private final int cacheSize;
+        
+        private boolean isStale() {
+            return version != versions.getVersion(schemaName);
+        }
+    }
+}
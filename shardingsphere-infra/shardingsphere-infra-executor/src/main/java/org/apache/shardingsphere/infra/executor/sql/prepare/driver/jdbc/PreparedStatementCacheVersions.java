@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prepared statement cache versions.
+ * 
+ * <p>Versions are owned by a context manager and shared by prepared statement caches of its connections,
+ * cached prepared statements of a schema are stale once the version of the schema changed.</p>
+ */
+public final class PreparedStatementCacheVersions {
+    
+    private final Map<String, AtomicLong> schemaVersions = new ConcurrentHashMap<>();
+    
+    /**
+     * Get version of schema.
+     *
+     * @param schemaName schema name
+     * @return version of schema
+     */
+    public long getVersion(final String schemaName) {
+        AtomicLong result = null == schemaName ? null : schemaVersions.get(schemaName);
+        return null == result ? 0L : result.get();
+    }
+    
+    /**
+     * Invalidate cached prepared statements of schema.
+     * 
+     * <p>Cached prepared statements of schema are closed when they are polled from or released to the cache.</p>
+     *
+     * @param schemaName schema name
+     */
+    public void invalidate(final String schemaName) {
+        schemaVersions.computeIfAbsent(schemaName, key -> new AtomicLong()).incrementAndGet();
+    }
+}
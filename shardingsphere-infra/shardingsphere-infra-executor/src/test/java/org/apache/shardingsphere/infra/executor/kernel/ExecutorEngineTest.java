@@ -25,14 +25,19 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -103,4 +108,44 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertParallelForceExecute() {
+        assertForceExecute(false);
+    }
+    
+    @Test
+    public void assertSerialForceExecute() {
+        assertForceExecute(true);
+    }
+    
+    @Test
+    public void assertForceExecuteAwaitsSubmittedTargetsWhenCurrentTargetThrowsRuntimeException() {
+        AtomicInteger executedCount = new AtomicInteger();
+        try {
+            executorEngine.forceExecute(Arrays.asList(1, 2, 3), each -> {
+                if (1 == each) {
+                    throw new IllegalStateException("current thread target failed");
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L));
+                executedCount.incrementAndGet();
+            }, false);
+            fail("Expected IllegalStateException.");
+        } catch (final IllegalStateException ex) {
+            assertThat(ex.getMessage(), is("current thread target failed"));
+        }
+        assertThat(executedCount.get(), is(2));
+    }
+    
+    private void assertForceExecute(final boolean serial) {
+        AtomicInteger executedCount = new AtomicInteger();
+        Collection<SQLException> actual = executorEngine.forceExecute(Arrays.asList(1, 2, 3, 4), each -> {
+            executedCount.incrementAndGet();
+            if (0 == each % 2) {
+                throw new SQLException(String.valueOf(each));
+            }
+        }, serial);
+        assertThat(executedCount.get(), is(4));
+        assertThat(actual.size(), is(2));
+    }
 }
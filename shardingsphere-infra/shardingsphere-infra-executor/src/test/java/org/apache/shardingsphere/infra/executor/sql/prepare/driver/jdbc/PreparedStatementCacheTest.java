@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
+    private final PreparedStatementCacheVersions versions = new PreparedStatementCacheVersions();
+    
+    private final StatementOption option = new StatementOption(false);
+    
+    @Test
+    public void assertGetPreparedStatementWithoutCache() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        assertThat(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 0, each -> each.prepareStatement(SQL)), is(preparedStatement));
+        preparedStatementCache.release(preparedStatement);
+        verify(preparedStatement).close();
+    }
+    
+    @Test
+    public void assertReusePreparedStatementOfHeldConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL));
+        assertThat(actual, is(preparedStatement));
+        preparedStatementCache.release(actual);
+        verify(preparedStatement, never()).close();
+        verify(preparedStatement).clearParameters();
+        assertThat(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL)), is(preparedStatement));
+        verify(connection, times(1)).prepareStatement(SQL);
+        verify(connection, never()).unwrap(any());
+    }
+    
+    @Test
+    public void assertNotSharePreparedStatementAcrossConnections() throws SQLException {
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        when(first.prepareStatement(SQL)).thenReturn(mock(PreparedStatement.class));
+        when(second.prepareStatement(SQL)).thenReturn(mock(PreparedStatement.class));
+        preparedStatementCache.release(preparedStatementCache.getPreparedStatement(first, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL)));
+        preparedStatementCache.getPreparedStatement(second, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL));
+        verify(second).prepareStatement(SQL);
+    }
+    
+    @Test
+    public void assertBorrowedPreparedStatementNotShared() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(SQL)).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class));
+        PreparedStatement first = preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL));
+        PreparedStatement second = preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL));
+        assertThat(first, not(second));
+        preparedStatementCache.release(first);
+        preparedStatementCache.release(second);
+        verify(first).close();
+        verify(second, never()).close();
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsedPreparedStatement() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(first);
+        when(connection.prepareStatement("SELECT 2")).thenReturn(second);
+        preparedStatementCache.release(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", "SELECT 1", option, 1, each -> each.prepareStatement("SELECT 1")));
+        preparedStatementCache.release(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", "SELECT 2", option, 1, each -> each.prepareStatement("SELECT 2")));
+        verify(first).close();
+        verify(second, never()).close();
+    }
+    
+    @Test
+    public void assertClearConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement idle = mock(PreparedStatement.class);
+        PreparedStatement borrowed = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(idle);
+        when(connection.prepareStatement("SELECT 2")).thenReturn(borrowed);
+        preparedStatementCache.release(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", "SELECT 1", option, 16, each -> each.prepareStatement("SELECT 1")));
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", "SELECT 2", option, 16, each -> each.prepareStatement("SELECT 2"));
+        preparedStatementCache.clear(connection);
+        verify(idle).close();
+        preparedStatementCache.release(actual);
+        verify(borrowed).close();
+    }
+    
+    @Test
+    public void assertInvalidateSchema() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement idle = mock(PreparedStatement.class);
+        PreparedStatement borrowed = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(idle, mock(PreparedStatement.class));
+        when(connection.prepareStatement("SELECT 2")).thenReturn(borrowed);
+        preparedStatementCache.release(preparedStatementCache.getPreparedStatement(connection, versions, "bar_schema", "SELECT 1", option, 16, each -> each.prepareStatement("SELECT 1")));
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, versions, "bar_schema", "SELECT 2", option, 16, each -> each.prepareStatement("SELECT 2"));
+        versions.invalidate("bar_schema");
+        preparedStatementCache.release(actual);
+        verify(borrowed).close();
+        assertThat(preparedStatementCache.getPreparedStatement(connection, versions, "bar_schema", "SELECT 1", option, 16, each -> each.prepareStatement("SELECT 1")), not(idle));
+        verify(idle).close();
+    }
+    
+    @Test
+    public void assertInvalidateOtherSchema() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        preparedStatementCache.release(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL)));
+        versions.invalidate("bar_schema");
+        assertThat(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL)), is(preparedStatement));
+        verify(preparedStatement, never()).close();
+    }
+    
+    @Test
+    public void assertInvalidateSchemaOfOtherVersions() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        preparedStatementCache.release(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL)));
+        new PreparedStatementCacheVersions().invalidate("foo_schema");
+        assertThat(preparedStatementCache.getPreparedStatement(connection, versions, "foo_schema", SQL, option, 16, each -> each.prepareStatement(SQL)), is(preparedStatement));
+        verify(preparedStatement, never()).close();
+    }
+}
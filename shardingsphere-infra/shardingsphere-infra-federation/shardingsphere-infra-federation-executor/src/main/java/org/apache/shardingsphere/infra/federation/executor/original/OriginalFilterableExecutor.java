@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutorContext;
+import org.apache.shardingsphere.infra.federation.executor.statistics.FederationStatisticsCollector;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
@@ -73,6 +74,9 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     public ResultSet executeQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
                                   final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
         LogicSQL logicSQL = federationContext.getLogicSQL();
+        if (!federationContext.isPreview()) {
+            collectStatistics(federationContext);
+        }
         Connection connection = createConnection(prepareEngine, callback, federationContext);
         PreparedStatement preparedStatement = connection.prepareStatement(SQLUtil.trimSemicolon(logicSQL.getSql()));
         setParameters(preparedStatement, logicSQL.getParameters());
@@ -80,6 +84,11 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
         return preparedStatement.executeQuery();
     }
     
+    private void collectStatistics(final FederationContext federationContext) {
+        new FederationStatisticsCollector(optimizerContext.getFederationMetaData().getSchemas().get(schemaName), 
+                optimizerContext.getPlannerContexts().get(schemaName), federationContext.getMetaDataMap().get(schemaName)).collectIfNecessary();
+    }
+    
     private Connection createConnection(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
                                         final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
         Connection result = DriverManager.getConnection(CONNECTION_URL, optimizerContext.getParserContexts().get(schemaName).getDialectProps());
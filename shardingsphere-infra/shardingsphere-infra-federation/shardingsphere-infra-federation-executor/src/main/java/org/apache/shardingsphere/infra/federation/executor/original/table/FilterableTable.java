@@ -26,8 +26,8 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
-import org.apache.shardingsphere.infra.federation.executor.original.FederationTableStatistic;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.List;
 
@@ -57,4 +57,9 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     public Statistic getStatistic() {
         return statistic;
     }
+    
+    @Override
+    public <C> C unwrap(final Class<C> clazz) {
+        return clazz.isInstance(metaData) ? clazz.cast(metaData) : super.unwrap(clazz);
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.statistics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Federation statistics collector.
+ * 
+ * <p>Row count and distinct count of columns are counted on a sample of actual data nodes and extrapolated to all data nodes of the logic table.
+ * Summed distinct counts are exact for sharding columns and an upper bound for other columns.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class FederationStatisticsCollector {
+    
+    private static final long COLLECT_INTERVAL_MILLIS = 10 * 60 * 1000L;
+    
+    private static final int MAX_SAMPLED_DATA_NODES = 4;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Federation-Statistics-%d"));
+    
+    private final FederationSchemaMetaData schemaMetaData;
+    
+    private final OptimizerPlannerContext plannerContext;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    /**
+     * Collect statistics in background if collect interval elapsed since last collection.
+     */
+    public void collectIfNecessary() {
+        if (plannerContext.tryStartStatisticsCollection(COLLECT_INTERVAL_MILLIS)) {
+            EXECUTOR_SERVICE.execute(this::collect);
+        }
+    }
+    
+    /**
+     * Collect statistics of all tables.
+     */
+    public void collect() {
+        for (FederationTableMetaData each : schemaMetaData.getTables().values()) {
+            try {
+                collect(each);
+            } catch (final SQLException ex) {
+                log.warn("Collect statistics of table `{}` failed.", each.getName(), ex);
+            }
+        }
+    }
+    
+    private void collect(final FederationTableMetaData tableMetaData) throws SQLException {
+        List<DataNode> dataNodes = getDataNodes(tableMetaData.getName());
+        if (dataNodes.isEmpty()) {
+            return;
+        }
+        List<DataNode> sampledDataNodes = sample(dataNodes);
+        List<String> columnNames = tableMetaData.getColumnNames();
+        long rowCount = 0L;
+        long[] distinctCounts = new long[columnNames.size()];
+        for (DataNode each : sampledDataNodes) {
+            try (
+                    Connection connection = getDataSource(each.getDataSourceName()).getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(createStatisticsSQL(each.getTableName(), columnNames))) {
+                if (resultSet.next()) {
+                    rowCount += resultSet.getLong(1);
+                    for (int i = 0; i < distinctCounts.length; i++) {
+                        distinctCounts[i] += resultSet.getLong(i + 2);
+                    }
+                }
+            }
+        }
+        double scale = (double) dataNodes.size() / sampledDataNodes.size();
+        double estimatedRowCount = rowCount * scale;
+        Map<String, Double> estimatedDistinctCounts = new HashMap<>(columnNames.size(), 1);
+        for (int i = 0; i < distinctCounts.length; i++) {
+            estimatedDistinctCounts.put(columnNames.get(i), Math.min(distinctCounts[i] * scale, estimatedRowCount));
+        }
+        plannerContext.updateStatistics(tableMetaData, estimatedRowCount, estimatedDistinctCounts);
+    }
+    
+    private List<DataNode> getDataNodes(final String tableName) {
+        for (DataNodeContainedRule each : metaData.getRuleMetaData().findRules(DataNodeContainedRule.class)) {
+            Collection<DataNode> result = each.getDataNodesByTableName(tableName);
+            if (!result.isEmpty()) {
+                return result.stream().filter(dataNode -> findDataSource(dataNode.getDataSourceName()).isPresent()).collect(Collectors.toList());
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private List<DataNode> sample(final List<DataNode> dataNodes) {
+        if (dataNodes.size() <= MAX_SAMPLED_DATA_NODES) {
+            return dataNodes;
+        }
+        List<DataNode> result = new ArrayList<>(MAX_SAMPLED_DATA_NODES);
+        for (int i = 0; i < MAX_SAMPLED_DATA_NODES; i++) {
+            result.add(dataNodes.get(i * dataNodes.size() / MAX_SAMPLED_DATA_NODES));
+        }
+        return result;
+    }
+    
+    private DataSource getDataSource(final String dataSourceName) throws SQLException {
+        return findDataSource(dataSourceName).orElseThrow(() -> new SQLException(String.format("Can not find data source `%s`.", dataSourceName)));
+    }
+    
+    private Optional<DataSource> findDataSource(final String dataSourceName) {
+        Map<String, DataSource> dataSources = metaData.getResource().getDataSources();
+        if (dataSources.containsKey(dataSourceName)) {
+            return Optional.of(dataSources.get(dataSourceName));
+        }
+        for (DataSourceContainedRule each : metaData.getRuleMetaData().findRules(DataSourceContainedRule.class)) {
+            Collection<String> actualDataSourceNames = each.getDataSourceMapper().getOrDefault(dataSourceName, Collections.emptyList());
+            Optional<DataSource> result = actualDataSourceNames.stream().filter(dataSources::containsKey).findFirst().map(dataSources::get);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private String createStatisticsSQL(final String actualTableName, final List<String> columnNames) {
+        QuoteCharacter quoteCharacter = metaData.getResource().getDatabaseType().getQuoteCharacter();
+        StringBuilder result = new StringBuilder("SELECT COUNT(*)");
+        for (String each : columnNames) {
+            result.append(", COUNT(DISTINCT ").append(quoteCharacter.wrap(each)).append(')');
+        }
+        return result.append(" FROM ").append(quoteCharacter.wrap(actualTableName)).toString();
+    }
+}
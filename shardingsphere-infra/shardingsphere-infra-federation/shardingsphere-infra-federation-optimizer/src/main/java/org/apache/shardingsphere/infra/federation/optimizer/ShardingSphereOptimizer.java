@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelCollation;
@@ -28,6 +29,8 @@ import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelRoot;
 import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlNode;
@@ -37,11 +40,13 @@ import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.Pair;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ShardingSphere optimizer.
@@ -60,20 +65,37 @@ public final class ShardingSphereOptimizer {
      * @return optimized relational node
      */
     public RelNode optimize(final String schemaName, final SQLStatement sqlStatement) {
+        OptimizerPlannerContext plannerContext = context.getPlannerContexts().get(schemaName);
         try {
             SqlNode sqlNode = SQLNodeConverterEngine.convertToSQLNode(sqlStatement);
-            SqlNode validNode = context.getPlannerContexts().get(schemaName).getValidator().validate(sqlNode);
-            RelDataType resultType = context.getPlannerContexts().get(schemaName).getValidator().getValidatedNodeType(sqlNode);
-            RelNode queryPlan = context.getPlannerContexts().get(schemaName).getConverter().convertQuery(validNode, false, true).rel;
-            return optimize(schemaName, queryPlan, resultType);
+            String normalizedSQL = sqlNode.toString();
+            long schemaVersion = plannerContext.getSchemaVersion();
+            Optional<RelNode> cachedPlan = plannerContext.findPlan(normalizedSQL, schemaVersion);
+            if (cachedPlan.isPresent()) {
+                return cachedPlan.get();
+            }
+            RelNode result = optimize(plannerContext, sqlNode);
+            plannerContext.cachePlan(normalizedSQL, schemaVersion, result);
+            return result;
         } catch (final UnsupportedOperationException ex) {
             throw new ShardingSphereException(ex);
         }
     }
     
-    private RelNode optimize(final String schemaName, final RelNode queryPlan, final RelDataType resultType) {
-        RelOptPlanner planner = context.getPlannerContexts().get(schemaName).getConverter().getCluster().getPlanner();
-        RelNode node = planner.changeTraits(queryPlan, context.getPlannerContexts().get(schemaName).getConverter().getCluster().traitSet().replace(EnumerableConvention.INSTANCE));
+    private RelNode optimize(final OptimizerPlannerContext plannerContext, final SqlNode sqlNode) {
+        RelOptCluster cluster = plannerContext.getConverter().getCluster();
+        RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.of(cluster.getMetadataProvider()));
+        cluster.invalidateMetadataQuery();
+        SqlNode validNode = plannerContext.getValidator().validate(sqlNode);
+        RelDataType resultType = plannerContext.getValidator().getValidatedNodeType(sqlNode);
+        RelNode queryPlan = plannerContext.getConverter().convertQuery(validNode, false, true).rel;
+        return optimize(plannerContext, queryPlan, resultType);
+    }
+    
+    private RelNode optimize(final OptimizerPlannerContext plannerContext, final RelNode queryPlan, final RelDataType resultType) {
+        RelOptCluster cluster = plannerContext.getConverter().getCluster();
+        RelOptPlanner planner = cluster.getPlanner();
+        RelNode node = planner.changeTraits(queryPlan, cluster.traitSet().replace(EnumerableConvention.INSTANCE));
         RelRoot root = constructRoot(node, resultType);
         Program program = Programs.standard();
         return program.run(planner, root.rel, getDesireRootTraitSet(root), ImmutableList.of(), ImmutableList.of());
@@ -17,10 +17,22 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationSchema;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Optimize planner context.
@@ -29,7 +41,118 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 @Getter
 public final class OptimizerPlannerContext {
     
+    private static final int PLAN_CACHE_MAXIMUM_SIZE = 1024;
+    
     private final SqlValidator validator;
     
     private final SqlToRelConverter converter;
+    
+    private final FederationSchema schema;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong schemaVersion = new AtomicLong();
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong statisticsCollectedMillis = new AtomicLong();
+    
+    @Getter(AccessLevel.NONE)
+    private final Cache<PlanCacheKey, RelNode> planCache = CacheBuilder.newBuilder().softValues().maximumSize(PLAN_CACHE_MAXIMUM_SIZE).build();
+    
+    /**
+     * Add table and move to next schema version.
+     * 
+     * @param tableMetaData federation table meta data to be updated
+     */
+    public void putTable(final FederationTableMetaData tableMetaData) {
+        schema.put(tableMetaData);
+        schemaVersion.incrementAndGet();
+    }
+    
+    /**
+     * Remove table and move to next schema version.
+     * 
+     * @param tableName table name to be removed
+     */
+    public void removeTable(final String tableName) {
+        schema.remove(tableName);
+        schemaVersion.incrementAndGet();
+    }
+    
+    /**
+     * Alter tables to altered schema meta data and move to next schema version if any table is changed.
+     * 
+     * @param schemaMetaData altered federation schema meta data
+     */
+    public void alterSchema(final FederationSchemaMetaData schemaMetaData) {
+        if (schema.alter(schemaMetaData)) {
+            schemaVersion.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Update statistics of table and move to next schema version if statistics changed materially.
+     * 
+     * @param tableMetaData federation table meta data to be updated
+     * @param rowCount row count
+     * @param distinctCounts distinct counts, key is column name, value is number of distinct values
+     */
+    public void updateStatistics(final FederationTableMetaData tableMetaData, final double rowCount, final Map<String, Double> distinctCounts) {
+        if (tableMetaData.updateStatistics(rowCount, distinctCounts)) {
+            schemaVersion.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Try to start statistics collection, at most once per interval.
+     * 
+     * @param intervalMillis minimum interval between two collections in milliseconds
+     * @return whether the caller should collect statistics now
+     */
+    public boolean tryStartStatisticsCollection(final long intervalMillis) {
+        long lastCollectedMillis = statisticsCollectedMillis.get();
+        long currentMillis = System.currentTimeMillis();
+        return currentMillis - lastCollectedMillis >= intervalMillis && statisticsCollectedMillis.compareAndSet(lastCollectedMillis, currentMillis);
+    }
+    
+    /**
+     * Get schema version, which changes whenever a table of schema is put, removed, altered or its statistics change materially.
+     * 
+     * @return schema version
+     */
+    public long getSchemaVersion() {
+        return schemaVersion.get();
+    }
+    
+    /**
+     * Find cached plan.
+     * 
+     * @param sql normalized SQL
+     * @param schemaVersion schema version
+     * @return cached plan
+     */
+    public Optional<RelNode> findPlan(final String sql, final long schemaVersion) {
+        return Optional.ofNullable(planCache.getIfPresent(new PlanCacheKey(sql, schemaVersion)));
+    }
+    
+    /**
+     * Cache plan.
+     *
+     * <p>Plans cached with an earlier schema version are never hit again and are evicted as the cache fills.</p>
+     * 
+     * @param sql normalized SQL
+     * @param schemaVersion schema version the plan was built on
+     * @param plan plan
+     */
+    public void cachePlan(final String sql, final long schemaVersion, final RelNode plan) {
+        planCache.put(new PlanCacheKey(sql, schemaVersion), plan);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PlanCacheKey {
+        
+        private final String sql;
+        
+        private final long schemaVersion;
+    }
 }
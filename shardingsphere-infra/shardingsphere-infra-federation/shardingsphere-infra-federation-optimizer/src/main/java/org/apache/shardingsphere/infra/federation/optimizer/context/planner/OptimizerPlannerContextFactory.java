@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
 
+import com.google.common.collect.ImmutableList;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.calcite.config.CalciteConnectionConfig;
@@ -27,6 +28,8 @@ import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable.ViewExpander;
 import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.schema.Schema;
@@ -38,6 +41,7 @@ import org.apache.calcite.sql2rel.SqlToRelConverter.Config;
 import org.apache.calcite.sql2rel.StandardConvertletTable;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationRelMdDistinctRowCount;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationSchema;
 import org.apache.shardingsphere.infra.federation.optimizer.planner.QueryOptimizePlannerFactory;
 
@@ -69,7 +73,7 @@ public final class OptimizerPlannerContextFactory {
             CalciteCatalogReader catalogReader = createCatalogReader(schemaName, federationSchema, relDataTypeFactory, connectionConfig);
             SqlValidator validator = createValidator(catalogReader, relDataTypeFactory, connectionConfig);
             SqlToRelConverter converter = createConverter(catalogReader, validator, relDataTypeFactory);
-            result.put(schemaName, new OptimizerPlannerContext(validator, converter));
+            result.put(schemaName, new OptimizerPlannerContext(validator, converter, federationSchema));
         }
         return result;
     }
@@ -87,7 +91,7 @@ public final class OptimizerPlannerContextFactory {
         CalciteCatalogReader catalogReader = createCatalogReader(schemaMetaData.getName(), federationSchema, relDataTypeFactory, connectionConfig);
         SqlValidator validator = createValidator(catalogReader, relDataTypeFactory, connectionConfig);
         SqlToRelConverter converter = createConverter(catalogReader, validator, relDataTypeFactory);
-        return new OptimizerPlannerContext(validator, converter);
+        return new OptimizerPlannerContext(validator, converter, federationSchema);
     }
     
     private static Properties createConnectionProperties() {
@@ -98,7 +102,7 @@ public final class OptimizerPlannerContextFactory {
     
     private static CalciteCatalogReader createCatalogReader(final String schemaName, 
                                                             final Schema schema, final RelDataTypeFactory relDataTypeFactory, final CalciteConnectionConfig connectionConfig) {
-        CalciteSchema rootSchema = CalciteSchema.createRootSchema(true);
+        CalciteSchema rootSchema = CalciteSchema.createRootSchema(true, false);
         rootSchema.add(schemaName, schema);
         return new CalciteCatalogReader(rootSchema, Collections.singletonList(schemaName), relDataTypeFactory, connectionConfig);
     }
@@ -116,6 +120,7 @@ public final class OptimizerPlannerContextFactory {
         ViewExpander expander = (rowType, queryString, schemaPath, viewPath) -> null;
         Config converterConfig = SqlToRelConverter.config().withTrimUnusedFields(true);
         RelOptCluster cluster = RelOptCluster.create(QueryOptimizePlannerFactory.newInstance(), new RexBuilder(relDataTypeFactory));
+        cluster.setMetadataProvider(ChainedRelMetadataProvider.of(ImmutableList.of(FederationRelMdDistinctRowCount.SOURCE, DefaultRelMetadataProvider.INSTANCE)));
         return new SqlToRelConverter(expander, validator, catalogReader, cluster, StandardConvertletTable.INSTANCE, converterConfig);
     }
 }
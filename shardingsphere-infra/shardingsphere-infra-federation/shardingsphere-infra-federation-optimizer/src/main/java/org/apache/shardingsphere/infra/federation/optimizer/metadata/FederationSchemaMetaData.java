@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.federation.optimizer.metadata;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,9 +47,31 @@ public final class FederationSchemaMetaData {
      * Add table meta data.
      * 
      * @param metaData table meta data to be updated
+     * @return federation table meta data
      */
-    public void put(final TableMetaData metaData) {
-        tables.put(metaData.getName().toLowerCase(), new FederationTableMetaData(metaData.getName(), metaData));
+    public FederationTableMetaData put(final TableMetaData metaData) {
+        FederationTableMetaData result = new FederationTableMetaData(metaData.getName(), metaData);
+        tables.put(metaData.getName().toLowerCase(), result);
+        return result;
+    }
+    
+    /**
+     * Create altered schema meta data with copy on write.
+     *
+     * <p>Federation table meta data of unchanged tables are shared with this schema meta data, so that planner and executor read the same instances.</p>
+     *
+     * @param originalTables original table meta data, key is table name
+     * @param alteredTables altered table meta data, key is table name
+     * @return altered schema meta data
+     */
+    public FederationSchemaMetaData alter(final Map<String, TableMetaData> originalTables, final Map<String, TableMetaData> alteredTables) {
+        FederationSchemaMetaData result = new FederationSchemaMetaData(name, Collections.emptyMap());
+        for (Entry<String, TableMetaData> entry : alteredTables.entrySet()) {
+            FederationTableMetaData originalTableMetaData = tables.get(entry.getKey().toLowerCase());
+            boolean unchanged = null != originalTableMetaData && entry.getValue().equals(originalTables.get(entry.getKey()));
+            result.tables.put(entry.getKey().toLowerCase(), unchanged ? originalTableMetaData : new FederationTableMetaData(entry.getValue().getName(), entry.getValue()));
+        }
+        return result;
     }
     
     /**
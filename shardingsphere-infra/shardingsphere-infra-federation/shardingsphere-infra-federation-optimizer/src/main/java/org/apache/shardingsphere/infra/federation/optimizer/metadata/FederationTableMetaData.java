@@ -26,10 +26,14 @@ import org.apache.calcite.rel.type.RelDataTypeImpl;
 import org.apache.calcite.rel.type.RelDataTypeSystem;
 import org.apache.calcite.rel.type.RelProtoDataType;
 import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -40,16 +44,63 @@ public final class FederationTableMetaData {
     
     private static final RelDataTypeFactory REL_DATA_TYPE_FACTORY = new SqlTypeFactoryImpl(RelDataTypeSystem.DEFAULT);   
     
+    private static final double MATERIAL_CHANGE_RATIO = 2D;
+    
     private final String name;
     
     private final RelProtoDataType relProtoDataType;
     
     private final List<String> columnNames;
     
+    private final List<ImmutableBitSet> keys;
+    
+    private volatile Double rowCount;
+    
+    private volatile Map<String, Double> distinctCounts = Collections.emptyMap();
+    
     public FederationTableMetaData(final String name, final TableMetaData tableMetaData) {
         this.name = name;
         relProtoDataType = createRelProtoDataType(tableMetaData);
         columnNames = tableMetaData.getColumns().values().stream().map(ColumnMetaData::getName).collect(Collectors.toList());
+        keys = createKeys(tableMetaData);
+    }
+    
+    private List<ImmutableBitSet> createKeys(final TableMetaData tableMetaData) {
+        ImmutableBitSet.Builder builder = ImmutableBitSet.builder();
+        int index = 0;
+        for (ColumnMetaData each : tableMetaData.getColumns().values()) {
+            if (each.isPrimaryKey()) {
+                builder.set(index);
+            }
+            index++;
+        }
+        ImmutableBitSet primaryKey = builder.build();
+        return primaryKey.isEmpty() ? Collections.emptyList() : Collections.singletonList(primaryKey);
+    }
+    
+    /**
+     * Update statistics collected from actual data nodes.
+     * 
+     * @param rowCount row count
+     * @param distinctCounts distinct counts, key is column name, value is number of distinct values
+     * @return whether statistics changed materially and plans built on previous statistics should be abandoned
+     */
+    public boolean updateStatistics(final double rowCount, final Map<String, Double> distinctCounts) {
+        Map<String, Double> previousDistinctCounts = this.distinctCounts;
+        boolean result = isMaterialChanged(this.rowCount, rowCount)
+                || distinctCounts.entrySet().stream().anyMatch(each -> isMaterialChanged(previousDistinctCounts.get(each.getKey()), each.getValue()));
+        this.distinctCounts = Collections.unmodifiableMap(new HashMap<>(distinctCounts));
+        this.rowCount = rowCount;
+        return result;
+    }
+    
+    private boolean isMaterialChanged(final Double previous, final double current) {
+        if (null == previous) {
+            return true;
+        }
+        double larger = Math.max(previous, current);
+        double smaller = Math.min(previous, current);
+        return larger > smaller * MATERIAL_CHANGE_RATIO + 1;
     }
     
     private RelProtoDataType createRelProtoDataType(final TableMetaData tableMetaData) {
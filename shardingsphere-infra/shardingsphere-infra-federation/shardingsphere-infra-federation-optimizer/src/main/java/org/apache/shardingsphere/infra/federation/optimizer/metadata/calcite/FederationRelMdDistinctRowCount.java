@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Distinct row count meta data handler of federation table scan, which uses distinct counts collected from actual data nodes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederationRelMdDistinctRowCount implements MetadataHandler<BuiltInMetadata.DistinctRowCount> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(BuiltInMethod.DISTINCT_ROW_COUNT.method, new FederationRelMdDistinctRowCount());
+    
+    @Override
+    public MetadataDef<BuiltInMetadata.DistinctRowCount> getDef() {
+        return BuiltInMetadata.DistinctRowCount.DEF;
+    }
+    
+    /**
+     * Get distinct row count of table scan.
+     * 
+     * @param rel table scan
+     * @param mq meta data query
+     * @param groupKey column indexes to group by
+     * @param predicate predicate applied on table scan
+     * @return distinct row count, null if unknown
+     */
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        if (groupKey.isEmpty()) {
+            return 1D;
+        }
+        Double rowCount = mq.getRowCount(rel);
+        Double selectivity = mq.getSelectivity(rel, predicate);
+        if (null == rowCount || null == selectivity) {
+            return null;
+        }
+        Optional<Double> distinctCount = findDistinctCount(rel, groupKey);
+        if (distinctCount.isPresent()) {
+            return RelMdUtil.numDistinctVals(Math.min(distinctCount.get(), rowCount), rowCount * selectivity);
+        }
+        return RelMdUtil.areColumnsDefinitelyUnique(mq, rel, groupKey) ? rowCount * selectivity : null;
+    }
+    
+    private Optional<Double> findDistinctCount(final TableScan rel, final ImmutableBitSet groupKey) {
+        FederationTableMetaData metaData = rel.getTable().unwrap(FederationTableMetaData.class);
+        if (null == metaData) {
+            return Optional.empty();
+        }
+        List<String> fieldNames = rel.getRowType().getFieldNames();
+        double result = 1D;
+        for (int each : groupKey) {
+            Double distinctCount = metaData.getDistinctCounts().get(fieldNames.get(each));
+            if (null == distinctCount) {
+                return Optional.empty();
+            }
+            result *= distinctCount;
+        }
+        return Optional.of(result);
+    }
+}
@@ -20,29 +20,80 @@ package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
 import lombok.Getter;
 import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
-import org.apache.commons.collections4.map.LinkedMap;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Federation schema.
+ *
+ * <p>Table map is copy on write, so that planner always reads a consistent snapshot of tables.</p>
  */
 @Getter
 public final class FederationSchema extends AbstractSchema {
     
-    private final Map<String, Table> tableMap;
+    private volatile Map<String, Table> tableMap;
     
     public FederationSchema(final FederationSchemaMetaData metaData) {
         tableMap = getTableMap(metaData);
     }
     
     private Map<String, Table> getTableMap(final FederationSchemaMetaData metaData) {
-        Map<String, Table> result = new LinkedMap<>(metaData.getTables().size(), 1);
+        Map<String, Table> result = new LinkedHashMap<>(metaData.getTables().size(), 1);
         for (FederationTableMetaData each : metaData.getTables().values()) {
             result.put(each.getName(), new FederationTable(each));
         }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Add table.
+     * 
+     * @param metaData federation table meta data to be updated
+     */
+    public synchronized void put(final FederationTableMetaData metaData) {
+        Map<String, Table> result = copyTableMapWithout(metaData.getName());
+        result.put(metaData.getName(), new FederationTable(metaData));
+        tableMap = Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Remove table.
+     * 
+     * @param tableName table name to be removed
+     */
+    public synchronized void remove(final String tableName) {
+        tableMap = Collections.unmodifiableMap(copyTableMapWithout(tableName));
+    }
+    
+    private Map<String, Table> copyTableMapWithout(final String tableName) {
+        Map<String, Table> result = new LinkedHashMap<>(tableMap);
+        result.keySet().removeIf(each -> each.equalsIgnoreCase(tableName));
         return result;
     }
+    
+    /**
+     * Alter tables to altered schema meta data, tables whose federation table meta data are not changed are reused.
+     * 
+     * @param metaData altered federation schema meta data
+     * @return whether any table is changed or not
+     */
+    public synchronized boolean alter(final FederationSchemaMetaData metaData) {
+        Map<String, Table> result = new LinkedHashMap<>(metaData.getTables().size(), 1);
+        boolean changed = tableMap.size() != metaData.getTables().size();
+        for (FederationTableMetaData each : metaData.getTables().values()) {
+            Table originalTable = tableMap.get(each.getName());
+            if (originalTable instanceof FederationTable && each == ((FederationTable) originalTable).getMetaData()) {
+                result.put(each.getName(), originalTable);
+            } else {
+                result.put(each.getName(), new FederationTable(each));
+                changed = true;
+            }
+        }
+        tableMap = Collections.unmodifiableMap(result);
+        return changed;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.Enumerable;
@@ -24,6 +25,7 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 
@@ -35,6 +37,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class FederationTable extends AbstractTable implements ProjectableFilterableTable {
     
+    @Getter
     private final FederationTableMetaData metaData;
     
     @Override
@@ -42,8 +45,18 @@ public final class FederationTable extends AbstractTable implements ProjectableF
         return metaData.getRelProtoDataType().apply(typeFactory);
     }
     
+    @Override
+    public Statistic getStatistic() {
+        return new FederationTableStatistic(metaData);
+    }
+    
     @Override
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
         return null;
     }
+    
+    @Override
+    public <C> C unwrap(final Class<C> clazz) {
+        return clazz.isInstance(metaData) ? clazz.cast(metaData) : super.unwrap(clazz);
+    }
 }
@@ -15,47 +15,53 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.infra.federation.executor.original;
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
 
-import java.util.ArrayList;
-import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Statistic of federation table.
  */
+@RequiredArgsConstructor
 public final class FederationTableStatistic implements Statistic {
     
+    private final FederationTableMetaData metaData;
+    
     @Override
     public Double getRowCount() {
-        return Statistic.super.getRowCount();
+        return null == metaData.getRowCount() ? Statistic.super.getRowCount() : metaData.getRowCount();
     }
-
+    
     @Override
     public boolean isKey(final ImmutableBitSet columns) {
-        return Statistic.super.isKey(columns);
+        return metaData.getKeys().stream().anyMatch(columns::contains);
     }
-
+    
     @Override
     public List<ImmutableBitSet> getKeys() {
-        return Statistic.super.getKeys();
+        return metaData.getKeys();
     }
-
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
     }
-
+    
     @Override
     public List<RelCollation> getCollations() {
         return new ArrayList<>();
     }
-
+    
     @Override
     public RelDistribution getDistribution() {
         return RelDistributionTraitDef.INSTANCE.getDefault();
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer;
 
+import org.apache.calcite.rel.RelNode;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
@@ -45,6 +47,8 @@ import java.util.LinkedList;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -286,4 +290,29 @@ public final class ShardingSphereOptimizerTest {
             + "          BindableTableScan(table=[[federate_jdbc,t_user_info]],filters=[[=(CAST($1):VARCHAR,'after')]],projects=[[0]])";
         assertThat(actual.replaceAll("\\s*", ""), is(expected.replaceAll("\\s*", "")));
     }
+    
+    @Test
+    public void assertOptimizeWithCachedPlan() {
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
+            DatabaseTypeRegistry.getTrunkDatabaseTypeName(new H2DatabaseType()), sqlParserRule);
+        RelNode expected = optimizer.optimize(schemaName, sqlParserEngine.parse(SELECT_WHERE_SINGLE_FIELD, false));
+        assertThat(optimizer.optimize(schemaName, sqlParserEngine.parse(SELECT_WHERE_SINGLE_FIELD, false)), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertOptimizeWithDifferentSQL() {
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
+            DatabaseTypeRegistry.getTrunkDatabaseTypeName(new H2DatabaseType()), sqlParserRule);
+        RelNode expected = optimizer.optimize(schemaName, sqlParserEngine.parse(SELECT_WHERE_SINGLE_FIELD, false));
+        assertThat(optimizer.optimize(schemaName, sqlParserEngine.parse(SELECT_WHERE_ALL_FIELDS, false)), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertOptimizeAfterTableChanged() {
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
+            DatabaseTypeRegistry.getTrunkDatabaseTypeName(new H2DatabaseType()), sqlParserRule);
+        RelNode expected = optimizer.optimize(schemaName, sqlParserEngine.parse(SELECT_WHERE_SINGLE_FIELD, false));
+        optimizer.getContext().getPlannerContexts().get(schemaName).putTable(new FederationTableMetaData("t_user_info", createUserInfoTableMetaData()));
+        assertThat(optimizer.optimize(schemaName, sqlParserEngine.parse(SELECT_WHERE_SINGLE_FIELD, false)), not(sameInstance(expected)));
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.schema.Table;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationSchemaTest {
+    
+    @Test
+    public void assertPutTable() {
+        FederationSchema schema = new FederationSchema(new FederationSchemaMetaData("foo_schema", Collections.emptyMap()));
+        schema.put(new FederationTableMetaData("T_Order", new TableMetaData("T_Order")));
+        assertThat(schema.getTableMap().size(), is(1));
+        assertTrue(schema.getTableMap().containsKey("T_Order"));
+    }
+    
+    @Test
+    public void assertPutTableWithDifferentCase() {
+        FederationSchema schema = new FederationSchema(new FederationSchemaMetaData("foo_schema", Collections.singletonMap("t_order", new TableMetaData("t_order"))));
+        schema.put(new FederationTableMetaData("T_Order", new TableMetaData("T_Order")));
+        assertThat(schema.getTableMap().size(), is(1));
+        assertTrue(schema.getTableMap().containsKey("T_Order"));
+    }
+    
+    @Test
+    public void assertRemoveMixedCaseTable() {
+        FederationSchema schema = new FederationSchema(new FederationSchemaMetaData("foo_schema", Collections.singletonMap("t_order", new TableMetaData("T_Order"))));
+        schema.remove("T_ORDER");
+        assertTrue(schema.getTableMap().isEmpty());
+    }
+    
+    @Test
+    public void assertAlterWithUnchangedTable() {
+        FederationSchemaMetaData originalMetaData = new FederationSchemaMetaData("foo_schema", Collections.singletonMap("t_order", new TableMetaData("t_order")));
+        FederationSchema schema = new FederationSchema(originalMetaData);
+        Table originalTable = schema.getTableMap().get("t_order");
+        Map<String, TableMetaData> originalTables = Collections.singletonMap("t_order", new TableMetaData("t_order"));
+        assertFalse(schema.alter(originalMetaData.alter(originalTables, originalTables)));
+        assertThat(schema.getTableMap().get("t_order"), sameInstance(originalTable));
+    }
+    
+    @Test
+    public void assertAlterWithChangedTable() {
+        FederationSchemaMetaData originalMetaData = new FederationSchemaMetaData("foo_schema", Collections.singletonMap("t_order", new TableMetaData("t_order")));
+        FederationSchema schema = new FederationSchema(originalMetaData);
+        Map<String, TableMetaData> alteredTables = Collections.singletonMap("t_order_item", new TableMetaData("t_order_item"));
+        FederationSchemaMetaData alteredMetaData = originalMetaData.alter(Collections.singletonMap("t_order", new TableMetaData("t_order")), alteredTables);
+        assertTrue(schema.alter(alteredMetaData));
+        assertThat(schema.getTableMap().size(), is(1));
+        assertThat(((FederationTable) schema.getTableMap().get("t_order_item")).getMetaData(), sameInstance(alteredMetaData.getTables().get("t_order_item")));
+        assertTrue(originalMetaData.getTables().containsKey("t_order"));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationTableStatisticTest {
+    
+    private final FederationTableMetaData metaData = new FederationTableMetaData("t_order", new TableMetaData("t_order",
+            Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList()));
+    
+    @Test
+    public void assertGetRowCountWithoutCollectedRowCount() {
+        assertNull(new FederationTable(metaData).getStatistic().getRowCount());
+    }
+    
+    @Test
+    public void assertGetRowCountWithCollectedRowCount() {
+        metaData.updateStatistics(10D, Collections.singletonMap("status", 3D));
+        assertThat(new FederationTable(metaData).getStatistic().getRowCount(), is(10D));
+        assertThat(new FederationTable(metaData).unwrap(FederationTableMetaData.class).getDistinctCounts().get("status"), is(3D));
+    }
+    
+    @Test
+    public void assertUpdateStatisticsWithMaterialChange() {
+        assertTrue(metaData.updateStatistics(100D, Collections.singletonMap("status", 3D)));
+        assertFalse(metaData.updateStatistics(150D, Collections.singletonMap("status", 4D)));
+        assertTrue(metaData.updateStatistics(1000D, Collections.singletonMap("status", 4D)));
+        assertTrue(metaData.updateStatistics(1000D, Collections.singletonMap("status", 40D)));
+    }
+    
+    @Test
+    public void assertIsKey() {
+        FederationTableStatistic statistic = new FederationTableStatistic(metaData);
+        assertThat(statistic.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(0))));
+        assertTrue(statistic.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(statistic.isKey(ImmutableBitSet.of(1)));
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCache;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -61,8 +62,11 @@ public final class BatchPreparedStatementExecutor {
     
     private final String schemaName;
     
-    public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String schemaName) {
+    private final PreparedStatementCache preparedStatementCache;
+    
+    public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String schemaName, final PreparedStatementCache preparedStatementCache) {
         this.schemaName = schemaName;
+        this.preparedStatementCache = preparedStatementCache;
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
@@ -255,7 +259,7 @@ public final class BatchPreparedStatementExecutor {
     
     private void closeStatements() throws SQLException {
         for (Statement each : getStatements()) {
-            each.close();
+            preparedStatementCache.release(each);
         }
     }
 }
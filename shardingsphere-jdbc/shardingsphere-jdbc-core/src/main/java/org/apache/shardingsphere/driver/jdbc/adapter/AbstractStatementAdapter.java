@@ -180,7 +180,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
-            forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
+            forceExecuteTemplate.execute((Collection) getRoutedStatements(), this::releaseRoutedStatement);
             if (null != getExecutor()) {
                 getExecutor().close();
             }
@@ -189,6 +189,16 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         }
     }
     
+    /**
+     * Release routed statement.
+     * 
+     * @param statement routed statement to be released
+     * @throws SQLException SQL exception
+     */
+    protected void releaseRoutedStatement(final Statement statement) throws SQLException {
+        statement.close();
+    }
+    
     protected abstract boolean isAccumulate();
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
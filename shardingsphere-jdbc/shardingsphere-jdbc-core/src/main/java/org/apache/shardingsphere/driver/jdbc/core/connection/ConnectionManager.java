@@ -23,12 +23,14 @@ import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.Getter;
+import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
-import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCache;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.infra.instance.definition.InstanceId;
@@ -52,6 +54,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,7 +80,16 @@ public final class ConnectionManager implements ExecutorJDBCManager, AutoCloseab
     
     private final Random random = new SecureRandom();
     
+    private final ContextManager contextManager;
+    
+    private final String schema;
+    
+    @Getter
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
     public ConnectionManager(final String schema, final ContextManager contextManager) {
+        this.contextManager = contextManager;
+        this.schema = schema;
         dataSourceMap.putAll(contextManager.getDataSourceMap(schema));
         dataSourceMap.putAll(getTrafficDataSourceMap(schema, contextManager));
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(schema));
@@ -95,7 +107,7 @@ public final class ConnectionManager implements ExecutorJDBCManager, AutoCloseab
         DataSourceProperties dataSourcePropsSample = dataSourcePropsMap.values().iterator().next();
         Collection<ShardingSphereUser> users = metaDataPersistService.get().getGlobalRuleService().loadUsers();
         Collection<ComputeNodeInstance> instances = metaDataPersistService.get().getComputeNodePersistService().loadComputeNodeInstances(InstanceType.PROXY, trafficRule.get().getLabels());
-        return DataSourcePoolCreator.create(createDataSourcePropertiesMap(instances, users, dataSourcePropsSample, schema));
+        return TrafficDataSourceRegistry.getDataSources(contextManager, schema, createDataSourcePropertiesMap(instances, users, dataSourcePropsSample, schema));
     }
     
     private Map<String, DataSourceProperties> createDataSourcePropertiesMap(final Collection<ComputeNodeInstance> instances, final Collection<ShardingSphereUser> users,
@@ -122,7 +134,14 @@ public final class ConnectionManager implements ExecutorJDBCManager, AutoCloseab
         InstanceId instanceId = instance.getInstanceDefinition().getInstanceId();
         String jdbcUrlPrefix = jdbcUrl.substring(0, jdbcUrl.indexOf("//"));
         String jdbcUrlSuffix = jdbcUrl.contains("?") ? jdbcUrl.substring(jdbcUrl.indexOf("?")) : "";
-        return String.format("%s//%s:%s/%s%s", jdbcUrlPrefix, instanceId.getIp(), instanceId.getUniqueSign(), schema, jdbcUrlSuffix);
+        return appendPreparedStatementCacheParameters(String.format("%s//%s:%s/%s%s", jdbcUrlPrefix, instanceId.getIp(), instanceId.getUniqueSign(), schema, jdbcUrlSuffix));
+    }
+    
+    private String appendPreparedStatementCacheParameters(final String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:mysql:") || jdbcUrl.contains("useServerPrepStmts=") || jdbcUrl.contains("cachePrepStmts=")) {
+            return jdbcUrl;
+        }
+        return jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "useServerPrepStmts=true&cachePrepStmts=true";
     }
     
     private ConnectionTransaction createConnectionTransaction(final String schemaName, final ContextManager contextManager) {
@@ -153,7 +172,7 @@ public final class ConnectionManager implements ExecutorJDBCManager, AutoCloseab
      */
     public void commit() throws SQLException {
         if (connectionTransaction.isLocalTransaction()) {
-            forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+            forceExecuteLocalTransaction(Connection::commit);
         } else {
             connectionTransaction.commit();
         }
@@ -166,12 +185,35 @@ public final class ConnectionManager implements ExecutorJDBCManager, AutoCloseab
      */
     public void rollback() throws SQLException {
         if (connectionTransaction.isLocalTransaction()) {
-            forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+            forceExecuteLocalTransaction(Connection::rollback);
         } else {
             connectionTransaction.rollback();
         }
     }
     
+    private void forceExecuteLocalTransaction(final ForceExecuteCallback<Connection> callback) throws SQLException {
+        Collection<Connection> connections = cachedConnections.values();
+        if (!isParallelLocalTransaction(connections.size())) {
+            forceExecuteTemplate.execute(connections, callback);
+            return;
+        }
+        Collection<SQLException> exceptions = new LinkedList<>(contextManager.getMetaDataContexts().getExecutorEngine().forceExecute(connections, callback::execute, false));
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException("");
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+    
+    private boolean isParallelLocalTransaction(final int connectionSize) {
+        if (connectionSize < 2) {
+            return false;
+        }
+        int threshold = contextManager.getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.LOCAL_TRANSACTION_PARALLEL_THRESHOLD);
+        return threshold > 0 && connectionSize >= threshold;
+    }
+    
     /**
      * Get transaction isolation.
      * 
@@ -320,13 +362,16 @@ public final class ConnectionManager implements ExecutorJDBCManager, AutoCloseab
     @Override
     public PreparedStatement createStorageResource(final String sql, final List<Object> parameters,
                                                    final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        return option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+        int cacheSize = connectionTransaction.isLocalTransaction() ? contextManager.getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE) : 0;
+        return preparedStatementCache.getPreparedStatement(connection, contextManager.getPreparedStatementCacheVersions(), schema, sql, option, cacheSize,
+            each -> option.isReturnGeneratedKeys() ? each.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                    : each.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability()));
     }
     
     @Override
     public void close() throws SQLException {
         try {
+            preparedStatementCache.clear();
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::close);
         } finally {
             cachedConnections.clear();
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.driver.jdbc.adapter.AbstractConnectionAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.datasource.metadata.ShardingSphereDatabaseMetaData;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePreparedStatement;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
+import org.apache.shardingsphere.infra.session.SessionAttributes;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.traffic.context.TrafficContextHolder;
 import org.apache.shardingsphere.transaction.TransactionHolder;
@@ -46,6 +47,9 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Getter
     private final ConnectionManager connectionManager;
     
+    @Getter
+    private final SessionAttributes sessionAttributes = new SessionAttributes();
+    
     private boolean autoCommit = true;
     
     private int transactionIsolation = TRANSACTION_READ_UNCOMMITTED;
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.connection;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyerFactory;
+import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Traffic data source registry, which shares connection pools toward compute node instances among connections of the same context manager.
+ * 
+ * <p>Connection pools of instances which are no longer present or whose data source properties changed are destroyed and recreated on demand.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class TrafficDataSourceRegistry {
+    
+    private static final Map<ContextManager, Map<String, Map<String, TrafficDataSource>>> DATA_SOURCES = new IdentityHashMap<>();
+    
+    /**
+     * Get traffic data sources, create connection pools only for instances which have no pool with the same data source properties yet.
+     * 
+     * @param contextManager context manager
+     * @param schemaName schema name
+     * @param dataSourcePropsMap data source properties map of compute node instances
+     * @return traffic data source map
+     */
+    public static Map<String, DataSource> getDataSources(final ContextManager contextManager, final String schemaName, final Map<String, DataSourceProperties> dataSourcePropsMap) {
+        Map<String, TrafficDataSource> cachedDataSources = getCachedDataSources(contextManager, schemaName);
+        if (!isUpToDate(cachedDataSources, dataSourcePropsMap)) {
+            synchronized (cachedDataSources) {
+                if (!isUpToDate(cachedDataSources, dataSourcePropsMap)) {
+                    refresh(cachedDataSources, dataSourcePropsMap);
+                }
+            }
+        }
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourcePropsMap.size(), 1);
+        for (String each : dataSourcePropsMap.keySet()) {
+            TrafficDataSource dataSource = cachedDataSources.get(each);
+            if (null != dataSource) {
+                result.put(each, dataSource.getDataSource());
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, TrafficDataSource> getCachedDataSources(final ContextManager contextManager, final String schemaName) {
+        synchronized (DATA_SOURCES) {
+            return DATA_SOURCES.computeIfAbsent(contextManager, unused -> new ConcurrentHashMap<>()).computeIfAbsent(schemaName, unused -> new ConcurrentHashMap<>());
+        }
+    }
+    
+    private static boolean isUpToDate(final Map<String, TrafficDataSource> cachedDataSources, final Map<String, DataSourceProperties> dataSourcePropsMap) {
+        if (cachedDataSources.size() != dataSourcePropsMap.size()) {
+            return false;
+        }
+        for (Entry<String, DataSourceProperties> entry : dataSourcePropsMap.entrySet()) {
+            TrafficDataSource cachedDataSource = cachedDataSources.get(entry.getKey());
+            if (null == cachedDataSource || !cachedDataSource.getDataSourceProps().equals(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static void refresh(final Map<String, TrafficDataSource> cachedDataSources, final Map<String, DataSourceProperties> dataSourcePropsMap) {
+        Collection<DataSource> staleDataSources = new LinkedList<>();
+        Iterator<Entry<String, TrafficDataSource>> iterator = cachedDataSources.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<String, TrafficDataSource> entry = iterator.next();
+            if (!entry.getValue().getDataSourceProps().equals(dataSourcePropsMap.get(entry.getKey()))) {
+                staleDataSources.add(entry.getValue().getDataSource());
+                iterator.remove();
+            }
+        }
+        Map<String, DataSourceProperties> uncachedDataSourcePropsMap = new LinkedHashMap<>(dataSourcePropsMap);
+        uncachedDataSourcePropsMap.keySet().removeAll(cachedDataSources.keySet());
+        if (!uncachedDataSourcePropsMap.isEmpty()) {
+            DataSourcePoolCreator.create(uncachedDataSourcePropsMap).forEach((key, value) -> cachedDataSources.put(key, new TrafficDataSource(uncachedDataSourcePropsMap.get(key), value)));
+        }
+        for (DataSource each : staleDataSources) {
+            destroy(each);
+        }
+    }
+    
+    private static void destroy(final DataSource dataSource) {
+        try {
+            DataSourcePoolDestroyerFactory.destroy(dataSource);
+        } catch (final SQLException ex) {
+            log.warn("Destroy stale traffic data source failed", ex);
+        }
+    }
+    
+    /**
+     * Close traffic data sources of context manager.
+     * 
+     * @param contextManager context manager
+     * @throws Exception exception
+     */
+    public static void close(final ContextManager contextManager) throws Exception {
+        Map<String, Map<String, TrafficDataSource>> dataSources;
+        synchronized (DATA_SOURCES) {
+            dataSources = DATA_SOURCES.remove(contextManager);
+        }
+        if (null == dataSources) {
+            return;
+        }
+        for (Map<String, TrafficDataSource> each : dataSources.values()) {
+            for (TrafficDataSource dataSource : each.values()) {
+                if (dataSource.getDataSource() instanceof AutoCloseable) {
+                    ((AutoCloseable) dataSource.getDataSource()).close();
+                }
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TrafficDataSource {
+        
+        private final DataSourceProperties dataSourceProps;
+        
+        private final DataSource dataSource;
+    }
+}
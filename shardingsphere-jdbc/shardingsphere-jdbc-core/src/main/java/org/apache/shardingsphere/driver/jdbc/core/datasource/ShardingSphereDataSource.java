@@ -19,6 +19,7 @@ package org.apache.shardingsphere.driver.jdbc.core.datasource;
 
 import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractDataSourceAdapter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.TrafficDataSourceRegistry;
 import org.apache.shardingsphere.driver.state.DriverStateContext;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.checker.RuleConfigurationCheckerFactory;
@@ -102,6 +103,7 @@ public final class ShardingSphereDataSource extends AbstractDataSourceAdapter im
         for (String each : dataSourceNames) {
             close(dataSourceMap.get(each));
         }
+        TrafficDataSourceRegistry.close(contextManager);
         contextManager.close();
     }
     
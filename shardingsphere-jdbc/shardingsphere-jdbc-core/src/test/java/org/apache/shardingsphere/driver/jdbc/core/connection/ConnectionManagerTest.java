@@ -19,9 +19,12 @@ package org.apache.shardingsphere.driver.jdbc.core.connection;
 
 import com.google.common.collect.Sets;
 import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.infra.instance.definition.InstanceDefinition;
@@ -43,24 +46,32 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ConnectionManagerTest {
     
+    private ContextManager contextManager;
+    
     private ConnectionManager connectionManager;
     
     private ConnectionManager connectionManagerInXaTransaction;
@@ -69,7 +80,7 @@ public final class ConnectionManagerTest {
     
     @Before
     public void setUp() throws SQLException {
-        ContextManager contextManager = mockContextManager();
+        contextManager = mockContextManager();
         connectionManager = new ConnectionManager(DefaultSchema.LOGIC_NAME, contextManager);
         TransactionTypeHolder.set(TransactionType.XA);
         connectionManagerInXaTransaction = new ConnectionManager(DefaultSchema.LOGIC_NAME, contextManager);
@@ -174,6 +185,12 @@ public final class ConnectionManagerTest {
         assertThat(actual.get(0).getMetaData().getURL(), is("jdbc:mysql://127.0.0.1:3307/logic_db?serverTimezone=UTC&useSSL=false"));
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void assertTrafficDataSourcesSharedAmongConnectionManagers() {
+        dataSourcePoolCreator.verify(times(1), () -> DataSourcePoolCreator.create((Map) any()));
+    }
+    
     @Test
     public void assertGetConnectionWhenConfigTrafficRuleInXaTransaction() throws SQLException {
         List<Connection> actual = connectionManagerInXaTransaction.getConnections("127.0.0.1@3307", 1, ConnectionMode.MEMORY_STRICTLY);
@@ -236,4 +253,37 @@ public final class ConnectionManagerTest {
             assertThat(ex.getMessage(), is("Can not get 3 connections one time, partition succeed connection(0) have released!"));
         }
     }
+    
+    @Test
+    public void assertCommitInParallelWhenReachedThreshold() throws SQLException {
+        Collection<Thread> actual = commitLocalTransaction(2);
+        assertThat(actual.size(), is(3));
+        assertTrue(actual.stream().anyMatch(each -> Thread.currentThread() != each));
+    }
+    
+    @Test
+    public void assertCommitSeriallyBelowThreshold() throws SQLException {
+        Collection<Thread> actual = commitLocalTransaction(4);
+        assertThat(actual.size(), is(3));
+        assertTrue(actual.stream().allMatch(each -> Thread.currentThread() == each));
+    }
+    
+    private Collection<Thread> commitLocalTransaction(final int parallelThreshold) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.LOCAL_TRANSACTION_PARALLEL_THRESHOLD.getKey(), String.valueOf(parallelThreshold));
+        when(contextManager.getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(props));
+        Collection<Thread> result = new ConcurrentLinkedQueue<>();
+        try (ExecutorEngine executorEngine = new ExecutorEngine(2)) {
+            when(contextManager.getMetaDataContexts().getExecutorEngine()).thenReturn(executorEngine);
+            List<Connection> connections = connectionManager.getConnections("ds", 3, ConnectionMode.MEMORY_STRICTLY);
+            for (Connection each : connections) {
+                doAnswer(invocation -> result.add(Thread.currentThread())).when(each).commit();
+            }
+            connectionManager.commit();
+            for (Connection each : connections) {
+                verify(each).commit();
+            }
+        }
+        return result;
+    }
 }
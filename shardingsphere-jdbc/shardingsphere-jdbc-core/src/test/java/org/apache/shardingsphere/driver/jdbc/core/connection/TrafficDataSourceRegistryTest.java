@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.connection;
+
+import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.test.mock.MockedDataSource;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class TrafficDataSourceRegistryTest {
+    
+    private final ContextManager contextManager = mock(ContextManager.class);
+    
+    @After
+    public void tearDown() throws Exception {
+        TrafficDataSourceRegistry.close(contextManager);
+    }
+    
+    @Test
+    public void assertGetDataSourcesWithSameProperties() {
+        Map<String, DataSource> expected = TrafficDataSourceRegistry.getDataSources(contextManager, "logic_db", createDataSourcePropertiesMap("root", "127.0.0.1@3307", "127.0.0.1@3308"));
+        Map<String, DataSource> actual = TrafficDataSourceRegistry.getDataSources(contextManager, "logic_db", createDataSourcePropertiesMap("root", "127.0.0.1@3307", "127.0.0.1@3308"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("127.0.0.1@3307"), sameInstance(expected.get("127.0.0.1@3307")));
+        assertThat(actual.get("127.0.0.1@3308"), sameInstance(expected.get("127.0.0.1@3308")));
+    }
+    
+    @Test
+    public void assertGetDataSourcesWithRemovedInstance() {
+        Map<String, DataSource> expected = TrafficDataSourceRegistry.getDataSources(contextManager, "logic_db", createDataSourcePropertiesMap("root", "127.0.0.1@3307", "127.0.0.1@3308"));
+        Map<String, DataSource> actual = TrafficDataSourceRegistry.getDataSources(contextManager, "logic_db", createDataSourcePropertiesMap("root", "127.0.0.1@3307"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("127.0.0.1@3307"), sameInstance(expected.get("127.0.0.1@3307")));
+        actual = TrafficDataSourceRegistry.getDataSources(contextManager, "logic_db", createDataSourcePropertiesMap("root", "127.0.0.1@3307", "127.0.0.1@3308"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("127.0.0.1@3308"), not(sameInstance(expected.get("127.0.0.1@3308"))));
+    }
+    
+    @Test
+    public void assertGetDataSourcesWithChangedProperties() {
+        Map<String, DataSource> expected = TrafficDataSourceRegistry.getDataSources(contextManager, "logic_db", createDataSourcePropertiesMap("root", "127.0.0.1@3307"));
+        Map<String, DataSource> actual = TrafficDataSourceRegistry.getDataSources(contextManager, "logic_db", createDataSourcePropertiesMap("foo", "127.0.0.1@3307"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("127.0.0.1@3307"), not(sameInstance(expected.get("127.0.0.1@3307"))));
+        assertThat(((MockedDataSource) actual.get("127.0.0.1@3307")).getUsername(), is("foo"));
+    }
+    
+    private Map<String, DataSourceProperties> createDataSourcePropertiesMap(final String username, final String... instanceIds) {
+        Map<String, DataSourceProperties> result = new LinkedHashMap<>(instanceIds.length, 1);
+        for (String each : instanceIds) {
+            Map<String, Object> props = new LinkedHashMap<>(3, 1);
+            props.put("url", String.format("jdbc:mock://%s/logic_db", each.replace('@', ':')));
+            props.put("username", username);
+            props.put("password", "root");
+            result.put(each, new DataSourceProperties(MockedDataSource.class.getName(), props));
+        }
+        return result;
+    }
+}
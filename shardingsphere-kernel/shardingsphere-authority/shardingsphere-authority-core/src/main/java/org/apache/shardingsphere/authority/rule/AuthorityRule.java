@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.authority.rule;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.authority.spi.AuthorityProvideAlgorithm;
@@ -28,6 +30,7 @@ import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 
@@ -40,14 +43,27 @@ public final class AuthorityRule implements GlobalRule {
         ShardingSphereServiceLoader.register(AuthorityProvideAlgorithm.class);
     }
     
+    private static final int COMPILED_PRIVILEGES_MAXIMUM_SIZE = 1024;
+    
     private final AuthorityProvideAlgorithm provider;
     
+    private final Cache<Grantee, ShardingSpherePrivileges> compiledPrivileges = CacheBuilder.newBuilder().maximumSize(COMPILED_PRIVILEGES_MAXIMUM_SIZE).build();
+    
     private final Collection<ShardingSphereUser> users;
     
+    private volatile Collection<String> schemaNames;
+    
     public AuthorityRule(final AuthorityRuleConfiguration config, final Map<String, ShardingSphereMetaData> metaDataMap) {
         provider = ShardingSphereAlgorithmFactory.createAlgorithm(config.getProvider(), AuthorityProvideAlgorithm.class);
         provider.init(metaDataMap, config.getUsers());
         users = config.getUsers();
+        compilePrivileges(metaDataMap, users);
+    }
+    
+    private void compilePrivileges(final Map<String, ShardingSphereMetaData> metaDataMap, final Collection<ShardingSphereUser> users) {
+        schemaNames = new LinkedList<>(metaDataMap.keySet());
+        compiledPrivileges.invalidateAll();
+        users.forEach(each -> findPrivileges(each.getGrantee()));
     }
     
     /**
@@ -57,7 +73,13 @@ public final class AuthorityRule implements GlobalRule {
      * @return found privileges
      */
     public Optional<ShardingSpherePrivileges> findPrivileges(final Grantee grantee) {
-        return provider.findPrivileges(grantee);
+        ShardingSpherePrivileges cached = compiledPrivileges.getIfPresent(grantee);
+        if (null != cached) {
+            return Optional.of(cached);
+        }
+        Optional<ShardingSpherePrivileges> result = provider.findPrivileges(grantee).map(optional -> new CompiledPrivileges(optional, schemaNames));
+        result.ifPresent(optional -> compiledPrivileges.put(grantee, optional));
+        return result;
     }
     
     /**
@@ -68,8 +90,9 @@ public final class AuthorityRule implements GlobalRule {
      */
     public void refresh(final Map<String, ShardingSphereMetaData> metaDataMap, final Collection<ShardingSphereUser> users) {
         provider.refresh(metaDataMap, users);
+        compilePrivileges(metaDataMap, users);
     }
-
+    
     /**
      * Find user.
      * @param grantee grantee user
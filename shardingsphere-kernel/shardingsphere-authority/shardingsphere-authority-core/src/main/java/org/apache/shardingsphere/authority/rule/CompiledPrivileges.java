@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.rule;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.authority.model.AccessSubject;
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiled privileges.
+ * 
+ * <p>Snapshot of privileges provided by authority provider, which answers schema and privilege type checks by lookup.
+ * Schemas unknown at compile time are evaluated on first access and kept in a bounded cache.</p>
+ */
+public final class CompiledPrivileges implements ShardingSpherePrivileges {
+    
+    private static final int UNKNOWN_SCHEMA_PRIVILEGES_MAXIMUM_SIZE = 1024;
+    
+    private final ShardingSpherePrivileges privileges;
+    
+    private final Collection<String> schemaNames;
+    
+    private final Cache<String, Boolean> unknownSchemaPrivileges = CacheBuilder.newBuilder().maximumSize(UNKNOWN_SCHEMA_PRIVILEGES_MAXIMUM_SIZE).build();
+    
+    private volatile Map<String, Boolean> schemaPrivileges;
+    
+    private volatile BitSet typePrivileges;
+    
+    private volatile boolean untypedPrivilege;
+    
+    public CompiledPrivileges(final ShardingSpherePrivileges privileges, final Collection<String> schemaNames) {
+        this.privileges = privileges;
+        this.schemaNames = schemaNames;
+        compile();
+    }
+    
+    private void compile() {
+        Map<String, Boolean> schemaPrivileges = new HashMap<>(schemaNames.size(), 1);
+        for (String each : schemaNames) {
+            schemaPrivileges.put(each, privileges.hasPrivileges(each));
+        }
+        BitSet typePrivileges = new BitSet(PrivilegeType.values().length);
+        for (PrivilegeType each : PrivilegeType.values()) {
+            typePrivileges.set(each.ordinal(), privileges.hasPrivileges(Collections.singletonList(each)));
+        }
+        this.schemaPrivileges = schemaPrivileges;
+        this.typePrivileges = typePrivileges;
+        untypedPrivilege = privileges.hasPrivileges(Collections.singletonList(null));
+        unknownSchemaPrivileges.invalidateAll();
+    }
+    
+    @Override
+    public synchronized void setSuperPrivilege() {
+        privileges.setSuperPrivilege();
+        compile();
+    }
+    
+    @Override
+    public boolean hasPrivileges(final String schema) {
+        if (null == schema) {
+            return privileges.hasPrivileges(schema);
+        }
+        Boolean result = schemaPrivileges.get(schema);
+        if (null != result) {
+            return result;
+        }
+        result = unknownSchemaPrivileges.getIfPresent(schema);
+        if (null == result) {
+            result = privileges.hasPrivileges(schema);
+            unknownSchemaPrivileges.put(schema, result);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean hasPrivileges(final Collection<PrivilegeType> privileges) {
+        if (1 != privileges.size()) {
+            return this.privileges.hasPrivileges(privileges);
+        }
+        PrivilegeType privilegeType = privileges.iterator().next();
+        return null == privilegeType ? untypedPrivilege : typePrivileges.get(privilegeType.ordinal());
+    }
+    
+    @Override
+    public boolean hasPrivileges(final AccessSubject accessSubject, final Collection<PrivilegeType> privileges) {
+        return this.privileges.hasPrivileges(accessSubject, privileges);
+    }
+}
@@ -18,17 +18,24 @@
 package org.apache.shardingsphere.authority.rule;
 
 import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
+import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class AuthorityRuleTest {
     
@@ -41,4 +48,30 @@ public final class AuthorityRuleTest {
         AuthorityRule authorityRule = new AuthorityRule(ruleConfig, Collections.emptyMap());
         assertThat(authorityRule.getType(), is(AuthorityRule.class.getSimpleName()));
     }
+    
+    @Test
+    public void assertFindPrivilegesNotCacheMissedGrantee() {
+        ShardingSphereUser root = new ShardingSphereUser("root", "", "localhost");
+        Collection<ShardingSphereUser> users = new LinkedList<>(Collections.singletonList(root));
+        Properties props = new Properties();
+        props.setProperty("user-schema-mappings", "root@localhost=foo_db,guest@localhost=foo_db");
+        AuthorityRule authorityRule = new AuthorityRule(new AuthorityRuleConfiguration(users, new ShardingSphereAlgorithmConfiguration("SCHEMA_PRIVILEGES_PERMITTED", props)), Collections.emptyMap());
+        Grantee guest = new Grantee("guest", "localhost");
+        assertFalse(authorityRule.findPrivileges(guest).isPresent());
+        users.add(new ShardingSphereUser("guest", "", "localhost"));
+        authorityRule.refresh(Collections.emptyMap(), users);
+        assertTrue(authorityRule.findPrivileges(guest).isPresent());
+        assertTrue(authorityRule.findPrivileges(guest).get().hasPrivileges("foo_db"));
+    }
+    
+    @Test
+    public void assertFindPrivilegesFromCompiledCache() {
+        ShardingSphereUser root = new ShardingSphereUser("root", "", "localhost");
+        AuthorityRuleConfiguration ruleConfig = new AuthorityRuleConfiguration(Collections.singletonList(root), new ShardingSphereAlgorithmConfiguration("ALL_PRIVILEGES_PERMITTED", new Properties()));
+        AuthorityRule authorityRule = new AuthorityRule(ruleConfig, Collections.emptyMap());
+        Optional<ShardingSpherePrivileges> actual = authorityRule.findPrivileges(root.getGrantee());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(CompiledPrivileges.class));
+        assertThat(authorityRule.findPrivileges(root.getGrantee()).get(), sameInstance(actual.get()));
+    }
 }
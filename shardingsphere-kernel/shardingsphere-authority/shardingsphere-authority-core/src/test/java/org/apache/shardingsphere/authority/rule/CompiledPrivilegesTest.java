@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.rule;
+
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CompiledPrivilegesTest {
+    
+    @Mock
+    private ShardingSpherePrivileges privileges;
+    
+    @Test
+    public void assertHasSchemaPrivileges() {
+        when(privileges.hasPrivileges("foo_db")).thenReturn(true);
+        CompiledPrivileges actual = new CompiledPrivileges(privileges, Collections.singletonList("foo_db"));
+        assertTrue(actual.hasPrivileges("foo_db"));
+        assertTrue(actual.hasPrivileges("foo_db"));
+        assertFalse(actual.hasPrivileges("bar_db"));
+        assertFalse(actual.hasPrivileges("bar_db"));
+        verify(privileges, times(1)).hasPrivileges("foo_db");
+        verify(privileges, times(1)).hasPrivileges("bar_db");
+    }
+    
+    @Test
+    public void assertHasPrivilegeType() {
+        when(privileges.hasPrivileges(Collections.singletonList(PrivilegeType.SELECT))).thenReturn(true);
+        when(privileges.hasPrivileges(Collections.singletonList(null))).thenReturn(true);
+        CompiledPrivileges actual = new CompiledPrivileges(privileges, Collections.emptyList());
+        assertTrue(actual.hasPrivileges(Collections.singletonList(PrivilegeType.SELECT)));
+        assertFalse(actual.hasPrivileges(Collections.singletonList(PrivilegeType.DELETE)));
+        assertTrue(actual.hasPrivileges(Collections.singletonList(null)));
+        verify(privileges, times(1)).hasPrivileges(Collections.singletonList(PrivilegeType.SELECT));
+    }
+    
+    @Test
+    public void assertSetSuperPrivilege() {
+        CompiledPrivileges actual = new CompiledPrivileges(privileges, Collections.singletonList("foo_db"));
+        assertFalse(actual.hasPrivileges("foo_db"));
+        assertFalse(actual.hasPrivileges(Collections.singletonList(PrivilegeType.SUPER)));
+        when(privileges.hasPrivileges("foo_db")).thenReturn(true);
+        when(privileges.hasPrivileges(Collections.singletonList(PrivilegeType.SUPER))).thenReturn(true);
+        actual.setSuperPrivilege();
+        verify(privileges).setSuperPrivilege();
+        assertTrue(actual.hasPrivileges("foo_db"));
+        assertTrue(actual.hasPrivileges(Collections.singletonList(PrivilegeType.SUPER)));
+    }
+}
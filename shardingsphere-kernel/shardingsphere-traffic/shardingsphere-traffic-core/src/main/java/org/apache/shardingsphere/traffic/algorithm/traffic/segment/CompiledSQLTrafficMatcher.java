@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.algorithm.traffic.segment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.spi.TrafficAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled SQL traffic matcher.
+ * 
+ * <p>
+ * All SQL match and SQL regex traffic algorithms are compiled together, exact SQL are merged into one case insensitive lookup table and regular expressions are
+ * merged into one alternation pattern, so SQL text is evaluated in one pass instead of one pass per algorithm. Matched results are cached by SQL text.
+ * </p>
+ */
+public final class CompiledSQLTrafficMatcher {
+    
+    private static final int MATCHED_CACHE_MAXIMUM_SIZE = 4096;
+    
+    private static final int NONE_MATCHED_INDEX = -1;
+    
+    private static final Pattern BACK_REFERENCE_PATTERN = Pattern.compile("\\\\([1-9]|k<)");
+    
+    private final List<SegmentTrafficAlgorithm> trafficAlgorithms = new ArrayList<>();
+    
+    private final Map<String, Integer> exactlySQLIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    private final List<Integer> regexIndexes = new ArrayList<>();
+    
+    private final List<Pattern> regexes = new ArrayList<>();
+    
+    private final int[] combinedRegexGroups;
+    
+    private final Pattern combinedRegex;
+    
+    private final Cache<String, Integer> matchedIndexCache = CacheBuilder.newBuilder().maximumSize(MATCHED_CACHE_MAXIMUM_SIZE).build();
+    
+    public CompiledSQLTrafficMatcher(final Collection<SegmentTrafficAlgorithm> trafficAlgorithms) {
+        for (SegmentTrafficAlgorithm each : trafficAlgorithms) {
+            if (isCompilable(each) && !this.trafficAlgorithms.contains(each)) {
+                compile(each, this.trafficAlgorithms.size());
+                this.trafficAlgorithms.add(each);
+            }
+        }
+        combinedRegexGroups = new int[regexes.size()];
+        combinedRegex = combineRegexes();
+    }
+    
+    /**
+     * Judge whether traffic algorithm is compilable or not.
+     * 
+     * @param trafficAlgorithm traffic algorithm
+     * @return traffic algorithm is compilable or not
+     */
+    public static boolean isCompilable(final TrafficAlgorithm trafficAlgorithm) {
+        return trafficAlgorithm instanceof SQLMatchTrafficAlgorithm || trafficAlgorithm instanceof SQLRegexTrafficAlgorithm;
+    }
+    
+    private void compile(final SegmentTrafficAlgorithm trafficAlgorithm, final int index) {
+        if (trafficAlgorithm instanceof SQLMatchTrafficAlgorithm) {
+            for (String each : ((SQLMatchTrafficAlgorithm) trafficAlgorithm).getSql()) {
+                exactlySQLIndexes.putIfAbsent(each, index);
+            }
+        } else {
+            regexIndexes.add(index);
+            regexes.add(((SQLRegexTrafficAlgorithm) trafficAlgorithm).getRegex());
+        }
+    }
+    
+    private Pattern combineRegexes() {
+        if (regexes.size() < 2) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder();
+        int groupIndex = 1;
+        for (int i = 0; i < regexes.size(); i++) {
+            Pattern each = regexes.get(i);
+            if (0 != each.flags() || BACK_REFERENCE_PATTERN.matcher(each.pattern()).find()) {
+                return null;
+            }
+            result.append(0 == i ? "(" : "|(").append(each.pattern()).append(')');
+            combinedRegexGroups[i] = groupIndex;
+            groupIndex += each.matcher("").groupCount() + 1;
+        }
+        try {
+            Pattern combined = Pattern.compile(result.toString());
+            return groupIndex - 1 == combined.matcher("").groupCount() ? combined : null;
+        } catch (final PatternSyntaxException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Find the first matched traffic algorithm.
+     * 
+     * @param sql SQL to be matched
+     * @return the first matched traffic algorithm in compiled order
+     */
+    public Optional<SegmentTrafficAlgorithm> match(final String sql) {
+        if (trafficAlgorithms.isEmpty()) {
+            return Optional.empty();
+        }
+        Integer result = matchedIndexCache.getIfPresent(sql);
+        if (null == result) {
+            result = getMatchedIndex(sql);
+            matchedIndexCache.put(sql, result);
+        }
+        return NONE_MATCHED_INDEX == result ? Optional.empty() : Optional.of(trafficAlgorithms.get(result));
+    }
+    
+    private int getMatchedIndex(final String sql) {
+        int result = exactlySQLIndexes.isEmpty() ? NONE_MATCHED_INDEX : exactlySQLIndexes.getOrDefault(SQLMatchTrafficAlgorithm.getExactlySQLToBeMatched(sql), NONE_MATCHED_INDEX);
+        int regexIndex = getMatchedRegexIndex(sql);
+        if (NONE_MATCHED_INDEX == result || NONE_MATCHED_INDEX != regexIndex && regexIndex < result) {
+            result = regexIndex;
+        }
+        return result;
+    }
+    
+    private int getMatchedRegexIndex(final String sql) {
+        if (null == combinedRegex) {
+            for (int i = 0; i < regexes.size(); i++) {
+                if (regexes.get(i).matcher(sql).matches()) {
+                    return regexIndexes.get(i);
+                }
+            }
+            return NONE_MATCHED_INDEX;
+        }
+        Matcher matcher = combinedRegex.matcher(sql);
+        if (!matcher.matches()) {
+            return NONE_MATCHED_INDEX;
+        }
+        for (int i = 0; i < combinedRegexGroups.length; i++) {
+            if (-1 != matcher.start(combinedRegexGroups[i])) {
+                return regexIndexes.get(i);
+            }
+        }
+        return NONE_MATCHED_INDEX;
+    }
+}
@@ -62,7 +62,11 @@ public final class SQLMatchTrafficAlgorithm implements SegmentTrafficAlgorithm {
     
     @Override
     public boolean match(final SegmentTrafficValue segmentTrafficValue) {
-        return sql.contains(SQLUtil.trimSemicolon(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(segmentTrafficValue.getSql())));
+        return sql.contains(getExactlySQLToBeMatched(segmentTrafficValue.getSql()));
+    }
+    
+    static String getExactlySQLToBeMatched(final String sql) {
+        return SQLUtil.trimSemicolon(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(sql));
     }
     
     @Override
@@ -17,10 +17,11 @@
 
 package org.apache.shardingsphere.traffic.executor;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCache;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -29,9 +30,14 @@ import java.util.List;
 
 /**
  * Traffic executor.
+ * 
+ * <p>The connection of forwarded statement is owned by the connection manager, which keeps it alive across statements and releases it to the shared traffic connection pool.</p>
  */
+@RequiredArgsConstructor
 public final class TrafficExecutor implements AutoCloseable {
     
+    private final PreparedStatementCache preparedStatementCache;
+    
     private Statement statement;
     
     /**
@@ -50,6 +56,9 @@ public final class TrafficExecutor implements AutoCloseable {
     }
     
     private void cacheStatement(final List<Object> parameters, final Statement statement) throws SQLException {
+        if (null != this.statement && this.statement != statement) {
+            preparedStatementCache.release(this.statement);
+        }
         this.statement = statement;
         setParameters(statement, parameters);
     }
@@ -77,9 +86,8 @@ public final class TrafficExecutor implements AutoCloseable {
     @Override
     public void close() throws SQLException {
         if (null != statement) {
-            Connection connection = statement.getConnection();
-            statement.close();
-            connection.close();
+            preparedStatementCache.release(statement);
+            statement = null;
         }
     }
 }
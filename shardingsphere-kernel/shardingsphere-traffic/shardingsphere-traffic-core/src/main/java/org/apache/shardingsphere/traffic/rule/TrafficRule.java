@@ -26,6 +26,7 @@ import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.CommentSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.CompiledSQLTrafficMatcher;
 import org.apache.shardingsphere.traffic.api.config.TrafficRuleConfiguration;
 import org.apache.shardingsphere.traffic.api.config.TrafficStrategyConfiguration;
 import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficAlgorithm;
@@ -59,10 +60,13 @@ public final class TrafficRule implements GlobalRule {
     
     private final Collection<TrafficStrategyRule> strategyRules;
     
+    private final CompiledSQLTrafficMatcher compiledSQLTrafficMatcher;
+    
     public TrafficRule(final TrafficRuleConfiguration config) {
         Map<String, TrafficAlgorithm> trafficAlgorithms = createTrafficAlgorithms(config.getTrafficAlgorithms());
         Map<String, TrafficLoadBalanceAlgorithm> loadBalancers = createTrafficLoadBalanceAlgorithms(config.getLoadBalancers());
         strategyRules = createTrafficStrategyRules(config.getTrafficStrategies(), trafficAlgorithms, loadBalancers);
+        compiledSQLTrafficMatcher = createCompiledSQLTrafficMatcher(strategyRules);
     }
     
     private Map<String, TrafficAlgorithm> createTrafficAlgorithms(final Map<String, ShardingSphereAlgorithmConfiguration> trafficAlgorithms) {
@@ -110,6 +114,16 @@ public final class TrafficRule implements GlobalRule {
         return result;
     }
     
+    private CompiledSQLTrafficMatcher createCompiledSQLTrafficMatcher(final Collection<TrafficStrategyRule> strategyRules) {
+        Collection<SegmentTrafficAlgorithm> segmentTrafficAlgorithms = new LinkedList<>();
+        for (TrafficStrategyRule each : strategyRules) {
+            if (each.getTrafficAlgorithm() instanceof SegmentTrafficAlgorithm) {
+                segmentTrafficAlgorithms.add((SegmentTrafficAlgorithm) each.getTrafficAlgorithm());
+            }
+        }
+        return new CompiledSQLTrafficMatcher(segmentTrafficAlgorithms);
+    }
+    
     private boolean isTransactionStrategyRule(final TrafficAlgorithm trafficAlgorithm) {
         return trafficAlgorithm instanceof TransactionTrafficAlgorithm;
     }
@@ -122,8 +136,14 @@ public final class TrafficRule implements GlobalRule {
      * @return matched strategy rule
      */
     public Optional<TrafficStrategyRule> findMatchedStrategyRule(final LogicSQL logicSQL, final boolean inTransaction) {
+        Optional<SegmentTrafficAlgorithm> compiledMatchedAlgorithm = compiledSQLTrafficMatcher.match(logicSQL.getSql());
         for (TrafficStrategyRule each : strategyRules) {
-            if (match(each.getTrafficAlgorithm(), logicSQL, inTransaction)) {
+            TrafficAlgorithm trafficAlgorithm = each.getTrafficAlgorithm();
+            if (CompiledSQLTrafficMatcher.isCompilable(trafficAlgorithm)) {
+                if (compiledMatchedAlgorithm.isPresent() && compiledMatchedAlgorithm.get() == trafficAlgorithm) {
+                    return Optional.of(each);
+                }
+            } else if (match(trafficAlgorithm, logicSQL, inTransaction)) {
                 return Optional.of(each);
             }
         }
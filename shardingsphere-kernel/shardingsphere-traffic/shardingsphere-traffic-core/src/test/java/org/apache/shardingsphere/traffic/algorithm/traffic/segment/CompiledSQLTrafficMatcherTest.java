@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.algorithm.traffic.segment;
+
+import org.apache.shardingsphere.traffic.algorithm.traffic.hint.SQLHintTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledSQLTrafficMatcherTest {
+    
+    private SQLMatchTrafficAlgorithm sqlMatchAlgorithm;
+    
+    private SQLRegexTrafficAlgorithm updateRegexAlgorithm;
+    
+    private SQLRegexTrafficAlgorithm selectRegexAlgorithm;
+    
+    private CompiledSQLTrafficMatcher compiledSQLTrafficMatcher;
+    
+    @Before
+    public void setUp() {
+        updateRegexAlgorithm = createSQLRegexTrafficAlgorithm("(?i)^(UPDATE|SELECT).*WHERE user_id.*");
+        sqlMatchAlgorithm = new SQLMatchTrafficAlgorithm();
+        sqlMatchAlgorithm.getProps().put("sql", "SELECT * FROM t_order; UPDATE `t_order` SET `order_id` = ?;");
+        sqlMatchAlgorithm.init();
+        selectRegexAlgorithm = createSQLRegexTrafficAlgorithm("select (.*) from t_order(.*)");
+        compiledSQLTrafficMatcher = new CompiledSQLTrafficMatcher(Arrays.asList(updateRegexAlgorithm, sqlMatchAlgorithm, selectRegexAlgorithm));
+    }
+    
+    private SQLRegexTrafficAlgorithm createSQLRegexTrafficAlgorithm(final String regex) {
+        SQLRegexTrafficAlgorithm result = new SQLRegexTrafficAlgorithm();
+        result.getProps().put("regex", regex);
+        result.init();
+        return result;
+    }
+    
+    @Test
+    public void assertMatchFirstAlgorithmInOrder() {
+        assertMatch("select * from t_order where user_id = ?", updateRegexAlgorithm);
+        assertMatch("select * from t_order", sqlMatchAlgorithm);
+        assertMatch("UPDATE t_order SET order_id = ?;", sqlMatchAlgorithm);
+        assertMatch("select order_id from t_order", selectRegexAlgorithm);
+    }
+    
+    @Test
+    public void assertMatchRepeatedly() {
+        assertMatch("select order_id from t_order", selectRegexAlgorithm);
+        assertMatch("select order_id from t_order", selectRegexAlgorithm);
+    }
+    
+    @Test
+    public void assertNotMatch() {
+        assertFalse(compiledSQLTrafficMatcher.match("TRUNCATE TABLE t_order").isPresent());
+        assertFalse(compiledSQLTrafficMatcher.match("SELECT order_id FROM t_order").isPresent());
+    }
+    
+    @Test
+    public void assertMatchWithBackReference() {
+        SQLRegexTrafficAlgorithm backReferenceAlgorithm = createSQLRegexTrafficAlgorithm("select (\\w+) from t_\\1");
+        CompiledSQLTrafficMatcher matcher = new CompiledSQLTrafficMatcher(Arrays.asList(selectRegexAlgorithm, backReferenceAlgorithm));
+        assertMatch(matcher, "select user from t_user", backReferenceAlgorithm);
+        assertFalse(matcher.match("select user from t_item").isPresent());
+    }
+    
+    @Test
+    public void assertIsCompilable() {
+        assertTrue(CompiledSQLTrafficMatcher.isCompilable(sqlMatchAlgorithm));
+        assertTrue(CompiledSQLTrafficMatcher.isCompilable(updateRegexAlgorithm));
+        assertFalse(CompiledSQLTrafficMatcher.isCompilable(new SQLHintTrafficAlgorithm()));
+    }
+    
+    private void assertMatch(final String sql, final SegmentTrafficAlgorithm expected) {
+        assertMatch(compiledSQLTrafficMatcher, sql, expected);
+    }
+    
+    private void assertMatch(final CompiledSQLTrafficMatcher matcher, final String sql, final SegmentTrafficAlgorithm expected) {
+        Optional<SegmentTrafficAlgorithm> actual = matcher.match(sql);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(expected));
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.apache.shardingsphere.transaction.spi.ShardingSphereTransactionManager;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.XATransactionDataSource;
 import org.apache.shardingsphere.transaction.xa.manager.XATransactionManagerProviderLoader;
+import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 
 import javax.sql.DataSource;
@@ -34,15 +35,22 @@ import javax.transaction.NotSupportedException;
 import javax.transaction.RollbackException;
 import javax.transaction.Status;
 import javax.transaction.SystemException;
+import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
 
 /**
  * ShardingSphere Transaction manager for XA.
+ * 
+ * <p>Every data source joins the transaction as a real XA branch. A transaction with exactly one enlisted branch is committed in one phase
+ * without prepare before the transaction manager completes it, and the others are committed by the transaction manager in two phases.</p>
  */
 public final class XAShardingSphereTransactionManager implements ShardingSphereTransactionManager {
     
@@ -88,7 +96,7 @@ public final class XAShardingSphereTransactionManager implements ShardingSphereT
     public void begin() {
         xaTransactionManagerProvider.getTransactionManager().begin();
     }
-
+    
     @Override
     @SneakyThrows({SystemException.class, NotSupportedException.class})
     public void begin(final int timeout) {
@@ -99,11 +107,41 @@ public final class XAShardingSphereTransactionManager implements ShardingSphereT
         transactionManager.setTransactionTimeout(timeout);
         transactionManager.begin();
     }
-
+    
     @SneakyThrows({SystemException.class, RollbackException.class, HeuristicMixedException.class, HeuristicRollbackException.class})
     @Override
     public void commit() {
-        xaTransactionManagerProvider.getTransactionManager().commit();
+        TransactionManager transactionManager = xaTransactionManagerProvider.getTransactionManager();
+        Transaction transaction = transactionManager.getTransaction();
+        if (null != transaction && Status.STATUS_ACTIVE == transaction.getStatus()) {
+            Collection<SingleXAResource> enlistedResources = getEnlistedResources(transaction);
+            if (1 == enlistedResources.size()) {
+                commitOnePhase(transactionManager, enlistedResources.iterator().next());
+            }
+        }
+        transactionManager.commit();
+    }
+    
+    private Collection<SingleXAResource> getEnlistedResources(final Transaction transaction) {
+        Collection<SingleXAResource> result = new LinkedList<>();
+        for (XATransactionDataSource each : cachedDataSources.values()) {
+            if (each.isContainerManaged()) {
+                return Collections.emptyList();
+            }
+            each.findEnlistedResource(transaction).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private void commitOnePhase(final TransactionManager transactionManager, final SingleXAResource enlistedResource) throws SystemException, RollbackException {
+        try {
+            enlistedResource.commitOnePhase();
+        } catch (final XAException ex) {
+            transactionManager.rollback();
+            RollbackException rollbackException = new RollbackException(ex.getMessage());
+            rollbackException.initCause(ex);
+            throw rollbackException;
+        }
     }
     
     @SneakyThrows(SystemException.class)
@@ -35,6 +35,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -46,6 +47,8 @@ public final class XATransactionDataSource implements AutoCloseable {
     
     private final ThreadLocal<Map<Transaction, Connection>> enlistedTransactions = ThreadLocal.withInitial(HashMap::new);
     
+    private final ThreadLocal<Map<Transaction, SingleXAResource>> enlistedResources = ThreadLocal.withInitial(HashMap::new);
+    
     private final DatabaseType databaseType;
     
     private final String resourceName;
@@ -83,23 +86,45 @@ public final class XATransactionDataSource implements AutoCloseable {
         if (!enlistedTransactions.get().containsKey(transaction)) {
             Connection result = dataSource.getConnection();
             XAConnection xaConnection = XAConnectionFactory.createXAConnection(databaseType, xaDataSource, result);
-            transaction.enlistResource(new SingleXAResource(resourceName, xaConnection.getXAResource()));
+            SingleXAResource singleXAResource = new SingleXAResource(resourceName, xaConnection.getXAResource());
+            transaction.enlistResource(singleXAResource);
             transaction.registerSynchronization(new Synchronization() {
                 @Override
                 public void beforeCompletion() {
                     enlistedTransactions.get().remove(transaction);
                 }
-    
+                
                 @Override
                 public void afterCompletion(final int status) {
                     enlistedTransactions.get().clear();
+                    enlistedResources.get().remove(transaction);
                 }
             });
             enlistedTransactions.get().put(transaction, result);
+            enlistedResources.get().put(transaction, singleXAResource);
         }
         return enlistedTransactions.get().get(transaction);
     }
     
+    /**
+     * Find XA resource enlisted in transaction.
+     * 
+     * @param transaction transaction
+     * @return enlisted XA resource
+     */
+    public Optional<SingleXAResource> findEnlistedResource(final Transaction transaction) {
+        return Optional.ofNullable(enlistedResources.get().get(transaction));
+    }
+    
+    /**
+     * Judge whether connections are enlisted by container managed data source itself.
+     * 
+     * @return is container managed or not
+     */
+    public boolean isContainerManaged() {
+        return CONTAINER_DATASOURCE_NAMES.contains(dataSource.getClass().getSimpleName());
+    }
+    
     @Override
     public void close() {
         if (!CONTAINER_DATASOURCE_NAMES.contains(dataSource.getClass().getSimpleName())) {
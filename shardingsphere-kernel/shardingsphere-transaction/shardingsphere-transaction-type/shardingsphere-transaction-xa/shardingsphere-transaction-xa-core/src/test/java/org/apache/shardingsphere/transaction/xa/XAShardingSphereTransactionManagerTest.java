@@ -28,13 +28,21 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.apache.shardingsphere.transaction.xa.fixture.DataSourceUtils;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.XATransactionDataSource;
+import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
 import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -42,6 +50,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -49,6 +58,12 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class XAShardingSphereTransactionManagerTest {
@@ -142,6 +157,122 @@ public final class XAShardingSphereTransactionManagerTest {
         assertFalse(xaTransactionManager.isInTransaction());
     }
     
+    @Test
+    public void assertCommitWithSingleDataSource() throws SQLException {
+        ThreadLocal<Map<Transaction, Connection>> ds1Transactions = getEnlistedTransactions(getCachedDataSources().get("ds1"));
+        ThreadLocal<Map<Transaction, Connection>> ds2Transactions = getEnlistedTransactions(getCachedDataSources().get("ds2"));
+        xaTransactionManager.begin();
+        Connection connection = xaTransactionManager.getConnection("ds1");
+        assertThat(xaTransactionManager.getConnection("ds1"), is(connection));
+        assertThat(ds1Transactions.get().size(), is(1));
+        assertTrue(ds2Transactions.get().isEmpty());
+        xaTransactionManager.commit();
+        assertFalse(xaTransactionManager.isInTransaction());
+        assertTrue(ds1Transactions.get().isEmpty());
+    }
+    
+    @Test
+    public void assertCommitWithMultipleDataSources() throws SQLException {
+        ThreadLocal<Map<Transaction, Connection>> ds1Transactions = getEnlistedTransactions(getCachedDataSources().get("ds1"));
+        ThreadLocal<Map<Transaction, Connection>> ds2Transactions = getEnlistedTransactions(getCachedDataSources().get("ds2"));
+        xaTransactionManager.begin();
+        xaTransactionManager.getConnection("ds1");
+        xaTransactionManager.getConnection("ds2");
+        assertThat(ds1Transactions.get().size(), is(1));
+        assertThat(ds2Transactions.get().size(), is(1));
+        xaTransactionManager.commit();
+        assertFalse(xaTransactionManager.isInTransaction());
+        assertTrue(ds1Transactions.get().isEmpty());
+        assertTrue(ds2Transactions.get().isEmpty());
+    }
+    
+    @Test
+    public void assertRollbackWithMultipleDataSources() throws SQLException {
+        ThreadLocal<Map<Transaction, Connection>> ds1Transactions = getEnlistedTransactions(getCachedDataSources().get("ds1"));
+        ThreadLocal<Map<Transaction, Connection>> ds2Transactions = getEnlistedTransactions(getCachedDataSources().get("ds2"));
+        xaTransactionManager.begin();
+        xaTransactionManager.getConnection("ds1");
+        xaTransactionManager.getConnection("ds2");
+        xaTransactionManager.rollback();
+        assertFalse(xaTransactionManager.isInTransaction());
+        assertTrue(ds1Transactions.get().isEmpty());
+        assertTrue(ds2Transactions.get().isEmpty());
+    }
+    
+    @Test
+    public void assertCommitInOnePhaseWithSingleEnlistedResource() throws Exception {
+        XAResource xaResource = mock(XAResource.class);
+        Xid xid = mock(Xid.class);
+        TransactionManager transactionManager = mock(TransactionManager.class);
+        XAShardingSphereTransactionManager actual = createTransactionManager(transactionManager, createEnlistedResource("ds1", xaResource, xid));
+        actual.commit();
+        verify(xaResource).end(xid, XAResource.TMSUCCESS);
+        verify(xaResource).commit(xid, true);
+        verify(xaResource, never()).prepare(xid);
+        verify(transactionManager).commit();
+    }
+    
+    @Test
+    public void assertCommitInTwoPhasesWithMultipleEnlistedResources() throws Exception {
+        XAResource xaResource1 = mock(XAResource.class);
+        XAResource xaResource2 = mock(XAResource.class);
+        Xid xid = mock(Xid.class);
+        TransactionManager transactionManager = mock(TransactionManager.class);
+        XAShardingSphereTransactionManager actual = createTransactionManager(
+                transactionManager, createEnlistedResource("ds1", xaResource1, xid), createEnlistedResource("ds2", xaResource2, xid));
+        actual.commit();
+        verify(xaResource1, never()).commit(xid, true);
+        verify(xaResource2, never()).commit(xid, true);
+        verify(transactionManager).commit();
+    }
+    
+    @Test
+    public void assertRollbackWhenCommitInOnePhaseFailed() throws Exception {
+        XAResource xaResource = mock(XAResource.class);
+        Xid xid = mock(Xid.class);
+        doThrow(new XAException(XAException.XA_RBROLLBACK)).when(xaResource).commit(xid, true);
+        TransactionManager transactionManager = mock(TransactionManager.class);
+        XAShardingSphereTransactionManager actual = createTransactionManager(transactionManager, createEnlistedResource("ds1", xaResource, xid));
+        try {
+            actual.commit();
+            fail("Expected RollbackException");
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            assertThat(ex, instanceOf(RollbackException.class));
+        }
+        verify(transactionManager).rollback();
+        verify(transactionManager, never()).commit();
+    }
+    
+    private SingleXAResource createEnlistedResource(final String resourceName, final XAResource xaResource, final Xid xid) throws XAException {
+        SingleXAResource result = new SingleXAResource(resourceName, xaResource);
+        result.start(xid, XAResource.TMNOFLAGS);
+        return result;
+    }
+    
+    private XAShardingSphereTransactionManager createTransactionManager(final TransactionManager transactionManager, final SingleXAResource... enlistedResources) throws Exception {
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getStatus()).thenReturn(Status.STATUS_ACTIVE);
+        when(transactionManager.getTransaction()).thenReturn(transaction);
+        XATransactionManagerProvider xaTransactionManagerProvider = mock(XATransactionManagerProvider.class);
+        when(xaTransactionManagerProvider.getTransactionManager()).thenReturn(transactionManager);
+        XAShardingSphereTransactionManager result = new XAShardingSphereTransactionManager();
+        Field field = result.getClass().getDeclaredField("xaTransactionManagerProvider");
+        field.setAccessible(true);
+        field.set(result, xaTransactionManagerProvider);
+        field = result.getClass().getDeclaredField("cachedDataSources");
+        field.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<String, XATransactionDataSource> cachedDataSources = (Map<String, XATransactionDataSource>) field.get(result);
+        for (SingleXAResource each : enlistedResources) {
+            XATransactionDataSource dataSource = mock(XATransactionDataSource.class);
+            when(dataSource.findEnlistedResource(transaction)).thenReturn(Optional.of(each));
+            cachedDataSources.put(each.getResourceName(), dataSource);
+        }
+        return result;
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     @SuppressWarnings("unchecked")
     private Map<String, XATransactionDataSource> getCachedDataSources() {
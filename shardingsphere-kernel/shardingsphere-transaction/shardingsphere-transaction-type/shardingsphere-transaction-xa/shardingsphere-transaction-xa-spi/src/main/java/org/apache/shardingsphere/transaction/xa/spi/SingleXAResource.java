@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.transaction.xa.spi;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +27,9 @@ import javax.transaction.xa.Xid;
 
 /**
  * Single XA resource.
+ * 
+ * <p>A transaction with only this branch can be committed by {@link #commitOnePhase()} before the transaction manager completes it,
+ * after which prepare votes read-only and commit or rollback of the transaction manager are ignored.</p>
  */
 @RequiredArgsConstructor
 @Getter
@@ -35,19 +39,52 @@ public final class SingleXAResource implements XAResource {
     
     private final XAResource delegate;
     
+    @Getter(AccessLevel.NONE)
+    private volatile Xid startedXid;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile boolean ended;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile boolean completed;
+    
+    /**
+     * Commit started branch in one phase, without prepare.
+     * 
+     * @throws XAException XA exception
+     */
+    public void commitOnePhase() throws XAException {
+        if (null == startedXid) {
+            throw new XAException(XAException.XAER_PROTO);
+        }
+        end(startedXid, TMSUCCESS);
+        try {
+            delegate.commit(startedXid, true);
+        } finally {
+            completed = true;
+        }
+    }
+    
     @Override
     public void commit(final Xid xid, final boolean onePhase) throws XAException {
-        delegate.commit(xid, onePhase);
+        if (!completed) {
+            delegate.commit(xid, onePhase);
+        }
     }
     
     @Override
     public void end(final Xid xid, final int flags) throws XAException {
-        delegate.end(xid, flags);
+        if (!ended) {
+            delegate.end(xid, flags);
+            ended = TMSUSPEND != flags;
+        }
     }
     
     @Override
     public void forget(final Xid xid) throws XAException {
-        delegate.forget(xid);
+        if (!completed) {
+            delegate.forget(xid);
+        }
     }
     
     @Override
@@ -57,13 +94,12 @@ public final class SingleXAResource implements XAResource {
     
     @Override
     public boolean isSameRM(final XAResource xaResource) {
-        SingleXAResource singleXAResource = (SingleXAResource) xaResource;
-        return resourceName.equals(singleXAResource.resourceName);
+        return xaResource instanceof SingleXAResource && resourceName.equals(((SingleXAResource) xaResource).resourceName);
     }
     
     @Override
     public int prepare(final Xid xid) throws XAException {
-        return delegate.prepare(xid);
+        return completed ? XA_RDONLY : delegate.prepare(xid);
     }
     
     @Override
@@ -73,7 +109,9 @@ public final class SingleXAResource implements XAResource {
     
     @Override
     public void rollback(final Xid xid) throws XAException {
-        delegate.rollback(xid);
+        if (!completed) {
+            delegate.rollback(xid);
+        }
     }
     
     @Override
@@ -84,5 +122,7 @@ public final class SingleXAResource implements XAResource {
     @Override
     public void start(final Xid xid, final int flags) throws XAException {
         delegate.start(xid, flags);
+        startedXid = xid;
+        ended = false;
     }
 }
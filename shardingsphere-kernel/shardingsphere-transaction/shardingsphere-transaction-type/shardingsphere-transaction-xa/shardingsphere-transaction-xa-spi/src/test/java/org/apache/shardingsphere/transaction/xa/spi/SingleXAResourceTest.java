@@ -27,7 +27,13 @@ import javax.transaction.xa.XAException;
 import javax.transaction.xa.XAResource;
 import javax.transaction.xa.Xid;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -75,6 +81,11 @@ public final class SingleXAResourceTest {
         assertTrue(singleXAResource.isSameRM(new SingleXAResource("ds1", xaResource)));
     }
     
+    @Test
+    public void assertIsNotSameRMWithOtherResourceType() {
+        assertFalse(singleXAResource.isSameRM(xaResource));
+    }
+    
     @Test
     public void assertPrepare() throws XAException {
         singleXAResource.prepare(xid);
@@ -104,4 +115,46 @@ public final class SingleXAResourceTest {
         singleXAResource.start(xid, 1);
         verify(xaResource).start(xid, 1);
     }
+    
+    @Test
+    public void assertCommitOnePhase() throws XAException {
+        singleXAResource.start(xid, XAResource.TMNOFLAGS);
+        singleXAResource.commitOnePhase();
+        verify(xaResource).end(xid, XAResource.TMSUCCESS);
+        verify(xaResource).commit(xid, true);
+        verify(xaResource, never()).prepare(xid);
+    }
+    
+    @Test
+    public void assertCompleteTransactionAfterCommitOnePhase() throws XAException {
+        singleXAResource.start(xid, XAResource.TMNOFLAGS);
+        singleXAResource.commitOnePhase();
+        singleXAResource.end(xid, XAResource.TMSUCCESS);
+        assertThat(singleXAResource.prepare(xid), is(XAResource.XA_RDONLY));
+        singleXAResource.commit(xid, true);
+        singleXAResource.rollback(xid);
+        verify(xaResource).end(xid, XAResource.TMSUCCESS);
+        verify(xaResource).commit(xid, true);
+        verify(xaResource, never()).prepare(xid);
+        verify(xaResource, never()).rollback(xid);
+    }
+    
+    @Test
+    public void assertRollbackAfterCommitOnePhaseFailed() throws XAException {
+        singleXAResource.start(xid, XAResource.TMNOFLAGS);
+        doThrow(new XAException(XAException.XAER_RMFAIL)).when(xaResource).end(xid, XAResource.TMSUCCESS);
+        try {
+            singleXAResource.commitOnePhase();
+            fail("Expected XAException");
+        } catch (final XAException ignored) {
+        }
+        singleXAResource.rollback(xid);
+        verify(xaResource, never()).commit(xid, true);
+        verify(xaResource).rollback(xid);
+    }
+    
+    @Test(expected = XAException.class)
+    public void assertCommitOnePhaseWithoutStart() throws XAException {
+        singleXAResource.commitOnePhase();
+    }
 }
@@ -28,8 +28,11 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCacheVersions;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
@@ -78,6 +81,8 @@ public final class ContextManager implements AutoCloseable {
     
     private volatile InstanceContext instanceContext;
     
+    private final PreparedStatementCacheVersions preparedStatementCacheVersions = new PreparedStatementCacheVersions();
+    
     /**
      * Initialize context manager.
      *
@@ -132,7 +137,7 @@ public final class ContextManager implements AutoCloseable {
         MetaDataContexts newMetaDataContexts = buildNewMetaDataContext(schemaName);
         FederationSchemaMetaData schemaMetaData = newMetaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName);
         metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put(schemaName, schemaMetaData);
-        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, newMetaDataContexts.getOptimizerContext().getPlannerContexts().get(schemaName));
         metaDataContexts.getMetaDataMap().put(schemaName, newMetaDataContexts.getMetaData(schemaName));
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName));
     }
@@ -148,10 +153,29 @@ public final class ContextManager implements AutoCloseable {
                 schemaName, metaDataContexts.getMetaData(schemaName).getResource(), metaDataContexts.getMetaData(schemaName).getRuleMetaData(), schema);
         Map<String, ShardingSphereMetaData> alteredMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         alteredMetaDataMap.put(schemaName, alteredMetaData);
-        FederationSchemaMetaData alteredSchemaMetaData = new FederationSchemaMetaData(schemaName, schema.getTables());
+        FederationSchemaMetaData alteredSchemaMetaData = createAlteredSchemaMetaData(schemaName, schema);
         metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put(schemaName, alteredSchemaMetaData);
-        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(alteredSchemaMetaData));
+        alterPlannerContext(alteredSchemaMetaData);
         renewMetaDataContexts(rebuildMetaDataContexts(alteredMetaDataMap));
+        preparedStatementCacheVersions.invalidate(schemaName);
+    }
+    
+    private FederationSchemaMetaData createAlteredSchemaMetaData(final String schemaName, final ShardingSphereSchema alteredSchema) {
+        FederationSchemaMetaData originalSchemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName);
+        ShardingSphereMetaData originalMetaData = metaDataContexts.getMetaData(schemaName);
+        if (null == originalSchemaMetaData || null == originalMetaData || null == originalMetaData.getSchema()) {
+            return new FederationSchemaMetaData(schemaName, alteredSchema.getTables());
+        }
+        return originalSchemaMetaData.alter(originalMetaData.getSchema().getTables(), alteredSchema.getTables());
+    }
+    
+    private void alterPlannerContext(final FederationSchemaMetaData alteredSchemaMetaData) {
+        OptimizerPlannerContext plannerContext = metaDataContexts.getOptimizerContext().getPlannerContexts().get(alteredSchemaMetaData.getName());
+        if (null == plannerContext) {
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(alteredSchemaMetaData.getName(), OptimizerPlannerContextFactory.create(alteredSchemaMetaData));
+        } else {
+            plannerContext.alterSchema(alteredSchemaMetaData);
+        }
     }
     
     /**
@@ -164,6 +188,7 @@ public final class ContextManager implements AutoCloseable {
     public void alterSchema(final String schemaName, final TableMetaData changedTableMetaData, final String deletedTable) {
         Optional.ofNullable(changedTableMetaData).ifPresent(optional -> alterTableSchema(schemaName, optional));
         Optional.ofNullable(deletedTable).ifPresent(optional -> deleteTableSchema(schemaName, optional));
+        preparedStatementCacheVersions.invalidate(schemaName);
     }
     
     private void alterTableSchema(final String schemaName, final TableMetaData changedTableMetaData) {
@@ -171,8 +196,8 @@ public final class ContextManager implements AutoCloseable {
         alterSingleTableDataNodes(schemaName, metaData, changedTableMetaData);
         FederationSchemaMetaData schemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName);
         metaData.getSchema().put(changedTableMetaData.getName(), changedTableMetaData);
-        schemaMetaData.put(changedTableMetaData);
-        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        FederationTableMetaData federationTableMetaData = schemaMetaData.put(changedTableMetaData);
+        getPlannerContext(schemaMetaData).putTable(federationTableMetaData);
     }
     
     private void alterSingleTableDataNodes(final String schemaName, final ShardingSphereMetaData metaData, final TableMetaData changedTableMetaData) {
@@ -193,7 +218,11 @@ public final class ContextManager implements AutoCloseable {
         FederationSchemaMetaData schemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName);
         metaData.getSchema().remove(deletedTable);
         schemaMetaData.remove(deletedTable);
-        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        getPlannerContext(schemaMetaData).removeTable(deletedTable);
+    }
+    
+    private OptimizerPlannerContext getPlannerContext(final FederationSchemaMetaData schemaMetaData) {
+        return metaDataContexts.getOptimizerContext().getPlannerContexts().computeIfAbsent(schemaMetaData.getName(), key -> OptimizerPlannerContextFactory.create(schemaMetaData));
     }
     
     private boolean containsInDataNodeContainedRule(final String tableName, final ShardingSphereMetaData schemaMetaData) {
@@ -214,6 +243,7 @@ public final class ContextManager implements AutoCloseable {
             closeDataSources(removeMetaData);
             removeAndCloseTransactionEngine(schemaName);
             metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().delete(schemaName));
+            preparedStatementCacheVersions.invalidate(schemaName);
         }
     }
     
@@ -262,6 +292,7 @@ public final class ContextManager implements AutoCloseable {
         try {
             MetaDataContexts changedMetaDataContexts = buildChangedMetaDataContext(metaDataContexts.getMetaDataMap().get(schemaName), ruleConfigs);
             metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().putAll(changedMetaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas());
+            metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContexts.getOptimizerContext().getPlannerContexts());
             Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
             metaDataMap.putAll(changedMetaDataContexts.getMetaDataMap());
             renewMetaDataContexts(rebuildMetaDataContexts(metaDataMap));
@@ -444,6 +475,7 @@ public final class ContextManager implements AutoCloseable {
     
     private void refreshMetaDataContext(final String schemaName, final MetaDataContexts changedMetaDataContext, final Map<String, DataSourceProperties> dataSourcePropsMap) {
         metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().putAll(changedMetaDataContext.getOptimizerContext().getFederationMetaData().getSchemas());
+        metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContext.getOptimizerContext().getPlannerContexts());
         Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         metaDataMap.putAll(changedMetaDataContext.getMetaDataMap());
         Collection<DataSource> pendingClosedDataSources = getPendingClosedDataSources(schemaName, dataSourcePropsMap);
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.mode.manager;
 
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
@@ -25,6 +27,8 @@ import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.federation.optimizer.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationSchema;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTable;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.CachedDatabaseMetaData;
@@ -47,8 +51,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -56,6 +62,7 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
@@ -118,9 +125,39 @@ public final class ContextManagerTest {
     
     @Test
     public void assertAlterSchema() {
+        when(metaDataContexts.getOptimizerContext().getPlannerContexts()).thenReturn(new HashMap<>());
         contextManager.alterSchema("foo_schema", new ShardingSphereSchema(Collections.singletonMap("foo_table", new TableMetaData("foo_table", Collections.emptyList(), Collections.emptyList()))));
         assertTrue(contextManager.getMetaDataContexts().getMetaDataMap().get("foo_schema").getSchema().containsTable("foo_table"));
         assertTrue(contextManager.getMetaDataContexts().getOptimizerContext().getFederationMetaData().getSchemas().get("foo_schema").getTables().containsKey("foo_table"));
+        assertThat(contextManager.getPreparedStatementCacheVersions().getVersion("foo_schema"), is(1L));
+    }
+    
+    @Test
+    public void assertAlterSchemaWithExistedPlannerContext() {
+        TableMetaData fooTable = new TableMetaData("foo_table", Collections.emptyList(), Collections.emptyList());
+        TableMetaData barTable = new TableMetaData("bar_table", Collections.emptyList(), Collections.emptyList());
+        TableMetaData bazTable = new TableMetaData("baz_table", Collections.emptyList(), Collections.emptyList());
+        Map<String, TableMetaData> originalTables = new LinkedHashMap<>();
+        originalTables.put("bar_table", barTable);
+        originalTables.put("baz_table", bazTable);
+        when(metaDataContexts.getMetaData("foo_schema").getSchema()).thenReturn(new ShardingSphereSchema(originalTables));
+        FederationSchemaMetaData originalSchemaMetaData = new FederationSchemaMetaData("foo_schema", originalTables);
+        metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put("foo_schema", originalSchemaMetaData);
+        OptimizerPlannerContext plannerContext = new OptimizerPlannerContext(mock(SqlValidator.class), mock(SqlToRelConverter.class), new FederationSchema(originalSchemaMetaData));
+        when(metaDataContexts.getOptimizerContext().getPlannerContexts()).thenReturn(new HashMap<>(Collections.singletonMap("foo_schema", plannerContext)));
+        long originalSchemaVersion = plannerContext.getSchemaVersion();
+        Map<String, TableMetaData> alteredTables = new LinkedHashMap<>();
+        alteredTables.put("baz_table", bazTable);
+        alteredTables.put("foo_table", fooTable);
+        contextManager.alterSchema("foo_schema", new ShardingSphereSchema(alteredTables));
+        FederationSchemaMetaData actual = contextManager.getMetaDataContexts().getOptimizerContext().getFederationMetaData().getSchemas().get("foo_schema");
+        assertThat(actual.getTables().get("baz_table"), sameInstance(originalSchemaMetaData.getTables().get("baz_table")));
+        assertThat(contextManager.getMetaDataContexts().getOptimizerContext().getPlannerContexts().get("foo_schema"), is(plannerContext));
+        assertThat(plannerContext.getSchema().getTableMap().keySet(), is(new HashSet<>(Arrays.asList("baz_table", "foo_table"))));
+        assertThat(((FederationTable) plannerContext.getSchema().getTableMap().get("baz_table")).getMetaData(), sameInstance(actual.getTables().get("baz_table")));
+        assertThat(((FederationTable) plannerContext.getSchema().getTableMap().get("foo_table")).getMetaData(), sameInstance(actual.getTables().get("foo_table")));
+        assertThat(plannerContext.getSchemaVersion(), is(originalSchemaVersion + 1));
+        assertFalse(originalSchemaMetaData.getTables().containsKey("foo_table"));
     }
     
     @Test
@@ -134,6 +171,7 @@ public final class ContextManagerTest {
         assertFalse(contextManager.getMetaDataContexts().getOptimizerContext().getFederationMetaData().getSchemas().containsKey("foo_schema"));
         assertFalse(contextManager.getMetaDataContexts().getOptimizerContext().getParserContexts().containsKey("foo_schema"));
         assertFalse(contextManager.getMetaDataContexts().getOptimizerContext().getPlannerContexts().containsKey("foo_schema"));
+        assertThat(contextManager.getPreparedStatementCacheVersions().getVersion("foo_schema"), is(1L));
     }
     
     @Test
@@ -17,9 +17,9 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator;
 
-import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.eventbus.AsyncSubscribe;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.metadata.schema.QualifiedSchema;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
@@ -74,7 +74,7 @@ public final class ClusterContextManagerCoordinator {
      * @param event schema added event
      * @throws SQLException SQL exception
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final SchemaAddedEvent event) throws SQLException {
         persistSchema(event.getSchemaName());
         contextManager.addSchema(event.getSchemaName());
@@ -85,7 +85,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event schema delete event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final SchemaDeletedEvent event) {
         contextManager.deleteSchema(event.getSchemaName());
     }
@@ -95,7 +95,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event properties changed event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final PropertiesChangedEvent event) {
         contextManager.alterProperties(event.getProps());
     }
@@ -105,7 +105,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event meta data changed event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final SchemaChangedEvent event) {
         contextManager.alterSchema(event.getSchemaName(), event.getChangedTableMetaData(), event.getDeletedTable());
     }
@@ -115,7 +115,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event rule configurations changed event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final RuleConfigurationsChangedEvent event) {
         if (metaDataPersistService.getSchemaVersionPersistService().isActiveVersion(event.getSchemaName(), event.getSchemaVersion())) {
             contextManager.alterRuleConfiguration(event.getSchemaName(), event.getRuleConfigurations());
@@ -128,7 +128,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event data source changed event.
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final DataSourceChangedEvent event) {
         if (metaDataPersistService.getSchemaVersionPersistService().isActiveVersion(event.getSchemaName(), event.getSchemaVersion())) {
             contextManager.alterDataSourceConfiguration(event.getSchemaName(), event.getDataSourcePropertiesMap());
@@ -141,7 +141,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event disabled state changed event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final DisabledStateChangedEvent event) {
         QualifiedSchema qualifiedSchema = event.getQualifiedSchema();
         contextManager.getMetaDataContexts().getMetaDataMap().get(qualifiedSchema.getSchemaName()).getRuleMetaData().getRules()
@@ -156,7 +156,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event primary state changed event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final PrimaryStateChangedEvent event) {
         QualifiedSchema qualifiedSchema = event.getQualifiedSchema();
         contextManager.getMetaDataContexts().getMetaDataMap().get(qualifiedSchema.getSchemaName()).getRuleMetaData().getRules()
@@ -171,7 +171,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event global rule configurations changed event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final GlobalRuleConfigurationsChangedEvent event) {
         contextManager.alterGlobalRuleConfiguration(event.getRuleConfigurations());
     }
@@ -181,7 +181,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event state event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final StateEvent event) {
         if (contextManager.getInstanceContext().getInstance().getInstanceDefinition().getInstanceId().getId().equals(event.getInstanceId())) {
             contextManager.getInstanceContext().updateInstanceStatus(event.getStatus());
@@ -193,7 +193,7 @@ public final class ClusterContextManagerCoordinator {
      *
      * @param event worker id event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final WorkerIdEvent event) {
         if (contextManager.getInstanceContext().getInstance().getInstanceDefinition().getInstanceId().getId().equals(event.getInstanceId())) {
             contextManager.getInstanceContext().updateWorkerId(event.getWorkerId());
@@ -205,7 +205,7 @@ public final class ClusterContextManagerCoordinator {
      * 
      * @param event label event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final LabelsEvent event) {
         if (contextManager.getInstanceContext().getInstance().getInstanceDefinition().getInstanceId().getId().equals(event.getInstanceId())) {
             contextManager.getInstanceContext().updateLabel(event.getLabels());
@@ -217,7 +217,7 @@ public final class ClusterContextManagerCoordinator {
      * 
      * @param event schema version changed event
      */
-    @Subscribe
+    @AsyncSubscribe
     public synchronized void renew(final SchemaVersionChangedEvent event) {
         Map<String, DataSourceProperties> dataSourcePropertiesMap = metaDataPersistService.getDataSourceService().load(event.getSchemaName(), event.getActiveVersion());
         Collection<RuleConfiguration> ruleConfigs = metaDataPersistService.getSchemaRuleService().load(event.getSchemaName(), event.getActiveVersion());
@@ -19,19 +19,33 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.conf
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.eventbus.CoalescibleEvent;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
+import java.util.Optional;
+
 /**
  * Schema changed event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class SchemaChangedEvent implements GovernanceEvent {
+public final class SchemaChangedEvent implements GovernanceEvent, CoalescibleEvent {
 
     private final String schemaName;
     
     private final TableMetaData changedTableMetaData;
     
     private final String deletedTable;
+    
+    @Override
+    public Optional<String> getCoalescingKey() {
+        if (null != changedTableMetaData && null == deletedTable) {
+            return Optional.of(schemaName + "." + changedTableMetaData.getName());
+        }
+        if (null == changedTableMetaData && null != deletedTable) {
+            return Optional.of(schemaName + "." + deletedTable);
+        }
+        return Optional.empty();
+    }
 }
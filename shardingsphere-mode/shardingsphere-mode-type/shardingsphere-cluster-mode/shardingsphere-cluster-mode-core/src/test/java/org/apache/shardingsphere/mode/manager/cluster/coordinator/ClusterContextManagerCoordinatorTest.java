@@ -28,6 +28,8 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
+import org.apache.shardingsphere.infra.eventbus.AsyncEventSubscriber;
+import org.apache.shardingsphere.infra.eventbus.AsyncOrderedEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
@@ -84,6 +86,8 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -92,9 +96,12 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -266,6 +273,40 @@ public final class ClusterContextManagerCoordinatorTest {
         verify(mockStatusContainedRule).updateStatus(any());
     }
     
+    @Test
+    public void assertRenewWithoutLosingFloodedGovernanceEvents() throws InterruptedException {
+        int eventCount = 100;
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CountDownLatch updatedLatch = new CountDownLatch(eventCount * 2 + 1);
+        StatusContainedRule statusContainedRule = mock(StatusContainedRule.class);
+        doAnswer(invocation -> {
+            startedLatch.countDown();
+            blockingLatch.await();
+            updatedLatch.countDown();
+            return null;
+        }).when(statusContainedRule).updateStatus(any());
+        ShardingSphereMetaData floodMetaData = mock(ShardingSphereMetaData.class);
+        when(floodMetaData.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(new LinkedList<>(), Collections.singleton(statusContainedRule)));
+        contextManager.getMetaDataContexts().getMetaDataMap().put("flood_schema", floodMetaData);
+        AsyncOrderedEventBus eventBus = new AsyncOrderedEventBus(2);
+        eventBus.register(coordinator);
+        eventBus.post(new DisabledStateChangedEvent(new QualifiedSchema("flood_schema.ds_0"), true));
+        assertTrue(startedLatch.await(5L, TimeUnit.SECONDS));
+        for (int i = 0; i < eventCount; i++) {
+            eventBus.post(new RuleConfigurationsChangedEvent("flood_schema", String.valueOf(i), new LinkedList<>()));
+            eventBus.post(new DataSourceChangedEvent("flood_schema", String.valueOf(i), new LinkedHashMap<>()));
+            eventBus.post(new DisabledStateChangedEvent(new QualifiedSchema("flood_schema.ds_0"), 0 == i % 2));
+            eventBus.post(new PrimaryStateChangedEvent(new QualifiedSchema("flood_schema.ds_0"), "ds_" + i));
+        }
+        AsyncEventSubscriber asyncSubscriber = eventBus.getAsyncSubscribers().iterator().next();
+        assertThat(asyncSubscriber.getOverflowedCount(), is(eventCount * 4L - 2L));
+        blockingLatch.countDown();
+        assertTrue(updatedLatch.await(10L, TimeUnit.SECONDS));
+        verify(metaDataPersistService.getSchemaVersionPersistService(), times(eventCount * 2)).isActiveVersion(eq("flood_schema"), anyString());
+        eventBus.unregister(coordinator);
+    }
+    
     @Test
     public void assertRenewInstanceStatus() {
         Collection<String> testStates = new LinkedList<>();
@@ -294,7 +335,7 @@ public final class ClusterContextManagerCoordinatorTest {
         coordinator.renew(mockLabelsEvent);
         assertThat(contextManager.getInstanceContext().getInstance().getLabels(), is(labels));
     }
-
+    
     @Test
     public void assertRenewSchemaVersionChangedEvent() {
         when(metaDataPersistService.getDataSourceService().load("schema", "1")).thenReturn(getVersionChangedDataSourcePropertiesMap());
@@ -308,7 +349,7 @@ public final class ClusterContextManagerCoordinatorTest {
         assertNotNull(contextManager.getDataSourceMap("schema").get("primary_ds"));
         assertThat(DataSourcePropertiesCreator.create(getDefaultMockedDataSource()), is(DataSourcePropertiesCreator.create(contextManager.getDataSourceMap("schema").get("primary_ds"))));
     }
-
+    
     private Map<String, DataSource> initContextManager() {
         Map<String, DataSource> result = getDataSourceMap();
         ShardingSphereResource shardingSphereResource = new ShardingSphereResource(result, mock(DataSourcesMetaData.class), mock(CachedDatabaseMetaData.class), mock(DatabaseType.class));
@@ -316,7 +357,7 @@ public final class ClusterContextManagerCoordinatorTest {
         contextManager.getMetaDataContexts().getMetaDataMap().put("schema", mockShardingSphereMetaData);
         return result;
     }
-
+    
     private Map<String, DataSource> getDataSourceMap() {
         Map<String, DataSource> result = new LinkedHashMap<>(3, 1);
         result.put("ds_0", getDefaultMockedDataSource());
@@ -324,7 +365,7 @@ public final class ClusterContextManagerCoordinatorTest {
         result.put("schema", getDefaultMockedDataSource());
         return result;
     }
-
+    
     private Map<String, DataSourceProperties> getVersionChangedDataSourcePropertiesMap() {
         Map<String, DataSourceProperties> result = new LinkedHashMap<>(3, 1);
         result.put("primary_ds", DataSourcePropertiesCreator.create(getDefaultMockedDataSource()));
@@ -332,11 +373,11 @@ public final class ClusterContextManagerCoordinatorTest {
         result.put("ds_1", DataSourcePropertiesCreator.create(getChangeMockedDataSource()));
         return result;
     }
-
+    
     private MockedDataSource getDefaultMockedDataSource() {
         return new MockedDataSource();
     }
-
+    
     private MockedDataSource getChangeMockedDataSource() {
         MockedDataSource result = new MockedDataSource();
         result.setMaxPoolSize(5);
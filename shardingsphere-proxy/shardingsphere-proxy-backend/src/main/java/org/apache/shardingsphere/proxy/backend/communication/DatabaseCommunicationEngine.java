@@ -92,7 +92,7 @@ public abstract class DatabaseCommunicationEngine<T> {
         metadataRefreshEngine = new MetaDataRefreshEngine(metaData,
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName),
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getOptimizerContext().getPlannerContexts(),
-                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps());
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps(), ProxyContext.getInstance().getContextManager().getPreparedStatementCacheVersions());
     }
     
     /**
@@ -218,5 +218,5 @@ public abstract class DatabaseCommunicationEngine<T> {
     protected boolean isBinary() {
         return !JDBCDriverType.STATEMENT.equals(driverType);
     }
-    
+
 }
@@ -127,6 +127,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         List result = proxySQLExecutor.execute(executionContext);
+        backendConnection.trackSessionState(getLogicSQL());
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult
@@ -164,6 +165,23 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         return new QueryResponseHeader(getQueryHeaders());
     }
     
+    /**
+     * Cancel statements which are executing.
+     *
+     * @return SQL exceptions when statements cancel
+     */
+    public Collection<SQLException> cancel() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Statement each : cachedStatements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Close database communication engine.
      *
@@ -198,7 +216,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
             try {
-                each.close();
+                backendConnection.getPreparedStatementCache().release(each);
             } catch (final SQLException ex) {
                 result.add(ex);
             }
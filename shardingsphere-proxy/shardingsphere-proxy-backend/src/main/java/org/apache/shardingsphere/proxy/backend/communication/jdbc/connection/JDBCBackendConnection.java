@@ -23,9 +23,12 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCache;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
@@ -63,6 +66,8 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     private volatile FederationExecutor federationExecutor;
     
+    private volatile AutoCloseable bulkCopy;
+    
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
     private final Collection<JDBCDatabaseCommunicationEngine> databaseCommunicationEngines = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
@@ -75,6 +80,10 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     private final ConnectionStatus connectionStatus = new ConnectionStatus();
     
+    private final SessionStateTracker sessionStateTracker = new SessionStateTracker();
+    
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
     private final Map<String, StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetters;
     
     public JDBCBackendConnection(final ConnectionSession connectionSession) {
@@ -113,6 +122,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getSchemaName(), dataSourceName, connectionSize, connectionMode);
         for (Connection each : result) {
             replayTransactionOption(each);
+            sessionStateTracker.replay(each);
         }
         if (connectionSession.getTransactionStatus().isInTransaction()) {
             for (Connection each : result) {
@@ -127,7 +137,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
             each.process(target);
         }
     }
-
+    
     private void replayTransactionOption(final Connection connection) throws SQLException {
         if (null == connection) {
             return;
@@ -152,8 +162,9 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     @Override
     public PreparedStatement createStorageResource(final String sql, final List<Object> parameters, 
                                                    final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        PreparedStatement result = preparedStatementCache.getPreparedStatement(connection, ProxyContext.getInstance().getContextManager().getPreparedStatementCacheVersions(),
+                connectionSession.getSchemaName(), sql, option, getPreparedStatementCacheSize(),
+                each -> option.isReturnGeneratedKeys() ? each.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : each.prepareStatement(sql));
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -168,6 +179,13 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         return result;
     }
     
+    private int getPreparedStatementCacheSize() {
+        if (TransactionType.LOCAL != connectionSession.getTransactionStatus().getTransactionType()) {
+            return 0;
+        }
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE);
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(connectionSession.getSchemaName()).getResource().getDatabaseType();
         if (fetchSizeSetters.containsKey(databaseType.getName())) {
@@ -175,6 +193,23 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         }
     }
     
+    /**
+     * Track session state changed by executed SQL statement.
+     *
+     * @param logicSQL executed logic SQL
+     * @throws SQLException SQL exception
+     */
+    public void trackSessionState(final LogicSQL logicSQL) throws SQLException {
+        if (!sessionStateTracker.track(logicSQL)) {
+            return;
+        }
+        synchronized (cachedConnections) {
+            for (Connection each : cachedConnections.values()) {
+                sessionStateTracker.markApplied(each);
+            }
+        }
+    }
+    
     /**
      * Whether execute SQL serial or not.
      *
@@ -223,7 +258,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     @Override
     public Void prepareForTaskExecution() throws BackendConnectionException {
-        if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction()) {
+        if (!isConnectionHeld()) {
             connectionStatus.waitUntilConnectionRelease();
             connectionStatus.switchToUsing();
         }
@@ -243,7 +278,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         Collection<Exception> result = new LinkedList<>();
         result.addAll(closeDatabaseCommunicationEngines(false));
         result.addAll(closeFederationExecutor());
-        if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction()) {
+        if (!isConnectionHeld()) {
             result.addAll(closeDatabaseCommunicationEngines(true));
             result.addAll(closeConnections(false));
             connectionStatus.switchToReleased();
@@ -254,14 +289,32 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         throw new BackendConnectionException(result);
     }
     
+    private boolean isConnectionHeld() {
+        return connectionSession.getTransactionStatus().isInConnectionHeldTransaction() || sessionStateTracker.isPinned() || null != bulkCopy;
+    }
+    
     @Override
     public Void closeAllResources() {
+        closeBulkCopy();
         closeDatabaseCommunicationEngines(true);
         closeConnections(true);
         closeFederationExecutor();
         return null;
     }
     
+    /**
+     * Cancel statements executing in database communication engines.
+     *
+     * @return SQL exception when statements cancel
+     */
+    public Collection<SQLException> cancelStatements() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (JDBCDatabaseCommunicationEngine each : databaseCommunicationEngines) {
+            result.addAll(each.cancel());
+        }
+        return result;
+    }
+    
     /**
      * Close database communication engines.
      *
@@ -300,7 +353,9 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
                 if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                     each.rollback();
                 }
+                preparedStatementCache.clear(each);
                 resetConnection(each);
+                sessionStateTracker.reset(each);
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
@@ -310,7 +365,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         connectionPostProcessors.clear();
         return result;
     }
-
+    
     private void resetConnection(final Connection connection) throws SQLException {
         if (null == connection) {
             return;
@@ -322,7 +377,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
             connection.setTransactionIsolation(TransactionUtil.getTransactionIsolationLevel(connectionSession.getIsolationLevel()));
         }
     }
-
+    
     /**
      * Close federation executor.
      * 
@@ -339,4 +394,24 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         }
         return result;
     }
+    
+    /**
+     * Close bulk copy which holds connections across commands.
+     *
+     * @return exception when bulk copy close
+     */
+    public synchronized Collection<Exception> closeBulkCopy() {
+        Collection<Exception> result = new LinkedList<>();
+        if (null != bulkCopy) {
+            try {
+                bulkCopy.close();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                result.add(ex);
+            }
+            bulkCopy = null;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DeallocateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DeclareStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.PrepareStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.UnlockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLLockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dal.OpenGaussSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Session state tracker.
+ * 
+ * <p>Backend connections are borrowed per statement or per transaction, so session variables set by client are tracked and replayed on borrowed connections.
+ * Session state which can not be replayed, such as locked tables, temporary tables and prepared statements, pins backend connections to the session.
+ * Locked tables are unpinned by UNLOCK TABLES and prepared statements are unpinned by DEALLOCATE,
+ * temporary tables, cursors and session variables which can not be replayed pin backend connections until the session closed.</p>
+ */
+public final class SessionStateTracker {
+    
+    private static final Map<Connection, Map<String, SessionVariable>> APPLIED_SESSION_VARIABLES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private static final Pattern CREATE_TEMPORARY_TABLE_PATTERN = Pattern.compile("^\\s*CREATE\\s+((GLOBAL|LOCAL)\\s+)?(TEMP|TEMPORARY)\\s+TABLE\\s", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern PREPARE_PATTERN = Pattern.compile("^\\s*PREPARE\\s+([^\\s(;]+)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern DEALLOCATE_PATTERN = Pattern.compile("^\\s*(DEALLOCATE|DROP)\\s+(PREPARE\\s+)?([^\\s;]+)", Pattern.CASE_INSENSITIVE);
+    
+    private static final String DEALLOCATE_ALL = "all";
+    
+    private final Map<String, SessionVariable> sessionVariables = new LinkedHashMap<>();
+    
+    private final Collection<String> preparedStatementNames = new HashSet<>();
+    
+    private boolean tablesLocked;
+    
+    private boolean permanentlyPinned;
+    
+    /**
+     * Track session state changed by executed SQL statement.
+     *
+     * @param logicSQL executed logic SQL
+     * @return whether session variables changed or not
+     */
+    public synchronized boolean track(final LogicSQL logicSQL) {
+        if (permanentlyPinned) {
+            return false;
+        }
+        SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
+        String sql = logicSQL.getSql();
+        if (sqlStatement instanceof SetStatement) {
+            return trackSetStatement((SetStatement) sqlStatement, sql, logicSQL.getParameters().isEmpty());
+        }
+        if (sqlStatement instanceof MySQLLockStatement) {
+            tablesLocked = true;
+        } else if (sqlStatement instanceof UnlockStatement) {
+            tablesLocked = false;
+        } else if (sqlStatement instanceof PrepareStatement) {
+            trackPrepareStatement(sql);
+        } else if (sqlStatement instanceof DeallocateStatement) {
+            trackDeallocateStatement(sql);
+        } else if (sqlStatement instanceof DeclareStatement || (sqlStatement instanceof CreateTableStatement && CREATE_TEMPORARY_TABLE_PATTERN.matcher(sql).find())) {
+            permanentlyPinned = true;
+        }
+        return false;
+    }
+    
+    private void trackPrepareStatement(final String sql) {
+        Matcher matcher = PREPARE_PATTERN.matcher(sql);
+        if (matcher.find()) {
+            preparedStatementNames.add(matcher.group(1).toLowerCase());
+        } else {
+            permanentlyPinned = true;
+        }
+    }
+    
+    private void trackDeallocateStatement(final String sql) {
+        Matcher matcher = DEALLOCATE_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return;
+        }
+        String name = matcher.group(3).toLowerCase();
+        if (DEALLOCATE_ALL.equals(name)) {
+            preparedStatementNames.clear();
+        } else {
+            preparedStatementNames.remove(name);
+        }
+    }
+    
+    private boolean trackSetStatement(final SetStatement sqlStatement, final String sql, final boolean replayable) {
+        if (!replayable || sqlStatement.getVariableAssigns().isEmpty()) {
+            permanentlyPinned = true;
+            return false;
+        }
+        Collection<SessionVariable> changedVariables = new LinkedList<>();
+        for (VariableAssignSegment each : sqlStatement.getVariableAssigns()) {
+            if (isSessionScope(sqlStatement, each)) {
+                Optional<SessionVariable> sessionVariable = createSessionVariable(sqlStatement, each, sql);
+                if (!sessionVariable.isPresent()) {
+                    permanentlyPinned = true;
+                    return false;
+                }
+                changedVariables.add(sessionVariable.get());
+            }
+        }
+        for (SessionVariable each : changedVariables) {
+            sessionVariables.remove(each.getName());
+            if (!each.isDefaultValue()) {
+                sessionVariables.put(each.getName(), each);
+            }
+        }
+        return !changedVariables.isEmpty();
+    }
+    
+    private boolean isSessionScope(final SetStatement sqlStatement, final VariableAssignSegment variableAssign) {
+        String scope = variableAssign.getVariable().getScope();
+        if (sqlStatement instanceof MySQLSetStatement) {
+            String variable = variableAssign.getVariable().getVariable().toLowerCase();
+            return (null == scope || "session".equalsIgnoreCase(scope) || "local".equalsIgnoreCase(scope))
+                    && !variable.startsWith("@@global.") && !variable.startsWith("@@persist.") && !variable.startsWith("@@persist_only.");
+        }
+        return !"local".equalsIgnoreCase(scope);
+    }
+    
+    private Optional<SessionVariable> createSessionVariable(final SetStatement sqlStatement, final VariableAssignSegment variableAssign, final String sql) {
+        String variable = variableAssign.getVariable().getVariable();
+        if (null == variable || variableAssign.getStartIndex() >= variableAssign.getStopIndex() || variableAssign.getStopIndex() >= sql.length()) {
+            return Optional.empty();
+        }
+        String setSQL = "SET " + sql.substring(variableAssign.getStartIndex(), variableAssign.getStopIndex() + 1);
+        boolean defaultValue = "DEFAULT".equalsIgnoreCase(variableAssign.getAssignValue());
+        if (sqlStatement instanceof MySQLSetStatement) {
+            if (variable.startsWith("@") && !variable.startsWith("@@")) {
+                return Optional.of(new SessionVariable(variable.toLowerCase(), setSQL, "SET " + variable + " = NULL", false));
+            }
+            String name = getMySQLSystemVariableName(variable);
+            return "charset".equals(name) ? Optional.empty() : Optional.of(new SessionVariable(name, setSQL, "SET SESSION " + name + " = DEFAULT", defaultValue));
+        }
+        if (sqlStatement instanceof PostgreSQLSetStatement || sqlStatement instanceof OpenGaussSetStatement) {
+            String name = variable.toLowerCase();
+            return "client_encoding".equals(name) ? Optional.empty() : Optional.of(new SessionVariable(name, setSQL, "RESET " + name, defaultValue));
+        }
+        return Optional.empty();
+    }
+    
+    private String getMySQLSystemVariableName(final String variable) {
+        String result = variable.toLowerCase();
+        if (result.startsWith("@@")) {
+            result = result.substring(2);
+        }
+        if (result.startsWith("session.")) {
+            return result.substring("session.".length());
+        }
+        return result.startsWith("local.") ? result.substring("local.".length()) : result;
+    }
+    
+    /**
+     * Replay tracked session variables on backend connection borrowed from pool.
+     *
+     * @param connection backend connection
+     * @throws SQLException SQL exception
+     */
+    public void replay(final Connection connection) throws SQLException {
+        Map<String, SessionVariable> expected = getSessionVariables();
+        Connection physicalConnection = getPhysicalConnection(connection);
+        Map<String, SessionVariable> applied = physicalConnection == connection ? Collections.emptyMap() : APPLIED_SESSION_VARIABLES.getOrDefault(physicalConnection, Collections.emptyMap());
+        if (expected.equals(applied)) {
+            return;
+        }
+        APPLIED_SESSION_VARIABLES.remove(physicalConnection);
+        try (Statement statement = connection.createStatement()) {
+            for (SessionVariable each : applied.values()) {
+                if (!expected.containsKey(each.getName())) {
+                    statement.execute(each.getResetSQL());
+                }
+            }
+            for (SessionVariable each : expected.values()) {
+                if (!each.equals(applied.get(each.getName()))) {
+                    statement.execute(each.getSetSQL());
+                }
+            }
+        }
+        markApplied(physicalConnection, expected);
+    }
+    
+    /**
+     * Mark tracked session variables as applied on backend connection.
+     *
+     * @param connection backend connection
+     * @throws SQLException SQL exception
+     */
+    public void markApplied(final Connection connection) throws SQLException {
+        markApplied(getPhysicalConnection(connection), getSessionVariables());
+    }
+    
+    private void markApplied(final Connection physicalConnection, final Map<String, SessionVariable> sessionVariables) {
+        if (sessionVariables.isEmpty()) {
+            APPLIED_SESSION_VARIABLES.remove(physicalConnection);
+        } else {
+            APPLIED_SESSION_VARIABLES.put(physicalConnection, sessionVariables);
+        }
+    }
+    
+    /**
+     * Reset session variables before backend connection returned to pool.
+     * 
+     * <p>Applied session variables are kept if reset failed, so they are reset by next borrower which replays session variables.</p>
+     *
+     * @param connection backend connection
+     * @throws SQLException SQL exception
+     */
+    public void reset(final Connection connection) throws SQLException {
+        Connection physicalConnection = getPhysicalConnection(connection);
+        Map<String, SessionVariable> applied = APPLIED_SESSION_VARIABLES.get(physicalConnection);
+        if (null == applied) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (SessionVariable each : applied.values()) {
+                statement.execute(each.getResetSQL());
+            }
+        }
+        APPLIED_SESSION_VARIABLES.remove(physicalConnection);
+    }
+    
+    /**
+     * Judge whether backend connections are pinned to the session.
+     *
+     * @return backend connections are pinned or not
+     */
+    public synchronized boolean isPinned() {
+        return permanentlyPinned || tablesLocked || !preparedStatementNames.isEmpty();
+    }
+    
+    /**
+     * Get names of tracked session variables.
+     *
+     * @return names of tracked session variables
+     */
+    public synchronized Collection<String> getSessionVariableNames() {
+        return new LinkedList<>(sessionVariables.keySet());
+    }
+    
+    private synchronized Map<String, SessionVariable> getSessionVariables() {
+        return sessionVariables.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(sessionVariables));
+    }
+    
+    private static Connection getPhysicalConnection(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    private static final class SessionVariable {
+        
+        private final String name;
+        
+        private final String setSQL;
+        
+        private final String resetSQL;
+        
+        private final boolean defaultValue;
+    }
+}
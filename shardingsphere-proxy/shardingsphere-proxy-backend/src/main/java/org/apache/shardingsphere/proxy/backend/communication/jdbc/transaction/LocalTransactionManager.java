@@ -18,8 +18,12 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.model.ForceExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.TransactionManager;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -56,17 +60,7 @@ public final class LocalTransactionManager implements TransactionManager<Void> {
     }
     
     private Collection<SQLException> commitConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.commit();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            } finally {
-                ConnectionSavepointManager.getInstance().transactionFinished(each);
-            }
-        }
-        return result;
+        return forceExecute(Connection::commit);
     }
     
     @Override
@@ -79,19 +73,40 @@ public final class LocalTransactionManager implements TransactionManager<Void> {
     }
     
     private Collection<SQLException> rollbackConnections() {
+        return forceExecute(Connection::rollback);
+    }
+    
+    private Collection<SQLException> forceExecute(final ForceExecutorCallback<Connection> callback) {
+        Collection<Connection> connections = connection.getCachedConnections().values();
+        ForceExecutorCallback<Connection> transactionFinishedCallback = each -> {
+            try {
+                callback.execute(each);
+            } finally {
+                ConnectionSavepointManager.getInstance().transactionFinished(each);
+            }
+        };
+        if (isParallel(connections.size())) {
+            return BackendExecutorContext.getInstance().getExecutorEngine().forceExecute(connections, transactionFinishedCallback, false);
+        }
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connections) {
             try {
-                each.rollback();
+                transactionFinishedCallback.execute(each);
             } catch (final SQLException ex) {
                 result.add(ex);
-            } finally {
-                ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
         }
         return result;
     }
     
+    private boolean isParallel(final int connectionSize) {
+        if (connectionSize < 2) {
+            return false;
+        }
+        int threshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.LOCAL_TRANSACTION_PARALLEL_THRESHOLD);
+        return threshold > 0 && connectionSize >= threshold;
+    }
+    
     @Override
     public Void setSavepoint(final String savepointName) throws SQLException {
         if (!connection.getConnectionSession().getTransactionStatus().isInTransaction()) {
@@ -24,6 +24,7 @@ import lombok.Setter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.session.SessionAttributes;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementSchemaHolder;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
@@ -55,16 +56,18 @@ public final class ConnectionSession {
     
     @Getter(AccessLevel.NONE)
     private final AtomicBoolean autoCommit = new AtomicBoolean(true);
-
+    
     @Getter(AccessLevel.NONE)
     private AtomicBoolean readOnly = new AtomicBoolean(false);
-
+    
     private TransactionIsolationLevel defaultIsolationLevel;
-
+    
     private TransactionIsolationLevel isolationLevel;
-
+    
     private final BackendConnection backendConnection;
     
+    private final SessionAttributes sessionAttributes = new SessionAttributes();
+    
     public ConnectionSession(final TransactionType initialTransactionType, final AttributeMap attributeMap) {
         transactionStatus = new TransactionStatus(initialTransactionType);
         this.attributeMap = attributeMap;
@@ -117,7 +120,7 @@ public final class ConnectionSession {
     public boolean isAutoCommit() {
         return autoCommit.get();
     }
-
+    
     /**
      * Set autocommit.
      *
@@ -126,7 +129,7 @@ public final class ConnectionSession {
     public void setAutoCommit(final boolean autoCommit) {
         this.autoCommit.set(autoCommit);
     }
-
+    
     /**
      * Is readonly.
      *
@@ -135,7 +138,7 @@ public final class ConnectionSession {
     public boolean isReadOnly() {
         return readOnly.get();
     }
-
+    
     /**
      * Set readonly.
      *
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connection session registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionSessionRegistry {
+    
+    private static final ConnectionSessionRegistry INSTANCE = new ConnectionSessionRegistry();
+    
+    private final Map<Integer, ConnectionSession> connectionSessions = new ConcurrentHashMap<>(65535, 1);
+    
+    /**
+     * Get connection session registry instance.
+     *
+     * @return connection session registry instance
+     */
+    public static ConnectionSessionRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register connection session.
+     *
+     * @param connectionSession connection session
+     */
+    public void register(final ConnectionSession connectionSession) {
+        connectionSessions.put(connectionSession.getConnectionId(), connectionSession);
+    }
+    
+    /**
+     * Unregister connection session.
+     *
+     * @param connectionId connection ID
+     */
+    public void unregister(final int connectionId) {
+        connectionSessions.remove(connectionId);
+    }
+    
+    /**
+     * Find connection session.
+     *
+     * @param connectionId connection ID
+     * @return connection session
+     */
+    public Optional<ConnectionSession> find(final int connectionId) {
+        return Optional.ofNullable(connectionSessions.get(connectionId));
+    }
+}
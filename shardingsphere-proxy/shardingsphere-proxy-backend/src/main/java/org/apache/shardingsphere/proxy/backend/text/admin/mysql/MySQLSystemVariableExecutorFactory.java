@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminQueryExecutor;
+import org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor.SelectSystemVariableExecutor;
+import org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor.ShowVariablesExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowVariablesStatement;
+
+import java.util.Optional;
+
+/**
+ * System variable executor factory for MySQL.
+ * 
+ * <p>Session init queries and validation queries, such as SELECT @@session.auto_increment_increment, SHOW VARIABLES and SELECT 1, are answered by proxy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLSystemVariableExecutorFactory {
+    
+    /**
+     * Create new instance of system variable executor.
+     *
+     * @param sqlStatement SQL statement
+     * @param sql SQL being executed
+     * @return new instance of system variable executor
+     */
+    public static Optional<DatabaseAdminQueryExecutor> newInstance(final SQLStatement sqlStatement, final String sql) {
+        if (sqlStatement instanceof SelectStatement && SelectSystemVariableExecutor.isSupported((SelectStatement) sqlStatement) && isJDBCResourceAvailable()) {
+            return Optional.of(new SelectSystemVariableExecutor((SelectStatement) sqlStatement, sql));
+        }
+        if (sqlStatement instanceof MySQLShowVariablesStatement && ShowVariablesExecutor.isSupported((MySQLShowVariablesStatement) sqlStatement) && isJDBCResourceAvailable()) {
+            return Optional.of(new ShowVariablesExecutor((MySQLShowVariablesStatement) sqlStatement, sql));
+        }
+        return Optional.empty();
+    }
+    
+    private static boolean isJDBCResourceAvailable() {
+        String driverType = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE);
+        return !"ExperimentalVertx".equals(driverType) && ProxyContext.getInstance().getAllSchemaNames().stream().anyMatch(each -> ProxyContext.getInstance().getMetaData(each).hasDataSource());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import com.google.common.primitives.Ints;
+import io.netty.channel.Channel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.KillDeniedException;
+import org.apache.shardingsphere.proxy.backend.exception.UnknownConnectionIdException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSessionRegistry;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminExecutor;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLKillStatement;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Kill executor.
+ */
+@RequiredArgsConstructor
+public final class KillExecutor implements DatabaseAdminExecutor {
+    
+    private static final String QUERY_SCOPE = "QUERY";
+    
+    private final MySQLKillStatement killStatement;
+    
+    @Override
+    public void execute(final ConnectionSession connectionSession) throws SQLException {
+        String processlistId = killStatement.getProcesslistId();
+        ConnectionSession target = Optional.ofNullable(Ints.tryParse(processlistId)).flatMap(each -> ConnectionSessionRegistry.getInstance().find(each))
+                .orElseThrow(() -> new UnknownConnectionIdException(processlistId));
+        if (!isKillPermitted(connectionSession.getGrantee(), target.getGrantee())) {
+            throw new KillDeniedException(processlistId);
+        }
+        cancelStatements(target);
+        if (!QUERY_SCOPE.equalsIgnoreCase(killStatement.getScope()) && target.getAttributeMap() instanceof Channel) {
+            ((Channel) target.getAttributeMap()).close();
+        }
+    }
+    
+    private boolean isKillPermitted(final Grantee grantee, final Grantee targetGrantee) {
+        Optional<AuthorityRule> authorityRule = findAuthorityRule();
+        if (null != targetGrantee && isSameAccount(grantee, targetGrantee, authorityRule)) {
+            return true;
+        }
+        return authorityRule.flatMap(each -> each.findPrivileges(grantee)).map(each -> each.hasPrivileges(Collections.singletonList(PrivilegeType.SUPER))).orElse(false);
+    }
+    
+    private Optional<AuthorityRule> findAuthorityRule() {
+        Collection<ShardingSphereRule> rules = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().getRules();
+        return rules.stream().filter(each -> each instanceof AuthorityRule).map(each -> (AuthorityRule) each).findFirst();
+    }
+    
+    private boolean isSameAccount(final Grantee grantee, final Grantee targetGrantee, final Optional<AuthorityRule> authorityRule) {
+        if (!authorityRule.isPresent()) {
+            return isSameGrantee(grantee, targetGrantee);
+        }
+        Optional<Grantee> account = authorityRule.get().findUser(grantee).map(ShardingSphereUser::getGrantee);
+        Optional<Grantee> targetAccount = authorityRule.get().findUser(targetGrantee).map(ShardingSphereUser::getGrantee);
+        return account.isPresent() && targetAccount.isPresent() && isSameGrantee(account.get(), targetAccount.get());
+    }
+    
+    private boolean isSameGrantee(final Grantee grantee, final Grantee targetGrantee) {
+        return grantee.getUsername().equalsIgnoreCase(targetGrantee.getUsername()) && grantee.getHostname().equalsIgnoreCase(targetGrantee.getHostname());
+    }
+    
+    private void cancelStatements(final ConnectionSession target) throws SQLException {
+        if (!(target.getBackendConnection() instanceof JDBCBackendConnection)) {
+            return;
+        }
+        Collection<SQLException> exceptions = ((JDBCBackendConnection) target.getBackendConnection()).cancelStatements();
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminQueryExecutor;
+import org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor.SystemVariableCache.SystemVariableValue;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ExpressionProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.NumberLiteralPaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Select system variable executor.
+ *
+ * <p>Answer SELECT without FROM which only contains literals and system variables, such as session init queries of drivers and validation queries of pools.
+ * Values of system variables are served from proxy session and cached global or session default values, and the query is delegated to backend if any variable was changed in session.</p>
+ */
+@RequiredArgsConstructor
+public final class SelectSystemVariableExecutor implements DatabaseAdminQueryExecutor {
+    
+    private static final Pattern SYSTEM_VARIABLE_PATTERN = Pattern.compile("^@@((global|session|local)\\.)?(\\w+)$", Pattern.CASE_INSENSITIVE);
+    
+    private final SelectStatement sqlStatement;
+    
+    private final String sql;
+    
+    @Getter
+    private QueryResultMetaData queryResultMetaData;
+    
+    @Getter
+    private MergedResult mergedResult;
+    
+    /**
+     * Judge whether SELECT statement can be answered by proxy.
+     *
+     * @param sqlStatement SELECT statement
+     * @return can be answered by proxy or not
+     */
+    public static boolean isSupported(final SelectStatement sqlStatement) {
+        if (null != sqlStatement.getFrom() || sqlStatement.getWhere().isPresent() || sqlStatement.getGroupBy().isPresent() || sqlStatement.getHaving().isPresent()
+                || sqlStatement.getOrderBy().isPresent() || !sqlStatement.getUnionSegments().isEmpty() || SelectStatementHandler.getLockSegment(sqlStatement).isPresent()
+                || sqlStatement.getProjections().getProjections().isEmpty()) {
+            return false;
+        }
+        Optional<LimitSegment> limit = SelectStatementHandler.getLimitSegment(sqlStatement);
+        if (limit.isPresent() && (limit.get().getOffset().isPresent() || !isPositiveRowCount(limit.get().getRowCount().orElse(null)))) {
+            return false;
+        }
+        return sqlStatement.getProjections().getProjections().stream().allMatch(SelectSystemVariableExecutor::isSupported);
+    }
+    
+    private static boolean isPositiveRowCount(final PaginationValueSegment rowCount) {
+        return rowCount instanceof NumberLiteralPaginationValueSegment && ((NumberLiteralPaginationValueSegment) rowCount).getValue() > 0;
+    }
+    
+    private static boolean isSupported(final ProjectionSegment projection) {
+        if (!(projection instanceof ExpressionProjectionSegment)) {
+            return false;
+        }
+        ExpressionProjectionSegment expressionProjection = (ExpressionProjectionSegment) projection;
+        if (expressionProjection.getExpr() instanceof LiteralExpressionSegment) {
+            Object literals = ((LiteralExpressionSegment) expressionProjection.getExpr()).getLiterals();
+            return literals instanceof Number || literals instanceof String || literals instanceof Boolean;
+        }
+        return SYSTEM_VARIABLE_PATTERN.matcher(expressionProjection.getText()).matches();
+    }
+    
+    @Override
+    public void execute(final ConnectionSession connectionSession) throws SQLException {
+        Optional<List<ProjectionValue>> projectionValues = getProjectionValues(connectionSession);
+        if (!projectionValues.isPresent()) {
+            UnicastResourceShowExecutor delegate = new UnicastResourceShowExecutor(sqlStatement, sql);
+            delegate.execute(connectionSession);
+            queryResultMetaData = delegate.getQueryResultMetaData();
+            mergedResult = delegate.getMergedResult();
+            return;
+        }
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(projectionValues.get().size());
+        List<Object> row = new ArrayList<>(projectionValues.get().size());
+        for (ProjectionValue each : projectionValues.get()) {
+            columns.add(each.getColumnMetaData());
+            row.add(each.getValue());
+        }
+        queryResultMetaData = new RawQueryResultMetaData(columns);
+        mergedResult = new TransparentMergedResult(new RawMemoryQueryResult(queryResultMetaData, Collections.singletonList(new MemoryQueryResultDataRow(row))));
+    }
+    
+    private Optional<List<ProjectionValue>> getProjectionValues(final ConnectionSession connectionSession) {
+        Collection<String> globalVariableNames = new LinkedHashSet<>();
+        Collection<String> sessionVariableNames = new LinkedHashSet<>();
+        for (ProjectionSegment each : sqlStatement.getProjections().getProjections()) {
+            if (((ExpressionProjectionSegment) each).getExpr() instanceof LiteralExpressionSegment) {
+                continue;
+            }
+            Matcher matcher = SYSTEM_VARIABLE_PATTERN.matcher(((ExpressionProjectionSegment) each).getText());
+            if (matcher.matches()) {
+                (isGlobal(matcher) ? globalVariableNames : sessionVariableNames).add(matcher.group(3).toLowerCase());
+            }
+        }
+        Map<String, SystemVariableValue> globalVariableValues = Collections.emptyMap();
+        Map<String, SystemVariableValue> sessionVariableValues = Collections.emptyMap();
+        if (!globalVariableNames.isEmpty() || !sessionVariableNames.isEmpty()) {
+            Optional<Collection<String>> changedVariableNames = SystemVariableCache.findChangedVariableNames(connectionSession);
+            if (!changedVariableNames.isPresent() || changedVariableNames.get().stream().anyMatch(sessionVariableNames::contains)) {
+                return Optional.empty();
+            }
+            Optional<String> schemaName = SystemVariableCache.findSchemaName(connectionSession);
+            if (!schemaName.isPresent()) {
+                return Optional.empty();
+            }
+            Optional<Map<String, SystemVariableValue>> loadedGlobalValues = SystemVariableCache.getSelectedVariables(schemaName.get(), globalVariableNames);
+            Optional<Map<String, SystemVariableValue>> loadedSessionValues = SystemVariableCache.getSelectedVariables(schemaName.get(), sessionVariableNames);
+            if (!loadedGlobalValues.isPresent() || !loadedSessionValues.isPresent()) {
+                return Optional.empty();
+            }
+            globalVariableValues = loadedGlobalValues.get();
+            sessionVariableValues = loadedSessionValues.get();
+        }
+        List<ProjectionValue> result = new ArrayList<>(sqlStatement.getProjections().getProjections().size());
+        for (ProjectionSegment each : sqlStatement.getProjections().getProjections()) {
+            result.add(createProjectionValue(connectionSession, (ExpressionProjectionSegment) each, globalVariableValues, sessionVariableValues));
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isGlobal(final Matcher matcher) {
+        return "global".equalsIgnoreCase(matcher.group(2));
+    }
+    
+    private ProjectionValue createProjectionValue(final ConnectionSession connectionSession, final ExpressionProjectionSegment projection,
+                                                  final Map<String, SystemVariableValue> globalVariableValues, final Map<String, SystemVariableValue> sessionVariableValues) {
+        String columnLabel = projection.getAlias().orElse(projection.getText());
+        if (projection.getExpr() instanceof LiteralExpressionSegment) {
+            return createLiteralValue(columnLabel, ((LiteralExpressionSegment) projection.getExpr()).getLiterals());
+        }
+        Matcher matcher = SYSTEM_VARIABLE_PATTERN.matcher(projection.getText());
+        matcher.matches();
+        String variableName = matcher.group(3).toLowerCase();
+        boolean global = isGlobal(matcher);
+        SystemVariableValue variableValue = global ? globalVariableValues.get(variableName) : sessionVariableValues.get(variableName);
+        Object value = global ? variableValue.getValue() : SystemVariableCache.findSessionValue(connectionSession, variableName, false).orElse(variableValue.getValue());
+        return new ProjectionValue(
+                new RawQueryResultColumnMetaData("", columnLabel, columnLabel, variableValue.getColumnType(), variableValue.getColumnTypeName(), variableValue.getColumnLength(), 0), value);
+    }
+    
+    private ProjectionValue createLiteralValue(final String columnLabel, final Object literals) {
+        if (literals instanceof Boolean) {
+            return new ProjectionValue(new RawQueryResultColumnMetaData("", columnLabel, columnLabel, Types.BIGINT, "BIGINT", 1, 0), (Boolean) literals ? 1L : 0L);
+        }
+        if (literals instanceof Integer || literals instanceof Long) {
+            return new ProjectionValue(new RawQueryResultColumnMetaData("", columnLabel, columnLabel, Types.BIGINT, "BIGINT", literals.toString().length(), 0), ((Number) literals).longValue());
+        }
+        if (literals instanceof Number) {
+            BigDecimal value = literals instanceof BigInteger ? new BigDecimal((BigInteger) literals) : new BigDecimal(literals.toString());
+            return new ProjectionValue(new RawQueryResultColumnMetaData("", columnLabel, columnLabel, Types.DECIMAL, "DECIMAL", value.toPlainString().length(), Math.max(value.scale(), 0)), value);
+        }
+        return new ProjectionValue(new RawQueryResultColumnMetaData("", columnLabel, columnLabel, Types.VARCHAR, "VARCHAR", literals.toString().length(), 0), literals);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ProjectionValue {
+        
+        private final RawQueryResultColumnMetaData columnMetaData;
+        
+        private final Object value;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminQueryExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.ShowFilterSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowVariablesStatement;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Show variables executor.
+ *
+ * <p>Answer SHOW [GLOBAL | SESSION] VARIABLES [LIKE 'pattern'] with cached global or session default values and values maintained by proxy session,
+ * and delegate to backend if any variable was changed in session.</p>
+ */
+@RequiredArgsConstructor
+public final class ShowVariablesExecutor implements DatabaseAdminQueryExecutor {
+    
+    private static final Pattern SHOW_GLOBAL_VARIABLES_PATTERN = Pattern.compile("\\bSHOW\\s+GLOBAL\\s+VARIABLES\\b", Pattern.CASE_INSENSITIVE);
+    
+    private final MySQLShowVariablesStatement sqlStatement;
+    
+    private final String sql;
+    
+    @Getter
+    private QueryResultMetaData queryResultMetaData;
+    
+    @Getter
+    private MergedResult mergedResult;
+    
+    /**
+     * Judge whether SHOW VARIABLES statement can be answered by proxy.
+     *
+     * @param sqlStatement SHOW VARIABLES statement
+     * @return can be answered by proxy or not
+     */
+    public static boolean isSupported(final MySQLShowVariablesStatement sqlStatement) {
+        Optional<ShowFilterSegment> filter = sqlStatement.getFilter();
+        return !filter.isPresent() || filter.get().getLike().isPresent() && !filter.get().getWhere().isPresent();
+    }
+    
+    @Override
+    public void execute(final ConnectionSession connectionSession) throws SQLException {
+        boolean global = SHOW_GLOBAL_VARIABLES_PATTERN.matcher(sql).find();
+        Optional<Map<String, String>> variables = getVariables(connectionSession, global);
+        if (!variables.isPresent()) {
+            executeByBackend(connectionSession);
+            return;
+        }
+        Optional<Pattern> likePattern = sqlStatement.getFilter().flatMap(ShowFilterSegment::getLike)
+                .map(each -> Pattern.compile(SQLUtil.convertLikePatternToRegex(each.getPattern()), Pattern.CASE_INSENSITIVE));
+        List<MemoryQueryResultDataRow> rows = new LinkedList<>();
+        for (Entry<String, String> entry : variables.get().entrySet()) {
+            if (likePattern.isPresent() && !likePattern.get().matcher(entry.getKey()).matches()) {
+                continue;
+            }
+            Object value = global ? entry.getValue() : SystemVariableCache.findSessionValue(connectionSession, entry.getKey().toLowerCase(), true).orElse(entry.getValue());
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(entry.getKey(), value)));
+        }
+        if (rows.isEmpty() && !global) {
+            executeByBackend(connectionSession);
+            return;
+        }
+        queryResultMetaData = new RawQueryResultMetaData(Arrays.asList(new RawQueryResultColumnMetaData("session_variables", "Variable_name", "Variable_name", Types.VARCHAR, "VARCHAR", 64, 0),
+                new RawQueryResultColumnMetaData("session_variables", "Value", "Value", Types.VARCHAR, "VARCHAR", 1024, 0)));
+        mergedResult = new TransparentMergedResult(new RawMemoryQueryResult(queryResultMetaData, rows));
+    }
+    
+    private void executeByBackend(final ConnectionSession connectionSession) throws SQLException {
+        UnicastResourceShowExecutor delegate = new UnicastResourceShowExecutor(sqlStatement, sql);
+        delegate.execute(connectionSession);
+        queryResultMetaData = delegate.getQueryResultMetaData();
+        mergedResult = delegate.getMergedResult();
+    }
+    
+    private Optional<Map<String, String>> getVariables(final ConnectionSession connectionSession, final boolean global) {
+        if (!global) {
+            Optional<Collection<String>> changedVariableNames = SystemVariableCache.findChangedVariableNames(connectionSession);
+            if (!changedVariableNames.isPresent() || changedVariableNames.get().stream().anyMatch(each -> !each.startsWith("@"))) {
+                return Optional.empty();
+            }
+        }
+        return SystemVariableCache.findSchemaName(connectionSession).flatMap(SystemVariableCache::getShownVariables);
+    }
+}
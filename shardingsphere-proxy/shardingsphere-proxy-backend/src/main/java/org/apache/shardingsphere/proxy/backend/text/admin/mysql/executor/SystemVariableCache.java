@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerInfo;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.SessionStateTracker;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+
+import javax.sql.DataSource;
+import java.nio.charset.Charset;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * System variable cache for MySQL.
+ *
+ * <p>Global values of system variables are loaded by a pooled connection from the first data source of schema and cached for a while,
+ * so that session init queries sent by drivers and pools do not hit backend on every new connection.
+ * Session default values are answered by global values, which initialize session values of new backend connections,
+ * because pooled connections may carry session state left by other sessions. Session only variables have no global values and are not answered.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SystemVariableCache {
+    
+    private static final long EXPIRE_SECONDS = 60L;
+    
+    private static final LoadingCache<String, Map<String, String>> SHOWN_VARIABLES = CacheBuilder.newBuilder().expireAfterWrite(EXPIRE_SECONDS, TimeUnit.SECONDS)
+            .build(new CacheLoader<String, Map<String, String>>() {
+                
+                @Override
+                public Map<String, String> load(final String schemaName) throws SQLException {
+                    return loadShownVariables(schemaName);
+                }
+            });
+    
+    private static final LoadingCache<VariableKey, SystemVariableValue> SELECTED_VARIABLES = CacheBuilder.newBuilder().expireAfterWrite(EXPIRE_SECONDS, TimeUnit.SECONDS)
+            .build(new CacheLoader<VariableKey, SystemVariableValue>() {
+                
+                @Override
+                public SystemVariableValue load(final VariableKey key) throws SQLException {
+                    return loadSelectedVariables(key.getSchemaName(), Collections.singletonList(key)).get(key);
+                }
+                
+                @Override
+                public Map<VariableKey, SystemVariableValue> loadAll(final Iterable<? extends VariableKey> keys) throws SQLException {
+                    Map<VariableKey, SystemVariableValue> result = new LinkedHashMap<>();
+                    Map<String, List<VariableKey>> keysGroupedBySchema = new LinkedHashMap<>();
+                    for (VariableKey each : keys) {
+                        keysGroupedBySchema.computeIfAbsent(each.getSchemaName(), unused -> new LinkedList<>()).add(each);
+                    }
+                    for (Entry<String, List<VariableKey>> entry : keysGroupedBySchema.entrySet()) {
+                        result.putAll(loadSelectedVariables(entry.getKey(), entry.getValue()));
+                    }
+                    return result;
+                }
+            });
+    
+    /**
+     * Find schema name whose first data source answers system variables.
+     *
+     * @param connectionSession connection session
+     * @return schema name
+     */
+    static Optional<String> findSchemaName(final ConnectionSession connectionSession) {
+        String schemaName = connectionSession.getSchemaName();
+        if (null != schemaName && ProxyContext.getInstance().schemaExists(schemaName)) {
+            return ProxyContext.getInstance().getMetaData(schemaName).hasDataSource() ? Optional.of(schemaName) : Optional.empty();
+        }
+        return ProxyContext.getInstance().getAllSchemaNames().stream().filter(each -> ProxyContext.getInstance().getMetaData(each).hasDataSource()).findFirst();
+    }
+    
+    /**
+     * Find names of variables changed in session.
+     *
+     * <p>Empty is returned if session state can not be tracked.</p>
+     *
+     * @param connectionSession connection session
+     * @return names of variables changed in session
+     */
+    static Optional<Collection<String>> findChangedVariableNames(final ConnectionSession connectionSession) {
+        if (!(connectionSession.getBackendConnection() instanceof JDBCBackendConnection)) {
+            return Optional.empty();
+        }
+        SessionStateTracker sessionStateTracker = ((JDBCBackendConnection) connectionSession.getBackendConnection()).getSessionStateTracker();
+        return sessionStateTracker.isPinned() ? Optional.empty() : Optional.of(sessionStateTracker.getSessionVariableNames());
+    }
+    
+    /**
+     * Find value of variable maintained by proxy session.
+     *
+     * <p>Character set variables are answered by the charset of session, which is negotiated in handshake or changed by SET NAMES.</p>
+     *
+     * @param connectionSession connection session
+     * @param variableName variable name in lower case
+     * @param shown whether value is shown by SHOW VARIABLES or selected by SELECT
+     * @return value of variable
+     */
+    static Optional<Object> findSessionValue(final ConnectionSession connectionSession, final String variableName, final boolean shown) {
+        switch (variableName) {
+            case "autocommit":
+                return Optional.of(toBooleanValue(connectionSession.isAutoCommit(), shown));
+            case "transaction_read_only":
+            case "tx_read_only":
+                return Optional.of(toBooleanValue(connectionSession.isReadOnly(), shown));
+            case "transaction_isolation":
+            case "tx_isolation":
+                return null == connectionSession.getIsolationLevel() ? Optional.empty() : Optional.of(connectionSession.getIsolationLevel().getIsolationLevel().replace('_', '-'));
+            case "character_set_client":
+            case "character_set_connection":
+            case "character_set_results":
+                return findSessionCharacterSet(connectionSession).map(SystemVariableCache::getCharacterSetName);
+            case "collation_connection":
+                return findSessionCharacterSet(connectionSession).map(each -> each.name().toLowerCase(Locale.ROOT));
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private static Optional<MySQLCharacterSet> findSessionCharacterSet(final ConnectionSession connectionSession) {
+        Charset charset = null == connectionSession.getAttributeMap() ? null : connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        if (null == charset) {
+            return Optional.empty();
+        }
+        if (charset.equals(MySQLServerInfo.DEFAULT_CHARSET.getCharset())) {
+            return Optional.of(MySQLServerInfo.DEFAULT_CHARSET);
+        }
+        Collection<MySQLCharacterSet> characterSets = Arrays.stream(MySQLCharacterSet.values()).filter(each -> charset.equals(each.getCharset())).collect(Collectors.toList());
+        Optional<MySQLCharacterSet> result = characterSets.stream().filter(each -> each.name().endsWith("_GENERAL_CI")).findFirst();
+        return result.isPresent() ? result : characterSets.stream().findFirst();
+    }
+    
+    private static String getCharacterSetName(final MySQLCharacterSet characterSet) {
+        String collation = characterSet.name().toLowerCase(Locale.ROOT);
+        return collation.contains("_") ? collation.substring(0, collation.indexOf('_')) : collation;
+    }
+    
+    private static Object toBooleanValue(final boolean value, final boolean shown) {
+        if (shown) {
+            return value ? "ON" : "OFF";
+        }
+        return value ? 1L : 0L;
+    }
+    
+    /**
+     * Get variables in the form of SHOW GLOBAL VARIABLES, which are also the default values of SHOW SESSION VARIABLES.
+     *
+     * @param schemaName schema name
+     * @return variable names and values, empty if failed to load
+     */
+    static Optional<Map<String, String>> getShownVariables(final String schemaName) {
+        try {
+            return Optional.of(SHOWN_VARIABLES.get(schemaName));
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Get variables in the form of SELECT @@GLOBAL.variable_name, which are also the default values of SELECT @@SESSION.variable_name.
+     *
+     * @param schemaName schema name
+     * @param variableNames variable names in lower case
+     * @return variable values, empty if failed to load or any variable is session only
+     */
+    static Optional<Map<String, SystemVariableValue>> getSelectedVariables(final String schemaName, final Collection<String> variableNames) {
+        try {
+            Map<VariableKey, SystemVariableValue> values = SELECTED_VARIABLES.getAll(variableNames.stream().map(each -> new VariableKey(schemaName, each)).collect(Collectors.toList()));
+            Map<String, SystemVariableValue> result = new LinkedHashMap<>(values.size(), 1);
+            values.forEach((key, value) -> result.put(key.getVariableName(), value));
+            return Optional.of(result);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private static Map<String, String> loadShownVariables(final String schemaName) throws SQLException {
+        Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        try (
+                Connection connection = getDataSource(schemaName).getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SHOW GLOBAL VARIABLES")) {
+            while (resultSet.next()) {
+                result.put(resultSet.getString(1), resultSet.getString(2));
+            }
+        }
+        return result;
+    }
+    
+    private static Map<VariableKey, SystemVariableValue> loadSelectedVariables(final String schemaName, final Collection<VariableKey> keys) throws SQLException {
+        Map<VariableKey, SystemVariableValue> result = new LinkedHashMap<>(keys.size(), 1);
+        String sql = "SELECT " + keys.stream().map(each -> "@@GLOBAL." + each.getVariableName()).collect(Collectors.joining(", "));
+        try (
+                Connection connection = getDataSource(schemaName).getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnIndex = 1;
+            for (VariableKey each : keys) {
+                result.put(each, new SystemVariableValue(
+                        resultSet.getObject(columnIndex), metaData.getColumnType(columnIndex), metaData.getColumnTypeName(columnIndex), metaData.getColumnDisplaySize(columnIndex)));
+                columnIndex++;
+            }
+        }
+        return result;
+    }
+    
+    private static DataSource getDataSource(final String schemaName) {
+        return ProxyContext.getInstance().getMetaData(schemaName).getResource().getDataSources().values().iterator().next();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    private static final class VariableKey {
+        
+        private final String schemaName;
+        
+        private final String variableName;
+    }
+    
+    /**
+     * System variable value.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    static final class SystemVariableValue {
+        
+        private final Object value;
+        
+        private final int columnType;
+        
+        private final String columnTypeName;
+        
+        private final int columnLength;
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCache;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
@@ -197,6 +198,7 @@ public final class JDBCDatabaseCommunicationEngineTest {
     
     @Test
     public void assertCloseCorrectly() throws SQLException {
+        when(backendConnection.getPreparedStatementCache()).thenReturn(new PreparedStatementCache());
         JDBCDatabaseCommunicationEngine engine =
                 DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
         Collection<ResultSet> cachedResultSets = getField(engine, "cachedResultSets");
@@ -212,6 +214,7 @@ public final class JDBCDatabaseCommunicationEngineTest {
     
     @Test
     public void assertCloseResultSetsWithExceptionThrown() throws SQLException {
+        when(backendConnection.getPreparedStatementCache()).thenReturn(new PreparedStatementCache());
         JDBCDatabaseCommunicationEngine engine =
                 DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
         Collection<ResultSet> cachedResultSets = getField(engine, "cachedResultSets");
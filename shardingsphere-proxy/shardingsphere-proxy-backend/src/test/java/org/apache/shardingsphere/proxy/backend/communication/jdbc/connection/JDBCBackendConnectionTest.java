@@ -62,6 +62,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -448,4 +449,15 @@ public final class JDBCBackendConnectionTest {
         verify(backendConnection).closeConnections(true);
         verify(backendConnection).closeFederationExecutor();
     }
+    
+    @Test
+    public void assertHoldConnectionsUntilBulkCopyClosed() throws Exception {
+        AutoCloseable bulkCopy = mock(AutoCloseable.class);
+        backendConnection.setBulkCopy(bulkCopy);
+        backendConnection.closeExecutionResources();
+        verify(backendConnection, never()).closeConnections(false);
+        assertTrue(backendConnection.closeBulkCopy().isEmpty());
+        verify(bulkCopy).close();
+        assertNull(backendConnection.getBulkCopy());
+    }
 }
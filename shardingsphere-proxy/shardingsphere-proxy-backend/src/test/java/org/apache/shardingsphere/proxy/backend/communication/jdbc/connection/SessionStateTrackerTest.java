@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLCreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLDeallocateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLPrepareStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLLockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLUnlockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SessionStateTrackerTest {
+    
+    @Test
+    public void assertReplaySessionVariables() throws SQLException {
+        SessionStateTracker tracker = new SessionStateTracker();
+        String sql = "SET sql_mode = 'ANSI', @@session.time_zone = '+08:00'";
+        assertTrue(tracker.track(createLogicSQL(createMySQLSetStatement(sql, null, "sql_mode = 'ANSI'", "@@session.time_zone = '+08:00'"), sql)));
+        Statement statement = mock(Statement.class);
+        tracker.replay(mockConnection(statement));
+        verify(statement).execute("SET sql_mode = 'ANSI'");
+        verify(statement).execute("SET @@session.time_zone = '+08:00'");
+        assertFalse(tracker.isPinned());
+    }
+    
+    @Test
+    public void assertReplaySkippedWhenPooledConnectionAlreadyApplied() throws SQLException {
+        SessionStateTracker tracker = new SessionStateTracker();
+        String sql = "SET @user_id = 1";
+        tracker.track(createLogicSQL(createMySQLSetStatement(sql, null, "@user_id = 1"), sql));
+        Connection physicalConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        tracker.replay(mockPooledConnection(physicalConnection, statement));
+        verify(statement).execute("SET @user_id = 1");
+        Connection nextBorrowedConnection = mockPooledConnection(physicalConnection, mock(Statement.class));
+        tracker.replay(nextBorrowedConnection);
+        verify(nextBorrowedConnection, never()).createStatement();
+    }
+    
+    @Test
+    public void assertResetSessionVariablesAppliedByOtherSession() throws SQLException {
+        SessionStateTracker tracker = new SessionStateTracker();
+        String sql = "SET SESSION sql_mode = 'ANSI'";
+        tracker.track(createLogicSQL(createMySQLSetStatement(sql, "SESSION", "SESSION sql_mode = 'ANSI'"), sql));
+        Connection physicalConnection = mock(Connection.class);
+        tracker.replay(mockPooledConnection(physicalConnection, mock(Statement.class)));
+        Statement statement = mock(Statement.class);
+        new SessionStateTracker().replay(mockPooledConnection(physicalConnection, statement));
+        verify(statement).execute("SET SESSION sql_mode = DEFAULT");
+        verify(statement, never()).execute("SET SESSION sql_mode = 'ANSI'");
+    }
+    
+    @Test
+    public void assertResetUnwrappableConnection() throws SQLException {
+        SessionStateTracker tracker = new SessionStateTracker();
+        String sql = "SET search_path TO sharding_db";
+        PostgreSQLSetStatement sqlStatement = new PostgreSQLSetStatement();
+        sqlStatement.getVariableAssigns().add(createVariableAssignSegment(sql, null, "search_path", "search_path TO sharding_db"));
+        assertTrue(tracker.track(createLogicSQL(sqlStatement, sql)));
+        Statement statement = mock(Statement.class);
+        Connection connection = mockConnection(statement);
+        tracker.markApplied(connection);
+        tracker.reset(connection);
+        verify(statement).execute("RESET search_path");
+    }
+    
+    @Test
+    public void assertResetPooledConnection() throws SQLException {
+        SessionStateTracker tracker = new SessionStateTracker();
+        String sql = "SET SESSION sql_mode = 'ANSI'";
+        tracker.track(createLogicSQL(createMySQLSetStatement(sql, "SESSION", "SESSION sql_mode = 'ANSI'"), sql));
+        Connection physicalConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        Connection connection = mockPooledConnection(physicalConnection, statement);
+        tracker.replay(connection);
+        tracker.reset(connection);
+        verify(statement).execute("SET SESSION sql_mode = DEFAULT");
+        Connection nextBorrowedConnection = mockPooledConnection(physicalConnection, mock(Statement.class));
+        new SessionStateTracker().replay(nextBorrowedConnection);
+        verify(nextBorrowedConnection, never()).createStatement();
+    }
+    
+    @Test
+    public void assertTrackGlobalVariable() {
+        SessionStateTracker tracker = new SessionStateTracker();
+        String sql = "SET GLOBAL max_connections = 1000";
+        assertFalse(tracker.track(createLogicSQL(createMySQLSetStatement(sql, "GLOBAL", "GLOBAL max_connections = 1000"), sql)));
+        assertFalse(tracker.isPinned());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertTrackParameterizedSetStatement() {
+        SessionStateTracker tracker = new SessionStateTracker();
+        String sql = "SET @user_id = ?";
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(createMySQLSetStatement(sql, null, "@user_id = ?"));
+        assertFalse(tracker.track(new LogicSQL(sqlStatementContext, sql, Collections.singletonList(1))));
+        assertTrue(tracker.isPinned());
+    }
+    
+    @Test
+    public void assertTrackLockTables() {
+        SessionStateTracker tracker = new SessionStateTracker();
+        tracker.track(createLogicSQL(new MySQLLockStatement(), "LOCK TABLES t_order WRITE"));
+        assertTrue(tracker.isPinned());
+        tracker.track(createLogicSQL(new MySQLUnlockStatement(), "UNLOCK TABLES"));
+        assertFalse(tracker.isPinned());
+    }
+    
+    @Test
+    public void assertTrackPrepareStatement() {
+        SessionStateTracker tracker = new SessionStateTracker();
+        tracker.track(createLogicSQL(new MySQLPrepareStatement(), "PREPARE stmt1 FROM 'SELECT 1'"));
+        tracker.track(createLogicSQL(new MySQLPrepareStatement(), "PREPARE stmt2 FROM 'SELECT 2'"));
+        assertTrue(tracker.isPinned());
+        tracker.track(createLogicSQL(new MySQLDeallocateStatement(), "DEALLOCATE PREPARE STMT1"));
+        assertTrue(tracker.isPinned());
+        tracker.track(createLogicSQL(new MySQLDeallocateStatement(), "DROP PREPARE stmt2"));
+        assertFalse(tracker.isPinned());
+    }
+    
+    @Test
+    public void assertTrackCreateTemporaryTable() {
+        SessionStateTracker tracker = new SessionStateTracker();
+        tracker.track(createLogicSQL(new MySQLCreateTableStatement(), "CREATE TABLE t_order (order_id INT)"));
+        assertFalse(tracker.isPinned());
+        tracker.track(createLogicSQL(new MySQLCreateTableStatement(), "CREATE TEMPORARY TABLE t_tmp (order_id INT)"));
+        assertTrue(tracker.isPinned());
+        tracker.track(createLogicSQL(new MySQLUnlockStatement(), "UNLOCK TABLES"));
+        assertTrue(tracker.isPinned());
+    }
+    
+    private MySQLSetStatement createMySQLSetStatement(final String sql, final String scope, final String... variableAssigns) {
+        MySQLSetStatement result = new MySQLSetStatement();
+        for (String each : variableAssigns) {
+            String variable = each.substring(null == scope ? 0 : scope.length() + 1, each.indexOf(' ', null == scope ? 0 : scope.length() + 1));
+            result.getVariableAssigns().add(createVariableAssignSegment(sql, scope, variable, each));
+        }
+        return result;
+    }
+    
+    private VariableAssignSegment createVariableAssignSegment(final String sql, final String scope, final String variable, final String variableAssign) {
+        VariableAssignSegment result = new VariableAssignSegment();
+        result.setStartIndex(sql.indexOf(variableAssign));
+        result.setStopIndex(sql.indexOf(variableAssign) + variableAssign.length() - 1);
+        VariableSegment variableSegment = new VariableSegment();
+        variableSegment.setScope(scope);
+        variableSegment.setVariable(variable);
+        result.setVariable(variableSegment);
+        result.setAssignValue(variableAssign.substring(variableAssign.lastIndexOf(' ') + 1));
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private LogicSQL createLogicSQL(final SQLStatement sqlStatement, final String sql) {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(sqlStatement);
+        return new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
+    }
+    
+    private Connection mockConnection(final Statement statement) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.createStatement()).thenReturn(statement);
+        return result;
+    }
+    
+    private Connection mockPooledConnection(final Connection physicalConnection, final Statement statement) throws SQLException {
+        Connection result = mockConnection(statement);
+        when(result.isWrapperFor(Connection.class)).thenReturn(true);
+        when(result.unwrap(Connection.class)).thenReturn(physicalConnection);
+        return result;
+    }
+}
@@ -19,9 +19,14 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.junit.Before;
@@ -30,11 +35,25 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -93,4 +112,79 @@ public final class LocalTransactionManagerTest {
         verify(transactionStatus).isInTransaction();
         verify(connection).rollback();
     }
+    
+    @Test
+    public void assertCommitInParallelWhenReachedThreshold() throws SQLException, ReflectiveOperationException {
+        setLocalTransactionParallelThreshold(2);
+        Multimap<String, Connection> cachedConnections = createCachedConnections(3);
+        Collection<Thread> commitThreads = new ConcurrentLinkedQueue<>();
+        for (Connection each : cachedConnections.values()) {
+            doAnswer(invocation -> commitThreads.add(Thread.currentThread())).when(each).commit();
+        }
+        when(backendConnection.getCachedConnections()).thenReturn(cachedConnections);
+        localTransactionManager.commit();
+        for (Connection each : cachedConnections.values()) {
+            verify(each).commit();
+        }
+        assertThat(commitThreads.size(), is(3));
+        assertTrue(commitThreads.stream().anyMatch(each -> Thread.currentThread() != each));
+    }
+    
+    @Test
+    public void assertCommitSeriallyBelowThreshold() throws SQLException, ReflectiveOperationException {
+        setLocalTransactionParallelThreshold(4);
+        Multimap<String, Connection> cachedConnections = createCachedConnections(3);
+        Collection<Thread> commitThreads = new ConcurrentLinkedQueue<>();
+        for (Connection each : cachedConnections.values()) {
+            doAnswer(invocation -> commitThreads.add(Thread.currentThread())).when(each).commit();
+        }
+        when(backendConnection.getCachedConnections()).thenReturn(cachedConnections);
+        localTransactionManager.commit();
+        for (Connection each : cachedConnections.values()) {
+            verify(each).commit();
+        }
+        assertThat(commitThreads.size(), is(3));
+        assertTrue(commitThreads.stream().allMatch(each -> Thread.currentThread() == each));
+    }
+    
+    @Test
+    public void assertRollbackInParallelWithFailedConnections() throws SQLException, ReflectiveOperationException {
+        setLocalTransactionParallelThreshold(2);
+        Multimap<String, Connection> cachedConnections = createCachedConnections(3);
+        List<Connection> connections = new ArrayList<>(cachedConnections.values());
+        SQLException firstException = new SQLException("ds_0 rollback failed");
+        SQLException lastException = new SQLException("ds_2 rollback failed");
+        doThrow(firstException).when(connections.get(0)).rollback();
+        doThrow(lastException).when(connections.get(2)).rollback();
+        when(backendConnection.getCachedConnections()).thenReturn(cachedConnections);
+        try {
+            localTransactionManager.rollback();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), is(sameInstance(firstException)));
+            assertThat(ex.getNextException().getNextException(), is(sameInstance(lastException)));
+            assertNull(lastException.getNextException());
+        }
+        for (Connection each : connections) {
+            verify(each).rollback();
+        }
+    }
+    
+    private void setLocalTransactionParallelThreshold(final int threshold) throws ReflectiveOperationException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.LOCAL_TRANSACTION_PARALLEL_THRESHOLD.getKey(), String.valueOf(threshold));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(props));
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+    }
+    
+    private Multimap<String, Connection> createCachedConnections(final int connectionSize) {
+        Multimap<String, Connection> result = LinkedHashMultimap.create();
+        for (int i = 0; i < connectionSize; i++) {
+            result.put("ds_" + i, mock(Connection.class));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.KillDeniedException;
+import org.apache.shardingsphere.proxy.backend.exception.UnknownConnectionIdException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSessionRegistry;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLKillStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class KillExecutorTest {
+    
+    private static final int TARGET_CONNECTION_ID = 10086;
+    
+    private final Collection<ShardingSphereUser> users = Arrays.asList(
+            new ShardingSphereUser("root", "root", "localhost"), new ShardingSphereUser("root", "root", "%"), new ShardingSphereUser("guest", "guest", "%"));
+    
+    private final ShardingSpherePrivileges superPrivileges = mock(ShardingSpherePrivileges.class);
+    
+    private final ShardingSpherePrivileges guestPrivileges = mock(ShardingSpherePrivileges.class);
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        when(superPrivileges.hasPrivileges(Collections.singletonList(PrivilegeType.SUPER))).thenReturn(true);
+        AuthorityRule authorityRule = mock(AuthorityRule.class);
+        when(authorityRule.findUser(any())).thenAnswer(invocation -> users.stream().filter(each -> each.getGrantee().equals(invocation.getArgument(0))).findFirst());
+        when(authorityRule.findPrivileges(any())).thenAnswer(invocation -> Optional.of("admin".equals(((Grantee) invocation.getArgument(0)).getUsername()) ? superPrivileges : guestPrivileges));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getGlobalRuleMetaData().getRules()).thenReturn(Collections.singletonList(authorityRule));
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+    }
+    
+    @After
+    public void tearDown() {
+        ConnectionSessionRegistry.getInstance().unregister(TARGET_CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertKillQueryOfSameAccount() throws SQLException {
+        JDBCBackendConnection backendConnection = mockBackendConnection();
+        ConnectionSession target = mockConnectionSession(TARGET_CONNECTION_ID, new Grantee("root", "127.0.0.1"), backendConnection);
+        ConnectionSessionRegistry.getInstance().register(target);
+        new KillExecutor(createKillStatement(String.valueOf(TARGET_CONNECTION_ID), "QUERY")).execute(mockConnectionSession(1, new Grantee("root", "192.168.0.1"), mockBackendConnection()));
+        verify(backendConnection).cancelStatements();
+        verify(target, never()).getAttributeMap();
+    }
+    
+    @Test
+    public void assertKillConnectionOfSameAccount() throws SQLException {
+        JDBCBackendConnection backendConnection = mockBackendConnection();
+        Channel channel = mock(Channel.class);
+        ConnectionSession target = mockConnectionSession(TARGET_CONNECTION_ID, new Grantee("root", "127.0.0.1"), backendConnection);
+        when(target.getAttributeMap()).thenReturn(channel);
+        ConnectionSessionRegistry.getInstance().register(target);
+        new KillExecutor(createKillStatement(String.valueOf(TARGET_CONNECTION_ID), "CONNECTION")).execute(mockConnectionSession(1, new Grantee("root", "127.0.0.1"), mockBackendConnection()));
+        verify(backendConnection).cancelStatements();
+        verify(channel).close();
+    }
+    
+    @Test
+    public void assertKillQueryWithSuperPrivilege() throws SQLException {
+        JDBCBackendConnection backendConnection = mockBackendConnection();
+        ConnectionSessionRegistry.getInstance().register(mockConnectionSession(TARGET_CONNECTION_ID, new Grantee("guest", "127.0.0.1"), backendConnection));
+        new KillExecutor(createKillStatement(String.valueOf(TARGET_CONNECTION_ID), "QUERY")).execute(mockConnectionSession(1, new Grantee("admin", "127.0.0.1"), mockBackendConnection()));
+        verify(backendConnection).cancelStatements();
+    }
+    
+    @Test
+    public void assertKillQueryOfOtherUserDenied() throws SQLException {
+        assertKillDenied(new Grantee("guest", "127.0.0.1"), new Grantee("root", "127.0.0.1"));
+    }
+    
+    @Test
+    public void assertKillQueryOfOtherAccountWithSameUsernameDenied() throws SQLException {
+        assertKillDenied(new Grantee("root", "192.168.0.1"), new Grantee("root", "localhost"));
+    }
+    
+    private void assertKillDenied(final Grantee grantee, final Grantee targetGrantee) throws SQLException {
+        JDBCBackendConnection backendConnection = mockBackendConnection();
+        Channel channel = mock(Channel.class);
+        ConnectionSession target = mockConnectionSession(TARGET_CONNECTION_ID, targetGrantee, backendConnection);
+        when(target.getAttributeMap()).thenReturn(channel);
+        ConnectionSessionRegistry.getInstance().register(target);
+        try {
+            new KillExecutor(createKillStatement(String.valueOf(TARGET_CONNECTION_ID), "CONNECTION")).execute(mockConnectionSession(1, grantee, mockBackendConnection()));
+            fail("Expected KillDeniedException.");
+        } catch (final KillDeniedException ignored) {
+        }
+        verify(backendConnection, never()).cancelStatements();
+        verify(channel, never()).close();
+    }
+    
+    @Test(expected = UnknownConnectionIdException.class)
+    public void assertKillUnknownConnection() throws SQLException {
+        new KillExecutor(createKillStatement("99999999999", "QUERY")).execute(mockConnectionSession(1, new Grantee("root", "127.0.0.1"), mockBackendConnection()));
+    }
+    
+    private MySQLKillStatement createKillStatement(final String processlistId, final String scope) {
+        MySQLKillStatement result = new MySQLKillStatement();
+        result.setProcesslistId(processlistId);
+        result.setScope(scope);
+        return result;
+    }
+    
+    private JDBCBackendConnection mockBackendConnection() {
+        JDBCBackendConnection result = mock(JDBCBackendConnection.class);
+        when(result.cancelStatements()).thenReturn(Collections.emptyList());
+        return result;
+    }
+    
+    private ConnectionSession mockConnectionSession(final int connectionId, final Grantee grantee, final JDBCBackendConnection backendConnection) {
+        ConnectionSession result = mock(ConnectionSession.class);
+        when(result.getConnectionId()).thenReturn(connectionId);
+        when(result.getGrantee()).thenReturn(grantee);
+        when(result.getBackendConnection()).thenReturn(backendConnection);
+        return result;
+    }
+}
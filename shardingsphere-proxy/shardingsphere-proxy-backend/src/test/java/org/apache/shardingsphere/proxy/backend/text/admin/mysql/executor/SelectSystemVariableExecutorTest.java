@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import io.netty.util.AttributeMap;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.SessionStateTracker;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.complex.CommonExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ExpressionProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SelectSystemVariableExecutorTest {
+    
+    private static final String SCHEMA_NAME = "select_system_variable_db";
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(SelectSystemVariableExecutor.isSupported(createSelectStatement(createLiteralProjection("1", 1))));
+        assertTrue(SelectSystemVariableExecutor.isSupported(createSelectStatement(createVariableProjection("@@session.auto_increment_increment", null), createLiteralProjection("a", "a"))));
+        assertFalse(SelectSystemVariableExecutor.isSupported(createSelectStatement(createVariableProjection("@user_variable", null))));
+        MySQLSelectStatement selectStatement = createSelectStatement(createLiteralProjection("1", 1));
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+        assertFalse(SelectSystemVariableExecutor.isSupported(selectStatement));
+    }
+    
+    @Test
+    public void assertExecuteWithLiterals() throws SQLException {
+        SelectSystemVariableExecutor executor = new SelectSystemVariableExecutor(createSelectStatement(createLiteralProjection("1", 1), createLiteralProjection("a", "a")), "SELECT 1, 'a'");
+        executor.execute(mock(ConnectionSession.class));
+        assertThat(executor.getQueryResultMetaData().getColumnCount(), is(2));
+        assertThat(executor.getQueryResultMetaData().getColumnLabel(1), is("1"));
+        assertThat(executor.getQueryResultMetaData().getColumnType(1), is(Types.BIGINT));
+        assertThat(executor.getQueryResultMetaData().getColumnType(2), is(Types.VARCHAR));
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(1, Object.class), is(1L));
+        assertThat(executor.getMergedResult().getValue(2, Object.class), is("a"));
+        assertFalse(executor.getMergedResult().next());
+    }
+    
+    @Test
+    public void assertExecuteWithSystemVariables() throws ReflectiveOperationException, SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mockConnection(dataSource);
+        ResultSet resultSet = mockResultSet(connection, "SELECT @@GLOBAL.auto_increment_increment, @@GLOBAL.autocommit", 2L, 1L);
+        when(resultSet.getMetaData().getColumnType(1)).thenReturn(Types.BIGINT);
+        setContextManager(dataSource);
+        ConnectionSession connectionSession = mockConnectionSession();
+        when(connectionSession.isAutoCommit()).thenReturn(false);
+        SelectSystemVariableExecutor executor = new SelectSystemVariableExecutor(createSelectStatement(
+                createVariableProjection("@@session.auto_increment_increment", "auto_increment_increment"), createVariableProjection("@@autocommit", null)),
+                "SELECT @@session.auto_increment_increment AS auto_increment_increment, @@autocommit");
+        executor.execute(connectionSession);
+        assertThat(executor.getQueryResultMetaData().getColumnCount(), is(2));
+        assertThat(executor.getQueryResultMetaData().getColumnLabel(1), is("auto_increment_increment"));
+        assertThat(executor.getQueryResultMetaData().getColumnLabel(2), is("@@autocommit"));
+        assertThat(executor.getQueryResultMetaData().getColumnType(1), is(Types.BIGINT));
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(1, Object.class), is(2L));
+        assertThat(executor.getMergedResult().getValue(2, Object.class), is(0L));
+        assertFalse(executor.getMergedResult().next());
+    }
+    
+    @Test
+    public void assertExecuteWithGlobalAndSessionSystemVariables() throws ReflectiveOperationException, SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mockConnection(dataSource);
+        mockResultSet(connection, "SELECT @@GLOBAL.auto_increment_offset", 1L);
+        setContextManager(dataSource);
+        SelectSystemVariableExecutor executor = new SelectSystemVariableExecutor(createSelectStatement(
+                createVariableProjection("@@GLOBAL.auto_increment_offset", null), createVariableProjection("@@auto_increment_offset", null)),
+                "SELECT @@GLOBAL.auto_increment_offset, @@auto_increment_offset");
+        executor.execute(mockConnectionSession());
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(1, Object.class), is(1L));
+        assertThat(executor.getMergedResult().getValue(2, Object.class), is(1L));
+        assertFalse(executor.getMergedResult().next());
+    }
+    
+    @Test
+    public void assertExecuteWithCharacterSetVariables() throws ReflectiveOperationException, SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mockConnection(dataSource);
+        mockResultSet(connection, "SELECT @@GLOBAL.character_set_client, @@GLOBAL.collation_connection", "latin1", "latin1_swedish_ci");
+        setContextManager(dataSource);
+        ConnectionSession connectionSession = mockConnectionSession();
+        AttributeMap attributeMap = new DefaultAttributeMap();
+        attributeMap.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        when(connectionSession.getAttributeMap()).thenReturn(attributeMap);
+        SelectSystemVariableExecutor executor = new SelectSystemVariableExecutor(createSelectStatement(
+                createVariableProjection("@@character_set_client", null), createVariableProjection("@@collation_connection", null)), "SELECT @@character_set_client, @@collation_connection");
+        executor.execute(connectionSession);
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(1, Object.class), is("utf8mb4"));
+        assertThat(executor.getMergedResult().getValue(2, Object.class), is("utf8mb4_general_ci"));
+        assertFalse(executor.getMergedResult().next());
+    }
+    
+    private Connection mockConnection(final DataSource dataSource) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection()).thenReturn(result);
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final Connection connection, final String sql, final Object... values) throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery(sql)).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        for (int i = 0; i < values.length; i++) {
+            when(result.getObject(i + 1)).thenReturn(values[i]);
+        }
+        return result;
+    }
+    
+    private ConnectionSession mockConnectionSession() {
+        ConnectionSession result = mock(ConnectionSession.class);
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        when(backendConnection.getSessionStateTracker()).thenReturn(new SessionStateTracker());
+        when(result.getBackendConnection()).thenReturn(backendConnection);
+        when(result.getSchemaName()).thenReturn(SCHEMA_NAME);
+        return result;
+    }
+    
+    private void setContextManager(final DataSource dataSource) throws ReflectiveOperationException {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.hasDataSource()).thenReturn(true);
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.singletonMap("ds_0", dataSource));
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), Collections.singletonMap(SCHEMA_NAME, metaData), mock(ShardingSphereRuleMetaData.class),
+                mock(ExecutorEngine.class), mock(OptimizerContext.class), new ConfigurationProperties(new Properties()));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+    }
+    
+    private MySQLSelectStatement createSelectStatement(final ExpressionProjectionSegment... projections) {
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        Collections.addAll(projectionsSegment.getProjections(), projections);
+        result.setProjections(projectionsSegment);
+        return result;
+    }
+    
+    private ExpressionProjectionSegment createLiteralProjection(final String text, final Object literals) {
+        return new ExpressionProjectionSegment(0, 0, text, new LiteralExpressionSegment(0, 0, literals));
+    }
+    
+    private ExpressionProjectionSegment createVariableProjection(final String text, final String alias) {
+        ExpressionProjectionSegment result = new ExpressionProjectionSegment(0, 0, text, new CommonExpressionSegment(0, 0, text));
+        if (null != alias) {
+            result.setAlias(new AliasSegment(0, 0, new IdentifierValue(alias)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.SessionStateTracker;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.ShowFilterSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.ShowLikeSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowVariablesStatement;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ShowVariablesExecutorTest {
+    
+    private static final String SCHEMA_NAME = "show_variables_db";
+    
+    private void setContextManager() throws ReflectiveOperationException, SQLException {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.hasDataSource()).thenReturn(true);
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.singletonMap("ds_0", mockDataSource()));
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), Collections.singletonMap(SCHEMA_NAME, metaData), mock(ShardingSphereRuleMetaData.class),
+                mock(ExecutorEngine.class), mock(OptimizerContext.class), new ConfigurationProperties(new Properties()));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+    }
+    
+    private DataSource mockDataSource() throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.createStatement().executeQuery("SHOW GLOBAL VARIABLES")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("auto_increment_increment", "autocommit", "version");
+        when(resultSet.getString(2)).thenReturn("1", "ON", "8.0.26");
+        return result;
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        MySQLShowVariablesStatement sqlStatement = new MySQLShowVariablesStatement();
+        assertTrue(ShowVariablesExecutor.isSupported(sqlStatement));
+        ShowFilterSegment filter = new ShowFilterSegment(0, 0);
+        filter.setLike(new ShowLikeSegment(0, 0, "auto%"));
+        sqlStatement.setFilter(filter);
+        assertTrue(ShowVariablesExecutor.isSupported(sqlStatement));
+        filter.setLike(null);
+        filter.setWhere(mock(WhereSegment.class));
+        assertFalse(ShowVariablesExecutor.isSupported(sqlStatement));
+    }
+    
+    @Test
+    public void assertExecuteWithLike() throws ReflectiveOperationException, SQLException {
+        setContextManager();
+        MySQLShowVariablesStatement sqlStatement = new MySQLShowVariablesStatement();
+        ShowFilterSegment filter = new ShowFilterSegment(0, 0);
+        filter.setLike(new ShowLikeSegment(0, 0, "auto%"));
+        sqlStatement.setFilter(filter);
+        ShowVariablesExecutor executor = new ShowVariablesExecutor(sqlStatement, "SHOW VARIABLES LIKE 'auto%'");
+        executor.execute(mockConnectionSession());
+        assertThat(executor.getQueryResultMetaData().getColumnCount(), is(2));
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(1, Object.class), is("auto_increment_increment"));
+        assertThat(executor.getMergedResult().getValue(2, Object.class), is("1"));
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(1, Object.class), is("autocommit"));
+        assertThat(executor.getMergedResult().getValue(2, Object.class), is("OFF"));
+        assertFalse(executor.getMergedResult().next());
+    }
+    
+    private ConnectionSession mockConnectionSession() {
+        ConnectionSession result = mock(ConnectionSession.class);
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        when(backendConnection.getSessionStateTracker()).thenReturn(new SessionStateTracker());
+        when(result.getBackendConnection()).thenReturn(backendConnection);
+        when(result.getSchemaName()).thenReturn(SCHEMA_NAME);
+        return result;
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.session.SessionAttributesHolder;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementSchemaHolder;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -65,6 +66,7 @@ public final class CommandExecutorTask implements Runnable {
     public void run() {
         boolean isNeedFlush = false;
         try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get())) {
+            SessionAttributesHolder.set(connectionSession.getSessionAttributes());
             connectionSession.getBackendConnection().prepareForTaskExecution();
             isNeedFlush = executeCommand(context, payload);
             // CHECKSTYLE:OFF
@@ -74,6 +76,7 @@ public final class CommandExecutorTask implements Runnable {
         } finally {
             // TODO optimize SQLStatementSchemaHolder
             SQLStatementSchemaHolder.remove();
+            SessionAttributesHolder.remove();
             Collection<SQLException> exceptions = Collections.emptyList(); 
             try {
                 connectionSession.getBackendConnection().closeExecutionResources();
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDB
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSessionRegistry;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
@@ -66,6 +67,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
         ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         connectionSession.setConnectionId(connectionId);
+        ConnectionSessionRegistry.getInstance().register(connectionSession);
     }
     
     @Override
@@ -102,6 +104,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     }
     
     private void closeAllResources() {
+        ConnectionSessionRegistry.getInstance().unregister(connectionSession.getConnectionId());
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionSession.getConnectionId());
         try {
             connectionSession.getBackendConnection().closeAllResources();
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPa
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.initdb.MySQLComInitDbPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.longdata.MySQLComStmtSendLongDataPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.admin.quit.MySQLCo
 import org.apache.shardingsphere.proxy.frontend.mysql.command.generic.MySQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.close.MySQLComStmtCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execute.MySQLComStmtExecuteExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.longdata.MySQLComStmtSendLongDataExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
@@ -76,13 +78,24 @@ public final class MySQLCommandExecutorFactory {
             case COM_STMT_PREPARE:
                 return new MySQLComStmtPrepareExecutor((MySQLComStmtPreparePacket) commandPacket, connectionSession);
             case COM_STMT_EXECUTE:
-                return new MySQLComStmtExecuteExecutor((MySQLComStmtExecutePacket) commandPacket, connectionSession);
+                return newComStmtExecuteExecutor((MySQLComStmtExecutePacket) commandPacket, connectionSession);
+            case COM_STMT_SEND_LONG_DATA:
+                return new MySQLComStmtSendLongDataExecutor((MySQLComStmtSendLongDataPacket) commandPacket, connectionSession.getConnectionId());
             case COM_STMT_RESET:
-                return new MySQLComStmtResetExecutor((MySQLComStmtResetPacket) commandPacket);
+                return new MySQLComStmtResetExecutor((MySQLComStmtResetPacket) commandPacket, connectionSession.getConnectionId());
             case COM_STMT_CLOSE:
                 return new MySQLComStmtCloseExecutor((MySQLComStmtClosePacket) commandPacket, connectionSession.getConnectionId());
             default:
                 return new MySQLUnsupportedCommandExecutor(commandPacketType);
         }
     }
+    
+    private static CommandExecutor newComStmtExecuteExecutor(final MySQLComStmtExecutePacket packet, final ConnectionSession connectionSession) throws SQLException {
+        try {
+            return new MySQLComStmtExecuteExecutor(packet, connectionSession);
+        } catch (final SQLException | RuntimeException ex) {
+            packet.releaseLongData();
+            throw ex;
+        }
+    }
 }
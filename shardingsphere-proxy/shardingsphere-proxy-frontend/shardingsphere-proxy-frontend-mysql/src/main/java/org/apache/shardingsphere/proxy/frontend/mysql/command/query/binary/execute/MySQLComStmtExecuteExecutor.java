@@ -44,10 +44,14 @@ import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.data.impl.BinaryQueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.text.admin.DatabaseAdminQueryBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminQueryExecutor;
+import org.apache.shardingsphere.proxy.backend.text.admin.mysql.MySQLSystemVariableExecutorFactory;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
@@ -58,15 +62,19 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * COM_STMT_EXECUTE command executor for MySQL.
  */
 public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
+    private final MySQLComStmtExecutePacket packet;
+    
     private final JDBCDatabaseCommunicationEngine databaseCommunicationEngine;
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
@@ -78,7 +86,10 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private int currentSequenceId;
     
+    private List<Integer> columnTypes;
+    
     public MySQLComStmtExecuteExecutor(final MySQLComStmtExecutePacket packet, final ConnectionSession connectionSession) throws SQLException {
+        this.packet = packet;
         String schemaName = connectionSession.getSchemaName();
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         Optional<SQLParserRule> sqlParserRule = metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
@@ -100,6 +111,13 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
                     TextProtocolBackendHandlerFactory.newInstance(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), packet.getSql(), () -> Optional.of(sqlStatement), connectionSession);
             return;
         }
+        Optional<DatabaseAdminQueryExecutor> systemVariableExecutor = packet.getParameters().isEmpty()
+                ? MySQLSystemVariableExecutorFactory.newInstance(sqlStatement, packet.getSql()) : Optional.empty();
+        if (systemVariableExecutor.isPresent()) {
+            databaseCommunicationEngine = null;
+            textProtocolBackendHandler = new DatabaseAdminQueryBackendHandler(connectionSession, systemVariableExecutor.get());
+            return;
+        }
         textProtocolBackendHandler = null;
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatementContext, packet.getSql(), packet.getParameters(),
                 connectionSession.getBackendConnection());
@@ -120,6 +138,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        columnTypes = queryResponseHeader.getQueryHeaders().stream().map(QueryHeader::getColumnType).collect(Collectors.toList());
         Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet);
         currentSequenceId = result.size();
         return result;
@@ -132,11 +151,14 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     @Override
     public boolean next() throws SQLException {
-        return null != databaseCommunicationEngine && databaseCommunicationEngine.next();
+        return null != databaseCommunicationEngine ? databaseCommunicationEngine.next() : textProtocolBackendHandler.next();
     }
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
+        if (null == databaseCommunicationEngine) {
+            return new MySQLBinaryResultSetRowPacket(++currentSequenceId, createBinaryRow(textProtocolBackendHandler.getRowData()));
+        }
         QueryResponseRow queryResponseRow = databaseCommunicationEngine.getQueryResponseRow();
         return new MySQLBinaryResultSetRowPacket(++currentSequenceId, createBinaryRow(queryResponseRow));
     }
@@ -149,8 +171,18 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         return new BinaryRow(result);
     }
     
+    private BinaryRow createBinaryRow(final Collection<Object> rowData) {
+        List<BinaryCell> result = new ArrayList<>(rowData.size());
+        Iterator<Integer> columnTypesIterator = columnTypes.iterator();
+        for (Object each : rowData) {
+            result.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(columnTypesIterator.next()), each));
+        }
+        return new BinaryRow(result);
+    }
+    
     @Override
     public void close() throws SQLException {
+        packet.releaseLongData();
         if (null != databaseCommunicationEngine) {
             databaseCommunicationEngine.close();
         }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.longdata;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry.MySQLConnectionPreparedStatements;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.longdata.MySQLComStmtSendLongDataPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * COM_STMT_SEND_LONG_DATA command executor for MySQL.
+ */
+@RequiredArgsConstructor
+public final class MySQLComStmtSendLongDataExecutor implements CommandExecutor {
+    
+    private final MySQLComStmtSendLongDataPacket packet;
+    
+    private final int connectionId;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() {
+        MySQLConnectionPreparedStatements connectionPreparedStatements = MySQLPreparedStatementRegistry.getInstance().getConnectionPreparedStatements(connectionId);
+        MySQLPreparedStatement preparedStatement = null == connectionPreparedStatements ? null : connectionPreparedStatements.get(packet.getStatementId());
+        if (null != preparedStatement) {
+            ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps();
+            int memoryThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_LONG_DATA_MEMORY_THRESHOLD);
+            long maxTotalSize = props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_LONG_DATA_MAX_TOTAL_SIZE);
+            preparedStatement.appendLongData(packet.getParameterId(), packet.getData(), memoryThreshold, maxTotalSize);
+        }
+        return Collections.emptyList();
+    }
+}
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry.MySQLConnectionPreparedStatements;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -34,9 +37,15 @@ public final class MySQLComStmtResetExecutor implements CommandExecutor {
     
     private final MySQLComStmtResetPacket packet;
     
+    private final int connectionId;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() {
-        // TODO we should implement the stmt reset after supporting COM_STMT_SEND_LONG_DATA
+        MySQLConnectionPreparedStatements connectionPreparedStatements = MySQLPreparedStatementRegistry.getInstance().getConnectionPreparedStatements(connectionId);
+        MySQLPreparedStatement preparedStatement = null == connectionPreparedStatements ? null : connectionPreparedStatements.get(packet.getStatementId());
+        if (null != preparedStatement) {
+            preparedStatement.resetLongData();
+        }
         return Collections.singleton(new MySQLOKPacket(1));
     }
 }
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset;
 
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -30,18 +34,33 @@ import java.util.Collection;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLComStmtResetExecutorTest {
     
+    private static final int CONNECTION_ID = 1;
+    
     @Mock
     private MySQLComStmtResetPacket packet;
     
     @Test
     public void assertExecute() {
-        MySQLComStmtResetExecutor mysqlComStmtResetExecutor = new MySQLComStmtResetExecutor(packet);
+        MySQLPreparedStatementRegistry.getInstance().registerConnection(CONNECTION_ID);
+        int statementId = MySQLPreparedStatementRegistry.getInstance().getConnectionPreparedStatements(CONNECTION_ID).prepareStatement("SELECT ?", 1);
+        MySQLPreparedStatement preparedStatement = MySQLPreparedStatementRegistry.getInstance().getConnectionPreparedStatements(CONNECTION_ID).get(statementId);
+        preparedStatement.appendLongData(0, Unpooled.wrappedBuffer(new byte[]{1}), 1024, Long.MAX_VALUE);
+        when(packet.getStatementId()).thenReturn(statementId);
+        MySQLComStmtResetExecutor mysqlComStmtResetExecutor = new MySQLComStmtResetExecutor(packet, CONNECTION_ID);
         Collection<DatabasePacket<?>> actual = mysqlComStmtResetExecutor.execute();
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next(), instanceOf(MySQLOKPacket.class));
+        assertTrue(preparedStatement.takeLongData().isEmpty());
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLPreparedStatementRegistry.getInstance().unregisterConnection(CONNECTION_ID);
     }
 }
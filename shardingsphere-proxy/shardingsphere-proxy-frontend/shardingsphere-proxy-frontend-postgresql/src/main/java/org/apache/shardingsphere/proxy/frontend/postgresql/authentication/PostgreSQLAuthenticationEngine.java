@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.authentication;
 
 import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLAuthenticationMethod;
@@ -27,6 +30,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLServe
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLPreparedStatementRegistry;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLAuthenticationOKPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLBackendKeyDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLComStartupPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLPasswordMessagePacket;
@@ -37,6 +41,9 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.authent
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSessionRegistry;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResultBuilder;
@@ -47,16 +54,27 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.except
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.exception.PostgreSQLProtocolViolationException;
 
 import java.nio.charset.Charset;
+import java.security.SecureRandom;
+import java.util.Random;
 
 /**
  * Authentication engine for PostgreSQL.
  */
+@Slf4j
 public final class PostgreSQLAuthenticationEngine implements AuthenticationEngine {
     
     private static final int SSL_REQUEST_PAYLOAD_LENGTH = 8;
     
     private static final int SSL_REQUEST_CODE = (1234 << 16) + 5679;
     
+    private static final int CANCEL_REQUEST_PAYLOAD_LENGTH = 16;
+    
+    private static final int CANCEL_REQUEST_CODE = (1234 << 16) + 5678;
+    
+    private static final AttributeKey<Integer> SECRET_KEY_ATTRIBUTE_KEY = AttributeKey.valueOf(PostgreSQLAuthenticationEngine.class.getName() + ".secretKey");
+    
+    private static final Random SECRET_KEY_RANDOM = new SecureRandom();
+    
     private boolean startupMessageReceived;
     
     private String clientEncoding;
@@ -65,12 +83,15 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
     
     private AuthenticationResult currentAuthResult;
     
+    private int connectionId;
+    
     private final PostgreSQLAuthenticationHandler authenticationHandler = new PostgreSQLAuthenticationHandler();
     
     @Override
     public int handshake(final ChannelHandlerContext context) {
         int result = ConnectionIdGenerator.getInstance().nextId();
         PostgreSQLPreparedStatementRegistry.getInstance().register(result);
+        connectionId = result;
         return result;
     }
     
@@ -81,9 +102,28 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
             return AuthenticationResultBuilder.continued();
         }
         payload.getByteBuf().resetReaderIndex();
+        if (!startupMessageReceived && isCancelRequest(payload.getByteBuf())) {
+            processCancelRequest(context, (PostgreSQLPacketPayload) payload);
+            return AuthenticationResultBuilder.continued();
+        }
         return startupMessageReceived ? processPasswordMessage(context, (PostgreSQLPacketPayload) payload) : processStartupMessage(context, (PostgreSQLPacketPayload) payload);
     }
     
+    private boolean isCancelRequest(final ByteBuf byteBuf) {
+        int readerIndex = byteBuf.readerIndex();
+        return CANCEL_REQUEST_PAYLOAD_LENGTH == byteBuf.readableBytes() && CANCEL_REQUEST_PAYLOAD_LENGTH == byteBuf.getInt(readerIndex) && CANCEL_REQUEST_CODE == byteBuf.getInt(readerIndex + 4);
+    }
+    
+    private void processCancelRequest(final ChannelHandlerContext context, final PostgreSQLPacketPayload payload) {
+        payload.skipReserved(8);
+        int processId = payload.readInt4();
+        int secretKey = payload.readInt4();
+        ConnectionSessionRegistry.getInstance().find(processId).filter(each -> Integer.valueOf(secretKey).equals(each.getAttributeMap().attr(SECRET_KEY_ATTRIBUTE_KEY).get()))
+                .map(ConnectionSession::getBackendConnection).filter(each -> each instanceof JDBCBackendConnection)
+                .ifPresent(each -> ((JDBCBackendConnection) each).cancelStatements().forEach(ex -> log.warn("Cancel statement failed for connection {}.", processId, ex)));
+        context.close();
+    }
+    
     private AuthenticationResult processStartupMessage(final ChannelHandlerContext context, final PostgreSQLPacketPayload payload) {
         startupMessageReceived = true;
         PostgreSQLComStartupPacket comStartupPacket = new PostgreSQLComStartupPacket(payload);
@@ -114,10 +154,17 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
         context.write(new PostgreSQLParameterStatusPacket("client_encoding", clientEncoding));
         context.write(new PostgreSQLParameterStatusPacket("server_encoding", "UTF8"));
         context.write(new PostgreSQLParameterStatusPacket("integer_datetimes", "on"));
+        context.write(new PostgreSQLBackendKeyDataPacket(connectionId, generateSecretKey(context)));
         context.writeAndFlush(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
         return AuthenticationResultBuilder.finished(currentAuthResult.getUsername(), "", currentAuthResult.getDatabase());
     }
     
+    private int generateSecretKey(final ChannelHandlerContext context) {
+        int result = SECRET_KEY_RANDOM.nextInt();
+        context.channel().attr(SECRET_KEY_ATTRIBUTE_KEY).set(result);
+        return result;
+    }
+    
     private PostgreSQLIdentifierPacket getIdentifierPacket(final String username) {
         PostgreSQLAuthenticator authenticator = authenticationHandler.getAuthenticator(username, "");
         if (PostgreSQLAuthenticationMethod.PASSWORD.getMethodName().equals(authenticator.getAuthenticationMethodName())) {
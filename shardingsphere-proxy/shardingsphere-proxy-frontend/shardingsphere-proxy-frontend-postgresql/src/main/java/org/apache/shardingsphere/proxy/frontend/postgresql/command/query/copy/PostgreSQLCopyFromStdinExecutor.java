@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.infra.binder.statement.dml.CopyStatementContext;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Command COPY FROM STDIN executor for PostgreSQL.
+ *
+ * <p>COPY FROM STDIN is checked by SQL checkers such as authority, then answered with CopyInResponse and the session stays in copy-in mode until CopyDone or CopyFail is received.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyFromStdinExecutor implements CommandExecutor {
+    
+    private static final Pattern COPY_PATTERN = Pattern.compile("^\\s*COPY\\s", Pattern.CASE_INSENSITIVE);
+    
+    private final ConnectionSession connectionSession;
+    
+    private final CopyStatement sqlStatement;
+    
+    private final String sql;
+    
+    /**
+     * Find COPY FROM STDIN statement.
+     *
+     * @param sql SQL of simple query
+     * @param connectionSession connection session
+     * @return COPY FROM STDIN statement
+     */
+    public static Optional<CopyStatement> findCopyFromStdinStatement(final String sql, final ConnectionSession connectionSession) {
+        if (!COPY_PATTERN.matcher(sql).find() || null == connectionSession.getSchemaName() || !(connectionSession.getBackendConnection() instanceof JDBCBackendConnection)) {
+            return Optional.empty();
+        }
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        SQLStatement result = new ShardingSphereSQLParserEngine("PostgreSQL", metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class).orElse(null)).parse(sql, false);
+        return result instanceof CopyStatement && ((CopyStatement) result).isFromStdin() && null != ((CopyStatement) result).getTable() ? Optional.of((CopyStatement) result) : Optional.empty();
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        JDBCBackendConnection backendConnection = (JDBCBackendConnection) connectionSession.getBackendConnection();
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        checkSQL(metaDataContexts);
+        Charset charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(backendConnection, metaDataContexts.getMetaData(connectionSession.getSchemaName()),
+                new CopyStatementContext(sqlStatement), sql, null == charset ? Charset.defaultCharset() : charset, metaDataContexts.getProps());
+        backendConnection.setBulkCopy(copyInContext);
+        return Collections.singletonList(new PostgreSQLCopyInResponsePacket(0, copyInContext.getColumnCount()));
+    }
+    
+    private void checkSQL(final MetaDataContexts metaDataContexts) {
+        String schemaName = connectionSession.getSchemaName();
+        Collection<ShardingSphereRule> rules = new LinkedList<>(metaDataContexts.getMetaData(schemaName).getRuleMetaData().getRules());
+        rules.addAll(metaDataContexts.getGlobalRuleMetaData().getRules());
+        SQLCheckEngine.check(sqlStatement, Collections.emptyList(), rules, schemaName, metaDataContexts.getMetaDataMap(), connectionSession.getGrantee());
+    }
+}
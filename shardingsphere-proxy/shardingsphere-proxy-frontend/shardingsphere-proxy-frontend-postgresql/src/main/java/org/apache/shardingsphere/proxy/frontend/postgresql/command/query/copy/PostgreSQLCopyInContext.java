@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.infra.binder.statement.dml.CopyStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Context of COPY FROM STDIN for PostgreSQL.
+ *
+ * <p>COPY FROM STDIN is rewritten with actual table for each routed data node and rows are forwarded to CopyIn of data node without being decoded,
+ * only values of sharding columns are parsed for routing. Backend connections are held by session until COPY is ended or cancelled.</p>
+ */
+public final class PostgreSQLCopyInContext implements AutoCloseable {
+    
+    private final JDBCBackendConnection backendConnection;
+    
+    private final String sql;
+    
+    private final TableNameSegment tableName;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final PostgreSQLCopyRowParser rowParser;
+    
+    private final PostgreSQLCopyRouter router;
+    
+    @Getter
+    private final int columnCount;
+    
+    private final Map<DataNode, CopyIn> copyIns = new LinkedHashMap<>();
+    
+    private final Map<String, Integer> usedConnectionCounts = new LinkedHashMap<>();
+    
+    private byte[] header;
+    
+    private long rowCount;
+    
+    public PostgreSQLCopyInContext(final JDBCBackendConnection backendConnection, final ShardingSphereMetaData metaData, final CopyStatementContext sqlStatementContext, final String sql,
+                                   final Charset charset, final ConfigurationProperties props) throws SQLException {
+        this.backendConnection = backendConnection;
+        this.sql = sql;
+        CopyStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        tableName = sqlStatement.getTable().getTableName();
+        options = PostgreSQLCopyOptions.parse(sql);
+        if (options.isBinary()) {
+            throw new SQLException("COPY FROM STDIN in binary format is not supported", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        rowParser = new PostgreSQLCopyRowParser(options, charset);
+        List<String> columnNames = sqlStatement.getColumns().isEmpty() ? metaData.getSchema().getAllColumnNames(tableName.getIdentifier().getValue())
+                : sqlStatement.getColumns().stream().map(each -> each.getIdentifier().getValue()).collect(Collectors.toList());
+        columnCount = columnNames.size();
+        router = new PostgreSQLCopyRouter(metaData, sqlStatementContext, columnNames, props);
+        if (!router.isRowRouted()) {
+            openFixedCopyIns();
+        }
+    }
+    
+    private void openFixedCopyIns() throws SQLException {
+        try {
+            for (DataNode each : router.getFixedDataNodes()) {
+                getCopyIn(each);
+            }
+        } catch (final SQLException ex) {
+            try {
+                close();
+            } catch (final SQLException closeException) {
+                ex.setNextException(closeException);
+            }
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write data of CopyData message.
+     *
+     * @param data data of CopyData message
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        Map<DataNode, ByteArrayOutputStream> batches = new LinkedHashMap<>();
+        for (byte[] each : rowParser.feed(data)) {
+            route(each, batches);
+        }
+        flush(batches);
+    }
+    
+    /**
+     * End COPY.
+     *
+     * @return count of copied rows
+     * @throws SQLException SQL exception
+     */
+    public long end() throws SQLException {
+        byte[] lastRow = rowParser.finish();
+        if (null != lastRow) {
+            Map<DataNode, ByteArrayOutputStream> batches = new LinkedHashMap<>();
+            route(lastRow, batches);
+            flush(batches);
+        }
+        for (CopyIn each : copyIns.values()) {
+            each.endCopy();
+        }
+        copyIns.clear();
+        return rowCount;
+    }
+    
+    private void route(final byte[] row, final Map<DataNode, ByteArrayOutputStream> batches) throws SQLException {
+        if (options.isHeader() && null == header) {
+            header = row;
+            for (CopyIn each : copyIns.values()) {
+                each.writeToCopy(header, 0, header.length);
+            }
+            return;
+        }
+        rowCount++;
+        Collection<DataNode> dataNodes = router.isRowRouted() ? Collections.singletonList(router.route(rowParser.parseValues(row))) : router.getFixedDataNodes();
+        for (DataNode each : dataNodes) {
+            batches.computeIfAbsent(each, unused -> new ByteArrayOutputStream()).write(row, 0, row.length);
+        }
+    }
+    
+    private void flush(final Map<DataNode, ByteArrayOutputStream> batches) throws SQLException {
+        for (Entry<DataNode, ByteArrayOutputStream> entry : batches.entrySet()) {
+            byte[] bytes = entry.getValue().toByteArray();
+            getCopyIn(entry.getKey()).writeToCopy(bytes, 0, bytes.length);
+        }
+    }
+    
+    private CopyIn getCopyIn(final DataNode dataNode) throws SQLException {
+        CopyIn result = copyIns.get(dataNode);
+        if (null != result) {
+            return result;
+        }
+        int connectionIndex = usedConnectionCounts.getOrDefault(dataNode.getDataSourceName(), 0);
+        Connection connection = backendConnection.getConnections(dataNode.getDataSourceName(), connectionIndex + 1, ConnectionMode.CONNECTION_STRICTLY).get(connectionIndex);
+        usedConnectionCounts.put(dataNode.getDataSourceName(), connectionIndex + 1);
+        result = new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(rewrite(dataNode.getTableName()));
+        copyIns.put(dataNode, result);
+        if (null != header) {
+            result.writeToCopy(header, 0, header.length);
+        }
+        return result;
+    }
+    
+    private String rewrite(final String actualTableName) {
+        return sql.substring(0, tableName.getStartIndex()) + actualTableName + sql.substring(tableName.getStopIndex() + 1);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (CopyIn each : copyIns.values()) {
+            try {
+                if (each.isActive()) {
+                    each.cancelCopy();
+                }
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        copyIns.clear();
+        if (!exceptions.isEmpty()) {
+            SQLException result = exceptions.iterator().next();
+            exceptions.stream().skip(1).forEach(result::setNextException);
+            throw result;
+        }
+    }
+}
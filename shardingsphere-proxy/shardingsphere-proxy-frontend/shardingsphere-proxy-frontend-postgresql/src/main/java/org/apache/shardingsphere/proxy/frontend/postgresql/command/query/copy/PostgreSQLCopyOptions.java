@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Options of COPY FROM STDIN for PostgreSQL.
+ *
+ * <p>Both the option list in parentheses and the legacy syntax before PostgreSQL 9.0 are recognized.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyOptions {
+    
+    private static final Pattern STDIN_PATTERN = Pattern.compile("\\bSTDIN\\b", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("[Ee]?'((?:[^']|'')*)'|\"((?:[^\"]|\"\")*)\"|([\\w.]+)|\\S");
+    
+    private final boolean binary;
+    
+    private final boolean csv;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    private final boolean header;
+    
+    /**
+     * Parse options of COPY FROM STDIN.
+     *
+     * @param sql COPY FROM STDIN SQL
+     * @return COPY options
+     */
+    public static PostgreSQLCopyOptions parse(final String sql) {
+        Matcher stdinMatcher = STDIN_PATTERN.matcher(sql);
+        List<String> tokens = stdinMatcher.find() ? tokenize(sql.substring(stdinMatcher.end())) : new ArrayList<>();
+        String format = "text";
+        String delimiter = null;
+        String nullString = null;
+        String quote = null;
+        String escape = null;
+        boolean header = false;
+        String previous = "";
+        for (int i = 0; i < tokens.size(); i++) {
+            String each = tokens.get(i).toUpperCase();
+            switch (each) {
+                case "BINARY":
+                    format = "binary";
+                    break;
+                case "CSV":
+                    format = "csv";
+                    break;
+                case "FORMAT":
+                    format = getValue(tokens, ++i).toLowerCase();
+                    break;
+                case "DELIMITER":
+                case "DELIMITERS":
+                    i = skipAs(tokens, i);
+                    delimiter = getValue(tokens, ++i);
+                    break;
+                case "NULL":
+                    if (!"NOT".equals(previous) && !"FORCE".equals(previous)) {
+                        i = skipAs(tokens, i);
+                        nullString = getValue(tokens, ++i);
+                    }
+                    break;
+                case "QUOTE":
+                    if (!"FORCE".equals(previous)) {
+                        i = skipAs(tokens, i);
+                        quote = getValue(tokens, ++i);
+                    }
+                    break;
+                case "ESCAPE":
+                    i = skipAs(tokens, i);
+                    escape = getValue(tokens, ++i);
+                    break;
+                case "HEADER":
+                    header = !isFalse(getValue(tokens, i + 1));
+                    break;
+                default:
+                    break;
+            }
+            previous = each;
+        }
+        boolean csv = "csv".equals(format);
+        char quoteChar = getChar(quote, '"');
+        return new PostgreSQLCopyOptions("binary".equals(format), csv, getChar(delimiter, csv ? ',' : '\t'), null != nullString ? nullString : csv ? "" : "\\N",
+                quoteChar, getChar(escape, quoteChar), header);
+    }
+    
+    private static List<String> tokenize(final String text) {
+        List<String> result = new ArrayList<>();
+        Matcher matcher = TOKEN_PATTERN.matcher(text);
+        while (matcher.find()) {
+            if (null != matcher.group(1)) {
+                String value = matcher.group(1).replace("''", "'");
+                result.add(matcher.group().startsWith("'") ? value : unescape(value));
+            } else if (null != matcher.group(2)) {
+                result.add(matcher.group(2).replace("\"\"", "\""));
+            } else {
+                result.add(matcher.group());
+            }
+        }
+        return result;
+    }
+    
+    private static String unescape(final String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\\' != each || i + 1 == value.length()) {
+                result.append(each);
+                continue;
+            }
+            char next = value.charAt(++i);
+            switch (next) {
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                default:
+                    result.append(next);
+                    break;
+            }
+        }
+        return result.toString();
+    }
+    
+    private static int skipAs(final List<String> tokens, final int index) {
+        return index + 1 < tokens.size() && "AS".equalsIgnoreCase(tokens.get(index + 1)) ? index + 1 : index;
+    }
+    
+    private static String getValue(final List<String> tokens, final int index) {
+        return index < tokens.size() ? tokens.get(index) : "";
+    }
+    
+    private static boolean isFalse(final String value) {
+        return "false".equalsIgnoreCase(value) || "off".equalsIgnoreCase(value) || "0".equals(value);
+    }
+    
+    private static char getChar(final String value, final char defaultValue) {
+        return null == value || value.isEmpty() ? defaultValue : value.charAt(0);
+    }
+}
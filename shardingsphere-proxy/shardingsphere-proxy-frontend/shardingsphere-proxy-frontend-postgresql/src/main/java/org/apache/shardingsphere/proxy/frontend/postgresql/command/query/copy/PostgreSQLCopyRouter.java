@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.binder.statement.dml.CopyStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.shadow.rule.ShadowRule;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.singletable.rule.SingleTableRule;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Router of COPY FROM STDIN for PostgreSQL.
+ *
+ * <p>Rows of sharding table are routed one by one with values of sharding columns, rows of broadcast table are sent to all data nodes
+ * and rows of single table are sent to the only data node. COPY is not supported for table with encrypt or shadow rule,
+ * and column of key generator must be provided by rows.</p>
+ */
+public final class PostgreSQLCopyRouter {
+    
+    private final String logicTableName;
+    
+    private final ShardingRule shardingRule;
+    
+    private final CopyStatementContext sqlStatementContext;
+    
+    private final ConfigurationProperties props;
+    
+    private final Map<Integer, ShardingColumn> shardingColumns;
+    
+    private final Collection<DataNode> fixedDataNodes;
+    
+    public PostgreSQLCopyRouter(final ShardingSphereMetaData metaData, final CopyStatementContext sqlStatementContext, final List<String> columnNames, final ConfigurationProperties props)
+            throws SQLException {
+        logicTableName = sqlStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
+        this.sqlStatementContext = sqlStatementContext;
+        this.props = props;
+        shardingRule = metaData.getRuleMetaData().findSingleRule(ShardingRule.class).filter(optional -> optional.isShardingTable(logicTableName)).orElse(null);
+        checkSupported(metaData, columnNames);
+        shardingColumns = null == shardingRule ? Collections.emptyMap() : getShardingColumns(metaData.getSchema().get(logicTableName), columnNames);
+        fixedDataNodes = null == shardingRule ? getFixedDataNodes(metaData) : null;
+    }
+    
+    private void checkSupported(final ShardingSphereMetaData metaData, final List<String> columnNames) throws SQLException {
+        if (metaData.getRuleMetaData().findSingleRule(EncryptRule.class).flatMap(optional -> optional.findEncryptTable(logicTableName)).isPresent()) {
+            throw new SQLException(String.format("COPY is not supported for table `%s` with encrypt rule", logicTableName), PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        if (metaData.getRuleMetaData().findSingleRule(ShadowRule.class).filter(optional -> optional.getAllShadowTableNames().contains(logicTableName)).isPresent()) {
+            throw new SQLException(String.format("COPY is not supported for table `%s` with shadow rule", logicTableName), PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        Optional<String> generateKeyColumnName = null == shardingRule ? Optional.empty() : shardingRule.findGenerateKeyColumnName(logicTableName);
+        if (generateKeyColumnName.isPresent() && columnNames.stream().noneMatch(each -> each.equalsIgnoreCase(generateKeyColumnName.get()))) {
+            throw new SQLException(String.format("Column `%s` of key generator must be provided in COPY of table `%s`", generateKeyColumnName.get(), logicTableName),
+                    PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+    }
+    
+    private Map<Integer, ShardingColumn> getShardingColumns(final TableMetaData tableMetaData, final List<String> columnNames) {
+        Map<Integer, ShardingColumn> result = new LinkedHashMap<>();
+        int index = 0;
+        for (String each : columnNames) {
+            Optional<String> shardingColumn = shardingRule.findShardingColumn(each, logicTableName);
+            if (shardingColumn.isPresent()) {
+                ColumnMetaData columnMetaData = null == tableMetaData ? null : tableMetaData.getColumns().get(each.toLowerCase());
+                result.put(index, new ShardingColumn(shardingColumn.get(), null == columnMetaData ? Types.VARCHAR : columnMetaData.getDataType()));
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getFixedDataNodes(final ShardingSphereMetaData metaData) throws SQLException {
+        Optional<ShardingRule> rule = metaData.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (rule.isPresent() && rule.get().isBroadcastTable(logicTableName)) {
+            return rule.get().getDataNodesByTableName(logicTableName);
+        }
+        Optional<DataNode> dataNode = metaData.getRuleMetaData().findSingleRule(SingleTableRule.class).flatMap(optional -> optional.findSingleTableDataNode(logicTableName));
+        if (!dataNode.isPresent()) {
+            throw new SQLException(String.format("Can not find data node of table `%s` for COPY", logicTableName), PostgreSQLErrorCode.UNDEFINED_TABLE.getErrorCode());
+        }
+        return Collections.singletonList(dataNode.get());
+    }
+    
+    /**
+     * Judge whether rows need to be routed one by one.
+     *
+     * @return rows need to be routed one by one or not
+     */
+    public boolean isRowRouted() {
+        return null == fixedDataNodes;
+    }
+    
+    /**
+     * Get data nodes which all rows are sent to.
+     *
+     * @return data nodes
+     */
+    public Collection<DataNode> getFixedDataNodes() {
+        return fixedDataNodes;
+    }
+    
+    /**
+     * Route row.
+     *
+     * @param values values of row
+     * @return data node which row is sent to
+     * @throws SQLException SQL exception
+     */
+    public DataNode route(final List<String> values) throws SQLException {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        for (Entry<Integer, ShardingColumn> entry : shardingColumns.entrySet()) {
+            String value = entry.getKey() < values.size() ? values.get(entry.getKey()) : null;
+            if (null == value) {
+                throw new SQLException(String.format("Value of sharding column `%s` can not be null in COPY", entry.getValue().getName()), PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+            }
+            shardingCondition.getValues().add(new ListShardingConditionValue<>(entry.getValue().getName(), logicTableName, Collections.singletonList(entry.getValue().convert(value))));
+        }
+        List<ShardingCondition> conditions = new LinkedList<>();
+        conditions.add(shardingCondition);
+        RouteContext routeContext = new ShardingStandardRoutingEngine(logicTableName, new ShardingConditions(conditions, sqlStatementContext, shardingRule), props).route(shardingRule);
+        if (1 != routeContext.getRouteUnits().size()) {
+            throw new SQLException(String.format("Row of COPY must be routed to exactly one data node of table `%s`, but %d were found", logicTableName, routeContext.getRouteUnits().size()),
+                    PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        String actualTableName = routeUnit.getTableMappers().stream().findFirst().map(RouteMapper::getActualName).orElse(logicTableName);
+        return new DataNode(routeUnit.getDataSourceMapper().getActualName(), actualTableName);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ShardingColumn {
+        
+        private final String name;
+        
+        private final int dataType;
+        
+        Comparable<?> convert(final String value) throws SQLException {
+            try {
+                switch (dataType) {
+                    case Types.TINYINT:
+                    case Types.SMALLINT:
+                    case Types.INTEGER:
+                        return Integer.parseInt(value.trim());
+                    case Types.BIGINT:
+                        return Long.parseLong(value.trim());
+                    case Types.NUMERIC:
+                    case Types.DECIMAL:
+                        return new BigDecimal(value.trim());
+                    default:
+                        return value;
+                }
+            } catch (final NumberFormatException ex) {
+                throw new SQLException(String.format("Invalid value `%s` of sharding column `%s` in COPY", value, name), PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Row parser of COPY FROM STDIN for PostgreSQL.
+ *
+ * <p>Rows may be split across CopyData messages, so incomplete row is kept until the rest of row arrives.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyRowParser {
+    
+    private static final byte[] END_MARKER = {'\\', '.'};
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final Charset charset;
+    
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    
+    private boolean inQuote;
+    
+    private boolean escaped;
+    
+    private boolean finished;
+    
+    /**
+     * Feed data and split complete rows.
+     *
+     * @param data data of CopyData message
+     * @return complete raw rows including line terminator
+     */
+    public List<byte[]> feed(final byte[] data) {
+        List<byte[]> result = new LinkedList<>();
+        if (finished) {
+            return result;
+        }
+        for (byte each : data) {
+            pending.write(each);
+            if (options.isCsv()) {
+                updateQuoteState(each);
+            }
+            if ('\n' == each && !inQuote) {
+                byte[] row = pending.toByteArray();
+                pending.reset();
+                if (isEndMarker(row)) {
+                    finished = true;
+                    return result;
+                }
+                result.add(row);
+            }
+        }
+        return result;
+    }
+    
+    private void updateQuoteState(final byte value) {
+        if (escaped) {
+            escaped = false;
+            return;
+        }
+        if (inQuote && options.getEscape() != options.getQuote() && options.getEscape() == value) {
+            escaped = true;
+            return;
+        }
+        if (options.getQuote() == value) {
+            inQuote = !inQuote;
+        }
+    }
+    
+    /**
+     * Finish feeding and get the last row without line terminator.
+     *
+     * @return the last row, null if absent
+     */
+    public byte[] finish() {
+        byte[] result = pending.toByteArray();
+        pending.reset();
+        inQuote = false;
+        escaped = false;
+        if (finished || 0 == result.length || isEndMarker(result)) {
+            finished = true;
+            return null;
+        }
+        finished = true;
+        return result;
+    }
+    
+    private boolean isEndMarker(final byte[] row) {
+        int length = getContentLength(row);
+        return END_MARKER.length == length && END_MARKER[0] == row[0] && END_MARKER[1] == row[1];
+    }
+    
+    private int getContentLength(final byte[] row) {
+        int result = row.length;
+        if (result > 0 && '\n' == row[result - 1]) {
+            result--;
+        }
+        if (result > 0 && '\r' == row[result - 1]) {
+            result--;
+        }
+        return result;
+    }
+    
+    /**
+     * Parse values of raw row.
+     *
+     * @param row raw row
+     * @return values of row, null value is represented as null
+     */
+    public List<String> parseValues(final byte[] row) {
+        String line = new String(row, 0, getContentLength(row), charset);
+        return options.isCsv() ? parseCSVValues(line) : parseTextValues(line);
+    }
+    
+    private List<String> parseTextValues(final String line) {
+        List<String> result = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || options.getDelimiter() == line.charAt(i)) {
+                result.add(options.getNullString().equals(line.substring(start, i)) ? null : value.toString());
+                value.setLength(0);
+                start = i + 1;
+                continue;
+            }
+            char each = line.charAt(i);
+            if ('\\' != each || i + 1 == line.length()) {
+                value.append(each);
+                continue;
+            }
+            i = appendTextEscape(line, i + 1, value);
+        }
+        return result;
+    }
+    
+    private int appendTextEscape(final String line, final int index, final StringBuilder value) {
+        char each = line.charAt(index);
+        switch (each) {
+            case 'b':
+                value.append('\b');
+                return index;
+            case 'f':
+                value.append('\f');
+                return index;
+            case 'n':
+                value.append('\n');
+                return index;
+            case 'r':
+                value.append('\r');
+                return index;
+            case 't':
+                value.append('\t');
+                return index;
+            case 'v':
+                value.append('\u000b');
+                return index;
+            case 'x':
+                int hexEnd = index + 1;
+                while (hexEnd < line.length() && hexEnd < index + 3 && Character.digit(line.charAt(hexEnd), 16) >= 0) {
+                    hexEnd++;
+                }
+                if (hexEnd == index + 1) {
+                    value.append(each);
+                    return index;
+                }
+                value.append((char) Integer.parseInt(line.substring(index + 1, hexEnd), 16));
+                return hexEnd - 1;
+            default:
+                if (each >= '0' && each <= '7') {
+                    int octalEnd = index;
+                    while (octalEnd < line.length() && octalEnd < index + 3 && line.charAt(octalEnd) >= '0' && line.charAt(octalEnd) <= '7') {
+                        octalEnd++;
+                    }
+                    value.append((char) Integer.parseInt(line.substring(index, octalEnd), 8));
+                    return octalEnd - 1;
+                }
+                value.append(each);
+                return index;
+        }
+    }
+    
+    private List<String> parseCSVValues(final String line) {
+        List<String> result = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean everQuoted = false;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || !quoted && options.getDelimiter() == line.charAt(i)) {
+                String each = value.toString();
+                result.add(!everQuoted && options.getNullString().equals(each) ? null : each);
+                value.setLength(0);
+                everQuoted = false;
+                continue;
+            }
+            char each = line.charAt(i);
+            if (quoted && options.getEscape() == each && i + 1 < line.length() && (options.getQuote() == line.charAt(i + 1) || options.getEscape() == line.charAt(i + 1))) {
+                value.append(line.charAt(++i));
+            } else if (options.getQuote() == each) {
+                quoted = !quoted;
+                everQuoted = true;
+            } else {
+                value.append(each);
+            }
+        }
+        return result;
+    }
+}
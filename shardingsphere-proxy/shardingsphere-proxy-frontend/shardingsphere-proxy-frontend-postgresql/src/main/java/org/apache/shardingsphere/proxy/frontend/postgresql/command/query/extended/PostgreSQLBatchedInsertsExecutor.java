@@ -37,6 +37,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.PreparedStatementCache;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -151,7 +152,8 @@ public final class PostgreSQLBatchedInsertsExecutor {
     private int executeBatchedPreparedStatements() throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         DatabaseType databaseType = metaDataContexts.getMetaData(connectionSession.getSchemaName()).getResource().getDatabaseType();
-        JDBCExecutorCallback<int[]> callback = new BatchedInsertsJDBCExecutorCallback(databaseType, preparedStatement.getSqlStatement(), isExceptionThrown);
+        PreparedStatementCache preparedStatementCache = ((JDBCBackendConnection) connectionSession.getBackendConnection()).getPreparedStatementCache();
+        JDBCExecutorCallback<int[]> callback = new BatchedInsertsJDBCExecutorCallback(databaseType, preparedStatement.getSqlStatement(), isExceptionThrown, preparedStatementCache);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
         int result = 0;
         for (int[] eachResult : executeResults) {
@@ -163,20 +165,23 @@ public final class PostgreSQLBatchedInsertsExecutor {
     }
     
     private static class BatchedInsertsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
-    
-        BatchedInsertsJDBCExecutorCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        
+        private final PreparedStatementCache preparedStatementCache;
+        
+        BatchedInsertsJDBCExecutorCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown, final PreparedStatementCache preparedStatementCache) {
             super(databaseType, sqlStatement, isExceptionThrown);
+            this.preparedStatementCache = preparedStatementCache;
         }
-    
+        
         @Override
         protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
             try {
                 return statement.executeBatch();
             } finally {
-                statement.close();
+                preparedStatementCache.release(statement);
             }
         }
-    
+        
         @SuppressWarnings("OptionalContainsCollection")
         @Override
         protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement) {
@@ -22,6 +22,9 @@ import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.buffer.UnpooledHeapByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import io.netty.util.AttributeMap;
+import io.netty.util.DefaultAttributeMap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
@@ -40,7 +43,10 @@ import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSessionRegistry;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.authenticator.PostgreSQLMD5PasswordAuthenticator;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.exception.InvalidAuthorizationSpecificationException;
@@ -65,14 +71,18 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class PostgreSQLAuthenticationEngineTest {
     
+    private static final int CANCEL_CONNECTION_ID = 10086;
+    
     private final String username = "root";
     
     private final String password = "sharding";
@@ -95,6 +105,66 @@ public final class PostgreSQLAuthenticationEngineTest {
         assertFalse(actual.isFinished());
     }
     
+    @Test
+    public void assertCancelRequestWithUnknownProcessId() {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        AuthenticationResult actual = new PostgreSQLAuthenticationEngine().authenticate(context, createCancelRequestPayload(Integer.MAX_VALUE, 1));
+        assertFalse(actual.isFinished());
+        verify(context, never()).write(any());
+        verify(context).close();
+    }
+    
+    @Test
+    public void assertCancelRequestWithMatchedSecretKey() {
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        when(backendConnection.cancelStatements()).thenReturn(Collections.emptyList());
+        ConnectionSession connectionSession = mockConnectionSession(CANCEL_CONNECTION_ID, 1);
+        when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
+        ConnectionSessionRegistry.getInstance().register(connectionSession);
+        try {
+            ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+            AuthenticationResult actual = new PostgreSQLAuthenticationEngine().authenticate(context, createCancelRequestPayload(CANCEL_CONNECTION_ID, 1));
+            assertFalse(actual.isFinished());
+            verify(backendConnection).cancelStatements();
+            verify(context).close();
+        } finally {
+            ConnectionSessionRegistry.getInstance().unregister(CANCEL_CONNECTION_ID);
+        }
+    }
+    
+    @Test
+    public void assertCancelRequestWithMismatchedSecretKey() {
+        ConnectionSession connectionSession = mockConnectionSession(CANCEL_CONNECTION_ID, 1);
+        ConnectionSessionRegistry.getInstance().register(connectionSession);
+        try {
+            ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+            AuthenticationResult actual = new PostgreSQLAuthenticationEngine().authenticate(context, createCancelRequestPayload(CANCEL_CONNECTION_ID, 2));
+            assertFalse(actual.isFinished());
+            verify(connectionSession, never()).getBackendConnection();
+            verify(context).close();
+        } finally {
+            ConnectionSessionRegistry.getInstance().unregister(CANCEL_CONNECTION_ID);
+        }
+    }
+    
+    private PacketPayload createCancelRequestPayload(final int processId, final int secretKey) {
+        ByteBuf byteBuf = createByteBuf(16, 16);
+        byteBuf.writeInt(16);
+        byteBuf.writeInt(80877102);
+        byteBuf.writeInt(processId);
+        byteBuf.writeInt(secretKey);
+        return new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+    }
+    
+    private ConnectionSession mockConnectionSession(final int connectionId, final int secretKey) {
+        AttributeMap attributeMap = new DefaultAttributeMap();
+        attributeMap.attr(AttributeKey.<Integer>valueOf(PostgreSQLAuthenticationEngine.class.getName() + ".secretKey")).set(secretKey);
+        ConnectionSession result = mock(ConnectionSession.class);
+        when(result.getAttributeMap()).thenReturn(attributeMap);
+        when(result.getConnectionId()).thenReturn(connectionId);
+        return result;
+    }
+    
     @Test(expected = InvalidAuthorizationSpecificationException.class)
     public void assertUserNotSet() {
         PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(createByteBuf(8, 512), StandardCharsets.UTF_8);
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.infra.binder.statement.dml.CopyStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.singletable.rule.SingleTableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.QueryExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLCopyInContextTest {
+    
+    private static final String SQL = "COPY t_user FROM STDIN";
+    
+    @Mock
+    private JDBCBackendConnection backendConnection;
+    
+    @Mock
+    private SingleTableRule singleTableRule;
+    
+    @Mock
+    private CopyIn copyIn;
+    
+    private ShardingSphereMetaData metaData;
+    
+    @Before
+    public void setUp() {
+        TableMetaData tableMetaData = new TableMetaData("t_user", Arrays.asList(new ColumnMetaData("user_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_name", Types.VARCHAR, false, false, false)), Collections.emptyList());
+        metaData = new ShardingSphereMetaData("sharding_db", mock(ShardingSphereResource.class),
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singletonList(singleTableRule)), new ShardingSphereSchema(Collections.singletonMap("t_user", tableMetaData)));
+    }
+    
+    @Test
+    public void assertNewWithBinaryFormat() {
+        try {
+            createCopyInContext("COPY t_user FROM STDIN BINARY");
+            fail("SQLException expected");
+        } catch (final SQLException ex) {
+            assertThat(ex.getSQLState(), is(PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode()));
+        }
+        verify(singleTableRule, never()).findSingleTableDataNode(any());
+    }
+    
+    @Test
+    public void assertWriteAndEnd() throws SQLException {
+        QueryExecutor queryExecutor = mockSingleTableConnection();
+        PostgreSQLCopyInContext actual = createCopyInContext(SQL);
+        verify(queryExecutor).startCopy(SQL, false);
+        assertThat(actual.getColumnCount(), is(2));
+        actual.write("1\tfoo\n2\tb".getBytes(StandardCharsets.UTF_8));
+        verify(copyIn).writeToCopy(eq("1\tfoo\n".getBytes(StandardCharsets.UTF_8)), eq(0), eq(6));
+        actual.write("ar\n3\tbaz".getBytes(StandardCharsets.UTF_8));
+        verify(copyIn).writeToCopy(eq("2\tbar\n".getBytes(StandardCharsets.UTF_8)), eq(0), eq(6));
+        assertThat(actual.end(), is(3L));
+        verify(copyIn).writeToCopy(eq("3\tbaz".getBytes(StandardCharsets.UTF_8)), eq(0), eq(5));
+        verify(copyIn).endCopy();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        mockSingleTableConnection();
+        when(copyIn.isActive()).thenReturn(true);
+        PostgreSQLCopyInContext actual = createCopyInContext(SQL);
+        actual.close();
+        verify(copyIn).cancelCopy();
+        verify(copyIn, never()).writeToCopy(any(), anyInt(), anyInt());
+    }
+    
+    private QueryExecutor mockSingleTableConnection() throws SQLException {
+        when(singleTableRule.findSingleTableDataNode("t_user")).thenReturn(Optional.of(new DataNode("ds_0", "t_user")));
+        Connection connection = mock(Connection.class);
+        BaseConnection baseConnection = mock(BaseConnection.class);
+        QueryExecutor result = mock(QueryExecutor.class);
+        when(backendConnection.getConnections("ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        when(connection.unwrap(BaseConnection.class)).thenReturn(baseConnection);
+        when(baseConnection.getQueryExecutor()).thenReturn(result);
+        when(result.startCopy(SQL, false)).thenReturn(copyIn);
+        return result;
+    }
+    
+    private PostgreSQLCopyInContext createCopyInContext(final String sql) throws SQLException {
+        PostgreSQLCopyStatement sqlStatement = new PostgreSQLCopyStatement();
+        sqlStatement.setTable(new SimpleTableSegment(new TableNameSegment(5, 10, new IdentifierValue("t_user"))));
+        return new PostgreSQLCopyInContext(backendConnection, metaData, new CopyStatementContext(sqlStatement), sql, StandardCharsets.UTF_8, new ConfigurationProperties(new Properties()));
+    }
+}
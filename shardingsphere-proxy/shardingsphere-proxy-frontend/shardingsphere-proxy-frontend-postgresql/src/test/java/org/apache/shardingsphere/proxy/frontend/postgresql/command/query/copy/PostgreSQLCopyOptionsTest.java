@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyOptionsTest {
+    
+    @Test
+    public void assertParseDefaultTextOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN");
+        assertFalse(actual.isCsv());
+        assertFalse(actual.isBinary());
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertFalse(actual.isHeader());
+    }
+    
+    @Test
+    public void assertParseCSVOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("COPY t_order (order_id, status) FROM STDIN WITH (FORMAT csv, DELIMITER ';', HEADER, FORCE_NOT_NULL (status))");
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is(';'));
+        assertThat(actual.getNullString(), is(""));
+        assertThat(actual.getQuote(), is('"'));
+        assertThat(actual.getEscape(), is('"'));
+        assertTrue(actual.isHeader());
+    }
+    
+    @Test
+    public void assertParseLegacyOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN WITH DELIMITER AS '|' NULL AS 'null' CSV QUOTE AS '''' ESCAPE AS E'\\\\' FORCE NOT NULL status");
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is('|'));
+        assertThat(actual.getNullString(), is("null"));
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\\'));
+    }
+    
+    @Test
+    public void assertParseBinaryOptions() {
+        assertTrue(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN (FORMAT binary)").isBinary());
+        assertTrue(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN BINARY").isBinary());
+    }
+}
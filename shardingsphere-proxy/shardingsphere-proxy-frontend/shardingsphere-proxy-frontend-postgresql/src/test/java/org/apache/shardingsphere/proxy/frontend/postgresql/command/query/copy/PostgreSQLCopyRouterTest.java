@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.infra.binder.statement.dml.CopyStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.shadow.rule.ShadowRule;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerateStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.singletable.rule.SingleTableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLCopyRouterTest {
+    
+    @Test
+    public void assertRouteSingleTable() throws SQLException {
+        SingleTableRule singleTableRule = mock(SingleTableRule.class);
+        when(singleTableRule.findSingleTableDataNode("t_user")).thenReturn(Optional.of(new DataNode("ds_0", "t_user")));
+        PostgreSQLCopyRouter actual = createRouter("t_user", Collections.singletonList("user_id"), singleTableRule);
+        assertFalse(actual.isRowRouted());
+        assertThat(actual.getFixedDataNodes(), is(Collections.singletonList(new DataNode("ds_0", "t_user"))));
+    }
+    
+    @Test
+    public void assertRouteBroadcastTable() throws SQLException {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.isBroadcastTable("t_config")).thenReturn(true);
+        when(shardingRule.getDataNodesByTableName("t_config")).thenReturn(Arrays.asList(new DataNode("ds_0", "t_config"), new DataNode("ds_1", "t_config")));
+        PostgreSQLCopyRouter actual = createRouter("t_config", Collections.singletonList("config_id"), shardingRule);
+        assertFalse(actual.isRowRouted());
+        assertThat(actual.getFixedDataNodes(), is(Arrays.asList(new DataNode("ds_0", "t_config"), new DataNode("ds_1", "t_config"))));
+    }
+    
+    @Test
+    public void assertRouteShardingTable() throws SQLException {
+        PostgreSQLCopyRouter actual = createRouter("t_order", Arrays.asList("order_id", "status"), createShardingRule());
+        assertTrue(actual.isRowRouted());
+        assertThat(actual.route(Arrays.asList("1", "init")), is(new DataNode("ds_1", "t_order")));
+        assertThat(actual.route(Arrays.asList("2", "init")), is(new DataNode("ds_0", "t_order")));
+    }
+    
+    @Test
+    public void assertRouteShardingTableWithNullShardingValue() throws SQLException {
+        PostgreSQLCopyRouter router = createRouter("t_order", Arrays.asList("order_id", "status"), createShardingRule());
+        try {
+            router.route(Arrays.asList(null, "init"));
+            fail("SQLException expected");
+        } catch (final SQLException ex) {
+            assertThat(ex.getSQLState(), is(PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode()));
+        }
+    }
+    
+    @Test
+    public void assertUndefinedTable() {
+        assertRejected("t_unknown", Collections.singletonList("id"), PostgreSQLErrorCode.UNDEFINED_TABLE, mock(SingleTableRule.class));
+    }
+    
+    @Test
+    public void assertRejectEncryptTable() {
+        EncryptRule encryptRule = mock(EncryptRule.class);
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(mock(EncryptTable.class)));
+        assertRejected("t_user", Collections.singletonList("user_id"), PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED, encryptRule);
+    }
+    
+    @Test
+    public void assertRejectShadowTable() {
+        ShadowRule shadowRule = mock(ShadowRule.class);
+        when(shadowRule.getAllShadowTableNames()).thenReturn(Collections.singletonList("t_user"));
+        assertRejected("t_user", Collections.singletonList("user_id"), PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED, shadowRule);
+    }
+    
+    @Test
+    public void assertRejectMissingGenerateKeyColumn() {
+        assertRejected("t_order", Collections.singletonList("status"), PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED, createShardingRule());
+    }
+    
+    private void assertRejected(final String tableName, final List<String> columnNames, final PostgreSQLErrorCode errorCode, final ShardingSphereRule rule) {
+        try {
+            createRouter(tableName, columnNames, rule);
+            fail("SQLException expected");
+        } catch (final SQLException ex) {
+            assertThat(ex.getSQLState(), is(errorCode.getErrorCode()));
+        }
+    }
+    
+    private PostgreSQLCopyRouter createRouter(final String tableName, final List<String> columnNames, final ShardingSphereRule rule) throws SQLException {
+        TableMetaData tableMetaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("sharding_db", mock(ShardingSphereResource.class),
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singletonList(rule)), new ShardingSphereSchema(Collections.singletonMap("t_order", tableMetaData)));
+        return new PostgreSQLCopyRouter(metaData, new CopyStatementContext(createCopyStatement(tableName)), columnNames, new ConfigurationProperties(new Properties()));
+    }
+    
+    private PostgreSQLCopyStatement createCopyStatement(final String tableName) {
+        PostgreSQLCopyStatement result = new PostgreSQLCopyStatement();
+        result.setTable(new SimpleTableSegment(new TableNameSegment(5, 4 + tableName.length(), new IdentifierValue(tableName))));
+        return result;
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration config = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "ds_inline"));
+        tableRuleConfig.setKeyGenerateStrategy(new KeyGenerateStrategyConfiguration("order_id", "snowflake"));
+        config.getTables().add(tableRuleConfig);
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", "ds_${order_id % 2}");
+        config.getShardingAlgorithms().put("ds_inline", new ShardingSphereAlgorithmConfiguration("INLINE", props));
+        config.getKeyGenerators().put("snowflake", new ShardingSphereAlgorithmConfiguration("SNOWFLAKE", new Properties()));
+        return new ShardingRule(config, Arrays.asList("ds_0", "ds_1"));
+    }
+}
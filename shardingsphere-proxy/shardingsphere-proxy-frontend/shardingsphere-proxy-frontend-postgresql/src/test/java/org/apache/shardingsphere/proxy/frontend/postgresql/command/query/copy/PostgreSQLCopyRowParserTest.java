@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyRowParserTest {
+    
+    @Test
+    public void assertFeedRowsSplitAcrossMessages() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN"), StandardCharsets.UTF_8);
+        assertTrue(parser.feed(bytes("1\tfo")).isEmpty());
+        List<byte[]> actual = parser.feed(bytes("o\n2\tbar\n3"));
+        assertThat(actual.size(), is(2));
+        assertThat(new String(actual.get(0), StandardCharsets.UTF_8), is("1\tfoo\n"));
+        assertThat(new String(actual.get(1), StandardCharsets.UTF_8), is("2\tbar\n"));
+        assertThat(new String(parser.finish(), StandardCharsets.UTF_8), is("3"));
+    }
+    
+    @Test
+    public void assertFeedWithEndMarker() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN"), StandardCharsets.UTF_8);
+        assertThat(parser.feed(bytes("1\tfoo\n\\.\n2\tbar\n")).size(), is(1));
+        assertTrue(parser.feed(bytes("3\tbaz\n")).isEmpty());
+        assertNull(parser.finish());
+    }
+    
+    @Test
+    public void assertParseTextValues() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN"), StandardCharsets.UTF_8);
+        assertThat(parser.parseValues(bytes("1\t\\N\ta\\tb\\\\c\\101\r\n")), is(Arrays.asList("1", null, "a\tb\\cA")));
+    }
+    
+    @Test
+    public void assertFeedAndParseCSVValues() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN CSV"), StandardCharsets.UTF_8);
+        List<byte[]> actual = parser.feed(bytes("1,\"a,\"\"b\"\"\nc\",\n2,\"\",x\n"));
+        assertThat(actual.size(), is(2));
+        assertThat(parser.parseValues(actual.get(0)), is(Arrays.asList("1", "a,\"b\"\nc", null)));
+        assertThat(parser.parseValues(actual.get(1)), is(Arrays.asList("2", "", "x")));
+    }
+    
+    private byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -487,6 +487,11 @@ public final class MySQLDALStatementSQLVisitor extends MySQLStatementSQLVisitor
     public ASTNode visitKill(final KillContext ctx) {
         MySQLKillStatement result = new MySQLKillStatement();
         result.setProcesslistId(ctx.NUMBER_().getText());
+        if (null != ctx.QUERY()) {
+            result.setScope(ctx.QUERY().getText());
+        } else if (null != ctx.CONNECTION()) {
+            result.setScope(ctx.CONNECTION().getText());
+        }
         return result;
     }
     
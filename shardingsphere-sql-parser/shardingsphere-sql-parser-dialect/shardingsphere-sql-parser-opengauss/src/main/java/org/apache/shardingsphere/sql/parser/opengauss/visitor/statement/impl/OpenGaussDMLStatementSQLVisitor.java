@@ -21,9 +21,18 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.operation.SQLStatementVisitor;
 import org.apache.shardingsphere.sql.parser.api.visitor.type.DMLSQLVisitor;
+import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.AttrNameContext;
 import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.CallContext;
-import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.DoStatementContext;
+import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.ColIdContext;
+import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.ColumnElemContext;
 import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.CopyContext;
+import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.DoStatementContext;
+import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.QualifiedNameContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCallStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCopyStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussDoStatement;
@@ -52,6 +61,27 @@ public final class OpenGaussDMLStatementSQLVisitor extends OpenGaussStatementSQL
     
     @Override
     public ASTNode visitCopy(final CopyContext ctx) {
-        return new OpenGaussCopyStatement();
+        OpenGaussCopyStatement result = new OpenGaussCopyStatement();
+        if (null != ctx.qualifiedName()) {
+            result.setTable(createCopyTable(ctx.qualifiedName()));
+        }
+        if (null != ctx.columnList()) {
+            for (ColumnElemContext each : ctx.columnList().columnElem()) {
+                result.getColumns().add(new ColumnSegment(each.start.getStartIndex(), each.stop.getStopIndex(), new IdentifierValue(each.colId().getText())));
+            }
+        }
+        result.setFromStdin(null != ctx.FROM() && null != ctx.STDIN());
+        return result;
+    }
+    
+    private SimpleTableSegment createCopyTable(final QualifiedNameContext ctx) {
+        ColIdContext colId = ctx.colId();
+        if (null == ctx.indirection()) {
+            return new SimpleTableSegment(new TableNameSegment(colId.start.getStartIndex(), colId.stop.getStopIndex(), new IdentifierValue(colId.getText())));
+        }
+        AttrNameContext attrName = ctx.indirection().indirectionEl().attrName();
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(attrName.start.getStartIndex(), attrName.stop.getStopIndex(), new IdentifierValue(attrName.getText())));
+        result.setOwner(new OwnerSegment(colId.start.getStartIndex(), colId.stop.getStopIndex(), new IdentifierValue(colId.getText())));
+        return result;
     }
 }
@@ -17,10 +17,25 @@
 
 package org.apache.shardingsphere.sql.parser.sql.common.statement.dml;
 
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
 /**
  * Copy statement.
  */
+@Getter
+@Setter
 public abstract class CopyStatement extends AbstractSQLStatement implements DMLStatement {
+    
+    private SimpleTableSegment table;
+    
+    private Collection<ColumnSegment> columns = new LinkedList<>();
+    
+    private boolean fromStdin;
 }
@@ -21,8 +21,13 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
 import org.apache.shardingsphere.test.sql.parser.parameterized.asserts.SQLCaseAssertContext;
+import org.apache.shardingsphere.test.sql.parser.parameterized.asserts.segment.column.ColumnAssert;
+import org.apache.shardingsphere.test.sql.parser.parameterized.asserts.segment.table.TableAssert;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.dml.CopyStatementTestCase;
 
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
 /**
  * Copy statement assert.
  */
@@ -37,5 +42,16 @@ public final class CopyStatementAssert {
      * @param expected expected copy statement test case
      */
     public static void assertIs(final SQLCaseAssertContext assertContext, final CopyStatement actual, final CopyStatementTestCase expected) {
+        assertTable(assertContext, actual, expected);
+        ColumnAssert.assertIs(assertContext, actual.getColumns(), expected.getColumns());
+    }
+    
+    private static void assertTable(final SQLCaseAssertContext assertContext, final CopyStatement actual, final CopyStatementTestCase expected) {
+        if (null != expected.getTable()) {
+            assertNotNull(assertContext.getText("Actual table segment should exist."), actual.getTable());
+            TableAssert.assertIs(assertContext, actual.getTable(), expected.getTable());
+        } else {
+            assertNull(assertContext.getText("Actual table segment should not exist."), actual.getTable());
+        }
     }
 }